@@ -0,0 +1,116 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.lntproject.employee_management_system.service.impl.VirtualThreadEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Resolving a batch of ids one blocking call after another, fanning the per-id lookups out through
+ * VirtualThreadEmployeeService, and one chunked {@code IN (...)} multi-get (blocking and async), on
+ * the JDBC backend with a fixed connection budget. Run with several {@code -Dbench.threads} values
+ * to see how they behave as callers pile up on the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncEmployeeServiceBenchmark {
+
+    private static final int DATASET_SIZE = 10_000;
+    private static final int POOL_SIZE = 10;
+
+    @Param({"16", "256"})
+    public int fanOut;
+
+    private HikariDataSource dataSource;
+    private EmployeeService service;
+    private VirtualThreadEmployeeService async;
+    private long[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDataSources.embedded("async", POOL_SIZE);
+        service = new EmployeeServiceImpl(dataSource);
+        async = new VirtualThreadEmployeeService(service, POOL_SIZE, Duration.ofSeconds(30));
+        List<Employee> seed = IntStream.range(0, DATASET_SIZE)
+                .mapToObj(i -> new Employee(null, "First" + i, "Last" + i, "async" + i + "@example.com"))
+                .toList();
+        ids = service.createEmployees(seed).ids().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        async.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Map<Long, Employee> blockingLoop() {
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (long id : randomIds()) {
+            service.getEmployeeById(id).ifPresent(employee -> found.put(id, employee));
+        }
+        return found;
+    }
+
+    @Benchmark
+    public Map<Long, Employee> virtualThreadFanOut() {
+        List<CompletableFuture<Optional<Employee>>> lookups = new ArrayList<>(fanOut);
+        for (long id : randomIds()) {
+            lookups.add(async.getEmployeeById(id));
+        }
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (CompletableFuture<Optional<Employee>> lookup : lookups) {
+            lookup.join().ifPresent(employee -> found.put(employee.getId(), employee));
+        }
+        return found;
+    }
+
+    @Benchmark
+    public Map<Long, Employee> blockingMultiGet() {
+        return service.getEmployeesByIds(randomIds());
+    }
+
+    @Benchmark
+    public Map<Long, Employee> asyncMultiGet() {
+        return async.getEmployeesByIds(randomIds()).join();
+    }
+
+    private List<Long> randomIds() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> batch = new ArrayList<>(fanOut);
+        for (int i = 0; i < fanOut; i++) {
+            batch.add(ids[random.nextInt(ids.length)]);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,33 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Embedded H2 databases in MySQL mode for benchmarks, created from the same schema the tests use.
+ */
+final class BenchmarkDataSources {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private BenchmarkDataSources() {
+    }
+
+    static HikariDataSource embedded(String name, int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("bench-" + name);
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "_" + DATABASE_SEQUENCE.incrementAndGet()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(poolSize);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        new ResourceDatabasePopulator(new ClassPathResource("sql/schema-h2.sql")).execute(dataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,41 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.Arrays;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the selected benchmarks once per thread count in {@code -Dbench.threads} with the GC
+ * profiler attached, so every result carries allocation rates (gc.alloc.rate.norm is bytes per
+ * operation). JSON results land in target/jmh-t{threads}.json for comparison between builds.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        int[] threadCounts = Arrays.stream(System.getProperty("bench.threads", "1,4,16").split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        for (int threads : threadCounts) {
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-t" + threads + ".json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
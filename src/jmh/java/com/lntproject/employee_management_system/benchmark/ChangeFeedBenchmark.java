@@ -0,0 +1,165 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeChange;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.ChangeFeedEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeChangeFeed;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+
+/**
+ * Publish throughput of the change feed while {@code subscribers} consumers drain it, and the
+ * cost the feed adds to a write through {@link ChangeFeedEmployeeService}. Subscribers request
+ * in batches of {@code batch}; with SKIP a subscriber that cannot keep up loses changes instead
+ * of slowing writers, so compare the published and delivered counts printed after each trial.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChangeFeedBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Feed {
+
+        @Param({"0", "1", "4", "16"})
+        public int subscribers;
+
+        @Param({"1024", "65536"})
+        public int capacity;
+
+        @Param({"1", "256"})
+        public int batch;
+
+        private EmployeeChangeFeed feed;
+        private List<Counting> consumers;
+        private Employee image;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            feed = new EmployeeChangeFeed(capacity, EmployeeChangeFeed.SlowConsumerPolicy.SKIP);
+            consumers = new ArrayList<>();
+            for (int i = 0; i < subscribers; i++) {
+                Counting consumer = new Counting(batch);
+                feed.subscribe(consumer);
+                consumers.add(consumer);
+            }
+            image = new Employee(1L, "Bench", "User", "bench@example.com");
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            feed.close();
+            long delivered = consumers.stream().mapToLong(consumer -> consumer.received).sum();
+            System.out.printf("%nPublished %d changes, delivered %d over %d subscribers%n",
+                    feed.lastSequence(), delivered, subscribers);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Service {
+
+        @Param({"false", "true"})
+        public boolean publishing;
+
+        @Param({"10000"})
+        public int rows;
+
+        private EmployeeService service;
+        private EmployeeChangeFeed feed;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            InMemoryEmployeeService store = new InMemoryEmployeeService();
+            for (int i = 0; i < rows; i++) {
+                store.createEmployee(new Employee(null, "First" + i, "Last" + i, "user" + i + "@example.com"));
+            }
+            if (publishing) {
+                feed = new EmployeeChangeFeed(65536, EmployeeChangeFeed.SlowConsumerPolicy.SKIP);
+                feed.subscribe(new Counting(256));
+                service = new ChangeFeedEmployeeService(store, feed);
+            } else {
+                service = store;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            if (feed != null) {
+                feed.close();
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public EmployeeChange publish(Feed state) {
+        return state.feed.publish(EmployeeChange.Type.UPDATE, 1, state.image, state.image);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Object patch(Service state) {
+        long id = 1 + ThreadLocalRandom.current().nextInt(state.rows);
+        return state.service.patchEmployee(id, EmployeePatch.builder().firstName("Patched").build());
+    }
+
+    /**
+     * Counts what it receives, asking for {@code batch} more each time a batch has arrived.
+     */
+    private static final class Counting implements Flow.Subscriber<EmployeeChange> {
+
+        private final int batch;
+        private Flow.Subscription subscription;
+        private volatile long received;
+
+        private Counting(int batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(EmployeeChange change) {
+            long count = received + 1;
+            received = count;
+            if (count % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmailFilterEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * An import feed where {@code resent} percent of each 500-row batch repeats an email already
+ * stored, written straight to EmployeeServiceImpl on H2 and through the duplicate-email filter.
+ * Without the filter a batch with a duplicate is rolled back and replayed row by row; with it
+ * the duplicates are looked up and dropped first and the rest go in one batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateEmailBenchmark {
+
+    private static final int BATCH = 500;
+    private static final int SEEDED = 100_000;
+
+    @Param({"off", "on"})
+    public String filter;
+
+    @Param({"0", "5", "20"})
+    public int resent;
+
+    private EmployeeService service;
+    private HikariDataSource dataSource;
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkDataSources.embedded("duplicates", 8);
+        EmployeeService store = new EmployeeServiceImpl(dataSource);
+        List<Employee> seed = new ArrayList<>(SEEDED);
+        for (int i = 0; i < SEEDED; i++) {
+            seed.add(new Employee(null, "First" + i, "Last" + i, "seed" + i + "@example.com"));
+        }
+        store.createEmployees(seed);
+        service = switch (filter) {
+            case "off" -> store;
+            case "on" -> new EmailFilterEmployeeService(store, 4L * SEEDED, 0.01);
+            default -> throw new IllegalArgumentException("Unknown filter setting: " + filter);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public BulkCreateResult importBatch() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Employee> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            String email = random.nextInt(100) < resent
+                    ? "seed" + random.nextInt(SEEDED) + "@example.com"
+                    : "feed" + emailSequence.incrementAndGet() + "@example.com";
+            batch.add(new Employee(null, "First", "Last", email));
+        }
+        return service.createEmployees(batch);
+    }
+}
@@ -0,0 +1,159 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * CRUD throughput and latency for both EmployeeService backends: InMemoryEmployeeService
+ * and EmployeeServiceImpl on an embedded H2 database. {@link #getThenUpdate()} against
+ * {@link #patch()}, and {@link #findThenWrite()} against {@link #upsert()}, show what the single
+ * write saves over the read-then-write a caller would otherwise make.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"memory", "jdbc"})
+    public String backend;
+
+    @Param({"1000", "100000"})
+    public int datasetSize;
+
+    private EmployeeService service;
+    private HikariDataSource dataSource;
+    private long[] ids;
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = switch (backend) {
+            case "memory" -> new InMemoryEmployeeService();
+            case "jdbc" -> {
+                dataSource = BenchmarkDataSources.embedded("crud", 32);
+                yield new EmployeeServiceImpl(dataSource);
+            }
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        };
+
+        List<Employee> seed = IntStream.range(0, datasetSize)
+                .mapToObj(i -> new Employee(null, "First" + i, "Last" + i, "seed" + i + "@example.com"))
+                .toList();
+        BulkCreateResult result = service.createEmployees(seed);
+        ids = result.ids().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public Employee create() {
+        return service.createEmployee(newEmployee());
+    }
+
+    @Benchmark
+    public Object getById() {
+        return service.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    public List<Employee> getAll() {
+        return service.getAllEmployees();
+    }
+
+    @Benchmark
+    public Object update() {
+        int index = ThreadLocalRandom.current().nextInt(ids.length);
+        return service.updateEmployee(ids[index], new Employee(null, "Updated", "Last" + index, "seed" + index + "@example.com"));
+    }
+
+    @Benchmark
+    public Object getThenUpdate() {
+        long id = randomId();
+        Employee current = service.getEmployeeById(id).orElseThrow();
+        current.setPosition("Position" + ThreadLocalRandom.current().nextInt(100));
+        return service.updateEmployee(id, current);
+    }
+
+    @Benchmark
+    public Object patch() {
+        return service.patchEmployee(randomId(),
+                EmployeePatch.builder().position("Position" + ThreadLocalRandom.current().nextInt(100)).build());
+    }
+
+    /**
+     * Replaces a seeded row by email the way callers did before upserts: look it up, then update
+     * it, or create it if it is missing.
+     */
+    @Benchmark
+    public Employee findThenWrite() {
+        Employee incoming = replacement();
+        Optional<Employee> existing = service.findByEmail(incoming.getEmail());
+        if (existing.isPresent()) {
+            return service.updateEmployee(existing.get().getId(), incoming).orElseThrow();
+        }
+        return service.createEmployee(incoming);
+    }
+
+    @Benchmark
+    public Employee upsert() {
+        return service.upsertEmployee(replacement());
+    }
+
+    /**
+     * Delete needs a fresh row on every invocation, so this measures a create/delete pair;
+     * subtract {@link #create()} to isolate the delete.
+     */
+    @Benchmark
+    public boolean createThenDelete() {
+        Employee created = service.createEmployee(newEmployee());
+        return service.deleteEmployee(created.getId());
+    }
+
+    private Employee newEmployee() {
+        long n = emailSequence.incrementAndGet();
+        return new Employee(null, "Bench", "User" + n, "bench" + n + "@example.com");
+    }
+
+    private Employee replacement() {
+        int index = ThreadLocalRandom.current().nextInt(ids.length);
+        return new Employee(null, "Replaced", "Last" + index, "seed" + index + "@example.com");
+    }
+
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,116 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lntproject.employee_management_system.EmployeeManagementSystemApplication;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Requests per second and latency (the SampleTime mode reports p50/p99) of the HTTP API, with
+ * the application started in-process on a random port over the in-memory backend, so the score
+ * is the web stack, JSON and the decorated service rather than a database. Requests go through
+ * java.net.http on loopback; run with {@code -Dbench.threads} to load it from several clients:
+ * <pre>
+ *   mvn -Pbenchmarks test-compile exec:exec -Dbench.threads=1,16 -Djmh.args=HttpApiBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpApiBenchmark {
+
+    @Param({"10000"})
+    public int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ObjectMapper objectMapper;
+    private String baseUri;
+    private long[] ids;
+    private final AtomicLong emailSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class)
+                .profiles("http", "nodb")
+                .run("--app.store.type=memory", "--server.port=0");
+        baseUri = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                + "/api/employees";
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newHttpClient();
+
+        List<Employee> seed = IntStream.range(0, datasetSize)
+                .mapToObj(i -> new Employee(null, "First" + i, "Last" + i, "seed" + i + "@example.com"))
+                .toList();
+        ids = context.getBean(EmployeeService.class).createEmployees(seed).ids().stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String getById() throws IOException, InterruptedException {
+        long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return send(HttpRequest.newBuilder(URI.create(baseUri + "/" + id)).GET().build(), 200);
+    }
+
+    @Benchmark
+    public String getPage() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + "?limit=50")).GET().build(), 200);
+    }
+
+    @Benchmark
+    public String create() throws IOException, InterruptedException {
+        long sequence = emailSequence.incrementAndGet();
+        Employee employee = new Employee(null, "Http", "Bench", "http" + sequence + "@example.com");
+        return send(HttpRequest.newBuilder(URI.create(baseUri))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(employee)))
+                .build(), 201);
+    }
+
+    private String send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " answered "
+                    + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,115 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.impl.DurableEmployeeService;
+
+/**
+ * Journal write throughput per fsync policy, and recovery time for a journal of a given length
+ * with and without a snapshot in front of it.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JournalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Writer {
+
+        @Param({"0", "10"})
+        public long fsyncIntervalMillis;
+
+        private Path directory;
+        private DurableEmployeeService service;
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-write");
+            service = DurableEmployeeService.open(directory, Duration.ofMillis(fsyncIntervalMillis), 1_000_000);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            service.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recovery {
+
+        @Param({"100000", "1000000"})
+        public int records;
+
+        @Param({"true", "false"})
+        public boolean snapshot;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal-recovery");
+            try (DurableEmployeeService service = DurableEmployeeService.open(directory, Duration.ofSeconds(1), Long.MAX_VALUE)) {
+                int chunk = 10_000;
+                for (int start = 0; start < records; start += chunk) {
+                    int first = start;
+                    List<Employee> rows = IntStream.range(first, Math.min(first + chunk, records))
+                            .mapToObj(i -> new Employee(null, "First" + i, "Last" + i, "user" + i + "@example.com"))
+                            .toList();
+                    service.createEmployees(rows);
+                }
+                if (snapshot) {
+                    service.snapshot();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Employee append(Writer writer) {
+        long n = writer.sequence.incrementAndGet();
+        return writer.service.createEmployee(new Employee(null, "Bench", "User" + n, "bench" + n + "@example.com"));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public long recover(Recovery recovery) throws IOException {
+        try (DurableEmployeeService service = DurableEmployeeService.open(recovery.directory, Duration.ofSeconds(1), Long.MAX_VALUE)) {
+            return service.recoveredRecords();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+
+/**
+ * {@link InMemoryEmployeeService} as it was before it moved to immutable snapshots: a skip list of
+ * mutable rows, read without locking and copied on every read, with writes serialized by one lock.
+ * Kept as the baseline for {@link SnapshotStoreBenchmark}.
+ */
+class LockingInMemoryEmployeeService implements EmployeeService {
+
+    private final AtomicLong idSequence = new AtomicLong(1);
+    private final NavigableMap<Long, Employee> store = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> emailIndex = new ConcurrentHashMap<>();
+    private final NavigableMap<NameKey, Long> lastNameIndex = new ConcurrentSkipListMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        writeLock.lock();
+        try {
+            Long requestedId = employee.getId();
+            long id = requestedId != null ? requestedId : idSequence.getAndIncrement();
+            return copyOf(insert(id, employee));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        Long[] ids = new Long[rows.size()];
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+
+        int generated = 0;
+        for (Employee employee : rows) {
+            if (employee != null && employee.getId() == null) {
+                generated++;
+            }
+        }
+        long nextId = generated > 0 ? idSequence.getAndAdd(generated) : 0;
+
+        writeLock.lock();
+        try {
+            for (int index = 0; index < rows.size(); index++) {
+                Employee employee = rows.get(index);
+                if (employee == null) {
+                    failures.add(new BulkCreateResult.Failure(index, null, "Employee cannot be null"));
+                    continue;
+                }
+                long id = employee.getId() != null ? employee.getId() : nextId++;
+                try {
+                    insert(id, employee);
+                } catch (DuplicateEmailException e) {
+                    failures.add(new BulkCreateResult.Failure(index, employee, e.getMessage()));
+                    continue;
+                }
+                employee.setId(id);
+                ids[index] = id;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return new BulkCreateResult(Arrays.asList(ids), failures);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        if (store.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Employee> snapshot = new ArrayList<>(store.size());
+        store.values().forEach(employee -> snapshot.add(copyOf(employee)));
+        return snapshot;
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        List<Employee> employees = new ArrayList<>(limit);
+        boolean hasMore = false;
+        for (Employee employee : store.tailMap(afterId, false).values()) {
+            if (employees.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            employees.add(copyOf(employee));
+        }
+        Long nextAfterId = hasMore ? employees.get(employees.size() - 1).getId() : null;
+        return new EmployeePage(employees, nextAfterId);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return store.values().stream().map(this::copyOf);
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        Employee employee = store.get(id);
+        return Optional.ofNullable(employee).map(this::copyOf);
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (id != null && !found.containsKey(id)) {
+                Employee employee = store.get(id);
+                if (employee != null) {
+                    found.put(id, copyOf(employee));
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Long id = emailIndex.get(normalizeEmail(email));
+        return id == null ? Optional.empty() : getEmployeeById(id);
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        String from = normalizeName(prefix);
+        NavigableMap<NameKey, Long> range = lastNameIndex.subMap(
+                new NameKey(from, Long.MIN_VALUE), true,
+                new NameKey(from + Character.MAX_VALUE, Long.MIN_VALUE), false);
+        List<Employee> matches = new ArrayList<>(Math.min(limit, 64));
+        for (Long id : range.values()) {
+            if (matches.size() == limit) {
+                break;
+            }
+            Employee employee = store.get(id);
+            if (employee != null) {
+                matches.add(copyOf(employee));
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        writeLock.lock();
+        try {
+            Employee existing = store.get(id);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            Employee updated = copyOf(existing);
+            updated.setFirstName(employee.getFirstName());
+            updated.setLastName(employee.getLastName());
+            updated.setEmail(employee.getEmail());
+            updated.setDepartment(employee.getDepartment());
+            updated.setPosition(employee.getPosition());
+            updated.setSalary(employee.getSalary());
+            updated.setHireDate(employee.getHireDate());
+            return Optional.of(replace(existing, updated));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        writeLock.lock();
+        try {
+            Employee existing = store.get(id);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            return Optional.of(replace(existing, changes.applyTo(existing)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Looks the email up and writes the row under the write lock, so no other writer can claim the
+     * email in between.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        if (employee == null || employee.getEmail() == null) {
+            throw new IllegalArgumentException("email is required");
+        }
+        writeLock.lock();
+        try {
+            Long owner = emailIndex.get(normalizeEmail(employee.getEmail()));
+            Employee existing = owner == null ? null : store.get(owner);
+            if (existing == null) {
+                return copyOf(insert(idSequence.getAndIncrement(), employee));
+            }
+            Employee updated = new Employee(employee);
+            updated.setId(existing.getId());
+            return replace(existing, updated);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        writeLock.lock();
+        try {
+            Employee removed = store.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            unindex(removed, null);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Employee insert(long id, Employee employee) {
+        claimEmail(employee.getEmail(), id);
+        Employee persisted = copyOf(employee);
+        persisted.setId(id);
+        Employee replaced = store.put(id, persisted);
+        if (replaced != null) {
+            unindex(replaced, persisted);
+        }
+        index(persisted);
+        idSequence.accumulateAndGet(id + 1, Math::max);
+        return persisted;
+    }
+
+    private Employee replace(Employee existing, Employee updated) {
+        claimEmail(updated.getEmail(), existing.getId());
+        store.put(existing.getId(), updated);
+        unindex(existing, updated);
+        index(updated);
+        return copyOf(updated);
+    }
+
+    private void claimEmail(String email, long id) {
+        if (email == null) {
+            return;
+        }
+        Long owner = emailIndex.putIfAbsent(normalizeEmail(email), id);
+        if (owner != null && owner != id) {
+            throw new DuplicateEmailException(email);
+        }
+    }
+
+    private void index(Employee employee) {
+        lastNameIndex.put(new NameKey(normalizeName(employee.getLastName()), employee.getId()), employee.getId());
+    }
+
+    /**
+     * Drops the index entries of {@code previous} that {@code current} (null on delete) no longer owns.
+     */
+    private void unindex(Employee previous, Employee current) {
+        String previousEmail = previous.getEmail() == null ? null : normalizeEmail(previous.getEmail());
+        String currentEmail = current == null || current.getEmail() == null ? null : normalizeEmail(current.getEmail());
+        if (previousEmail != null && !previousEmail.equals(currentEmail)) {
+            emailIndex.remove(previousEmail, previous.getId());
+        }
+        lastNameIndex.remove(new NameKey(normalizeName(previous.getLastName()), previous.getId()));
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Employee copyOf(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+        return new Employee(employee);
+    }
+
+    private record NameKey(String lastName, long id) implements Comparable<NameKey> {
+
+        @Override
+        public int compareTo(NameKey other) {
+            int byName = lastName.compareTo(other.lastName);
+            return byName != 0 ? byName : Long.compare(id, other.id);
+        }
+    }
+}
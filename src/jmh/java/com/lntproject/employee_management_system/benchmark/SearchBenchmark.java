@@ -0,0 +1,91 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.SearchIndexEmployeeService;
+
+/**
+ * Fuzzy search latency over generated names, through the n-gram index and by the full scan the
+ * interface falls back to. Queries rotate through exact names, typos, prefixes and multi-word
+ * queries. Last names are built from a small set of syllables, so trigrams repeat far more than
+ * in real data and these numbers are on the pessimistic side.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Anne", "Bruno", "Chandra", "Dmitri", "Elena", "Farid", "Grace",
+            "Hiro", "Priya", "Kiran", "John", "Maria", "Wei", "Olga", "Ahmed", "Lucia"};
+    private static final String[] SYLLABLES = {"sri", "ni", "va", "san", "ta", "na", "ka", "mo", "reau", "lind",
+            "qvist", "o", "for", "smi", "th", "no", "vak", "bert", "hal", "dor"};
+    private static final String[] QUERIES = {"srinivasan", "srinivsan", "kiran tanaka", "elena", "marai",
+            "lindqvist", "smith", "priya smi", "anne moreau42", "okafor"};
+
+    @State(Scope.Benchmark)
+    public static class Directory {
+
+        @Param({"1000000"})
+        public int employees;
+
+        @Param({"true", "false"})
+        public boolean indexed;
+
+        private EmployeeService service;
+        private final AtomicInteger next = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(42);
+            InMemoryEmployeeService store = new InMemoryEmployeeService();
+            List<Employee> batch = new ArrayList<>();
+            for (int i = 0; i < employees; i++) {
+                String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                StringBuilder last = new StringBuilder();
+                for (int syllables = 2 + random.nextInt(3); syllables > 0; syllables--) {
+                    last.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+                }
+                last.setCharAt(0, Character.toUpperCase(last.charAt(0)));
+                String email = first.toLowerCase() + "." + last.toString().toLowerCase() + i + "@example.com";
+                batch.add(new Employee(null, first, last.toString(), email));
+                if (batch.size() == 10_000) {
+                    store.createEmployees(batch);
+                    batch.clear();
+                }
+            }
+            store.createEmployees(batch);
+            service = indexed ? new SearchIndexEmployeeService(store) : store;
+        }
+
+        private String query() {
+            return QUERIES[Math.floorMod(next.getAndIncrement(), QUERIES.length)];
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Employee> search(Directory directory) {
+        return directory.service.search(directory.query(), 10);
+    }
+}
@@ -0,0 +1,108 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+
+/**
+ * Reads against the snapshot-based {@link InMemoryEmployeeService} and the lock-based
+ * {@link LockingInMemoryEmployeeService} it replaced, with a writer patching random rows alongside
+ * the readers in every group. {@code point} reads single rows, {@code scan} pages through 100
+ * rows at a time. Run through {@link BenchmarkRunner} to get gc.alloc.rate.norm next to each
+ * result; the snapshot store's writes copy a path of tree nodes where the locking store's copy
+ * one row, which shows up in the writer's allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SnapshotStoreBenchmark {
+
+    private static final int PAGE = 100;
+
+    @Param({"locking", "snapshot"})
+    public String store;
+
+    @Param({"100000"})
+    public int rows;
+
+    private EmployeeService service;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = switch (store) {
+            case "locking" -> new LockingInMemoryEmployeeService();
+            case "snapshot" -> new InMemoryEmployeeService();
+            default -> throw new IllegalArgumentException("Unknown store: " + store);
+        };
+        List<Employee> seed = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            seed.add(new Employee(null, "First" + i, "Last" + i, "user" + i + "@example.com"));
+        }
+        service.createEmployees(seed);
+        maxId = rows;
+    }
+
+    @Benchmark
+    @Group("point")
+    @GroupThreads(3)
+    public Object pointRead() {
+        return service.getEmployeeById(randomId());
+    }
+
+    @Benchmark
+    @Group("point")
+    @GroupThreads(1)
+    public Object pointWrite() {
+        return write();
+    }
+
+    @Benchmark
+    @Group("scan")
+    @GroupThreads(3)
+    public Object scanRead() {
+        return service.getEmployeePage(Math.max(0, randomId() - PAGE), PAGE);
+    }
+
+    @Benchmark
+    @Group("scan")
+    @GroupThreads(1)
+    public Object scanWrite() {
+        return write();
+    }
+
+    private Object write() {
+        long id = randomId();
+        return service.patchEmployee(id, EmployeePatch.builder()
+                .lastName("Last" + ThreadLocalRandom.current().nextInt(rows))
+                .build());
+    }
+
+    private long randomId() {
+        return 1 + ThreadLocalRandom.current().nextLong(maxId);
+    }
+}
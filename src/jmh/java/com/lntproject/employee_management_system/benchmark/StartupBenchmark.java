@@ -0,0 +1,119 @@
+package com.lntproject.employee_management_system.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to first command of a short CLI job, exporting the empty in-memory store, in a fresh JVM
+ * per invocation: {@code default} launches the packaged application as is, {@code fast-start}
+ * with the fast-start Spring profile, the AOT-generated bean definitions and the CDS archive.
+ * The score runs from launch until the application reports the command starting; the command
+ * and JVM exit are left out. Needs the fast-start build for the in-memory store first, then:
+ * <pre>
+ *   mvn -Pfast-start -Dfast-start.store=memory -Dfast-start.profiles=nodb,fast-start package
+ *   mvn -Pbenchmarks test-compile exec:exec -Dbench.threads=1 -Djmh.args=StartupBenchmark
+ * </pre>
+ * {@code -Dstartup.dir} points at another extracted application (default target/fast-start).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 15)
+public class StartupBenchmark {
+
+    private static final String READY = "Starting export ";
+    private static final int OUTPUT_TAIL = 40;
+
+    @Param({"default", "fast-start"})
+    public String mode;
+
+    private List<String> command;
+    private Process process;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path directory = Path.of(System.getProperty("startup.dir", "target/fast-start")).toAbsolutePath();
+        Path jar;
+        try (Stream<Path> files = Files.list(directory)) {
+            jar = files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No application jar in " + directory
+                            + "; build it with mvn -Pfast-start -Dfast-start.store=memory "
+                            + "-Dfast-start.profiles=nodb,fast-start package"));
+        }
+        Path export = Files.createTempFile("startup-benchmark", ".csv");
+        export.toFile().deleteOnExit();
+
+        command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String profiles = "nodb";
+        if (mode.equals("fast-start")) {
+            command.add("-XX:SharedArchiveFile=" + directory.resolve("application.jsa"));
+            command.add("-Dspring.aot.enabled=true");
+            profiles = "nodb,fast-start";
+        } else if (!mode.equals("default")) {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+        command.addAll(List.of("-jar", jar.toString(), "--spring.profiles.active=" + profiles,
+                "--app.store.type=memory", "export", export.toString()));
+    }
+
+    @Benchmark
+    public void timeToFirstCommand() throws IOException {
+        process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Deque<String> tail = new ArrayDeque<>();
+        BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        String line;
+        while ((line = output.readLine()) != null) {
+            if (line.startsWith(READY)) {
+                return;
+            }
+            tail.addLast(line);
+            if (tail.size() > OUTPUT_TAIL) {
+                tail.removeFirst();
+            }
+        }
+        throw new IllegalStateException("The application exited without starting the command:\n"
+                + String.join("\n", tail));
+    }
+
+    /**
+     * Lets the command finish outside the measurement, draining what it still prints.
+     */
+    @TearDown(Level.Invocation)
+    public void awaitExit() throws IOException, InterruptedException {
+        if (process != null) {
+            process.getInputStream().transferTo(OutputStream.nullOutputStream());
+            process.waitFor();
+            process = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts rows for a batch command and prints the running total and rate at most once per
+ * {@code interval}. Safe to update from several workers.
+ */
+final class BatchProgress {
+
+    private final String verb;
+    private final PrintStream out;
+    private final long intervalNanos;
+    private final long started = System.nanoTime();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong nextReport;
+
+    BatchProgress(String verb, PrintStream out, Duration interval) {
+        this.verb = verb;
+        this.out = out;
+        this.intervalNanos = interval.toNanos();
+        this.nextReport = new AtomicLong(started + intervalNanos);
+    }
+
+    void rows(long count) {
+        rows.addAndGet(count);
+        report();
+    }
+
+    void rejected(long count) {
+        rejected.addAndGet(count);
+        report();
+    }
+
+    BatchResult finish() {
+        BatchResult result = new BatchResult(rows.get(), rejected.get(), Duration.ofNanos(System.nanoTime() - started));
+        out.printf("%s %,d rows (%,d rejected) in %.1f s, %,.0f rows/s%n", verb, result.rows(), result.rejected(),
+                result.elapsed().toNanos() / 1e9, result.rowsPerSecond());
+        return result;
+    }
+
+    private void report() {
+        long now = System.nanoTime();
+        long due = nextReport.get();
+        if (now < due || !nextReport.compareAndSet(due, now + intervalNanos)) {
+            return;
+        }
+        long elapsedNanos = now - started;
+        long total = rows.get();
+        out.printf("%s %,d rows (%,d rejected), %,.0f rows/s%n", verb, total, rejected.get(),
+                total / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a batch import or export: rows written, rows rejected and the wall-clock time taken.
+ */
+public record BatchResult(long rows, long rejected, Duration elapsed) {
+
+    public double rowsPerSecond() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds <= 0 ? rows : rows / seconds;
+    }
+}
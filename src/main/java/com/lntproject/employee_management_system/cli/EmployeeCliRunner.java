@@ -1,31 +1,108 @@
 package com.lntproject.employee_management_system.cli;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Scanner;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
 import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.ShardRebalancer;
+import com.lntproject.employee_management_system.service.impl.ShardedEmployeeService;
 
 @Component
 @ConditionalOnProperty(value = "app.cli.enabled", havingValue = "true", matchIfMissing = true)
 public class EmployeeCliRunner implements CommandLineRunner {
 
+    private static final int LIST_PAGE_SIZE = 20;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_WORKERS = 4;
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(2);
+    private static final String DEFAULT_LOAD_MIX = "read=70,list=10,create=5,update=12,delete=3";
+    private static final String CLEAR = "-";
+
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final ShardedEmployeeService shardedStore;
+    private final Map<String, EmployeeService> services;
     private final Scanner scanner;
 
-    public EmployeeCliRunner(EmployeeService employeeService) {
+    public EmployeeCliRunner(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this(employeeService, objectMapper, (ShardedEmployeeService) null, Map.of());
+    }
+
+    @Autowired
+    public EmployeeCliRunner(EmployeeService employeeService, ObjectMapper objectMapper,
+                             ObjectProvider<ShardedEmployeeService> shardedStore,
+                             Map<String, EmployeeService> services) {
+        this(employeeService, objectMapper, shardedStore.getIfAvailable(), services);
+    }
+
+    private EmployeeCliRunner(EmployeeService employeeService, ObjectMapper objectMapper,
+                              ShardedEmployeeService shardedStore, Map<String, EmployeeService> services) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.shardedStore = shardedStore;
+        this.services = services;
         this.scanner = new Scanner(System.in);
     }
 
+    /**
+     * Without a command, runs the interactive menu. With one, runs it and returns:
+     * <pre>
+     *   import &lt;file&gt; [--format=csv|ndjson] [--rejects=&lt;file&gt;] [--batch-size=500] [--workers=4]
+     *   export &lt;file&gt; [--format=csv|ndjson]
+     *   rebalance [--shards=N] [--batch-size=500]
+     *   loadtest [--rate=1000] [--duration=60s] [--warmup=10s] [--mix=read=70,list=10,...]
+     *            [--seed-rows=10000] [--threads=0] [--max-in-flight=10000] [--report-interval=5s] [--target=bean]
+     * </pre>
+     * The format defaults to the file extension; rejects default to {@code <file>.rejects.<ext>}.
+     * {@code rebalance} needs the sharded store and defaults to all configured shards.
+     * {@code loadtest} runs a {@link LoadGenerator} against the service the CLI uses, or against
+     * the EmployeeService bean named by {@code --target} (e.g. {@code employeeStore} to leave out
+     * the caching and other decorators); {@code --threads=0} runs each call on a virtual thread.
+     * Other {@code --} options are left to Spring. Before a command starts, the time since the JVM
+     * was launched is printed, to compare startup modes (see the fast-start profile).
+     */
     @Override
-    public void run(String... args) {
+    public void run(String... args) throws IOException {
+        List<String> commandLine = new ArrayList<>();
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int equals = arg.indexOf('=');
+                options.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals),
+                        equals < 0 ? "true" : arg.substring(equals + 1));
+            } else {
+                commandLine.add(arg);
+            }
+        }
+        if (!commandLine.isEmpty()) {
+            printTimeToCommand(commandLine.get(0));
+            runCommand(commandLine, options);
+            return;
+        }
         if (isNonInteractive()) {
             return;
         }
@@ -39,46 +116,183 @@ public class EmployeeCliRunner implements CommandLineRunner {
                 case "2" -> handleList();
                 case "3" -> handleUpdate();
                 case "4" -> handleDelete();
-                case "5" -> running = false;
-                default -> System.out.println("Unknown option. Please select between 1 and 5.");
+                case "5" -> handleSummary();
+                case "6" -> handleUpsert();
+                case "7" -> running = false;
+                default -> System.out.println("Unknown option. Please select between 1 and 7.");
             }
         }
         System.out.println("Exiting Employee Management System CLI. Goodbye!");
     }
 
+    private static void printTimeToCommand(String command) {
+        ProcessHandle.current().info().startInstant().ifPresent(launched -> System.out.println(
+                "Starting " + command + " " + Duration.between(launched, Instant.now()).toMillis()
+                        + " ms after JVM launch"));
+    }
+
+    private void runCommand(List<String> commandLine, Map<String, String> options) throws IOException {
+        String command = commandLine.get(0);
+        if (command.equals("rebalance") && commandLine.size() == 1) {
+            rebalance(options);
+            return;
+        }
+        if (command.equals("loadtest") && commandLine.size() == 1) {
+            loadTest(options);
+            return;
+        }
+        if (commandLine.size() != 2 || !(command.equals("import") || command.equals("export"))) {
+            throw new IllegalArgumentException("Usage: import <file> [--format=csv|ndjson] [--rejects=<file>] "
+                    + "[--batch-size=N] [--workers=N] | export <file> [--format=csv|ndjson] "
+                    + "| rebalance [--shards=N] [--batch-size=N] | loadtest [--rate=N] [--duration=60s] "
+                    + "[--warmup=10s] [--mix=read=70,list=10,create=5,update=12,delete=3] [--seed-rows=N] "
+                    + "[--threads=N] [--max-in-flight=N] [--report-interval=5s] [--target=<bean>]");
+        }
+        Path file = Path.of(commandLine.get(1));
+        EmployeeFileFormat format = options.containsKey("format")
+                ? EmployeeFileFormat.of(options.get("format"))
+                : EmployeeFileFormat.forPath(file);
+        if (command.equals("export")) {
+            new EmployeeExporter(employeeService, objectMapper, System.out, PROGRESS_INTERVAL)
+                    .exportFile(file, format);
+            return;
+        }
+        Path rejects = options.containsKey("rejects")
+                ? Path.of(options.get("rejects"))
+                : file.resolveSibling(file.getFileName() + ".rejects." + format.extension());
+        BatchResult result = new EmployeeImporter(employeeService, objectMapper,
+                intOption(options, "batch-size", DEFAULT_BATCH_SIZE), intOption(options, "workers", DEFAULT_WORKERS),
+                System.out, PROGRESS_INTERVAL)
+                .importFile(file, format, rejects);
+        if (result.rejected() > 0) {
+            System.out.println("Rejected rows written to " + rejects);
+        }
+    }
+
+    private void rebalance(Map<String, String> options) {
+        if (shardedStore == null) {
+            throw new IllegalStateException("rebalance needs the sharded store (app.store.type=sharded)");
+        }
+        int shards = intOption(options, "shards", shardedStore.shardCount());
+        System.out.println("Rebalancing " + shardedStore.shardCount() + " configured shards onto " + shards + "...");
+        ShardRebalancer.Result result = new ShardRebalancer(shardedStore,
+                intOption(options, "batch-size", DEFAULT_BATCH_SIZE)).rebalance(shards);
+        System.out.println("Scanned " + result.scanned() + " employees and moved " + result.moved()
+                + " in " + result.elapsed().toMillis() + " ms");
+    }
+
+    private void loadTest(Map<String, String> options) throws IOException {
+        EmployeeService target = employeeService;
+        if (options.containsKey("target")) {
+            target = services.get(options.get("target"));
+            if (target == null) {
+                throw new IllegalArgumentException("No EmployeeService bean named '" + options.get("target")
+                        + "'; choose one of " + services.keySet());
+            }
+        }
+        LoadGenerator.Profile profile = new LoadGenerator.Profile(
+                intOption(options, "rate", 1000),
+                durationOption(options, "duration", Duration.ofSeconds(60)),
+                durationOption(options, "warmup", Duration.ofSeconds(10)),
+                intOption(options, "seed-rows", 10_000),
+                LoadGenerator.Profile.parseMix(options.getOrDefault("mix", DEFAULT_LOAD_MIX)),
+                intOption(options, "threads", 0),
+                intOption(options, "max-in-flight", 10_000),
+                durationOption(options, "report-interval", Duration.ofSeconds(5)));
+        new LoadGenerator(target, profile, System.out).run();
+    }
+
+    private static Duration durationOption(Map<String, String> options, String name, Duration defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return DurationStyle.detectAndParse(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("--" + name + " must be a duration such as 30s, got '" + value + "'");
+        }
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("--" + name + " must be a number, got '" + value + "'");
+        }
+    }
+
     private void handleCreate() {
         String firstName = readRequired("First name: ");
         String lastName = readRequired("Last name: ");
         String email = readRequired("Email: ");
-        Employee created = employeeService.createEmployee(new Employee(null, firstName, lastName, email));
+        String department = readOptional("Department", null);
+        String position = readOptional("Position", null);
+        BigDecimal salary = readSalary(null);
+        LocalDate hireDate = readHireDate(null);
+        Employee created = employeeService.createEmployee(
+                new Employee(null, firstName, lastName, email, department, position, salary, hireDate));
         System.out.println("Employee created with id: " + created.getId());
     }
 
     private void handleList() {
-        List<Employee> employees = employeeService.getAllEmployees();
-        if (employees.isEmpty()) {
+        EmployeePage page = employeeService.getEmployeePage(0, LIST_PAGE_SIZE);
+        if (page.employees().isEmpty()) {
             System.out.println("No employees found.");
             return;
         }
         System.out.println("Registered employees:");
-        employees.forEach(employee -> System.out.println("- " + describe(employee)));
+        while (true) {
+            page.employees().forEach(employee -> System.out.println("- " + describe(employee)));
+            if (!page.hasMore()) {
+                return;
+            }
+            String next = readLine("Press Enter for more, or q to stop: ").trim();
+            if (next.equalsIgnoreCase("q")) {
+                return;
+            }
+            page = employeeService.getEmployeePage(page.nextAfterId(), LIST_PAGE_SIZE);
+        }
     }
 
+    /**
+     * Asks only for the fields to change and sends them as one patch, so the row is neither read
+     * first nor rewritten in full.
+     */
     private void handleUpdate() {
-        Optional<Employee> existing = employeeService.getEmployeeById(readId());
-        if (existing.isEmpty()) {
-            System.out.println("Employee not found.");
-            return;
-        }
-        Employee current = existing.get();
-        System.out.println("Updating employee: " + describe(current));
-        String firstName = readOptional("First name", current.getFirstName());
-        String lastName = readOptional("Last name", current.getLastName());
-        String email = readOptional("Email", current.getEmail());
-        Employee updated = new Employee(current.getId(), firstName, lastName, email);
-        employeeService.updateEmployee(current.getId(), updated).ifPresentOrElse(
-                value -> System.out.println("Employee updated."),
-                () -> System.out.println("Employee could not be updated."));
+        long id = readId();
+        System.out.println("Leave a field blank to keep it, or enter '" + CLEAR + "' to clear an optional one.");
+        EmployeePatch.Builder patch = EmployeePatch.builder();
+        readChange("First name").ifPresent(patch::firstName);
+        readChange("Last name").ifPresent(patch::lastName);
+        readChange("Email").ifPresent(patch::email);
+        readChange("Department").ifPresent(value -> patch.department(cleared(value)));
+        readChange("Position").ifPresent(value -> patch.position(cleared(value)));
+        readSalaryChange(patch);
+        readHireDateChange(patch);
+        employeeService.patchEmployee(id, patch.build()).ifPresentOrElse(
+                updated -> System.out.println("Employee updated: " + describe(updated)),
+                () -> System.out.println("Employee not found."));
+    }
+
+    /**
+     * Creates the employee, or overwrites the one that already has the email, in one call.
+     */
+    private void handleUpsert() {
+        String email = readRequired("Email: ");
+        String firstName = readRequired("First name: ");
+        String lastName = readRequired("Last name: ");
+        String department = readOptional("Department", null);
+        String position = readOptional("Position", null);
+        BigDecimal salary = readSalary(null);
+        LocalDate hireDate = readHireDate(null);
+        Employee saved = employeeService.upsertEmployee(
+                new Employee(null, firstName, lastName, email, department, position, salary, hireDate));
+        System.out.println("Employee saved: " + describe(saved));
     }
 
     private void handleDelete() {
@@ -90,6 +304,24 @@ public class EmployeeCliRunner implements CommandLineRunner {
         }
     }
 
+    private void handleSummary() {
+        EmployeeAggregates aggregates = employeeService.getAggregates();
+        if (aggregates.departments().isEmpty()) {
+            System.out.println("No employees found.");
+            return;
+        }
+        System.out.println("Headcount: " + aggregates.headcount() + ", total payroll: " + aggregates.totalSalary());
+        aggregates.departments().values().forEach(stats -> System.out.println("- "
+                + (stats.department().isEmpty() ? "(no department)" : stats.department())
+                + ": headcount=" + stats.headcount()
+                + ", total salary=" + stats.totalSalary()
+                + ", average salary=" + (stats.averageSalary() == null ? "-" : stats.averageSalary())));
+        if (!aggregates.hiresPerMonth().isEmpty()) {
+            System.out.println("Hires per month:");
+            aggregates.hiresPerMonth().forEach((month, hires) -> System.out.println("- " + month + ": " + hires));
+        }
+    }
+
     private String readRequired(String prompt) {
         while (true) {
             String value = readLine(prompt).trim();
@@ -101,10 +333,65 @@ public class EmployeeCliRunner implements CommandLineRunner {
     }
 
     private String readOptional(String fieldName, String currentValue) {
-        String line = readLine(fieldName + " [" + currentValue + "]: ").trim();
+        String line = readLine(fieldName + " [" + (currentValue == null ? "" : currentValue) + "]: ").trim();
         return line.isEmpty() ? currentValue : line;
     }
 
+    private BigDecimal readSalary(BigDecimal currentValue) {
+        while (true) {
+            String value = readOptional("Salary", currentValue == null ? null : currentValue.toPlainString());
+            try {
+                return value == null ? null : new BigDecimal(value);
+            } catch (NumberFormatException ex) {
+                System.out.println("Please enter a valid amount, e.g. 55000.00.");
+            }
+        }
+    }
+
+    private LocalDate readHireDate(LocalDate currentValue) {
+        while (true) {
+            String value = readOptional("Hire date (yyyy-mm-dd)", currentValue == null ? null : currentValue.toString());
+            try {
+                return value == null ? null : LocalDate.parse(value);
+            } catch (DateTimeParseException ex) {
+                System.out.println("Please enter a date as yyyy-mm-dd.");
+            }
+        }
+    }
+
+    private Optional<String> readChange(String fieldName) {
+        String value = readLine(fieldName + ": ").trim();
+        return value.isEmpty() ? Optional.empty() : Optional.of(value);
+    }
+
+    private void readSalaryChange(EmployeePatch.Builder patch) {
+        while (true) {
+            Optional<String> value = readChange("Salary");
+            try {
+                value.ifPresent(text -> patch.salary(CLEAR.equals(text) ? null : new BigDecimal(text)));
+                return;
+            } catch (NumberFormatException ex) {
+                System.out.println("Please enter a valid amount, e.g. 55000.00.");
+            }
+        }
+    }
+
+    private void readHireDateChange(EmployeePatch.Builder patch) {
+        while (true) {
+            Optional<String> value = readChange("Hire date (yyyy-mm-dd)");
+            try {
+                value.ifPresent(text -> patch.hireDate(CLEAR.equals(text) ? null : LocalDate.parse(text)));
+                return;
+            } catch (DateTimeParseException ex) {
+                System.out.println("Please enter a date as yyyy-mm-dd.");
+            }
+        }
+    }
+
+    private static String cleared(String value) {
+        return CLEAR.equals(value) ? null : value;
+    }
+
     private long readId() {
         while (true) {
             String value = readLine("Enter employee id: ").trim();
@@ -131,7 +418,9 @@ public class EmployeeCliRunner implements CommandLineRunner {
         System.out.println("2. View Employees");
         System.out.println("3. Update Employee");
         System.out.println("4. Delete Employee");
-        System.out.println("5. Exit");
+        System.out.println("5. Department Summary");
+        System.out.println("6. Add or Replace Employee by Email");
+        System.out.println("7. Exit");
     }
 
     private void printBanner() {
@@ -144,7 +433,12 @@ public class EmployeeCliRunner implements CommandLineRunner {
     private String describe(Employee employee) {
         return "[id=" + employee.getId() + ", "
                 + employee.getFirstName() + " " + employee.getLastName()
-                + ", email=" + employee.getEmail() + "]";
+                + ", email=" + employee.getEmail()
+                + (employee.getDepartment() == null ? "" : ", department=" + employee.getDepartment())
+                + (employee.getPosition() == null ? "" : ", position=" + employee.getPosition())
+                + (employee.getSalary() == null ? "" : ", salary=" + employee.getSalary())
+                + (employee.getHireDate() == null ? "" : ", hired=" + employee.getHireDate())
+                + "]";
     }
 
     private boolean isNonInteractive() {
@@ -0,0 +1,97 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * CSV encoding of employees: RFC 4180 quoting, so fields may hold commas, quotes and line breaks.
+ */
+final class EmployeeCsv {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "first_name", "last_name", "email", "department", "position", "salary", "hire_date");
+
+    private EmployeeCsv() {
+    }
+
+    static String header() {
+        return String.join(",", COLUMNS);
+    }
+
+    /**
+     * A physical line ends the record only outside quotes, i.e. once the quote count is even.
+     */
+    static boolean isComplete(CharSequence record) {
+        int quotes = 0;
+        for (int i = 0; i < record.length(); i++) {
+            if (record.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 0;
+    }
+
+    static List<String> split(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"') {
+                throw new IllegalArgumentException("Unexpected quote in unquoted field at position " + i);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    static String format(Employee employee) {
+        StringBuilder line = new StringBuilder(128);
+        line.append(employee.getId() == null ? "" : employee.getId()).append(',');
+        appendField(line, employee.getFirstName()).append(',');
+        appendField(line, employee.getLastName()).append(',');
+        appendField(line, employee.getEmail()).append(',');
+        appendField(line, employee.getDepartment()).append(',');
+        appendField(line, employee.getPosition()).append(',');
+        BigDecimal salary = employee.getSalary();
+        line.append(salary == null ? "" : salary.toPlainString()).append(',');
+        LocalDate hireDate = employee.getHireDate();
+        line.append(hireDate == null ? "" : hireDate.toString());
+        return line.toString();
+    }
+
+    static StringBuilder appendField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        boolean needsQuotes = value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,114 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Writes every employee to a CSV or NDJSON file. Rows come from
+ * {@link EmployeeService#streamEmployees()} (a server-side cursor on the JDBC backend) and are
+ * encoded into a direct buffer that is drained to a {@link FileChannel} whenever it fills, so
+ * neither the table nor the file is ever held in memory.
+ */
+public class EmployeeExporter {
+
+    private static final int BUFFER_BYTES = 256 * 1024;
+    private static final int PROGRESS_EVERY = 1024;
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final EmployeeService employeeService;
+    private final ObjectWriter employeeWriter;
+    private final PrintStream out;
+    private final Duration progressInterval;
+
+    public EmployeeExporter(EmployeeService employeeService, ObjectMapper objectMapper, PrintStream out,
+                            Duration progressInterval) {
+        this.employeeService = employeeService;
+        this.employeeWriter = objectMapper.writerFor(Employee.class)
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.out = out;
+        this.progressInterval = progressInterval;
+    }
+
+    public BatchResult exportFile(Path output, EmployeeFileFormat format) throws IOException {
+        BatchProgress progress = new BatchProgress("Exported", out, progressInterval);
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Stream<Employee> employees = employeeService.streamEmployees()) {
+            ChannelWriter writer = new ChannelWriter(channel);
+            if (format == EmployeeFileFormat.CSV) {
+                writer.writeLine(EmployeeCsv.header().getBytes(StandardCharsets.UTF_8));
+            }
+            Iterator<Employee> rows = employees.iterator();
+            int sinceReport = 0;
+            while (rows.hasNext()) {
+                Employee employee = rows.next();
+                byte[] line = format == EmployeeFileFormat.CSV
+                        ? EmployeeCsv.format(employee).getBytes(StandardCharsets.UTF_8)
+                        : employeeWriter.writeValueAsBytes(employee);
+                writer.writeLine(line);
+                if (++sinceReport == PROGRESS_EVERY) {
+                    progress.rows(sinceReport);
+                    sinceReport = 0;
+                }
+            }
+            progress.rows(sinceReport);
+            writer.flush();
+        }
+        return progress.finish();
+    }
+
+    /**
+     * Accumulates lines in one direct buffer and writes it out when full; lines larger than the
+     * buffer are written straight through.
+     */
+    private static final class ChannelWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+
+        private ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeLine(byte[] line) throws IOException {
+            write(line);
+            write(NEWLINE);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.remaining()) {
+                flush();
+            }
+            if (bytes.length > buffer.capacity()) {
+                ByteBuffer large = ByteBuffer.wrap(bytes);
+                while (large.hasRemaining()) {
+                    channel.write(large);
+                }
+                return;
+            }
+            buffer.put(bytes);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * File formats understood by the batch import and export commands.
+ */
+public enum EmployeeFileFormat {
+
+    /** RFC 4180 CSV with a header row; columns are matched by name and unknown ones ignored. */
+    CSV("csv"),
+
+    /** One JSON object per line, with the same property names as the HTTP API. */
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    EmployeeFileFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static EmployeeFileFormat of(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "csv" -> CSV;
+            case "ndjson", "jsonl", "json" -> NDJSON;
+            default -> throw new IllegalArgumentException("Unknown format '" + name + "', expected csv or ndjson");
+        };
+    }
+
+    /**
+     * Picks the format from the file extension.
+     */
+    public static EmployeeFileFormat forPath(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0) {
+            throw new IllegalArgumentException("Cannot tell the format of " + path + "; pass --format=csv|ndjson");
+        }
+        return of(name.substring(dot + 1));
+    }
+}
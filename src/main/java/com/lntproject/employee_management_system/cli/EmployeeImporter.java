@@ -0,0 +1,380 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Streams a CSV or NDJSON file into {@link EmployeeService#createEmployees}.
+ *
+ * <p>The calling thread parses records one at a time and hands them out in batches of
+ * {@code batchSize} to {@code workers} loader threads. At most two batches per worker are in
+ * flight, so memory stays flat however large the file is. Batches may finish out of order, so
+ * generated ids do not follow file order.
+ *
+ * <p>Records that cannot be parsed or that the service rejects go to the reject file in the input
+ * format with a {@code reject_reason} column or property added. Both formats ignore unknown
+ * columns, so a corrected reject file can be imported as it is. The reject file is only created
+ * when something is rejected.
+ */
+public class EmployeeImporter {
+
+    static final String REJECT_REASON = "reject_reason";
+
+    private final EmployeeService employeeService;
+    private final ObjectReader employeeReader;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int workers;
+    private final PrintStream out;
+    private final Duration progressInterval;
+
+    public EmployeeImporter(EmployeeService employeeService, ObjectMapper objectMapper, int batchSize, int workers,
+                            PrintStream out, Duration progressInterval) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (workers <= 0) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(Employee.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.out = out;
+        this.progressInterval = progressInterval;
+    }
+
+    public BatchResult importFile(Path input, EmployeeFileFormat format, Path rejectFile) throws IOException {
+        BatchProgress progress = new BatchProgress("Imported", out, progressInterval);
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "employee-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(workers * 2);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             Rejects rejects = new Rejects(rejectFile, format)) {
+            RecordSource source = format == EmployeeFileFormat.CSV ? new CsvSource(reader) : new NdjsonSource(reader);
+            rejects.header = source.header();
+            List<ParsedRecord> batch = new ArrayList<>(batchSize);
+            ParsedRecord record;
+            while ((record = source.next()) != null && failure.get() == null) {
+                if (record.error() != null) {
+                    rejects.write(record, record.error());
+                    progress.rejected(1);
+                    continue;
+                }
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    submit(pool, inFlight, batch, rejects, progress, failure);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(pool, inFlight, batch, rejects, progress, failure);
+            }
+            pool.shutdown();
+            awaitLoaders(pool);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return progress.finish();
+    }
+
+    private void submit(ExecutorService pool, Semaphore inFlight, List<ParsedRecord> batch, Rejects rejects,
+                        BatchProgress progress, AtomicReference<RuntimeException> failure) throws IOException {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a loader");
+        }
+        pool.execute(() -> {
+            try {
+                load(batch, rejects, progress);
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private void load(List<ParsedRecord> batch, Rejects rejects, BatchProgress progress) {
+        List<Employee> employees = new ArrayList<>(batch.size());
+        batch.forEach(record -> employees.add(record.employee()));
+        BulkCreateResult result;
+        try {
+            result = employeeService.createEmployees(employees);
+        } catch (RuntimeException e) {
+            // The whole batch failed (e.g. the database went away): reject it and carry on.
+            for (ParsedRecord record : batch) {
+                rejects.write(record, e.getMessage());
+            }
+            progress.rejected(batch.size());
+            return;
+        }
+        for (BulkCreateResult.Failure rejected : result.failures()) {
+            rejects.write(batch.get(rejected.index()), rejected.reason());
+        }
+        progress.rejected(result.failures().size());
+        progress.rows(result.createdCount());
+    }
+
+    private static void awaitLoaders(ExecutorService pool) throws InterruptedIOException {
+        try {
+            while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting: a slow backend is not a reason to abandon loaded batches.
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for loaders to finish");
+        }
+    }
+
+    private Employee validated(Employee employee) {
+        employee.setId(null);
+        if (isBlank(employee.getFirstName()) || isBlank(employee.getLastName()) || isBlank(employee.getEmail())) {
+            throw new IllegalArgumentException("first_name, last_name and email are required");
+        }
+        return employee;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * One record of the input: the raw text (for the reject file) and either the employee or the
+     * reason it could not be parsed.
+     */
+    private record ParsedRecord(long line, String raw, Employee employee, String error) {
+    }
+
+    private interface RecordSource {
+
+        ParsedRecord next() throws IOException;
+
+        default String header() {
+            return null;
+        }
+    }
+
+    private final class CsvSource implements RecordSource {
+
+        private final BufferedReader reader;
+        private final String header;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long line;
+
+        private CsvSource(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            this.header = reader.readLine();
+            line = 1;
+            if (header == null) {
+                return;
+            }
+            List<String> names = EmployeeCsv.split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String required : List.of("first_name", "last_name", "email")) {
+                if (!columns.containsKey(required)) {
+                    throw new IllegalArgumentException("CSV header is missing the " + required + " column");
+                }
+            }
+        }
+
+        @Override
+        public String header() {
+            return header;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String physical;
+            do {
+                physical = reader.readLine();
+                line++;
+            } while (physical != null && physical.isBlank());
+            if (physical == null) {
+                return null;
+            }
+            long start = line;
+            StringBuilder record = new StringBuilder(physical);
+            while (!EmployeeCsv.isComplete(record)) {
+                String more = reader.readLine();
+                if (more == null) {
+                    break;
+                }
+                line++;
+                record.append('\n').append(more);
+            }
+            String raw = record.toString();
+            try {
+                List<String> fields = EmployeeCsv.split(raw);
+                Employee employee = new Employee(null, field(fields, "first_name"), field(fields, "last_name"),
+                        field(fields, "email"), field(fields, "department"), field(fields, "position"),
+                        salary(field(fields, "salary")), hireDate(field(fields, "hire_date")));
+                return new ParsedRecord(start, raw, validated(employee), null);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                return new ParsedRecord(start, raw, null, "line " + start + ": " + e.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= fields.size() ? null : blankToNull(fields.get(index));
+        }
+
+        private BigDecimal salary(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return new BigDecimal(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("salary '" + value + "' is not a number");
+            }
+        }
+
+        private LocalDate hireDate(String value) {
+            return value == null ? null : LocalDate.parse(value);
+        }
+    }
+
+    private final class NdjsonSource implements RecordSource {
+
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public ParsedRecord next() throws IOException {
+            String raw;
+            do {
+                raw = reader.readLine();
+                line++;
+            } while (raw != null && raw.isBlank());
+            if (raw == null) {
+                return null;
+            }
+            try {
+                Employee employee = employeeReader.readValue(raw);
+                employee.setFirstName(blankToNull(employee.getFirstName()));
+                employee.setLastName(blankToNull(employee.getLastName()));
+                employee.setEmail(blankToNull(employee.getEmail()));
+                return new ParsedRecord(line, raw, validated(employee), null);
+            } catch (JsonProcessingException e) {
+                return new ParsedRecord(line, raw, null, "line " + line + ": " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return new ParsedRecord(line, raw, null, "line " + line + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reject file, opened on the first rejected record and shared by the parser and the loaders.
+     */
+    private final class Rejects implements AutoCloseable {
+
+        private final Path path;
+        private final EmployeeFileFormat format;
+        private String header;
+        private BufferedWriter writer;
+
+        private Rejects(Path path, EmployeeFileFormat format) {
+            this.path = path;
+            this.format = format;
+        }
+
+        synchronized void write(ParsedRecord record, String reason) {
+            try {
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                    if (format == EmployeeFileFormat.CSV && header != null) {
+                        writer.write(header + "," + REJECT_REASON);
+                        writer.newLine();
+                    }
+                }
+                writer.write(format == EmployeeFileFormat.CSV
+                        ? csvReject(record, reason)
+                        : ndjsonReject(record, reason));
+                writer.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write reject file " + path, e);
+            }
+        }
+
+        private String csvReject(ParsedRecord record, String reason) {
+            return EmployeeCsv.appendField(new StringBuilder(record.raw()).append(','), String.valueOf(reason))
+                    .toString();
+        }
+
+        private String ndjsonReject(ParsedRecord record, String reason) throws JsonProcessingException {
+            ObjectNode rejected;
+            try {
+                JsonNode parsed = objectMapper.readTree(record.raw());
+                rejected = parsed instanceof ObjectNode object ? object : objectMapper.createObjectNode();
+            } catch (JsonProcessingException e) {
+                rejected = objectMapper.createObjectNode().put("raw", record.raw());
+            }
+            rejected.put(REJECT_REASON, reason);
+            return objectMapper.writeValueAsString(rejected);
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
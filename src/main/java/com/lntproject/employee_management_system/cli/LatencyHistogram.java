@@ -0,0 +1,76 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of nanosecond latencies: values below 128 ns are counted exactly, larger
+ * ones in 64 buckets per power of two, so a reported percentile is within 1.6% of the true value
+ * from 1 ns to the longest duration a long can hold. Recording is lock-free and safe from any
+ * number of threads; reading while recording gives a view that is at most a few values behind.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF = SUB_BUCKETS / 2;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * HALF + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(index(value));
+        total.incrementAndGet();
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * The smallest value that {@code percentile} percent of the recorded values do not exceed,
+     * rounded up to the end of its bucket; 0 when nothing was recorded.
+     */
+    long percentile(double percentile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestInBucket(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF + (int) (value >>> shift);
+    }
+
+    static long highestInBucket(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long lowest = (long) (index - shift * HALF) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,400 @@
+package com.lntproject.employee_management_system.cli;
+
+import java.io.InterruptedIOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Drives an {@link EmployeeService} with a weighted mix of reads, page listings and writes at a
+ * fixed target rate, for load and soak tests before a deploy.
+ *
+ * <p>The load is open-loop: calls are scheduled at evenly spaced intended start times whether or
+ * not earlier calls have finished, and each runs on its own virtual thread, or on a fixed pool of
+ * platform threads when {@code threads} is set. At most {@code maxInFlight} calls run or wait at
+ * once. Latency is measured from the intended start time, not from when a thread got round to
+ * the call, so a stall shows up in the percentiles of every call scheduled during it instead of
+ * being hidden by a generator that politely waited (coordinated omission). The time spent inside
+ * the service alone is reported next to it as service time.
+ *
+ * <p>Reads, updates and deletes pick ids uniformly from the range seeded or created so far;
+ * a deleted id simply reads as missing. Throughput, errors and latency percentiles are printed
+ * every {@code reportInterval}, and for the whole run, excluding the warm-up, at the end.
+ */
+public class LoadGenerator {
+
+    private static final int SEED_BATCH = 1000;
+    private static final int LIST_PAGE_SIZE = 20;
+    private static final String[] DEPARTMENTS = {"Engineering", "Sales", "Finance", "Operations", "Support"};
+
+    /**
+     * A kind of call in the mix.
+     */
+    public enum Operation {
+        READ, LIST, CREATE, UPDATE, DELETE;
+
+        String label() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * What to run: {@code ratePerSecond} calls per second for {@code duration} after
+     * {@code warmup}, drawn by the weights in {@code mix}, after seeding {@code seedRows}
+     * employees. {@code threads} of 0 runs every call on its own virtual thread.
+     */
+    public record Profile(double ratePerSecond, Duration duration, Duration warmup, int seedRows,
+                          Map<Operation, Integer> mix, int threads, int maxInFlight, Duration reportInterval) {
+
+        public Profile {
+            if (!(ratePerSecond > 0)) {
+                throw new IllegalArgumentException("rate must be positive");
+            }
+            if (duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+                throw new IllegalArgumentException("duration must be positive and warmup not negative");
+            }
+            if (seedRows < 0 || threads < 0 || maxInFlight <= 0) {
+                throw new IllegalArgumentException("seed rows and threads cannot be negative and in-flight calls "
+                        + "must be positive");
+            }
+            if (reportInterval.isNegative() || reportInterval.isZero()) {
+                throw new IllegalArgumentException("report interval must be positive");
+            }
+            mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+            if (mix.values().stream().anyMatch(weight -> weight < 0)
+                    || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+                throw new IllegalArgumentException("mix weights cannot be negative and must not all be 0");
+            }
+        }
+
+        /**
+         * Parses a mix such as {@code read=80,list=5,create=5,update=8,delete=2}; operations left
+         * out get weight 0.
+         */
+        public static Map<Operation, Integer> parseMix(String text) {
+            Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+            for (String part : text.split(",")) {
+                String[] pair = part.trim().split("=", 2);
+                try {
+                    mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)),
+                            Integer.parseInt(pair[1].trim()));
+                } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                    throw new IllegalArgumentException("mix entries look like read=80, got '" + part.trim() + "'");
+                }
+            }
+            return mix;
+        }
+    }
+
+    /**
+     * Results for one operation over the measured part of the run; latencies in nanoseconds.
+     */
+    public record OperationStats(long calls, long errors, long p50, long p90, long p99, long p999, long max,
+                                 long serviceP99) {
+
+        public double errorRate() {
+            return calls == 0 ? 0 : (double) errors / calls;
+        }
+    }
+
+    /**
+     * Results of a run: how long the measured part took, calls that were scheduled but could not
+     * start before the end, and stats per operation plus for all of them together.
+     */
+    public record Report(Duration elapsed, long behindSchedule, Map<Operation, OperationStats> operations,
+                         OperationStats total) {
+
+        public double callsPerSecond() {
+            double seconds = elapsed.toNanos() / 1e9;
+            return seconds <= 0 ? total.calls() : total.calls() / seconds;
+        }
+    }
+
+    private final EmployeeService employeeService;
+    private final Profile profile;
+    private final PrintStream out;
+    private final Operation[] operations = Operation.values();
+    private final int[] cumulativeWeights = new int[operations.length];
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong emailSequence = new AtomicLong();
+    private final AtomicLong lowestId = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong highestId = new AtomicLong(Long.MIN_VALUE);
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Recorder all = new Recorder();
+    private final AtomicReference<LatencyHistogram> interval = new AtomicReference<>(new LatencyHistogram());
+    private final LongAdder intervalErrors = new LongAdder();
+
+    public LoadGenerator(EmployeeService employeeService, Profile profile, PrintStream out) {
+        this.employeeService = employeeService;
+        this.profile = profile;
+        this.out = out;
+        int weights = 0;
+        for (Operation operation : operations) {
+            weights = Math.addExact(weights, profile.mix().getOrDefault(operation, 0));
+            cumulativeWeights[operation.ordinal()] = weights;
+            recorders.put(operation, new Recorder());
+        }
+    }
+
+    public Report run() throws InterruptedIOException {
+        seed();
+        if (highestId.get() == Long.MIN_VALUE && needsIds()) {
+            throw new IllegalStateException("No employees to read, update or delete; seed some with --seed-rows");
+        }
+        out.printf("Running %s at %,.0f calls/s for %.1f s (after %.1f s warm-up) on %s%n", describeMix(),
+                profile.ratePerSecond(), profile.duration().toMillis() / 1e3, profile.warmup().toMillis() / 1e3,
+                profile.threads() == 0 ? "virtual threads" : profile.threads() + " platform threads");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = profile.threads() == 0
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(profile.threads(), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-load-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-load-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        double periodNanos = 1e9 / profile.ratePerSecond();
+        long start = System.nanoTime();
+        long measureFrom = start + profile.warmup().toNanos();
+        long end = measureFrom + profile.duration().toNanos();
+        long intervalNanos = profile.reportInterval().toNanos();
+        reporter.scheduleAtFixedRate(() -> reportInterval(start, measureFrom),
+                intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        long behindSchedule = 0;
+        try {
+            for (long call = 0; ; call++) {
+                long intended = start + (long) (call * periodNanos);
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire(Math.max(0, end - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    behindSchedule = (long) ((end - intended) / periodNanos);
+                    break;
+                }
+                Operation operation = nextOperation();
+                boolean measured = intended >= measureFrom;
+                workers.execute(() -> {
+                    try {
+                        call(operation, intended, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            workers.shutdown();
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting: the calls still running belong to the run.
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while generating load");
+        } finally {
+            reporter.shutdownNow();
+            workers.shutdownNow();
+        }
+        Report report = report(Duration.ofNanos(System.nanoTime() - measureFrom), behindSchedule);
+        printReport(report);
+        return report;
+    }
+
+    private Operation nextOperation() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= draw) {
+            index++;
+        }
+        return operations[index];
+    }
+
+    private void call(Operation operation, long intended, boolean measured) {
+        long began = System.nanoTime();
+        boolean failed = false;
+        try {
+            perform(operation);
+        } catch (RuntimeException e) {
+            failed = true;
+        }
+        long done = System.nanoTime();
+        interval.get().record(done - intended);
+        if (failed) {
+            intervalErrors.increment();
+        }
+        if (measured) {
+            recorders.get(operation).record(done - intended, done - began, failed);
+            all.record(done - intended, done - began, failed);
+        }
+    }
+
+    private void perform(Operation operation) {
+        switch (operation) {
+            case READ -> employeeService.getEmployeeById(randomId());
+            case LIST -> employeeService.getEmployeePage(randomId() - 1, LIST_PAGE_SIZE);
+            case CREATE -> seen(employeeService.createEmployee(newEmployee()).getId());
+            case UPDATE -> employeeService.patchEmployee(randomId(), EmployeePatch.builder()
+                    .department(DEPARTMENTS[ThreadLocalRandom.current().nextInt(DEPARTMENTS.length)])
+                    .salary(BigDecimal.valueOf(30_000 + ThreadLocalRandom.current().nextInt(120_000)))
+                    .build());
+            case DELETE -> employeeService.deleteEmployee(randomId());
+        }
+    }
+
+    private void seed() {
+        int remaining = profile.seedRows();
+        if (remaining > 0) {
+            out.printf("Seeding %,d employees...%n", remaining);
+        }
+        while (remaining > 0) {
+            List<Employee> batch = new ArrayList<>(Math.min(remaining, SEED_BATCH));
+            for (int i = 0; i < Math.min(remaining, SEED_BATCH); i++) {
+                batch.add(newEmployee());
+            }
+            BulkCreateResult result = employeeService.createEmployees(batch);
+            result.ids().forEach(id -> {
+                if (id != null) {
+                    seen(id);
+                }
+            });
+            remaining -= batch.size();
+        }
+        if (profile.seedRows() == 0) {
+            try (Stream<Employee> existing = employeeService.streamEmployees()) {
+                existing.forEach(employee -> seen(employee.getId()));
+            }
+        }
+    }
+
+    private boolean needsIds() {
+        return profile.mix().entrySet().stream()
+                .anyMatch(entry -> entry.getValue() > 0 && entry.getKey() != Operation.CREATE);
+    }
+
+    private void seen(long id) {
+        lowestId.accumulateAndGet(id, Math::min);
+        highestId.accumulateAndGet(id, Math::max);
+    }
+
+    private long randomId() {
+        long lowest = lowestId.get();
+        long highest = highestId.get();
+        return highest < lowest ? 0 : ThreadLocalRandom.current().nextLong(lowest, highest + 1);
+    }
+
+    private Employee newEmployee() {
+        long n = emailSequence.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new Employee(null, "Load" + n, "Test" + (n % 997), "load-" + runId + "-" + n + "@example.com",
+                DEPARTMENTS[random.nextInt(DEPARTMENTS.length)], "Engineer",
+                BigDecimal.valueOf(30_000 + random.nextInt(120_000)), null);
+    }
+
+    private void reportInterval(long start, long measureFrom) {
+        LatencyHistogram calls = interval.getAndSet(new LatencyHistogram());
+        long errors = intervalErrors.sumThenReset();
+        long now = System.nanoTime();
+        double seconds = profile.reportInterval().toNanos() / 1e9;
+        out.printf("[%5ds]%s %,9.0f calls/s, errors %5.2f%%, latency p50 %s p99 %s p99.9 %s max %s%n",
+                TimeUnit.NANOSECONDS.toSeconds(now - start), now < measureFrom ? " warm-up" : "",
+                calls.count() / seconds, calls.count() == 0 ? 0.0 : 100.0 * errors / calls.count(),
+                millis(calls.percentile(50)), millis(calls.percentile(99)),
+                millis(calls.percentile(99.9)), millis(calls.max()));
+    }
+
+    private Report report(Duration elapsed, long behindSchedule) {
+        Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> {
+            if (recorder.latency.count() > 0) {
+                operations.put(operation, recorder.stats());
+            }
+        });
+        return new Report(elapsed, behindSchedule, operations, all.stats());
+    }
+
+    private void printReport(Report report) {
+        out.printf("%nCompleted %,d calls in %.1f s: %,.0f calls/s, %,d errors (%.2f%%)%s%n", report.total().calls(),
+                report.elapsed().toNanos() / 1e9, report.callsPerSecond(), report.total().errors(),
+                100 * report.total().errorRate(),
+                report.behindSchedule() > 0
+                        ? ", " + report.behindSchedule() + " scheduled calls never started (raise --max-in-flight)"
+                        : "");
+        out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s %12s%n",
+                "", "calls", "errors", "p50", "p90", "p99", "p99.9", "max", "service p99");
+        report.operations().forEach((operation, stats) -> printStats(operation.label(), stats));
+        printStats("all", report.total());
+    }
+
+    private void printStats(String label, OperationStats stats) {
+        out.printf("%-8s %,10d %8d %10s %10s %10s %10s %10s %12s%n", label, stats.calls(), stats.errors(),
+                millis(stats.p50()), millis(stats.p90()), millis(stats.p99()), millis(stats.p999()),
+                millis(stats.max()), millis(stats.serviceP99()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1e6);
+    }
+
+    private String describeMix() {
+        StringBuilder text = new StringBuilder();
+        profile.mix().forEach((operation, weight) -> {
+            if (weight > 0) {
+                text.append(text.isEmpty() ? "" : ",").append(operation.label()).append('=').append(weight);
+            }
+        });
+        return text.toString();
+    }
+
+    /**
+     * Latency from intended start and service time of the measured calls of one operation.
+     */
+    private static final class Recorder {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram service = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, long serviceNanos, boolean failed) {
+            latency.record(latencyNanos);
+            service.record(serviceNanos);
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        OperationStats stats() {
+            return new OperationStats(latency.count(), errors.sum(), latency.percentile(50), latency.percentile(90),
+                    latency.percentile(99), latency.percentile(99.9), latency.max(), service.percentile(99));
+        }
+    }
+}
@@ -1,82 +1,92 @@
 package com.lntproject.employee_management_system.config;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
-import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import com.lntproject.employee_management_system.model.Employee;
 import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.DurableEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeIdAllocator;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.OffHeapEmployeeService;
+import com.lntproject.employee_management_system.service.impl.ShardedEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
+@EnableConfigurationProperties({EmployeeJournalProperties.class, EmployeeShardProperties.class})
 public class CliConfiguration {
 
-    @Bean
-    @ConditionalOnMissingBean(EmployeeService.class)
-    public EmployeeService inMemoryEmployeeService() {
-        return new InMemoryEmployeeService();
+    @Bean(name = "employeeStore")
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "memory")
+    public EmployeeService inMemoryEmployeeService(EmployeeJournalProperties journal,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+        if (!journal.enabled()) {
+            return new InMemoryEmployeeService();
+        }
+        DurableEmployeeService durable = DurableEmployeeService.open(
+                journal.directory(), journal.fsyncInterval(), journal.snapshotEvery());
+        meterRegistry.ifAvailable(durable::bindTo);
+        return durable;
     }
 
-    private static final class InMemoryEmployeeService implements EmployeeService {
-
-        private final AtomicLong idSequence = new AtomicLong(1);
-        private final Map<Long, Employee> store = new ConcurrentHashMap<>();
-
-        @Override
-        public Employee createEmployee(Employee employee) {
-            Long requestedId = employee.getId();
-            @SuppressWarnings("UnnecessaryUnboxing")
-            long id = requestedId != null ? requestedId.longValue() : idSequence.getAndIncrement();
-            Employee persisted = copyOf(employee);
-            persisted.setId(id);
-            store.put(id, persisted);
-            return copyOf(persisted);
-        }
+    @Bean(name = "employeeStore")
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "offheap")
+    public EmployeeService offHeapEmployeeService(ObjectProvider<MeterRegistry> meterRegistry) {
+        OffHeapEmployeeService offHeap = new OffHeapEmployeeService();
+        meterRegistry.ifAvailable(offHeap::bindTo);
+        return offHeap;
+    }
 
-        @Override
-        public List<Employee> getAllEmployees() {
-            if (store.isEmpty()) {
-                return Collections.emptyList();
+    /**
+     * Employees partitioned by id over the databases in {@code app.store.sharding.shards}, each
+     * behind its own pool, with ids drawn from the sequence table of the first one. With no
+     * databases listed, over in-memory partitions instead.
+     */
+    @Bean(name = "employeeStore")
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "sharded")
+    public ShardedEmployeeService shardedEmployeeService(EmployeeShardProperties sharding,
+                                                         ObjectProvider<DataSourceProperties> primary,
+                                                         @Value("${app.jdbc.batch-size:500}") int batchSize,
+                                                         @Value("${app.jdbc.fetch-size:1000}") int fetchSize,
+                                                         @Value("${app.jdbc.in-list-size:256}") int inListSize,
+                                                         @Value("${app.jdbc.multi-get-parallelism:4}")
+                                                         int multiGetParallelism) {
+        List<EmployeeService> shards = new ArrayList<>();
+        if (sharding.shards().isEmpty()) {
+            for (int index = 0; index < sharding.partitions(); index++) {
+                shards.add(new InMemoryEmployeeService());
             }
-            List<Employee> snapshot = new ArrayList<>(store.size());
-            store.values().forEach(employee -> snapshot.add(copyOf(employee)));
-            snapshot.sort((left, right) -> Long.compare(left.getId(), right.getId()));
-            return snapshot;
-        }
-
-        @Override
-        public Optional<Employee> getEmployeeById(long id) {
-            Employee employee = store.get(id);
-            return Optional.ofNullable(employee).map(this::copyOf);
-        }
-
-        @Override
-        public Optional<Employee> updateEmployee(long id, Employee employee) {
-            return Optional.ofNullable(store.computeIfPresent(id, (key, existing) -> {
-                existing.setFirstName(employee.getFirstName());
-                existing.setLastName(employee.getLastName());
-                existing.setEmail(employee.getEmail());
-                return existing;
-            })).map(this::copyOf);
+            return new ShardedEmployeeService(shards,
+                    new EmployeeIdAllocator(EmployeeIdAllocator.inMemory(1), sharding.idBlockSize()));
         }
-
-        @Override
-        public boolean deleteEmployee(long id) {
-            return store.remove(id) != null;
-        }
-
-        private Employee copyOf(Employee employee) {
-            if (employee == null) {
-                return null;
-            }
-            return new Employee(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail());
+        DataSourceProperties defaults = primary.getIfAvailable();
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int index = 0; index < sharding.shards().size(); index++) {
+            EmployeeShardProperties.Shard shard = sharding.shards().get(index);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("EmployeeShard-" + index);
+            pool.setJdbcUrl(shard.url());
+            pool.setUsername(shard.username() != null || defaults == null
+                    ? shard.username() : defaults.determineUsername());
+            pool.setPassword(shard.password() != null || defaults == null
+                    ? shard.password() : defaults.determinePassword());
+            pool.setMaximumPoolSize(sharding.poolSize());
+            pools.add(pool);
+            shards.add(new EmployeeServiceImpl(pool, batchSize, fetchSize, inListSize, multiGetParallelism));
         }
+        EmployeeIdAllocator ids = new EmployeeIdAllocator(EmployeeIdAllocator.jdbc(pools.get(0)),
+                sharding.idBlockSize());
+        return new ShardedEmployeeService(shards, ids, pools);
     }
 }
@@ -0,0 +1,19 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.admission")
+public record EmployeeAdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("10") int maxLimit,
+        @DefaultValue("0.5") double bulkShare,
+        @DefaultValue("200") int interactiveQueueSize,
+        @DefaultValue("500ms") Duration interactiveMaxWait,
+        @DefaultValue("20") int bulkQueueSize,
+        @DefaultValue("10s") Duration bulkMaxWait) {
+}
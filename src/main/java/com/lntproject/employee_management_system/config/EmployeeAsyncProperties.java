@@ -0,0 +1,12 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.async")
+public record EmployeeAsyncProperties(
+        @DefaultValue("10") int maxConcurrency,
+        @DefaultValue("5s") Duration timeout) {
+}
@@ -0,0 +1,14 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cache")
+public record EmployeeCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl) {
+}
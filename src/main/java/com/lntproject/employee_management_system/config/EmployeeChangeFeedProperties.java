@@ -0,0 +1,13 @@
+package com.lntproject.employee_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.lntproject.employee_management_system.service.impl.EmployeeChangeFeed;
+
+@ConfigurationProperties(prefix = "app.changes")
+public record EmployeeChangeFeedProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("cancel") EmployeeChangeFeed.SlowConsumerPolicy slowConsumerPolicy) {
+}
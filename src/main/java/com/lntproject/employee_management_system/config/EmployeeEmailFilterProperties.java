@@ -0,0 +1,11 @@
+package com.lntproject.employee_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.email-filter")
+public record EmployeeEmailFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedEmails,
+        @DefaultValue("0.01") double falsePositiveRate) {
+}
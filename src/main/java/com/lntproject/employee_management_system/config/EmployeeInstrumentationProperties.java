@@ -0,0 +1,12 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.instrumentation")
+public record EmployeeInstrumentationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500ms") Duration slowThreshold) {
+}
@@ -0,0 +1,15 @@
+package com.lntproject.employee_management_system.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.store.journal")
+public record EmployeeJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("0ms") Duration fsyncInterval,
+        @DefaultValue("100000") long snapshotEvery) {
+}
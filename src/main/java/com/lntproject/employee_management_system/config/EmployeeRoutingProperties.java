@@ -0,0 +1,22 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Read replicas for the JDBC backend. Replicas without a username or password use the primary's.
+ */
+@ConfigurationProperties(prefix = "app.jdbc.routing")
+public record EmployeeRoutingProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("30s") Duration retryInterval,
+        @DefaultValue("1s") Duration connectionTimeout,
+        @DefaultValue("10") int poolSize) {
+
+    public record Replica(String url, String username, String password) {
+    }
+}
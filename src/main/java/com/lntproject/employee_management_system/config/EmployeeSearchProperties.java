@@ -0,0 +1,9 @@
+package com.lntproject.employee_management_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.search")
+public record EmployeeSearchProperties(
+        @DefaultValue("true") boolean indexEnabled) {
+}
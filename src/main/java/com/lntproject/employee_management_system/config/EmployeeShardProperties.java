@@ -0,0 +1,22 @@
+package com.lntproject.employee_management_system.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Backends for {@code app.store.type=sharded}: the listed databases, or {@code partitions}
+ * in-memory partitions when none are listed. Shards without a username or password use the
+ * primary data source's.
+ */
+@ConfigurationProperties(prefix = "app.store.sharding")
+public record EmployeeShardProperties(
+        @DefaultValue List<Shard> shards,
+        @DefaultValue("4") int partitions,
+        @DefaultValue("1000") int idBlockSize,
+        @DefaultValue("10") int poolSize) {
+
+    public record Shard(String url, String username, String password) {
+    }
+}
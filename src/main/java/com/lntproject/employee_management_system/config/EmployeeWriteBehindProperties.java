@@ -0,0 +1,14 @@
+package com.lntproject.employee_management_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.write-behind")
+public record EmployeeWriteBehindProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("10000") int maxPending) {
+}
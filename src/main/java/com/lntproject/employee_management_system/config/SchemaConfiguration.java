@@ -0,0 +1,57 @@
+package com.lntproject.employee_management_system.config;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * With {@code app.schema.check=versioned}, runs the scripts in
+ * {@code spring.sql.init.schema-locations} through a {@link VersionedSchemaInitializer} instead
+ * of on every boot; set {@code spring.sql.init.mode=never} alongside, as the fast-start profile
+ * does. Without a database (the nodb profile) there is nothing to check.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.schema.check", havingValue = "versioned")
+@EnableConfigurationProperties(SqlInitializationProperties.class)
+public class SchemaConfiguration {
+
+    private static final String OPTIONAL_PREFIX = "optional:";
+
+    /**
+     * Created at startup even under lazy initialization, and registered as a database
+     * initializer so that beans marked {@code @DependsOnDatabaseInitialization} wait for it.
+     */
+    @Bean
+    @Lazy(false)
+    public VersionedSchemaInitializer versionedSchemaInitializer(ObjectProvider<DataSource> dataSource,
+                                                                 SqlInitializationProperties properties,
+                                                                 ResourceLoader resourceLoader) {
+        List<Resource> scripts = new ArrayList<>();
+        List<String> locations = properties.getSchemaLocations() == null ? List.of() : properties.getSchemaLocations();
+        for (String location : locations) {
+            boolean optional = location.startsWith(OPTIONAL_PREFIX);
+            String path = optional ? location.substring(OPTIONAL_PREFIX.length()) : location;
+            Resource script = resourceLoader.getResource(path);
+            if (script.exists()) {
+                scripts.add(script);
+            } else if (!optional) {
+                throw new IllegalStateException("No schema script at " + location);
+            }
+        }
+        Charset encoding = properties.getEncoding() == null ? StandardCharsets.UTF_8 : properties.getEncoding();
+        return new VersionedSchemaInitializer(dataSource.getIfAvailable(), scripts, encoding);
+    }
+}
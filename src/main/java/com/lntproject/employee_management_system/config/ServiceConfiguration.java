@@ -0,0 +1,182 @@
+package com.lntproject.employee_management_system.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.lntproject.employee_management_system.service.AsyncEmployeeService;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.AdmissionControlEmployeeService;
+import com.lntproject.employee_management_system.service.impl.AggregatingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.CachingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.ChangeFeedEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmailFilterEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeChangeFeed;
+import com.lntproject.employee_management_system.service.impl.InstrumentedEmployeeService;
+import com.lntproject.employee_management_system.service.impl.ReadWriteRouting;
+import com.lntproject.employee_management_system.service.impl.SearchIndexEmployeeService;
+import com.lntproject.employee_management_system.service.impl.VirtualThreadEmployeeService;
+import com.lntproject.employee_management_system.service.impl.WriteBehindEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exposes the {@link EmployeeService} the rest of the application talks to: the backend
+ * registered as {@code employeeStore}, wrapped in whichever decorators are enabled. Under
+ * {@code spring.main.lazy-initialization} (the fast-start profile) the search index, the email
+ * filter and the aggregates are built on first use rather than by a table scan at startup.
+ */
+@Configuration
+@EnableConfigurationProperties({EmployeeCacheProperties.class, EmployeeAggregatesProperties.class,
+        EmployeeAsyncProperties.class, EmployeeWriteBehindProperties.class,
+        EmployeeInstrumentationProperties.class, EmployeeRoutingProperties.class,
+        EmployeeChangeFeedProperties.class, EmployeeSearchProperties.class, EmployeeEmailFilterProperties.class,
+        EmployeeAdmissionProperties.class})
+public class ServiceConfiguration {
+
+    @Bean
+    @Primary
+    public EmployeeService employeeService(@Qualifier("employeeStore") EmployeeService store,
+                                           ObjectProvider<WriteBehindEmployeeService> writeBehind,
+                                           ObjectProvider<EmployeeChangeFeed> changeFeed,
+                                           EmployeeAdmissionProperties admissionProperties,
+                                           EmployeeCacheProperties cacheProperties,
+                                           EmployeeEmailFilterProperties emailFilterProperties,
+                                           EmployeeAggregatesProperties aggregatesProperties,
+                                           EmployeeSearchProperties searchProperties,
+                                           EmployeeInstrumentationProperties instrumentationProperties,
+                                           ObjectProvider<MeterRegistry> meterRegistry,
+                                           @Value("${spring.main.lazy-initialization:false}") boolean deferLoads) {
+        EmployeeService service = store;
+        WriteBehindEmployeeService queued = writeBehind.getIfAvailable();
+        if (queued != null) {
+            // Innermost, so the cache and aggregates above it see every update as it is accepted.
+            service = queued;
+        }
+        if (admissionProperties.enabled()) {
+            // Below the cache, so only calls that reach the backend wait for a permit or feed the limit.
+            AdmissionControlEmployeeService admission = new AdmissionControlEmployeeService(service,
+                    admissionProperties.initialLimit(), admissionProperties.minLimit(),
+                    admissionProperties.maxLimit(), admissionProperties.bulkShare(),
+                    new AdmissionControlEmployeeService.LaneLimits(admissionProperties.interactiveQueueSize(),
+                            admissionProperties.interactiveMaxWait()),
+                    new AdmissionControlEmployeeService.LaneLimits(admissionProperties.bulkQueueSize(),
+                            admissionProperties.bulkMaxWait()));
+            meterRegistry.ifAvailable(admission::bindTo);
+            service = admission;
+        }
+        if (cacheProperties.enabled()) {
+            CachingEmployeeService caching = new CachingEmployeeService(service,
+                    cacheProperties.maximumSize(), cacheProperties.ttl(), cacheProperties.negativeTtl());
+            meterRegistry.ifAvailable(caching::bindTo);
+            service = caching;
+        }
+        if (emailFilterProperties.enabled()) {
+            // Above the cache, so the before images it reads for updates and deletes are mostly cache hits.
+            EmailFilterEmployeeService emailFilter = new EmailFilterEmployeeService(service,
+                    emailFilterProperties.expectedEmails(), emailFilterProperties.falsePositiveRate(), deferLoads);
+            meterRegistry.ifAvailable(emailFilter::bindTo);
+            service = emailFilter;
+        }
+        EmployeeChangeFeed feed = changeFeed.getIfAvailable();
+        if (feed != null) {
+            // Above the cache like the aggregates, whose before images it reads the same way.
+            service = new ChangeFeedEmployeeService(service, feed);
+        }
+        if (searchProperties.indexEnabled()) {
+            // Above the cache too, so the candidates a search reads back are mostly cache hits.
+            SearchIndexEmployeeService searchIndex = new SearchIndexEmployeeService(service, deferLoads);
+            meterRegistry.ifAvailable(searchIndex::bindTo);
+            service = searchIndex;
+        }
+        if (aggregatesProperties.enabled()) {
+            // Above the cache, so the before images it reads for updates and deletes come from the cache.
+            AggregatingEmployeeService aggregating = new AggregatingEmployeeService(service, deferLoads);
+            meterRegistry.ifAvailable(aggregating::bindTo);
+            service = aggregating;
+        }
+        if (instrumentationProperties.enabled()) {
+            // Around everything else, so latencies are the ones callers see, cache hits included.
+            InstrumentedEmployeeService instrumented = new InstrumentedEmployeeService(service,
+                    instrumentationProperties.slowThreshold());
+            meterRegistry.ifAvailable(instrumented::bindTo);
+            service = instrumented;
+        }
+        return service;
+    }
+
+    /**
+     * Queues updates in front of the backend and writes them in batches. A bean of its own so the
+     * context closes it, draining the queue, after the services layered on top are gone. Being a
+     * {@code MeterBinder} bean, it is bound to the registry by Spring Boot.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.write-behind.enabled", havingValue = "true")
+    public WriteBehindEmployeeService writeBehindEmployeeService(@Qualifier("employeeStore") EmployeeService store,
+                                                                EmployeeWriteBehindProperties properties) {
+        return new WriteBehindEmployeeService(store,
+                properties.batchSize(), properties.flushInterval(), properties.maxPending());
+    }
+
+    /**
+     * Ring buffer every write is published to; subscribe to it for employee change events. A bean
+     * of its own so other components can inject it and the context completes its subscribers on
+     * shutdown. Being a {@code MeterBinder} bean, it is bound to the registry by Spring Boot.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.changes.enabled", havingValue = "true", matchIfMissing = true)
+    public EmployeeChangeFeed employeeChangeFeed(EmployeeChangeFeedProperties properties) {
+        return new EmployeeChangeFeed(properties.capacity(), properties.slowConsumerPolicy());
+    }
+
+    /**
+     * Primary/replica routing for the JDBC backend. Each replica gets a small pool of its own with
+     * a short connection timeout, started lazily so an unreachable replica is skipped instead of
+     * failing startup.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "jdbc", matchIfMissing = true)
+    public ReadWriteRouting readWriteRouting(DataSource dataSource, DataSourceProperties primary,
+                                             EmployeeRoutingProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int index = 0; index < properties.replicas().size(); index++) {
+            EmployeeRoutingProperties.Replica replica = properties.replicas().get(index);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("EmployeeReplica-" + index);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : primary.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : primary.determinePassword());
+            pool.setMaximumPoolSize(properties.poolSize());
+            pool.setConnectionTimeout(properties.connectionTimeout().toMillis());
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            replicas.put("replica-" + index, pool);
+        }
+        return new ReadWriteRouting(dataSource, replicas, properties.readYourWritesWindow(),
+                properties.retryInterval());
+    }
+
+    /**
+     * Async view of the primary service; calls run on virtual threads, at most
+     * {@code app.async.max-concurrency} at a time. Being a {@code MeterBinder} bean, it is bound to
+     * the registry by Spring Boot.
+     */
+    @Bean
+    public AsyncEmployeeService asyncEmployeeService(EmployeeService employeeService,
+                                                     EmployeeAsyncProperties asyncProperties) {
+        return new VirtualThreadEmployeeService(employeeService,
+                asyncProperties.maxConcurrency(), asyncProperties.timeout());
+    }
+}
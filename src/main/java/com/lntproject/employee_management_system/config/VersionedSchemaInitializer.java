@@ -0,0 +1,143 @@
+package com.lntproject.employee_management_system.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Runs the schema scripts at startup only when they have changed since they last ran, instead of
+ * on every boot as {@code spring.sql.init.mode=always} does. The SHA-256 of each script is
+ * recorded in {@code schema_version} (created by the scripts themselves) once it has run, so a
+ * boot whose scripts all match costs one query. The scripts must stay safe to run again: two
+ * processes starting together against a changed script may both run it.
+ */
+public class VersionedSchemaInitializer implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionedSchemaInitializer.class);
+
+    private static final String SELECT_SQL = "SELECT script, checksum FROM schema_version";
+    private static final String DELETE_SQL = "DELETE FROM schema_version WHERE script = ?";
+    private static final String INSERT_SQL = "INSERT INTO schema_version (script, checksum) VALUES (?, ?)";
+
+    private final DataSource dataSource;
+    private final List<Resource> scripts;
+    private final Charset encoding;
+
+    /**
+     * @param dataSource the database to check, or null to do nothing (no database configured)
+     * @param scripts the scripts to run when changed; with none, the database is not touched
+     */
+    public VersionedSchemaInitializer(DataSource dataSource, List<Resource> scripts, Charset encoding) {
+        this.dataSource = dataSource;
+        this.scripts = List.copyOf(scripts);
+        this.encoding = encoding;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        apply();
+    }
+
+    /**
+     * Runs every script whose checksum differs from the one recorded for it, in order, and records
+     * the new checksum.
+     *
+     * @return the scripts that ran
+     */
+    public List<Resource> apply() {
+        if (dataSource == null || scripts.isEmpty()) {
+            return List.of();
+        }
+        Map<String, String> recorded = recordedChecksums();
+        List<Resource> applied = new ArrayList<>();
+        for (Resource script : scripts) {
+            String name = script.getFilename();
+            String checksum = checksum(script);
+            if (checksum.equals(recorded.get(name))) {
+                continue;
+            }
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(script);
+            populator.setSqlScriptEncoding(encoding.name());
+            populator.execute(dataSource);
+            record(name, checksum);
+            applied.add(script);
+        }
+        if (applied.isEmpty()) {
+            log.debug("Schema is current: {} script(s) unchanged", scripts.size());
+        } else {
+            log.info("Applied changed schema script(s): {}", applied);
+        }
+        return applied;
+    }
+
+    /**
+     * Checksums recorded so far; none when {@code schema_version} does not exist yet.
+     */
+    private Map<String, String> recordedChecksums() {
+        Map<String, String> recorded = new HashMap<>();
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_SQL)) {
+            while (rs.next()) {
+                recorded.put(rs.getString(1), rs.getString(2));
+            }
+        } catch (SQLException e) {
+            // Most likely a database the scripts have never run against; running them will tell.
+            log.debug("No schema versions recorded: {}", e.getMessage());
+        }
+        return recorded;
+    }
+
+    private void record(String script, String checksum) {
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement delete = conn.prepareStatement(DELETE_SQL);
+                 PreparedStatement insert = conn.prepareStatement(INSERT_SQL)) {
+                delete.setString(1, script);
+                delete.executeUpdate();
+                insert.setString(1, script);
+                insert.setString(2, checksum);
+                insert.executeUpdate();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error recording schema version of " + script + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String checksum(Resource script) {
+        try (InputStream in = script.getInputStream()) {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read schema script " + script + ": " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
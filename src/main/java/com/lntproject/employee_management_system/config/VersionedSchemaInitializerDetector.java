@@ -0,0 +1,18 @@
+package com.lntproject.employee_management_system.config;
+
+import java.util.Set;
+
+import org.springframework.boot.sql.init.dependency.AbstractBeansOfTypeDatabaseInitializerDetector;
+
+/**
+ * Tells Spring Boot that {@link VersionedSchemaInitializer} initializes the database, so that
+ * beans depending on database initialization are created after it. Registered in
+ * {@code META-INF/spring.factories}.
+ */
+public class VersionedSchemaInitializerDetector extends AbstractBeansOfTypeDatabaseInitializerDetector {
+
+    @Override
+    protected Set<Class<?>> getDatabaseInitializerBeanTypes() {
+        return Set.of(VersionedSchemaInitializer.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.lntproject.employee_management_system.model;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Objects;
 
 public class Employee {
@@ -8,6 +10,10 @@ public class Employee {
     private String firstName;
     private String lastName;
     private String email;
+    private String department;
+    private String position;
+    private BigDecimal salary;
+    private LocalDate hireDate;
 
     public Employee() {
     }
@@ -19,6 +25,20 @@ public class Employee {
         this.email = email;
     }
 
+    public Employee(Long id, String firstName, String lastName, String email,
+                    String department, String position, BigDecimal salary, LocalDate hireDate) {
+        this(id, firstName, lastName, email);
+        this.department = department;
+        this.position = position;
+        this.salary = salary;
+        this.hireDate = hireDate;
+    }
+
+    public Employee(Employee other) {
+        this(other.id, other.firstName, other.lastName, other.email,
+                other.department, other.position, other.salary, other.hireDate);
+    }
+
     public Long getId() {
         return id;
     }
@@ -51,6 +71,38 @@ public class Employee {
         this.email = email;
     }
 
+    public String getDepartment() {
+        return department;
+    }
+
+    public void setDepartment(String department) {
+        this.department = department;
+    }
+
+    public String getPosition() {
+        return position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+    }
+
+    public BigDecimal getSalary() {
+        return salary;
+    }
+
+    public void setSalary(BigDecimal salary) {
+        this.salary = salary;
+    }
+
+    public LocalDate getHireDate() {
+        return hireDate;
+    }
+
+    public void setHireDate(LocalDate hireDate) {
+        this.hireDate = hireDate;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -62,12 +114,18 @@ public class Employee {
         return Objects.equals(id, employee.id)
                 && Objects.equals(firstName, employee.firstName)
                 && Objects.equals(lastName, employee.lastName)
-                && Objects.equals(email, employee.email);
+                && Objects.equals(email, employee.email)
+                && Objects.equals(department, employee.department)
+                && Objects.equals(position, employee.position)
+                && (salary == null ? employee.salary == null
+                        : employee.salary != null && salary.compareTo(employee.salary) == 0)
+                && Objects.equals(hireDate, employee.hireDate);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, firstName, lastName, email);
+        return Objects.hash(id, firstName, lastName, email, department, position,
+                salary == null ? null : salary.stripTrailingZeros(), hireDate);
     }
 
     @Override
@@ -77,6 +135,10 @@ public class Employee {
                 + ", firstName='" + firstName + '\''
                 + ", lastName='" + lastName + '\''
                 + ", email='" + email + '\''
+                + ", department='" + department + '\''
+                + ", position='" + position + '\''
+                + ", salary=" + salary
+                + ", hireDate=" + hireDate
                 + '}';
     }
 }
@@ -0,0 +1,16 @@
+package com.lntproject.employee_management_system.service;
+
+/**
+ * Thrown when a call is turned away because the backend is saturated: every permit was taken and
+ * the call's queue was full, or it waited longer than its queue allows. Nothing was sent to the
+ * backend, so the call can be retried after a short back-off.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AdmissionRejectedException(String message) {
+        // No stack trace: under overload these are thrown far more often than they are read.
+        super(message, null, false, false);
+    }
+}
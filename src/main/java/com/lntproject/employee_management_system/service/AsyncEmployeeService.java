@@ -0,0 +1,57 @@
+package com.lntproject.employee_management_system.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Non-blocking companion to {@link EmployeeService}. Every call returns immediately with a future
+ * that completes when the underlying blocking call finishes, fails with a
+ * {@link java.util.concurrent.TimeoutException} once the timeout elapses, and interrupts the
+ * running call when cancelled.
+ */
+public interface AsyncEmployeeService {
+
+    CompletableFuture<Employee> createEmployee(Employee employee);
+
+    CompletableFuture<BulkCreateResult> createEmployees(Collection<Employee> employees);
+
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    CompletableFuture<EmployeePage> getEmployeePage(long afterId, int limit);
+
+    CompletableFuture<Optional<Employee>> getEmployeeById(long id);
+
+    /**
+     * Completes with {@link EmployeeService#getEmployeesByIds(Collection)}: one call, which the
+     * backend may split into parallel bulk queries, instead of one call per id.
+     */
+    CompletableFuture<Map<Long, Employee>> getEmployeesByIds(Collection<Long> ids);
+
+    CompletableFuture<Optional<Employee>> findByEmail(String email);
+
+    CompletableFuture<List<Employee>> findByLastNamePrefix(String prefix, int limit);
+
+    CompletableFuture<List<Employee>> search(String query, int limit);
+
+    CompletableFuture<Optional<Employee>> updateEmployee(long id, Employee employee);
+
+    CompletableFuture<Optional<Employee>> patchEmployee(long id, EmployeePatch changes);
+
+    CompletableFuture<Employee> upsertEmployee(Employee employee);
+
+    CompletableFuture<Boolean> deleteEmployee(long id);
+
+    CompletableFuture<EmployeeAggregates> getAggregates();
+
+    /**
+     * Returns a view of this service whose calls time out after {@code timeout} instead of the
+     * configured default; it shares the same threads and concurrency limit.
+     */
+    AsyncEmployeeService withTimeout(Duration timeout);
+}
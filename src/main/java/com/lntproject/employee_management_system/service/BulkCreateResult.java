@@ -0,0 +1,30 @@
+package com.lntproject.employee_management_system.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Outcome of a bulk create. {@code ids} is aligned with the input order and holds
+ * {@code null} for every row that was rejected; the reason is listed in {@code failures}.
+ */
+public record BulkCreateResult(List<Long> ids, List<Failure> failures) {
+
+    public BulkCreateResult {
+        ids = Collections.unmodifiableList(new ArrayList<>(ids));
+        failures = List.copyOf(failures);
+    }
+
+    public int createdCount() {
+        return ids.size() - failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public record Failure(int index, Employee employee, String reason) {
+    }
+}
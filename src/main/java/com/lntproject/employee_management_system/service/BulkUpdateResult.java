@@ -0,0 +1,24 @@
+package com.lntproject.employee_management_system.service;
+
+import java.util.List;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Outcome of a bulk update. {@code updated} lists the ids whose rows were changed and
+ * {@code failures} the rows that were rejected; ids in neither list did not exist.
+ */
+public record BulkUpdateResult(List<Long> updated, List<Failure> failures) {
+
+    public BulkUpdateResult {
+        updated = List.copyOf(updated);
+        failures = List.copyOf(failures);
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public record Failure(long id, Employee employee, String reason) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.lntproject.employee_management_system.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Headcount and payroll of one department. {@code salariedHeadcount} counts the employees with a
+ * salary on record, which is what {@link #averageSalary()} divides by (like SQL {@code AVG}).
+ */
+public record DepartmentStats(String department, long headcount, BigDecimal totalSalary, long salariedHeadcount) {
+
+    public DepartmentStats {
+        Objects.requireNonNull(department, "department");
+        Objects.requireNonNull(totalSalary, "totalSalary");
+    }
+
+    /**
+     * Average salary rounded to cents, or {@code null} when nobody in the department has a salary.
+     */
+    public BigDecimal averageSalary() {
+        if (salariedHeadcount == 0) {
+            return null;
+        }
+        return totalSalary.divide(BigDecimal.valueOf(salariedHeadcount), 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,17 @@
+package com.lntproject.employee_management_system.service;
+
+/**
+ * Thrown when a create or update would give two employees the same email.
+ */
+public class DuplicateEmailException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DuplicateEmailException(String email) {
+        super("Email already exists: " + email);
+    }
+
+    public DuplicateEmailException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,147 @@
+package com.lntproject.employee_management_system.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Point-in-time payroll figures: headcount and salary totals per department (employees without a
+ * department are filed under {@link #NO_DEPARTMENT}) and the number of hires per calendar month.
+ */
+public record EmployeeAggregates(SortedMap<String, DepartmentStats> departments,
+                                 SortedMap<YearMonth, Long> hiresPerMonth) {
+
+    public static final String NO_DEPARTMENT = "";
+
+    public EmployeeAggregates {
+        departments = Collections.unmodifiableSortedMap(new TreeMap<>(departments));
+        hiresPerMonth = Collections.unmodifiableSortedMap(new TreeMap<>(hiresPerMonth));
+    }
+
+    public static EmployeeAggregates empty() {
+        return new EmployeeAggregates(new TreeMap<>(), new TreeMap<>());
+    }
+
+    public long headcount() {
+        long headcount = 0;
+        for (DepartmentStats stats : departments.values()) {
+            headcount += stats.headcount();
+        }
+        return headcount;
+    }
+
+    public BigDecimal totalSalary() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (DepartmentStats stats : departments.values()) {
+            total = total.add(stats.totalSalary());
+        }
+        return total;
+    }
+
+    private static String departmentOf(Employee employee) {
+        return employee.getDepartment() == null ? NO_DEPARTMENT : employee.getDepartment();
+    }
+
+    /**
+     * Mutable running totals that rows can be added to and removed from as they change. Not
+     * thread-safe; callers serialize access.
+     */
+    public static final class Accumulator {
+
+        private final Map<String, Totals> departments = new HashMap<>();
+        private final Map<YearMonth, Long> hiresPerMonth = new HashMap<>();
+
+        public Accumulator() {
+        }
+
+        public Accumulator(EmployeeAggregates initial) {
+            initial.departments().forEach((department, stats) -> {
+                Totals totals = new Totals();
+                totals.headcount = stats.headcount();
+                totals.salary = stats.totalSalary();
+                totals.salaried = stats.salariedHeadcount();
+                departments.put(department, totals);
+            });
+            hiresPerMonth.putAll(initial.hiresPerMonth());
+        }
+
+        /**
+         * Returns true when the row is the first one in its department.
+         */
+        public boolean add(Employee employee) {
+            String department = departmentOf(employee);
+            Totals totals = departments.get(department);
+            boolean created = totals == null;
+            if (created) {
+                totals = new Totals();
+                departments.put(department, totals);
+            }
+            totals.headcount++;
+            if (employee.getSalary() != null) {
+                totals.salary = totals.salary.add(employee.getSalary());
+                totals.salaried++;
+            }
+            if (totals.headcount == 0 && totals.salaried == 0) {
+                departments.remove(department);
+            }
+            if (employee.getHireDate() != null) {
+                hiresPerMonth.merge(YearMonth.from(employee.getHireDate()), 1L,
+                    (hires, delta) -> hires + delta == 0 ? null : hires + delta);
+            }
+            return created;
+        }
+
+        /**
+         * Reverses {@link #add(Employee)}. Adds and removes commute, so a remove that is applied
+         * before the matching add still nets out to zero.
+         */
+        public void remove(Employee employee) {
+            String department = departmentOf(employee);
+            Totals totals = departments.computeIfAbsent(department, key -> new Totals());
+            totals.headcount--;
+            if (employee.getSalary() != null) {
+                totals.salary = totals.salary.subtract(employee.getSalary());
+                totals.salaried--;
+            }
+            if (totals.headcount == 0 && totals.salaried == 0) {
+                departments.remove(department);
+            }
+            if (employee.getHireDate() != null) {
+                hiresPerMonth.merge(YearMonth.from(employee.getHireDate()), -1L,
+                        (hires, delta) -> hires + delta == 0 ? null : hires + delta);
+            }
+        }
+
+        /**
+         * Adds totals computed elsewhere, for example over another partition of the employees.
+         */
+        public void merge(EmployeeAggregates other) {
+            other.departments().forEach((department, stats) -> {
+                Totals totals = departments.computeIfAbsent(department, key -> new Totals());
+                totals.headcount += stats.headcount();
+                totals.salary = totals.salary.add(stats.totalSalary());
+                totals.salaried += stats.salariedHeadcount();
+            });
+            other.hiresPerMonth().forEach((month, hires) -> hiresPerMonth.merge(month, hires, Long::sum));
+        }
+
+        public EmployeeAggregates toAggregates() {
+            SortedMap<String, DepartmentStats> stats = new TreeMap<>();
+            departments.forEach((department, totals) -> stats.put(department,
+                    new DepartmentStats(department, totals.headcount, totals.salary, totals.salaried)));
+            return new EmployeeAggregates(stats, new TreeMap<>(hiresPerMonth));
+        }
+
+        private static final class Totals {
+            private long headcount;
+            private BigDecimal salary = BigDecimal.ZERO;
+            private long salaried;
+        }
+    }
+}
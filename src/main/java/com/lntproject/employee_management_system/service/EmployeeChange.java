@@ -0,0 +1,19 @@
+package com.lntproject.employee_management_system.service;
+
+import java.time.Instant;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * One create, update or delete as it passed through the service. {@code sequence} increases by
+ * one per change across all employees, so a consumer can tell whether it missed any and resume
+ * after the last one it saw. {@code before} is null for creates and {@code after} for deletes;
+ * a create that replaced a row under the same id is reported as an update. The images are
+ * shared by every subscriber and must be treated as read-only.
+ */
+public record EmployeeChange(long sequence, Type type, long id, Employee before, Employee after, Instant timestamp) {
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+}
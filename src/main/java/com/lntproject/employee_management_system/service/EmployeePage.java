@@ -0,0 +1,20 @@
+package com.lntproject.employee_management_system.service;
+
+import java.util.List;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * One keyset page of employees ordered by id. {@code nextAfterId} is the cursor for the
+ * following page, or {@code null} when this is the last one.
+ */
+public record EmployeePage(List<Employee> employees, Long nextAfterId) {
+
+    public EmployeePage {
+        employees = List.copyOf(employees);
+    }
+
+    public boolean hasMore() {
+        return nextAfterId != null;
+    }
+}
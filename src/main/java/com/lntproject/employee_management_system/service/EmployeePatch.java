@@ -0,0 +1,124 @@
+package com.lntproject.employee_management_system.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * A partial update for {@link EmployeeService#patchEmployee(long, EmployeePatch)}: only the fields
+ * set here are written and every other column keeps its stored value. Optional fields can be set
+ * to {@code null} to clear them; first name, last name and email cannot be blank.
+ */
+public final class EmployeePatch {
+
+    public enum Field {
+        FIRST_NAME, LAST_NAME, EMAIL, DEPARTMENT, POSITION, SALARY, HIRE_DATE
+    }
+
+    private final Map<Field, Object> values;
+
+    private EmployeePatch(Map<Field, Object> values) {
+        this.values = values;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * The fields this patch writes, in declaration order.
+     */
+    public Set<Field> fields() {
+        return Collections.unmodifiableSet(values.keySet());
+    }
+
+    public Object value(Field field) {
+        return values.get(field);
+    }
+
+    /**
+     * Returns a copy of {@code current} with this patch applied.
+     */
+    public Employee applyTo(Employee current) {
+        Employee patched = new Employee(current);
+        values.forEach((field, value) -> {
+            switch (field) {
+                case FIRST_NAME -> patched.setFirstName((String) value);
+                case LAST_NAME -> patched.setLastName((String) value);
+                case EMAIL -> patched.setEmail((String) value);
+                case DEPARTMENT -> patched.setDepartment((String) value);
+                case POSITION -> patched.setPosition((String) value);
+                case SALARY -> patched.setSalary((BigDecimal) value);
+                case HIRE_DATE -> patched.setHireDate((LocalDate) value);
+            }
+        });
+        return patched;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeePatch" + values;
+    }
+
+    public static final class Builder {
+
+        private final Map<Field, Object> values = new EnumMap<>(Field.class);
+
+        private Builder() {
+        }
+
+        public Builder firstName(String firstName) {
+            return required(Field.FIRST_NAME, firstName);
+        }
+
+        public Builder lastName(String lastName) {
+            return required(Field.LAST_NAME, lastName);
+        }
+
+        public Builder email(String email) {
+            return required(Field.EMAIL, email);
+        }
+
+        public Builder department(String department) {
+            values.put(Field.DEPARTMENT, department);
+            return this;
+        }
+
+        public Builder position(String position) {
+            values.put(Field.POSITION, position);
+            return this;
+        }
+
+        public Builder salary(BigDecimal salary) {
+            values.put(Field.SALARY, salary);
+            return this;
+        }
+
+        public Builder hireDate(LocalDate hireDate) {
+            values.put(Field.HIRE_DATE, hireDate);
+            return this;
+        }
+
+        public EmployeePatch build() {
+            return new EmployeePatch(new EnumMap<>(values));
+        }
+
+        private Builder required(Field field, String value) {
+            if (value == null || value.trim().isEmpty()) {
+                throw new IllegalArgumentException(field.name().toLowerCase(Locale.ROOT) + " cannot be blank");
+            }
+            values.put(field, value);
+            return this;
+        }
+    }
+}
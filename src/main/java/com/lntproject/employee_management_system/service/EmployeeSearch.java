@@ -0,0 +1,189 @@
+package com.lntproject.employee_management_system.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Scoring behind {@link EmployeeService#search(String, int)}. Names and emails are split into
+ * lower-cased, accent-free alphanumeric tokens ({@code "Anne-Marie O'Neil"} gives {@code anne},
+ * {@code marie}, {@code o}, {@code neil}; an email also yields its domain parts). Each query token
+ * is matched against an employee's best token: an exact match scores 1, a prefix of the token
+ * 0.8-0.9, and a token within one edit of a query token of four to seven characters (two edits
+ * from eight characters on, an adjacent transposition counting as one) proportionally less, so
+ * typos still match but rank below the spelling that was meant. An employee's score is the mean
+ * over the query tokens; employees matching no token are not returned.
+ */
+public final class EmployeeSearch {
+
+    private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+            .thenComparing(scored -> scored.employee().getId(), Comparator.reverseOrder());
+
+    private EmployeeSearch() {
+    }
+
+    /**
+     * The tokens of {@code text} in order, duplicates included; empty for null or blank text.
+     */
+    public static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean word = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * The searchable tokens of an employee: first name, last name and email.
+     */
+    public static List<String> tokens(Employee employee) {
+        List<String> tokens = tokens(employee.getFirstName());
+        tokens.addAll(tokens(employee.getLastName()));
+        tokens.addAll(tokens(employee.getEmail()));
+        return tokens;
+    }
+
+    /**
+     * Scores {@code employee} against already tokenized query terms; 0 when nothing matches.
+     */
+    public static double score(List<String> queryTokens, Employee employee) {
+        if (queryTokens.isEmpty()) {
+            return 0;
+        }
+        List<String> tokens = tokens(employee);
+        double total = 0;
+        for (String query : queryTokens) {
+            double best = 0;
+            for (String token : tokens) {
+                best = Math.max(best, similarity(query, token));
+                if (best == 1) {
+                    break;
+                }
+            }
+            total += best;
+        }
+        return total / queryTokens.size();
+    }
+
+    /**
+     * The best {@code limit} of {@code candidates} for the query, highest score first and by id
+     * among equal scores.
+     */
+    public static List<Employee> rank(List<String> queryTokens, Stream<Employee> candidates, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+        PriorityQueue<Scored> best = new PriorityQueue<>(WORST_FIRST);
+        candidates.forEach(employee -> {
+            double score = score(queryTokens, employee);
+            if (score > 0) {
+                best.add(new Scored(employee, score));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        });
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        return new ArrayList<>(ranked.stream().map(Scored::employee).toList());
+    }
+
+    static double similarity(String query, String token) {
+        if (token.equals(query)) {
+            return 1;
+        }
+        if (token.startsWith(query)) {
+            return 0.8 + 0.1 * query.length() / token.length();
+        }
+        int allowed = allowedEdits(query.length());
+        if (allowed == 0) {
+            return 0;
+        }
+        int distance = editDistance(query, token, allowed);
+        if (distance <= allowed) {
+            return 0.8 * (1 - (double) distance / Math.max(query.length(), token.length()));
+        }
+        if (token.length() > query.length()) {
+            // still typing, with a typo in what has been typed so far
+            distance = editDistance(query, token.substring(0, query.length()), allowed);
+            if (distance <= allowed) {
+                return 0.6 * (1 - (double) distance / query.length());
+            }
+        }
+        return 0;
+    }
+
+    private static int allowedEdits(int length) {
+        return length < 4 ? 0 : length < 8 ? 1 : 2;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions), giving up
+     * with {@code max + 1} as soon as the distance must exceed {@code max}.
+     */
+    static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private static String fold(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) >= 0x80) {
+                return Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+            }
+        }
+        return lower;
+    }
+
+    private record Scored(Employee employee, double score) {
+    }
+}
@@ -1,7 +1,13 @@
 package com.lntproject.employee_management_system.service;
 
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.lntproject.employee_management_system.model.Employee;
 
@@ -9,11 +15,174 @@ public interface EmployeeService {
 
     Employee createEmployee(Employee employee);
 
+    BulkCreateResult createEmployees(Collection<Employee> employees);
+
     List<Employee> getAllEmployees();
 
+    EmployeePage getEmployeePage(long afterId, int limit);
+
+    /**
+     * Streams every employee in id order without materializing the table. The stream holds
+     * backend resources until it is closed, so use it in a try-with-resources block.
+     */
+    Stream<Employee> streamEmployees();
+
     Optional<Employee> getEmployeeById(long id);
 
+    /**
+     * Returns the employees with the given ids that exist, keyed by id in the order the ids were
+     * first given; duplicate, null and missing ids are skipped. The default calls
+     * {@link #getEmployeeById(long)} once per distinct id; backends override it with a bulk lookup.
+     */
+    default Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id != null) {
+                getEmployeeById(id).ifPresent(employee -> found.put(id, employee));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Looks up the employee owning {@code email}; matching is case-insensitive like the
+     * UNIQUE constraint on the column.
+     */
+    Optional<Employee> findByEmail(String email);
+
+    /**
+     * Returns up to {@code limit} employees whose last name starts with {@code prefix}
+     * (case-insensitive), ordered by last name and then id.
+     */
+    List<Employee> findByLastNamePrefix(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} employees whose names or email best match {@code query}, best
+     * first, tolerating typos and partial words as described in {@link EmployeeSearch}. The
+     * default scores every row from {@link #streamEmployees()}; an n-gram index in front of the
+     * backend narrows that to a few candidates.
+     */
+    default List<Employee> search(String query, int limit) {
+        List<String> queryTokens = EmployeeSearch.tokens(query);
+        if (queryTokens.isEmpty()) {
+            return EmployeeSearch.rank(queryTokens, Stream.empty(), limit);
+        }
+        try (Stream<Employee> employees = streamEmployees()) {
+            return EmployeeSearch.rank(queryTokens, employees, limit);
+        }
+    }
+
     Optional<Employee> updateEmployee(long id, Employee employee);
 
+    /**
+     * Writes only the fields set in {@code changes} and returns the resulting row, or empty when
+     * there is no employee with that id. The default reads the row, applies the patch and writes
+     * it back through {@link #updateEmployee(long, Employee)}; backends override it with a single
+     * write that leaves the other columns alone.
+     */
+    default Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        Optional<Employee> current = getEmployeeById(id);
+        if (current.isEmpty() || changes.isEmpty()) {
+            return current;
+        }
+        return updateEmployee(id, changes.applyTo(current.get()));
+    }
+
+    /**
+     * Creates {@code employee}, or overwrites the employee that already owns its email (matched
+     * case-insensitively), and returns the stored row; any id on {@code employee} is ignored. The
+     * default looks the email up and then updates or creates, falling back to the update if a
+     * concurrent create claims the email first; backends override it with one atomic write.
+     */
+    default Employee upsertEmployee(Employee employee) {
+        requireEmail(employee);
+        for (int attempt = 0; ; attempt++) {
+            Optional<Employee> existing = findByEmail(employee.getEmail());
+            if (existing.isPresent()) {
+                Optional<Employee> updated = updateEmployee(existing.get().getId(), new Employee(employee));
+                if (updated.isPresent()) {
+                    return updated.get();
+                }
+            }
+            Employee created = new Employee(employee);
+            created.setId(null);
+            try {
+                return createEmployee(created);
+            } catch (DuplicateEmailException e) {
+                if (attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
     boolean deleteEmployee(long id);
+
+    /**
+     * Applies every update in {@code updates}, keyed by id. The default runs them one by one
+     * through {@link #updateEmployee(long, Employee)}, so decorators see each row; backends that
+     * can apply them in one round trip and transaction override it. Rows rejected for their
+     * content are reported as failures, any other error is thrown.
+     */
+    default BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+        List<Long> updated = new ArrayList<>();
+        List<BulkUpdateResult.Failure> failures = new ArrayList<>();
+        updates.forEach((id, employee) -> {
+            try {
+                if (updateEmployee(id, employee).isPresent()) {
+                    updated.add(id);
+                }
+            } catch (DuplicateEmailException | IllegalArgumentException e) {
+                failures.add(new BulkUpdateResult.Failure(id, employee, e.getMessage()));
+            }
+        });
+        return new BulkUpdateResult(updated, failures);
+    }
+
+    /**
+     * Headcount and payroll per department plus hires per month. The default makes one pass over
+     * {@link #streamEmployees()}; backends that can aggregate natively override it.
+     */
+    default EmployeeAggregates getAggregates() {
+        EmployeeAggregates.Accumulator accumulator = new EmployeeAggregates.Accumulator();
+        try (Stream<Employee> employees = streamEmployees()) {
+            employees.forEach(accumulator::add);
+        }
+        return accumulator.toAggregates();
+    }
+
+    /**
+     * Rejects an update the backends would refuse before touching them: a non-positive id, or a
+     * row without a first name or an email.
+     */
+    static void requireValidUpdate(long id, Employee employee) {
+        if (employee == null) throw new IllegalArgumentException("Employee cannot be null");
+        if (id <= 0) throw new IllegalArgumentException("Invalid id");
+        requireValid(employee);
+    }
+
+    /**
+     * Rejects an upsert without the email it is matched on.
+     */
+    static void requireEmail(Employee employee) {
+        if (employee == null || employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("email is required");
+        }
+    }
+
+    /**
+     * Rejects a row without a first name, a last name or an email.
+     */
+    static void requireValid(Employee employee) {
+        if (employee == null) throw new IllegalArgumentException("Employee cannot be null");
+        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
+            throw new IllegalArgumentException("firstName is required");
+        }
+        if (employee.getLastName() == null || employee.getLastName().trim().isEmpty()) {
+            throw new IllegalArgumentException("lastName is required");
+        }
+        if (employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("email is required");
+        }
+    }
 }
@@ -0,0 +1,102 @@
+package com.lntproject.employee_management_system.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Base class for EmployeeService decorators: every call is forwarded to the wrapped
+ * service unless a subclass overrides it. The exceptions are
+ * {@link EmployeeService#updateEmployees(Map)},
+ * {@link EmployeeService#patchEmployee(long, EmployeePatch)} and
+ * {@link EmployeeService#upsertEmployee(Employee)}, whose defaults route through this decorator's
+ * own reads and writes so caches and aggregates stay in step. Decorators that can pass them
+ * through safely override them.
+ */
+public abstract class ForwardingEmployeeService implements EmployeeService {
+
+    protected final EmployeeService delegate;
+
+    protected ForwardingEmployeeService(EmployeeService delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        return delegate.createEmployee(employee);
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        return delegate.createEmployees(employees);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return delegate.getAllEmployees();
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        return delegate.getEmployeePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return delegate.streamEmployees();
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return delegate.getEmployeeById(id);
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        return delegate.getEmployeesByIds(ids);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        return delegate.findByLastNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Employee> search(String query, int limit) {
+        return delegate.search(query, limit);
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        return delegate.updateEmployee(id, employee);
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return delegate.deleteEmployee(id);
+    }
+
+    @Override
+    public EmployeeAggregates getAggregates() {
+        return delegate.getAggregates();
+    }
+
+    /**
+     * Whether {@code row} owns {@code email}, compared trimmed and case-insensitively like
+     * {@link EmployeeService#findByEmail(String)}. Decorators that read an upsert's before image
+     * by email use it to check the row still owns the email once they hold its lock.
+     */
+    protected static boolean ownsEmail(Employee row, String email) {
+        return row.getEmail() != null && row.getEmail().trim().equalsIgnoreCase(email.trim());
+    }
+}
@@ -0,0 +1,380 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.AdmissionRejectedException;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Admission control in front of the backend: at most {@link #limit()} calls reach the delegate
+ * at once, the rest wait in a short queue, and once that is full or a call has waited too long it
+ * fails fast with {@link AdmissionRejectedException} instead of piling onto a saturated database.
+ *
+ * <p>The limit is not fixed. A {@link GradientConcurrencyLimit} fed with the latency of each
+ * interactive call lowers it as soon as latency rises above what the backend delivers unloaded,
+ * and raises it again, up to {@code maxLimit}, while latency holds steady.
+ *
+ * <p>Calls are split into two lanes. The {@link Lane#INTERACTIVE} lane holds single-row reads and
+ * writes, lookups, pages and searches. The {@link Lane#BULK} lane holds bulk creates and updates,
+ * full reads and streams, and aggregates. A freed permit goes to a waiting interactive call first.
+ * Bulk calls together never hold more than {@code bulkShare} of the limit, so an import cannot
+ * crowd out lookups. Each lane has its own queue length and maximum wait. Bulk latency depends on
+ * the size of the call, so it is not fed to the limit. A stream holds its permit until it is
+ * closed.
+ */
+public final class AdmissionControlEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    public enum Lane {
+        INTERACTIVE, BULK
+    }
+
+    /**
+     * How many calls may wait in a lane for a permit, and for how long. A queue of 0 or a wait of
+     * zero turns calls away as soon as every permit is taken.
+     */
+    public record LaneLimits(int queueSize, Duration maxWait) {
+
+        public LaneLimits {
+            if (queueSize < 0) {
+                throw new IllegalArgumentException("queueSize must not be negative");
+            }
+            if (maxWait == null || maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must not be negative");
+            }
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final GradientConcurrencyLimit limit;
+    private final double bulkShare;
+    private final LaneState interactive;
+    private final LaneState bulk;
+    private int inFlight;
+
+    public AdmissionControlEmployeeService(EmployeeService delegate, int initialLimit, int minLimit, int maxLimit,
+                                           double bulkShare, LaneLimits interactive, LaneLimits bulk) {
+        super(delegate);
+        if (!(bulkShare > 0 && bulkShare <= 1)) {
+            throw new IllegalArgumentException("bulkShare must be greater than 0 and at most 1");
+        }
+        this.limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit);
+        this.bulkShare = bulkShare;
+        this.interactive = new LaneState(Lane.INTERACTIVE, interactive);
+        this.bulk = new LaneState(Lane.BULK, bulk);
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        return call(interactive, () -> delegate.createEmployee(employee));
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        return call(bulk, () -> delegate.createEmployees(employees));
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return call(bulk, delegate::getAllEmployees);
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        return call(interactive, () -> delegate.getEmployeePage(afterId, limit));
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        int load = admit(bulk);
+        try {
+            return delegate.streamEmployees().onClose(() -> release(bulk, -1, load));
+        } catch (RuntimeException e) {
+            release(bulk, -1, load);
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return call(interactive, () -> delegate.getEmployeeById(id));
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        return call(interactive, () -> delegate.getEmployeesByIds(ids));
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return call(interactive, () -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        return call(interactive, () -> delegate.findByLastNamePrefix(prefix, limit));
+    }
+
+    @Override
+    public List<Employee> search(String query, int limit) {
+        return call(interactive, () -> delegate.search(query, limit));
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        return call(interactive, () -> delegate.updateEmployee(id, employee));
+    }
+
+    /**
+     * One permit for the whole batch rather than one per row.
+     */
+    @Override
+    public BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+        return call(bulk, () -> delegate.updateEmployees(updates));
+    }
+
+    /**
+     * One permit for the read and the write rather than one each.
+     */
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        return call(interactive, () -> delegate.patchEmployee(id, changes));
+    }
+
+    /**
+     * One permit for the lookup and the write rather than one each.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        return call(interactive, () -> delegate.upsertEmployee(employee));
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return call(interactive, () -> delegate.deleteEmployee(id));
+    }
+
+    @Override
+    public EmployeeAggregates getAggregates() {
+        return call(bulk, delegate::getAggregates);
+    }
+
+    /**
+     * The number of calls currently allowed to reach the delegate at once.
+     */
+    public int limit() {
+        return locked(limit::limit);
+    }
+
+    /**
+     * The number of calls currently inside the delegate.
+     */
+    public int inFlight() {
+        return locked(() -> inFlight);
+    }
+
+    /**
+     * The number of calls in {@code lane} waiting for a permit.
+     */
+    public int waiting(Lane lane) {
+        return locked((lane == Lane.INTERACTIVE ? interactive : bulk).waiting::size);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.admission.limit", this, AdmissionControlEmployeeService::limit)
+                .description("Employee calls currently allowed to reach the backend at once")
+                .register(registry);
+        Gauge.builder("employee.admission.in.flight", this, AdmissionControlEmployeeService::inFlight)
+                .description("Employee calls currently inside the backend")
+                .register(registry);
+        for (LaneState lane : List.of(interactive, bulk)) {
+            FunctionCounter.builder("employee.admission.admitted", lane.admitted, AtomicLong::get)
+                    .tag("lane", lane.tag)
+                    .description("Employee calls let through to the backend, whether or not they waited")
+                    .register(registry);
+            FunctionCounter.builder("employee.admission.queued", lane.queued, AtomicLong::get)
+                    .tag("lane", lane.tag)
+                    .description("Employee calls that had to wait for a permit")
+                    .register(registry);
+            FunctionCounter.builder("employee.admission.shed", lane.rejected, AtomicLong::get)
+                    .tag("lane", lane.tag)
+                    .tag("reason", "queue_full")
+                    .description("Employee calls turned away because every permit was taken and the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("employee.admission.shed", lane.timedOut, AtomicLong::get)
+                    .tag("lane", lane.tag)
+                    .tag("reason", "timeout")
+                    .description("Employee calls turned away after waiting the longest their lane allows")
+                    .register(registry);
+            Gauge.builder("employee.admission.waiting", this, service -> service.waiting(lane.lane))
+                    .tag("lane", lane.tag)
+                    .description("Employee calls currently waiting for a permit")
+                    .register(registry);
+        }
+    }
+
+    private <T> T call(LaneState lane, Supplier<T> call) {
+        int load = admit(lane);
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            release(lane, lane.lane == Lane.INTERACTIVE ? System.nanoTime() - start : -1, load);
+        }
+    }
+
+    /**
+     * Takes a permit in {@code lane}, waiting for one if the lane's queue has room, and returns
+     * the number of calls in flight once it is taken.
+     */
+    private int admit(LaneState lane) {
+        lock.lock();
+        try {
+            if (lane.waiting.isEmpty() && hasRoom(lane)) {
+                return start(lane);
+            }
+            if (lane.waiting.size() >= lane.queueSize || lane.maxWaitNanos == 0) {
+                lane.rejected.incrementAndGet();
+                throw new AdmissionRejectedException("Backend saturated: " + inFlight + " calls in flight and "
+                        + lane.waiting.size() + " " + lane.tag + " calls waiting");
+            }
+            Waiter waiter = new Waiter(lock.newCondition());
+            lane.waiting.addLast(waiter);
+            lane.queued.incrementAndGet();
+            long remaining = lane.maxWaitNanos;
+            boolean interrupted = false;
+            while (!waiter.admitted && remaining > 0 && !interrupted) {
+                try {
+                    remaining = waiter.signal.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (waiter.admitted) {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+                return waiter.load;
+            }
+            lane.waiting.remove(waiter);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for a permit");
+            }
+            lane.timedOut.incrementAndGet();
+            throw new AdmissionRejectedException("Backend saturated: no permit within "
+                    + Duration.ofNanos(lane.maxWaitNanos).toMillis() + " ms");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit taken by {@link #admit(LaneState)}, records the call's latency if it is
+     * non-negative, and hands the freed permits to waiting calls, interactive ones first.
+     */
+    private void release(LaneState lane, long latencyNanos, int load) {
+        lock.lock();
+        try {
+            inFlight--;
+            lane.inFlight--;
+            if (latencyNanos >= 0) {
+                limit.sample(latencyNanos, load);
+            }
+            for (LaneState next : List.of(interactive, bulk)) {
+                while (!next.waiting.isEmpty() && hasRoom(next)) {
+                    Waiter waiter = next.waiting.removeFirst();
+                    waiter.load = start(next);
+                    waiter.admitted = true;
+                    waiter.signal.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoom(LaneState lane) {
+        if (inFlight >= limit.limit()) {
+            return false;
+        }
+        return lane == interactive
+                || interactive.waiting.isEmpty() && bulk.inFlight < Math.max(1, (int) (limit.limit() * bulkShare));
+    }
+
+    private int start(LaneState lane) {
+        inFlight++;
+        lane.inFlight++;
+        lane.admitted.incrementAndGet();
+        return inFlight;
+    }
+
+    private int locked(IntSupplier value) {
+        lock.lock();
+        try {
+            return value.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue and counters of one lane; everything but the counters is guarded by the lock.
+     */
+    private static final class LaneState {
+
+        private final Lane lane;
+        private final String tag;
+        private final int queueSize;
+        private final long maxWaitNanos;
+        private final ArrayDeque<Waiter> waiting = new ArrayDeque<>();
+        private int inFlight;
+        private final AtomicLong admitted = new AtomicLong();
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+
+        private LaneState(Lane lane, LaneLimits limits) {
+            this.lane = lane;
+            this.tag = lane.name().toLowerCase(Locale.ROOT);
+            this.queueSize = limits.queueSize();
+            this.maxWaitNanos = limits.maxWait().toNanos();
+        }
+    }
+
+    private static final class Waiter {
+
+        private final Condition signal;
+        private boolean admitted;
+        private int load;
+
+        private Waiter(Condition signal) {
+            this.signal = signal;
+        }
+    }
+}
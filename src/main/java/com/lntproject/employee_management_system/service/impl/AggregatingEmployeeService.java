@@ -0,0 +1,348 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DepartmentStats;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Keeps {@link EmployeeAggregates} up to date as writes pass through, so polling them costs a map
+ * copy at most instead of a table scan. The totals are seeded once from the delegate's
+ * {@link EmployeeService#getAggregates()} (a GROUP BY on MySQL) and then adjusted by the
+ * difference between each row's before and after image.
+ *
+ * <p>Updates, patches and deletes read the before image first, under a lock striped by id so that
+ * two writes to the same employee cannot interleave their adjustments. Upserts read the row
+ * owning the email the same way and then go to the delegate's single atomic upsert. Writes that
+ * bypass this service (for example directly in the database) are not seen until {@link #reload()}.
+ *
+ * <p>Constructed with {@code deferLoad}, the seeding query runs on the first read of the totals
+ * instead of at startup, so a short-lived process that never reads them does not pay for it.
+ * Until then writes are not applied: the load will see them in the delegate.
+ */
+public final class AggregatingEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final Object stateLock = new Object();
+    private final Map<String, Boolean> departmentGauges = new HashMap<>();
+    private EmployeeAggregates.Accumulator accumulator;
+    private volatile EmployeeAggregates snapshot;
+    private volatile MeterRegistry registry;
+    private volatile boolean loaded;
+
+    public AggregatingEmployeeService(EmployeeService delegate) {
+        this(delegate, false);
+    }
+
+    public AggregatingEmployeeService(EmployeeService delegate, boolean deferLoad) {
+        super(delegate);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        if (!deferLoad) {
+            load();
+        }
+    }
+
+    /**
+     * Recomputes the totals from the delegate, discarding the incrementally maintained ones.
+     */
+    public void reload() {
+        load();
+    }
+
+    private void load() {
+        lockAll();
+        try {
+            EmployeeAggregates initial = delegate.getAggregates();
+            synchronized (stateLock) {
+                accumulator = new EmployeeAggregates.Accumulator(initial);
+                snapshot = initial;
+            }
+            loaded = true;
+            initial.departments().keySet().forEach(this::registerDepartment);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public EmployeeAggregates getAggregates() {
+        ensureLoaded();
+        EmployeeAggregates current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (stateLock) {
+            if (snapshot == null) {
+                snapshot = accumulator.toAggregates();
+            }
+            return snapshot;
+        }
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Long requestedId = employee.getId();
+        if (requestedId == null && loaded) {
+            Employee created = delegate.createEmployee(employee);
+            apply(null, created);
+            return created;
+        }
+        // Before the load, hold a stripe so the write lands wholly before it or is applied after it.
+        ReentrantLock lock = requestedId == null ? stripes[0] : stripe(requestedId);
+        lock.lock();
+        try {
+            Optional<Employee> previous = requestedId == null
+                    ? Optional.empty() : delegate.getEmployeeById(requestedId);
+            Employee created = delegate.createEmployee(employee);
+            apply(replaced(previous, created.getId()), created);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        boolean explicitIds = rows.stream().anyMatch(row -> row != null && row.getId() != null);
+        boolean unloaded = !explicitIds && !loaded;
+        if (explicitIds) {
+            lockAll();
+        } else if (unloaded) {
+            stripes[0].lock();
+        }
+        try {
+            Map<Long, Employee> previous = new HashMap<>();
+            if (explicitIds) {
+                for (Employee row : rows) {
+                    if (row != null && row.getId() != null) {
+                        delegate.getEmployeeById(row.getId()).ifPresent(found -> previous.put(found.getId(), found));
+                    }
+                }
+            }
+            BulkCreateResult result = delegate.createEmployees(rows);
+            for (int index = 0; index < rows.size(); index++) {
+                Long id = result.ids().get(index);
+                if (id != null) {
+                    Employee created = new Employee(rows.get(index));
+                    created.setId(id);
+                    apply(previous.remove(id), created);
+                }
+            }
+            return result;
+        } finally {
+            if (explicitIds) {
+                unlockAll();
+            } else if (unloaded) {
+                stripes[0].unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            Optional<Employee> updated = delegate.updateEmployee(id, employee);
+            updated.ifPresent(row -> apply(previous.orElse(null), row));
+            return updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            Optional<Employee> patched = delegate.patchEmployee(id, changes);
+            patched.ifPresent(row -> apply(previous.orElse(null), row));
+            return patched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The row owning the email is the before image. It is read again under its stripe, and looked
+     * up afresh if an update took the email away meanwhile. A new email has no row to lock and,
+     * like a create without an id, holds a stripe only until the load.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        EmployeeService.requireEmail(employee);
+        while (true) {
+            Optional<Employee> owner = delegate.findByEmail(employee.getEmail());
+            ReentrantLock lock = owner.isPresent() ? stripe(owner.get().getId()) : loaded ? null : stripes[0];
+            if (lock != null) {
+                lock.lock();
+            }
+            try {
+                Optional<Employee> previous = owner.isEmpty() ? Optional.empty()
+                        : delegate.getEmployeeById(owner.get().getId())
+                                .filter(row -> ownsEmail(row, employee.getEmail()));
+                if (owner.isPresent() && previous.isEmpty()) {
+                    continue;
+                }
+                Employee stored = delegate.upsertEmployee(employee);
+                apply(replaced(previous, stored.getId()), stored);
+                return stored;
+            } finally {
+                if (lock != null) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            boolean deleted = delegate.deleteEmployee(id);
+            if (deleted && previous.isPresent()) {
+                apply(previous.get(), null);
+            }
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.headcount", this, service -> service.getAggregates().headcount())
+                .description("Employees across all departments")
+                .register(registry);
+        Gauge.builder("employee.payroll.total", this, service -> service.getAggregates().totalSalary().doubleValue())
+                .description("Sum of all recorded salaries")
+                .register(registry);
+        this.registry = registry;
+        if (loaded) {
+            getAggregates().departments().keySet().forEach(this::registerDepartment);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lockAll();
+        try {
+            if (!loaded) {
+                load();
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Adjusts the totals for one write. Until the load every caller holds a stripe, so the load
+     * cannot start between the write reaching the delegate and this check.
+     */
+    private void apply(Employee before, Employee after) {
+        if (!loaded) {
+            return;
+        }
+        boolean newDepartment = false;
+        synchronized (stateLock) {
+            if (before != null) {
+                accumulator.remove(before);
+            }
+            if (after != null) {
+                newDepartment = accumulator.add(after);
+            }
+            snapshot = null;
+        }
+        if (newDepartment) {
+            registerDepartment(after.getDepartment() == null ? EmployeeAggregates.NO_DEPARTMENT : after.getDepartment());
+        }
+    }
+
+    /**
+     * Per-department gauges are registered the first time a department appears; a department that
+     * empties out keeps its gauges, reporting zero.
+     */
+    private void registerDepartment(String department) {
+        MeterRegistry meters = registry;
+        if (meters == null) {
+            return;
+        }
+        synchronized (departmentGauges) {
+            if (departmentGauges.putIfAbsent(department, Boolean.TRUE) != null) {
+                return;
+            }
+        }
+        Gauge.builder("employee.department.headcount", this,
+                        service -> service.departmentValue(department, DepartmentStats::headcount))
+                .tag("department", department)
+                .description("Employees in the department")
+                .register(meters);
+        Gauge.builder("employee.department.salary.total", this,
+                        service -> service.departmentValue(department, stats -> stats.totalSalary().doubleValue()))
+                .tag("department", department)
+                .description("Sum of recorded salaries in the department")
+                .register(meters);
+        Gauge.builder("employee.department.salary.average", this,
+                        service -> service.departmentValue(department, stats -> {
+                            BigDecimal average = stats.averageSalary();
+                            return average == null ? 0 : average.doubleValue();
+                        }))
+                .tag("department", department)
+                .description("Average recorded salary in the department")
+                .register(meters);
+    }
+
+    private double departmentValue(String department, ToDoubleFunction<DepartmentStats> value) {
+        DepartmentStats stats = getAggregates().departments().get(department);
+        return stats == null ? 0 : value.applyAsDouble(stats);
+    }
+
+    private static Employee replaced(Optional<Employee> previous, Long createdId) {
+        return previous.filter(row -> row.getId().equals(createdId)).orElse(null);
+    }
+
+    private ReentrantLock stripe(long id) {
+        return stripes[Math.floorMod(Long.hashCode(id), STRIPES)];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache for {@link EmployeeService#getEmployeeById(long)}.
+ *
+ * <p>Entries are bounded by count and evicted with Caffeine's frequency-aware W-TinyLFU policy.
+ * An unset {@code ttl} keeps entries until they are evicted or invalidated. Missing ids are
+ * cached as empty results for {@code negativeTtl}; an unset value disables negative caching.
+ * Concurrent misses for the same id share a single load from the delegate. Writes made through
+ * this service refresh or drop the affected entry; writes made directly against the database are
+ * only picked up once the entry expires.
+ */
+public class CachingEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    private final Cache<Long, Optional<Employee>> cache;
+
+    public CachingEmployeeService(EmployeeService delegate, long maximumSize, Duration ttl, Duration negativeTtl) {
+        super(delegate);
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new EntryExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Employee created = delegate.createEmployee(employee);
+        if (created != null && created.getId() != null) {
+            cache.put(created.getId(), Optional.of(new Employee(created)));
+        }
+        return created;
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        BulkCreateResult result = delegate.createEmployees(employees);
+        int index = 0;
+        for (Employee employee : employees) {
+            Long id = result.ids().get(index++);
+            if (id != null && employee != null) {
+                Employee cached = new Employee(employee);
+                cached.setId(id);
+                cache.put(id, Optional.of(cached));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return cache.get(id, delegate::getEmployeeById).map(Employee::new);
+    }
+
+    /**
+     * Serves cached ids from the cache and loads all the misses with one bulk call to the
+     * delegate; ids it does not return are cached negatively like single misses.
+     */
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Map<Long, Optional<Employee>> entries = cache.getAll(distinct, this::loadAll);
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : distinct) {
+            Optional<Employee> entry = entries.get(id);
+            if (entry != null && entry.isPresent()) {
+                found.put(id, new Employee(entry.get()));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        Optional<Employee> updated;
+        try {
+            updated = delegate.updateEmployee(id, employee);
+        } catch (RuntimeException e) {
+            cache.invalidate(id);
+            throw e;
+        }
+        if (updated.isPresent()) {
+            cache.put(id, Optional.of(new Employee(updated.get())));
+        } else {
+            cache.invalidate(id);
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        Optional<Employee> patched;
+        try {
+            patched = delegate.patchEmployee(id, changes);
+        } catch (RuntimeException e) {
+            cache.invalidate(id);
+            throw e;
+        }
+        if (patched.isPresent()) {
+            cache.put(id, Optional.of(new Employee(patched.get())));
+        } else {
+            cache.invalidate(id);
+        }
+        return patched;
+    }
+
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        Employee stored = delegate.upsertEmployee(employee);
+        cache.put(stored.getId(), Optional.of(new Employee(stored)));
+        return stored;
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        try {
+            return delegate.deleteEmployee(id);
+        } finally {
+            cache.invalidate(id);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Map<Long, Optional<Employee>> loadAll(Set<? extends Long> ids) {
+        Map<Long, Employee> loaded = delegate.getEmployeesByIds(Set.copyOf(ids));
+        Map<Long, Optional<Employee>> entries = new HashMap<>();
+        for (Long id : ids) {
+            entries.put(id, Optional.ofNullable(loaded.get(id)));
+        }
+        return entries;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "employees");
+    }
+
+    private static final class EntryExpiry implements Expiry<Long, Optional<Employee>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        private EntryExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = isSet(ttl) ? ttl.toNanos() : Long.MAX_VALUE;
+            this.negativeTtlNanos = isSet(negativeTtl) ? negativeTtl.toNanos() : 0;
+        }
+
+        private static boolean isSet(Duration duration) {
+            return duration != null && !duration.isZero() && !duration.isNegative();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<Employee> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<Employee> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<Employee> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
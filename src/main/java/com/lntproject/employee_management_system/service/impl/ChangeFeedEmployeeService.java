@@ -0,0 +1,210 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeeChange;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+/**
+ * Publishes every create, update and delete that passes through to an {@link EmployeeChangeFeed}.
+ * Writes to an existing id read the before image first and publish while still holding a lock
+ * striped by id, so the changes to any one employee appear in the feed in the order they were
+ * applied and each before image is the previous change's after image. Creates without an id need
+ * no lock. Upserts are passed to the delegate's single atomic upsert, with the row owning the email
+ * as the before image. Bulk updates take the interface's default route through this service and
+ * are published like single updates.
+ *
+ * <p>Published images are copies, so callers may keep modifying the objects they passed in or got
+ * back. Writes that bypass this service (for example directly in the database) are not published.
+ */
+public final class ChangeFeedEmployeeService extends ForwardingEmployeeService {
+
+    private static final int STRIPES = 64;
+
+    private final EmployeeChangeFeed feed;
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+
+    public ChangeFeedEmployeeService(EmployeeService delegate, EmployeeChangeFeed feed) {
+        super(delegate);
+        this.feed = feed;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public EmployeeChangeFeed feed() {
+        return feed;
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Long requestedId = employee.getId();
+        if (requestedId == null) {
+            Employee created = delegate.createEmployee(employee);
+            publishCreate(null, created);
+            return created;
+        }
+        ReentrantLock lock = stripe(requestedId);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(requestedId);
+            Employee created = delegate.createEmployee(employee);
+            Employee replaced = previous.filter(row -> row.getId().equals(created.getId())).orElse(null);
+            publishCreate(replaced, created);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        boolean explicitIds = rows.stream().anyMatch(row -> row != null && row.getId() != null);
+        if (explicitIds) {
+            lockAll();
+        }
+        try {
+            Map<Long, Employee> previous = new HashMap<>();
+            if (explicitIds) {
+                List<Long> ids = rows.stream().filter(row -> row != null && row.getId() != null)
+                        .map(Employee::getId).toList();
+                previous.putAll(delegate.getEmployeesByIds(ids));
+            }
+            BulkCreateResult result = delegate.createEmployees(rows);
+            for (int index = 0; index < rows.size(); index++) {
+                Long id = result.ids().get(index);
+                if (id != null) {
+                    Employee created = new Employee(rows.get(index));
+                    created.setId(id);
+                    Employee replaced = previous.remove(id);
+                    publishCreate(replaced, created);
+                }
+            }
+            return result;
+        } finally {
+            if (explicitIds) {
+                unlockAll();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            Optional<Employee> updated = delegate.updateEmployee(id, employee);
+            updated.ifPresent(row -> publish(EmployeeChange.Type.UPDATE, id, previous.orElse(null), row));
+            return updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            Optional<Employee> patched = delegate.patchEmployee(id, changes);
+            patched.ifPresent(row -> publish(EmployeeChange.Type.UPDATE, id, previous.orElse(null), row));
+            return patched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The row owning the email is the before image. It is read again under its stripe, and looked
+     * up afresh if an update took the email away meanwhile. A new email has no row to lock, so a
+     * create racing the upsert for the same email can leave both published as creates.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        EmployeeService.requireEmail(employee);
+        while (true) {
+            Optional<Employee> owner = delegate.findByEmail(employee.getEmail());
+            if (owner.isEmpty()) {
+                Employee stored = delegate.upsertEmployee(employee);
+                publishCreate(null, stored);
+                return stored;
+            }
+            long id = owner.get().getId();
+            ReentrantLock lock = stripe(id);
+            lock.lock();
+            try {
+                Optional<Employee> previous = delegate.getEmployeeById(id)
+                        .filter(row -> ownsEmail(row, employee.getEmail()));
+                if (previous.isPresent()) {
+                    Employee stored = delegate.upsertEmployee(employee);
+                    publishCreate(previous.filter(row -> row.getId().equals(stored.getId())).orElse(null), stored);
+                    return stored;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> previous = delegate.getEmployeeById(id);
+            boolean deleted = delegate.deleteEmployee(id);
+            if (deleted) {
+                publish(EmployeeChange.Type.DELETE, id, previous.orElse(null), null);
+            }
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A create that replaced the row under its id is published as an update of that row.
+     */
+    private void publishCreate(Employee replaced, Employee created) {
+        publish(replaced == null ? EmployeeChange.Type.CREATE : EmployeeChange.Type.UPDATE, created.getId(),
+                replaced, created);
+    }
+
+    /**
+     * The before image can be missing for an update or delete of a row that was written behind
+     * this service's back; the change is still published under its own type.
+     */
+    private void publish(EmployeeChange.Type type, long id, Employee before, Employee after) {
+        feed.publish(type, id, before == null ? null : new Employee(before),
+                after == null ? null : new Employee(after));
+    }
+
+    private ReentrantLock stripe(long id) {
+        return stripes[Math.floorMod(Long.hashCode(id), STRIPES)];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+}
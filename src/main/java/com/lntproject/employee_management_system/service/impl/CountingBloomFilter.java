@@ -0,0 +1,154 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over strings whose slots are 4-bit counters rather than bits, so a key can be
+ * removed again. Sixteen counters share a long and every update is a compare-and-set on one
+ * word, so any number of threads may add, remove and test at once without locking.
+ *
+ * <p>Sized for {@code expectedKeys} at {@code falsePositiveRate}: m = -n ln p / (ln 2)^2 counters
+ * and k = (m / n) ln 2 probes, derived from one 64-bit hash by double hashing. That is 4x the
+ * memory of a plain Bloom filter: about 4.8 bytes per key at 1%. A counter that reaches 15
+ * stays there, since its true count is no longer known. Removing a key that was never added
+ * can empty a counter another key still needs and make that key test absent; callers that use
+ * the filter only to skip work they could also do exactly can live with that.
+ */
+final class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final int counters;
+    private final int probes;
+    private final long expectedKeys;
+    private final double falsePositiveRate;
+    private final AtomicLong keys = new AtomicLong();
+
+    CountingBloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("expectedKeys must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long size = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2));
+        long words = (size + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+        if (words > Integer.MAX_VALUE / COUNTERS_PER_WORD) {
+            throw new IllegalArgumentException("A filter for " + expectedKeys + " keys at " + falsePositiveRate
+                    + " would be too large");
+        }
+        this.words = new AtomicLongArray((int) words);
+        this.counters = (int) words * COUNTERS_PER_WORD;
+        this.probes = Math.max(1, (int) Math.round((double) counters / expectedKeys * ln2));
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    void add(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < probes; i++) {
+            update(counter(hash, i), 1);
+        }
+        keys.incrementAndGet();
+    }
+
+    void remove(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < probes; i++) {
+            update(counter(hash, i), -1);
+        }
+        keys.decrementAndGet();
+    }
+
+    /**
+     * False means {@code key} was definitely not added (or was removed since); true means it may
+     * have been.
+     */
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < probes; i++) {
+            int counter = counter(hash, i);
+            if (value(words.get(counter / COUNTERS_PER_WORD), counter) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keys added and not removed; approximate while updates are in flight.
+     */
+    long keyCount() {
+        return Math.max(0, keys.get());
+    }
+
+    long expectedKeys() {
+        return expectedKeys;
+    }
+
+    double configuredFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    /**
+     * The false positive rate to expect at the current key count, (1 - e^(-kn/m))^k; above the
+     * configured rate once more keys than expected have been added.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) probes * keyCount() / counters), probes);
+    }
+
+    long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private void update(int counter, int delta) {
+        int word = counter / COUNTERS_PER_WORD;
+        while (true) {
+            long current = words.get(word);
+            long value = value(current, counter);
+            if (value == COUNTER_MASK || value == 0 && delta < 0) {
+                return;
+            }
+            long updated = current + ((long) delta << shift(counter));
+            if (words.compareAndSet(word, current, updated)) {
+                return;
+            }
+        }
+    }
+
+    private int counter(long hash, int probe) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return Math.floorMod(h1 + probe * h2, counters);
+    }
+
+    private static long value(long word, int counter) {
+        return (word >>> shift(counter)) & COUNTER_MASK;
+    }
+
+    private static int shift(int counter) {
+        return (counter % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    /**
+     * FNV-1a over the chars, finished with MurmurHash3's 64-bit mix so both halves are usable.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53a1cedL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
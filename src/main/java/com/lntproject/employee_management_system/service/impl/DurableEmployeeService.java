@@ -0,0 +1,313 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Persistence mode for {@link InMemoryEmployeeService}: every mutation is appended to an
+ * {@link EmployeeJournal} before the call returns, and a binary snapshot is taken every
+ * {@code snapshotEvery} records so older journal segments can be deleted.
+ *
+ * <p>On open, the newest intact snapshot is loaded and the journal tail after it is replayed.
+ * Snapshots are fuzzy: the store is walked while writes continue, and because every journal
+ * record carries the full row (or a delete), replaying the tail over it converges on the exact
+ * state. Journal segments are kept back to the previous snapshot so it remains a usable fallback.
+ */
+public class DurableEmployeeService extends ForwardingEmployeeService implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DurableEmployeeService.class);
+
+    private final InMemoryEmployeeService store;
+    private final Path directory;
+    private final long snapshotEvery;
+    private final EmployeeJournal journal;
+    private final ReentrantLock mutationLock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ExecutorService snapshotter;
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong recordsSinceSnapshot = new AtomicLong();
+    private final long recoveryNanos;
+    private final long recoveredRecords;
+    private volatile long snapshotSequence;
+
+    private DurableEmployeeService(InMemoryEmployeeService store, Path directory, Duration fsyncInterval,
+                                   long snapshotEvery) throws IOException {
+        super(store);
+        if (snapshotEvery <= 0) {
+            throw new IllegalArgumentException("snapshotEvery must be positive");
+        }
+        this.store = store;
+        this.directory = directory;
+        this.snapshotEvery = snapshotEvery;
+
+        long started = System.nanoTime();
+        OptionalLong snapshot = EmployeeSnapshots.loadLatest(directory, store::restore);
+        this.snapshotSequence = snapshot.orElse(0);
+        AtomicLong replayed = new AtomicLong();
+        long lastSequence = EmployeeJournal.replay(directory, snapshotSequence, new EmployeeJournal.RecordHandler() {
+            @Override
+            public void put(long sequence, Employee employee) {
+                store.restore(employee);
+                replayed.incrementAndGet();
+            }
+
+            @Override
+            public void delete(long sequence, long id) {
+                store.deleteEmployee(id);
+                replayed.incrementAndGet();
+            }
+        });
+        this.recoveryNanos = System.nanoTime() - started;
+        this.recoveredRecords = replayed.get();
+        this.recordsSinceSnapshot.set(recoveredRecords);
+        log.info("Recovered employee store from {} (snapshot sequence {}, {} journal records) in {} ms",
+                directory, snapshotSequence, recoveredRecords, TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
+
+        this.journal = new EmployeeJournal(directory, lastSequence + 1, fsyncInterval);
+        this.snapshotter = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens (recovering if needed) the store persisted in {@code directory}. A zero
+     * {@code fsyncInterval} forces the journal before every write returns; a positive one forces
+     * it periodically and bounds the data lost on a crash to that interval.
+     */
+    public static DurableEmployeeService open(Path directory, Duration fsyncInterval, long snapshotEvery) throws IOException {
+        return new DurableEmployeeService(new InMemoryEmployeeService(), directory, fsyncInterval, snapshotEvery);
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Employee created;
+        long sequence;
+        mutationLock.lock();
+        try {
+            created = delegate.createEmployee(employee);
+            sequence = journal.appendPut(created);
+        } finally {
+            mutationLock.unlock();
+        }
+        commit(sequence, 1);
+        return created;
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        BulkCreateResult result;
+        long sequence = -1;
+        int records = 0;
+        mutationLock.lock();
+        try {
+            result = delegate.createEmployees(employees);
+            int index = 0;
+            for (Employee employee : employees) {
+                Long id = result.ids().get(index++);
+                if (id != null) {
+                    Employee row = new Employee(employee);
+                    row.setId(id);
+                    sequence = journal.appendPut(row);
+                    records++;
+                }
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+        if (records > 0) {
+            commit(sequence, records);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        Optional<Employee> updated;
+        long sequence = -1;
+        mutationLock.lock();
+        try {
+            updated = delegate.updateEmployee(id, employee);
+            if (updated.isPresent()) {
+                sequence = journal.appendPut(updated.get());
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+        if (updated.isPresent()) {
+            commit(sequence, 1);
+        }
+        return updated;
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        Optional<Employee> patched;
+        long sequence = -1;
+        mutationLock.lock();
+        try {
+            patched = delegate.patchEmployee(id, changes);
+            if (patched.isPresent()) {
+                sequence = journal.appendPut(patched.get());
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+        if (patched.isPresent()) {
+            commit(sequence, 1);
+        }
+        return patched;
+    }
+
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        Employee stored;
+        long sequence;
+        mutationLock.lock();
+        try {
+            stored = delegate.upsertEmployee(employee);
+            sequence = journal.appendPut(stored);
+        } finally {
+            mutationLock.unlock();
+        }
+        commit(sequence, 1);
+        return stored;
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        boolean deleted;
+        long sequence = -1;
+        mutationLock.lock();
+        try {
+            deleted = delegate.deleteEmployee(id);
+            if (deleted) {
+                sequence = journal.appendDelete(id);
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+        if (deleted) {
+            commit(sequence, 1);
+        }
+        return deleted;
+    }
+
+    /**
+     * Writes a snapshot covering everything journaled so far and trims journal segments that are
+     * no longer needed.
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long sequence;
+            mutationLock.lock();
+            try {
+                sequence = journal.roll();
+                recordsSinceSnapshot.set(0);
+            } finally {
+                mutationLock.unlock();
+            }
+            try (Stream<Employee> rows = store.streamEmployees()) {
+                EmployeeSnapshots.write(directory, sequence, rows.iterator());
+            }
+            journal.deleteSegmentsThrough(snapshotSequence);
+            snapshotSequence = sequence;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    public long recoveryNanos() {
+        return recoveryNanos;
+    }
+
+    public long recoveredRecords() {
+        return recoveredRecords;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.journal.records", journal, EmployeeJournal::appendedRecords)
+                .description("Records appended to the employee journal")
+                .register(registry);
+        FunctionCounter.builder("employee.journal.bytes", journal, EmployeeJournal::appendedBytes)
+                .baseUnit("bytes")
+                .description("Bytes appended to the employee journal")
+                .register(registry);
+        FunctionTimer.builder("employee.journal.fsync", journal,
+                        EmployeeJournal::syncCount, EmployeeJournal::syncNanos, TimeUnit.NANOSECONDS)
+                .description("Journal fsync calls; with group commit one call covers many writes")
+                .register(registry);
+        TimeGauge.builder("employee.journal.recovery.time", this, TimeUnit.NANOSECONDS, DurableEmployeeService::recoveryNanos)
+                .description("Time spent loading the snapshot and replaying the journal at startup")
+                .register(registry);
+        Gauge.builder("employee.journal.recovery.records", this, DurableEmployeeService::recoveredRecords)
+                .description("Journal records replayed at startup")
+                .register(registry);
+        Gauge.builder("employee.journal.snapshot.sequence", this, service -> service.snapshotSequence)
+                .description("Journal sequence covered by the latest snapshot")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        snapshotter.shutdown();
+        try {
+            if (!snapshotter.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Employee snapshot still running at shutdown; the journal covers it");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    private void commit(long sequence, int records) {
+        journal.awaitDurable(sequence);
+        if (recordsSinceSnapshot.addAndGet(records) >= snapshotEvery && !closed.get()
+                && snapshotScheduled.compareAndSet(false, true)) {
+            snapshotter.execute(() -> {
+                try {
+                    snapshot();
+                } catch (IOException | UncheckedIOException e) {
+                    log.error("Employee snapshot failed; the journal keeps growing until the next attempt", e);
+                } finally {
+                    snapshotScheduled.set(false);
+                }
+            });
+        }
+    }
+}
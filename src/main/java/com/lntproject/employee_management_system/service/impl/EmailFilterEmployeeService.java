@@ -0,0 +1,372 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Turns away creates whose email is already taken before they reach the store, without a lookup
+ * for the emails that cannot be taken. A {@link CountingBloomFilter} over the stored emails
+ * answers "definitely new" for nearly every fresh email, which goes straight to the store; only
+ * a possible hit is looked up with {@link EmployeeService#findByEmail(String)}, and a taken email
+ * fails with {@link DuplicateEmailException} (or as a failed row of a bulk create) instead of an
+ * insert the database rejects. On the JDBC backend that saves a round trip per duplicate, and
+ * for a bulk create the rollback and row-by-row replay of the batch the duplicate was in.
+ *
+ * <p>The filter is seeded from {@link EmployeeService#streamEmployees()} and kept current as
+ * writes pass through, updates and deletes reading the before image to drop the old email. Emails
+ * written while it is being built go into the new filter as well, so it holds every email written
+ * through this service. {@link #findByEmail(String)} therefore answers an email the filter has
+ * never seen without a lookup, which also spares the before-image lookups the decorators above
+ * take for an upsert of a new email. An email written behind this service's back (for example
+ * directly in the database) is not found by email until {@link #reload()}; creates still reach
+ * the store, which enforces uniqueness. A stale email costs an extra lookup. Emails are compared
+ * trimmed and lower-cased.
+ *
+ * <p>Constructed with {@code deferLoad}, the filter is seeded in the background after the first
+ * create, which goes to the store unchecked like every create until the seed is done.
+ */
+public final class EmailFilterEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailFilterEmployeeService.class);
+
+    private final long expectedEmails;
+    private final double falsePositiveRate;
+    private final AtomicBoolean seeding = new AtomicBoolean();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+    private volatile CountingBloomFilter filter;
+    /** The filter being built by {@link #load()}, which writes also add to; null otherwise. */
+    private volatile CountingBloomFilter building;
+
+    public EmailFilterEmployeeService(EmployeeService delegate, long expectedEmails, double falsePositiveRate) {
+        this(delegate, expectedEmails, falsePositiveRate, false);
+    }
+
+    public EmailFilterEmployeeService(EmployeeService delegate, long expectedEmails, double falsePositiveRate,
+                                      boolean deferLoad) {
+        super(delegate);
+        if (expectedEmails < 1) {
+            throw new IllegalArgumentException("expectedEmails must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+        if (!deferLoad) {
+            load();
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the delegate, sized for twice the emails found if there are more
+     * than {@code expectedEmails}.
+     */
+    public void reload() {
+        load();
+    }
+
+    private void load() {
+        long capacity = expectedEmails;
+        while (true) {
+            CountingBloomFilter rebuilt = new CountingBloomFilter(capacity, falsePositiveRate);
+            // Set before the scan starts: a write that misses it committed early enough to be scanned.
+            building = rebuilt;
+            try (Stream<Employee> employees = delegate.streamEmployees()) {
+                employees.forEach(employee -> add(rebuilt, employee.getEmail()));
+            } catch (RuntimeException e) {
+                building = null;
+                throw e;
+            }
+            if (rebuilt.keyCount() <= capacity) {
+                filter = rebuilt;
+                building = null;
+                return;
+            }
+            log.info("{} emails outgrew the email filter sized for {}; rebuilding it larger",
+                    rebuilt.keyCount(), capacity);
+            capacity = 2 * rebuilt.keyCount();
+        }
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        CountingBloomFilter current = loadedFilter();
+        if (current != null && taken(current, employee)) {
+            throw new DuplicateEmailException(employee.getEmail());
+        }
+        Optional<Employee> replaced = employee.getId() == null || current == null
+                ? Optional.empty() : delegate.getEmployeeById(employee.getId());
+        Employee created = delegate.createEmployee(employee);
+        replaced.ifPresent(previous -> remove(previous.getEmail()));
+        added(created.getEmail());
+        return created;
+    }
+
+    /**
+     * Rows whose email is taken are reported as failures without being sent to the delegate;
+     * the rest go in one call, so a batch with duplicates is written like one without.
+     */
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        CountingBloomFilter current = loadedFilter();
+        List<Integer> forwarded = new ArrayList<>(rows.size());
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+        Map<Long, Employee> replaced = new HashMap<>();
+        for (int index = 0; index < rows.size(); index++) {
+            Employee row = rows.get(index);
+            if (row != null && current != null && taken(current, row)) {
+                failures.add(new BulkCreateResult.Failure(index, row,
+                        new DuplicateEmailException(row.getEmail()).getMessage()));
+                continue;
+            }
+            if (row != null && row.getId() != null && current != null) {
+                delegate.getEmployeeById(row.getId()).ifPresent(found -> replaced.put(found.getId(), found));
+            }
+            forwarded.add(index);
+        }
+
+        BulkCreateResult result;
+        if (failures.isEmpty()) {
+            result = delegate.createEmployees(rows);
+        } else {
+            BulkCreateResult written = delegate.createEmployees(forwarded.stream().map(rows::get).toList());
+            Long[] ids = new Long[rows.size()];
+            for (int index = 0; index < forwarded.size(); index++) {
+                ids[forwarded.get(index)] = written.ids().get(index);
+            }
+            for (BulkCreateResult.Failure failure : written.failures()) {
+                failures.add(new BulkCreateResult.Failure(forwarded.get(failure.index()), failure.employee(),
+                        failure.reason()));
+            }
+            failures.sort(Comparator.comparingInt(BulkCreateResult.Failure::index));
+            result = new BulkCreateResult(Arrays.asList(ids), failures);
+        }
+        for (int index = 0; index < rows.size(); index++) {
+            Long id = result.ids().get(index);
+            if (id != null) {
+                Employee previous = replaced.remove(id);
+                if (previous != null) {
+                    remove(previous.getEmail());
+                }
+                added(rows.get(index).getEmail());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Once the filter is seeded, an email it has never seen is not looked up.
+     */
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        CountingBloomFilter current = filter;
+        String key = key(email);
+        if (current != null && key != null && !current.mightContain(key)) {
+            return Optional.empty();
+        }
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        Optional<Employee> previous = filter == null ? Optional.empty() : delegate.getEmployeeById(id);
+        Optional<Employee> updated = delegate.updateEmployee(id, employee);
+        updated.ifPresent(row -> emailChanged(previous, row));
+        return updated;
+    }
+
+    /**
+     * Patches that leave the email alone pass straight through.
+     */
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        if (!changes.fields().contains(EmployeePatch.Field.EMAIL)) {
+            return delegate.patchEmployee(id, changes);
+        }
+        Optional<Employee> previous = filter == null ? Optional.empty() : delegate.getEmployeeById(id);
+        Optional<Employee> patched = delegate.patchEmployee(id, changes);
+        patched.ifPresent(row -> emailChanged(previous, row));
+        return patched;
+    }
+
+    /**
+     * Passed to the delegate's single atomic upsert; the email is added to the filter unless the
+     * row that owned it before was already counted.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        EmployeeService.requireEmail(employee);
+        Optional<Employee> previous = findByEmail(employee.getEmail());
+        Employee stored = delegate.upsertEmployee(employee);
+        emailChanged(previous.filter(row -> row.getId().equals(stored.getId())), stored);
+        return stored;
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        Optional<Employee> previous = filter == null ? Optional.empty() : delegate.getEmployeeById(id);
+        boolean deleted = delegate.deleteEmployee(id);
+        if (deleted) {
+            previous.ifPresent(row -> remove(row.getEmail()));
+        }
+        return deleted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.email.filter.checks", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Creates whose email the filter had never seen, sent to the store unchecked")
+                .register(registry);
+        FunctionCounter.builder("employee.email.filter.checks", duplicates, AtomicLong::get)
+                .tag("result", "duplicate")
+                .description("Creates turned away because the email was taken")
+                .register(registry);
+        FunctionCounter.builder("employee.email.filter.checks", falsePositives, AtomicLong::get)
+                .tag("result", "false_positive")
+                .description("Creates the filter flagged but whose email turned out to be free")
+                .register(registry);
+        Gauge.builder("employee.email.filter.false.positive.rate", this,
+                        EmailFilterEmployeeService::observedFalsePositiveRate)
+                .description("Share of free emails the filter flagged, since startup")
+                .register(registry);
+        Gauge.builder("employee.email.filter.expected.false.positive.rate", this,
+                        service -> service.filterStat(CountingBloomFilter::expectedFalsePositiveRate))
+                .description("False positive rate to expect at the filter's current size and load")
+                .register(registry);
+        Gauge.builder("employee.email.filter.emails", this,
+                        service -> service.filterStat(CountingBloomFilter::keyCount))
+                .description("Emails in the filter")
+                .register(registry);
+        Gauge.builder("employee.email.filter.size", this,
+                        service -> service.filterStat(CountingBloomFilter::sizeInBytes))
+                .description("Heap held by the filter's counters")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Of the creates whose email was free, the share the filter sent for a lookup anyway.
+     */
+    public double observedFalsePositiveRate() {
+        long flagged = falsePositives.get();
+        long free = flagged + misses.get();
+        return free == 0 ? 0 : (double) flagged / free;
+    }
+
+    /**
+     * The filter, or null while it has not been seeded; under {@code deferLoad} the first call
+     * starts the seed.
+     */
+    private CountingBloomFilter loadedFilter() {
+        CountingBloomFilter current = filter;
+        if (current == null && seeding.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("email-filter-seed").start(() -> {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    log.warn("Could not seed the email filter; creates go unchecked: {}", e.getMessage());
+                    seeding.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    /**
+     * Whether {@code employee}'s email belongs to another employee, looked up only when the
+     * filter may have seen it.
+     */
+    private boolean taken(CountingBloomFilter current, Employee employee) {
+        String key = key(employee.getEmail());
+        if (key == null) {
+            return false;
+        }
+        if (!current.mightContain(key)) {
+            misses.incrementAndGet();
+            return false;
+        }
+        Optional<Employee> owner = delegate.findByEmail(employee.getEmail());
+        if (owner.isEmpty()) {
+            falsePositives.incrementAndGet();
+            return false;
+        }
+        if (owner.get().getId().equals(employee.getId())) {
+            return false;
+        }
+        duplicates.incrementAndGet();
+        return true;
+    }
+
+    private void emailChanged(Optional<Employee> previous, Employee updated) {
+        String before = previous.map(row -> key(row.getEmail())).orElse(null);
+        String after = key(updated.getEmail());
+        if (after != null && after.equals(before)) {
+            return;
+        }
+        previous.ifPresent(row -> remove(row.getEmail()));
+        added(updated.getEmail());
+    }
+
+    /**
+     * Adds a written email to the filter and to the one being built, in that order of reading so
+     * that a write racing the swap at the end of {@link #load()} still lands in the new filter.
+     */
+    private void added(String email) {
+        add(building, email);
+        add(filter, email);
+    }
+
+    private void remove(String email) {
+        CountingBloomFilter current = filter;
+        String key = key(email);
+        if (current != null && key != null) {
+            current.remove(key);
+        }
+    }
+
+    private double filterStat(ToDoubleFunction<CountingBloomFilter> stat) {
+        CountingBloomFilter current = filter;
+        return current == null ? 0 : stat.applyAsDouble(current);
+    }
+
+    private static void add(CountingBloomFilter target, String email) {
+        String key = key(email);
+        if (target != null && key != null) {
+            target.add(key);
+        }
+    }
+
+    private static String key(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
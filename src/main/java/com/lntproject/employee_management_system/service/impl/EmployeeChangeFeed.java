@@ -0,0 +1,297 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Instant;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeChange;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded in-process feed of {@link EmployeeChange}s. Writers append to a ring of
+ * {@code capacity} slots without locks and without ever waiting for subscribers: claiming a
+ * sequence is one atomic increment and storing the change one compare-and-set on its slot. The
+ * newest {@code capacity} changes stay readable, so a subscriber can resume from any sequence
+ * still in the ring with {@link #subscribe(Flow.Subscriber, long)}.
+ *
+ * <p>Each subscription keeps its own cursor and demand and is drained on {@code executor}
+ * (virtual threads by default), delivering changes in sequence order and never more than were
+ * requested. A subscriber that falls more than {@code capacity} changes behind has lost the
+ * overwritten ones; {@link SlowConsumerPolicy} decides whether it is cancelled with a
+ * {@link FellBehindException} or skipped ahead to the oldest change still held.
+ */
+public final class EmployeeChangeFeed implements Flow.Publisher<EmployeeChange>, MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    public enum SlowConsumerPolicy {
+        /** Signal {@link FellBehindException} and end the subscription. */
+        CANCEL,
+        /** Continue from the oldest change still in the ring; the gap shows in the sequence numbers. */
+        SKIP
+    }
+
+    /**
+     * The changes from {@code requestedSequence} up to {@code oldestAvailable} were overwritten
+     * before the subscriber asked for them. Reload from the service, then resume from the feed.
+     */
+    public static final class FellBehindException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long requestedSequence;
+        private final long oldestAvailable;
+
+        public FellBehindException(long requestedSequence, long oldestAvailable) {
+            super("Change " + requestedSequence + " is no longer held; the oldest is " + oldestAvailable);
+            this.requestedSequence = requestedSequence;
+            this.oldestAvailable = oldestAvailable;
+        }
+
+        public long requestedSequence() {
+            return requestedSequence;
+        }
+
+        public long oldestAvailable() {
+            return oldestAvailable;
+        }
+    }
+
+    private final AtomicReferenceArray<EmployeeChange> slots;
+    private final int mask;
+    private final SlowConsumerPolicy policy;
+    private final Executor executor;
+    private final AtomicLong lastSequence = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong overrun = new AtomicLong();
+    private final CopyOnWriteArrayList<ChangeSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public EmployeeChangeFeed(int capacity, SlowConsumerPolicy policy) {
+        this(capacity, policy, command -> Thread.ofVirtual().name("employee-changes").start(command));
+    }
+
+    /**
+     * @param capacity changes held for slow and resuming subscribers, rounded up to a power of two
+     */
+    public EmployeeChangeFeed(int capacity, SlowConsumerPolicy policy, Executor executor) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    /**
+     * Appends a change and wakes the subscriptions. Never blocks; with several writers the
+     * sequence order is the order in which they got here.
+     */
+    public EmployeeChange publish(EmployeeChange.Type type, long id, Employee before, Employee after) {
+        long sequence = lastSequence.incrementAndGet();
+        EmployeeChange change = new EmployeeChange(sequence, type, id, before, after, Instant.now());
+        int index = (int) (sequence & mask);
+        while (true) {
+            // a writer that stalled for a whole lap must not overwrite the newer change in its slot
+            EmployeeChange current = slots.get(index);
+            if (current != null && current.sequence() > sequence) {
+                break;
+            }
+            if (slots.compareAndSet(index, current, change)) {
+                break;
+            }
+        }
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+        return change;
+    }
+
+    /**
+     * Subscribes to changes published from now on.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super EmployeeChange> subscriber) {
+        subscribe(subscriber, lastSequence.get() + 1);
+    }
+
+    /**
+     * Subscribes starting with change {@code fromSequence}; pass one past the last sequence seen to
+     * resume. A sequence that has already left the ring is handled like a slow consumer.
+     */
+    public void subscribe(Flow.Subscriber<? super EmployeeChange> subscriber, long fromSequence) {
+        ChangeSubscription subscription = new ChangeSubscription(subscriber, Math.max(1, fromSequence));
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        subscription.signal();
+    }
+
+    public long lastSequence() {
+        return lastSequence.get();
+    }
+
+    /**
+     * The oldest sequence still held, or one past {@link #lastSequence()} when nothing is.
+     */
+    public long oldestSequence() {
+        return Math.max(1, lastSequence.get() - mask);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.changes.published", lastSequence, AtomicLong::get)
+                .description("Changes appended to the change feed")
+                .register(registry);
+        FunctionCounter.builder("employee.changes.skipped", skipped, AtomicLong::get)
+                .description("Changes slow subscribers never saw because the ring had moved past them")
+                .register(registry);
+        FunctionCounter.builder("employee.changes.overruns", overrun, AtomicLong::get)
+                .description("Subscriptions cancelled for falling behind")
+                .register(registry);
+        Gauge.builder("employee.changes.subscribers", subscriptions, CopyOnWriteArrayList::size)
+                .description("Active change feed subscriptions")
+                .register(registry);
+        Gauge.builder("employee.changes.lag", this, EmployeeChangeFeed::maxLag)
+                .description("Changes published but not yet delivered to the furthest-behind subscriber")
+                .register(registry);
+    }
+
+    /**
+     * Completes every subscription once it has delivered what was published before the call.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (ChangeSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    private double maxLag() {
+        long last = lastSequence.get();
+        long lag = 0;
+        for (ChangeSubscription subscription : subscriptions) {
+            lag = Math.max(lag, last + 1 - subscription.cursor);
+        }
+        return lag;
+    }
+
+    private final class ChangeSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super EmployeeChange> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile long cursor;
+        private volatile boolean done;
+        private volatile Throwable invalidRequest;
+
+        private ChangeSubscription(Flow.Subscriber<? super EmployeeChange> subscriber, long fromSequence) {
+            this.subscriber = subscriber;
+            this.cursor = fromSequence;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be positive, got " + n);
+            } else {
+                requested.getAndAccumulate(n, (current, extra) -> current + extra < 0 ? Long.MAX_VALUE
+                        : current + extra);
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            subscriptions.remove(this);
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Runs on one thread at a time: {@link #wip} counts the signals that arrived meanwhile, so
+         * a signal is never lost and the loop exits only once they are all accounted for.
+         */
+        private void drain() {
+            int missed = 1;
+            do {
+                long next = cursor;
+                long demand = requested.get();
+                long emitted = 0;
+                while (!done) {
+                    if (invalidRequest != null) {
+                        terminate(invalidRequest);
+                        return;
+                    }
+                    if (emitted == demand) {
+                        break;
+                    }
+                    EmployeeChange change = slots.get((int) (next & mask));
+                    if (change == null || change.sequence() < next) {
+                        break;
+                    }
+                    if (change.sequence() > next) {
+                        long oldest = oldestSequence();
+                        if (policy == SlowConsumerPolicy.CANCEL) {
+                            overrun.incrementAndGet();
+                            cursor = next;
+                            terminate(new FellBehindException(next, oldest));
+                            return;
+                        }
+                        skipped.addAndGet(Math.max(0, oldest - next));
+                        next = Math.max(next + 1, oldest);
+                        cursor = next;
+                        continue;
+                    }
+                    next++;
+                    cursor = next;
+                    emitted++;
+                    try {
+                        subscriber.onNext(change);
+                    } catch (RuntimeException e) {
+                        log.warn("Change feed subscriber {} threw from onNext; cancelling it", subscriber, e);
+                        cancel();
+                        return;
+                    }
+                }
+                if (emitted > 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (!done && closed && cursor > lastSequence.get()) {
+                    cancel();
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void terminate(Throwable error) {
+            cancel();
+            subscriber.onError(error);
+        }
+    }
+}
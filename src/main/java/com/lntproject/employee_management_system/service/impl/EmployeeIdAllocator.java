@@ -0,0 +1,141 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * Hands out employee ids that are unique across every shard without relying on any one
+ * database's {@code AUTO_INCREMENT}. Ids are claimed from a {@link BlockSource} in blocks of
+ * {@code blockSize} (hi/lo allocation), so the shared counter is touched once per block rather
+ * than once per row. Ids left in a block when the process stops are skipped, never reused.
+ *
+ * <p>Ids stay dense and increasing, so they keep fitting the {@code INT} key column and remain
+ * exact in JSON clients, which a time-based 64-bit scheme would not.
+ */
+public final class EmployeeIdAllocator {
+
+    private static final String SEQUENCE_NAME = "employees";
+
+    /**
+     * Reserves {@code size} consecutive ids and returns the first.
+     */
+    @FunctionalInterface
+    public interface BlockSource {
+        long claim(int size);
+    }
+
+    private final BlockSource source;
+    private final int blockSize;
+    private long next;
+    private long limit;
+
+    public EmployeeIdAllocator(BlockSource source, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive");
+        }
+        this.source = source;
+        this.blockSize = blockSize;
+    }
+
+    public synchronized long next() {
+        if (next == limit) {
+            refill(blockSize);
+        }
+        return next++;
+    }
+
+    /**
+     * Allocates {@code count} ids at once, claiming a block large enough for all of them when the
+     * current one runs out.
+     */
+    public synchronized long[] next(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            if (next == limit) {
+                refill(Math.max(blockSize, count - i));
+            }
+            ids[i] = next++;
+        }
+        return ids;
+    }
+
+    private void refill(int size) {
+        next = source.claim(size);
+        limit = next + size;
+    }
+
+    /**
+     * A process-local counter, for shards that are all in-memory partitions.
+     */
+    public static BlockSource inMemory(long firstId) {
+        AtomicLong counter = new AtomicLong(firstId);
+        return counter::getAndAdd;
+    }
+
+    /**
+     * A counter row in the {@code employee_id_sequence} table of {@code dataSource}, advanced under
+     * a row lock so any number of processes can share it. A missing row is created starting after
+     * the highest id already in that database's {@code employees} table.
+     */
+    public static BlockSource jdbc(DataSource dataSource) {
+        return size -> claim(dataSource, size);
+    }
+
+    private static long claim(DataSource dataSource, int size) {
+        try (Connection conn = dataSource.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                long first = lockedNext(conn);
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "UPDATE employee_id_sequence SET next_id = ? WHERE sequence_name = ?")) {
+                    pstmt.setLong(1, first + size);
+                    pstmt.setString(2, SEQUENCE_NAME);
+                    pstmt.executeUpdate();
+                }
+                conn.commit();
+                return first;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error allocating employee ids: " + e.getMessage(), e);
+        }
+    }
+
+    private static long lockedNext(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT next_id FROM employee_id_sequence WHERE sequence_name = ? FOR UPDATE")) {
+            pstmt.setString(1, SEQUENCE_NAME);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getLong(1);
+                }
+            }
+        }
+        // First claim against this database. A concurrent first claim makes one of the two inserts
+        // fail on the primary key; that caller's transaction is rolled back and the error surfaced.
+        long first;
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT COALESCE(MAX(employee_id), 0) + 1 FROM employees");
+             ResultSet rs = pstmt.executeQuery()) {
+            rs.next();
+            first = rs.getLong(1);
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO employee_id_sequence (sequence_name, next_id) VALUES (?, ?)")) {
+            pstmt.setString(1, SEQUENCE_NAME);
+            pstmt.setLong(2, first);
+            pstmt.executeUpdate();
+        }
+        return first;
+    }
+}
@@ -0,0 +1,472 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Append-only write-ahead log of employee mutations, split into segment files named after the
+ * first sequence number they hold.
+ *
+ * <p>Every record is framed as {@code [length][crc32][payload]}, so a record torn by a crash is
+ * detected on replay and cut off the end of the last segment. With a zero {@code fsyncInterval}
+ * callers block in {@link #awaitDurable(long)} until their record is forced to disk; concurrent
+ * callers share one {@code force} (group commit). With a positive interval a background thread
+ * forces the log periodically and writers only wait for the OS write.
+ */
+final class EmployeeJournal implements Closeable {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+    /** Full-row put; {@link #PUT} records from older journals only carry the name and email. */
+    static final byte PUT_FULL = 3;
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int MAX_PAYLOAD_BYTES = 1 << 20;
+
+    private final Path directory;
+    private final boolean syncOnCommit;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition syncFinished = syncLock.newCondition();
+    private final ScheduledExecutorService periodicSync;
+
+    private FileChannel channel;
+    private ByteBuffer frame = ByteBuffer.allocate(512);
+    private long nextSequence;
+    private volatile long appendedSequence;
+    private long durableSequence;
+    private boolean syncInProgress;
+    private volatile IOException failure;
+
+    private final AtomicLong appendedRecords = new AtomicLong();
+    private final AtomicLong appendedBytes = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+    private final AtomicLong syncNanos = new AtomicLong();
+
+    interface RecordHandler {
+
+        void put(long sequence, Employee employee);
+
+        void delete(long sequence, long id);
+    }
+
+    EmployeeJournal(Path directory, long firstSequence, Duration fsyncInterval) throws IOException {
+        this.directory = directory;
+        this.nextSequence = firstSequence;
+        this.appendedSequence = firstSequence - 1;
+        this.durableSequence = firstSequence - 1;
+        this.syncOnCommit = fsyncInterval == null || fsyncInterval.isZero() || fsyncInterval.isNegative();
+        Files.createDirectories(directory);
+        this.channel = openSegment(firstSequence);
+        if (syncOnCommit) {
+            this.periodicSync = null;
+        } else {
+            this.periodicSync = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "employee-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalNanos = fsyncInterval.toNanos();
+            periodicSync.scheduleWithFixedDelay(this::syncQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Replays every record with a sequence above {@code afterSequence} and returns the highest
+     * sequence found (or {@code afterSequence} if there is none). A torn or corrupt tail of the
+     * last segment is truncated; damage in an earlier segment is an error.
+     */
+    static long replay(Path directory, long afterSequence, RecordHandler handler) throws IOException {
+        List<Path> segments = segments(directory);
+        long lastSequence = afterSequence;
+        for (int i = 0; i < segments.size(); i++) {
+            lastSequence = replaySegment(segments.get(i), i == segments.size() - 1, afterSequence, lastSequence, handler);
+        }
+        return lastSequence;
+    }
+
+    long appendPut(Employee employee) {
+        byte[] firstName = bytes(employee.getFirstName());
+        byte[] lastName = bytes(employee.getLastName());
+        byte[] email = bytes(employee.getEmail());
+        byte[] department = bytes(employee.getDepartment());
+        byte[] position = bytes(employee.getPosition());
+        byte[] salary = bytes(employee.getSalary() == null ? null : employee.getSalary().toPlainString());
+        long hireDate = employee.getHireDate() == null ? NO_DATE : employee.getHireDate().toEpochDay();
+        int payload = 1 + 8 + 8 + stringBytes(firstName) + stringBytes(lastName) + stringBytes(email)
+                + stringBytes(department) + stringBytes(position) + stringBytes(salary) + 8;
+
+        appendLock.lock();
+        try {
+            ByteBuffer buffer = startFrame(payload);
+            long sequence = nextSequence;
+            buffer.put(PUT_FULL).putLong(sequence).putLong(employee.getId());
+            putString(buffer, firstName);
+            putString(buffer, lastName);
+            putString(buffer, email);
+            putString(buffer, department);
+            putString(buffer, position);
+            putString(buffer, salary);
+            buffer.putLong(hireDate);
+            return writeFrame(buffer, sequence);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    long appendDelete(long id) {
+        appendLock.lock();
+        try {
+            ByteBuffer buffer = startFrame(1 + 8 + 8);
+            long sequence = nextSequence;
+            buffer.put(DELETE).putLong(sequence).putLong(id);
+            return writeFrame(buffer, sequence);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until {@code sequence} is on disk when syncing on commit; the first waiter forces the
+     * log for everyone that appended before it started.
+     */
+    void awaitDurable(long sequence) {
+        checkHealthy();
+        if (!syncOnCommit) {
+            return;
+        }
+        while (true) {
+            long target;
+            syncLock.lock();
+            try {
+                while (durableSequence < sequence && syncInProgress) {
+                    syncFinished.awaitUninterruptibly();
+                }
+                if (durableSequence >= sequence) {
+                    return;
+                }
+                syncInProgress = true;
+                target = appendedSequence;
+            } finally {
+                syncLock.unlock();
+            }
+
+            boolean forced = false;
+            try {
+                force();
+                forced = true;
+            } finally {
+                syncLock.lock();
+                try {
+                    syncInProgress = false;
+                    if (forced) {
+                        durableSequence = Math.max(durableSequence, target);
+                    }
+                    syncFinished.signalAll();
+                } finally {
+                    syncLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts a new segment and returns the last sequence of the closed one; everything up to and
+     * including that sequence can be dropped once a snapshot of it exists.
+     */
+    long roll() {
+        syncLock.lock();
+        try {
+            while (syncInProgress) {
+                syncFinished.awaitUninterruptibly();
+            }
+            syncInProgress = true;
+        } finally {
+            syncLock.unlock();
+        }
+
+        long lastSequence = -1;
+        appendLock.lock();
+        try {
+            checkHealthy();
+            force();
+            channel.close();
+            channel = openSegment(nextSequence);
+            lastSequence = nextSequence - 1;
+            return lastSequence;
+        } catch (IOException e) {
+            throw fail(e);
+        } finally {
+            appendLock.unlock();
+            syncLock.lock();
+            try {
+                syncInProgress = false;
+                durableSequence = Math.max(durableSequence, lastSequence);
+                syncFinished.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments that only hold records up to {@code sequence}.
+     */
+    void deleteSegmentsThrough(long sequence) throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (firstSequence(segments.get(i + 1)) <= sequence + 1) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    long lastSequence() {
+        return appendedSequence;
+    }
+
+    long appendedRecords() {
+        return appendedRecords.get();
+    }
+
+    long appendedBytes() {
+        return appendedBytes.get();
+    }
+
+    long syncCount() {
+        return syncCount.get();
+    }
+
+    long syncNanos() {
+        return syncNanos.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (periodicSync != null) {
+            periodicSync.shutdownNow();
+        }
+        appendLock.lock();
+        try {
+            if (channel.isOpen()) {
+                if (failure == null) {
+                    channel.force(false);
+                }
+                channel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private ByteBuffer startFrame(int payloadBytes) {
+        checkHealthy();
+        int frameBytes = FRAME_HEADER_BYTES + payloadBytes;
+        if (frame.capacity() < frameBytes) {
+            frame = ByteBuffer.allocate(Math.max(frameBytes, frame.capacity() * 2));
+        }
+        frame.clear();
+        frame.position(FRAME_HEADER_BYTES);
+        return frame;
+    }
+
+    private long writeFrame(ByteBuffer buffer, long sequence) {
+        int payloadBytes = buffer.position() - FRAME_HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), FRAME_HEADER_BYTES, payloadBytes);
+        buffer.putInt(0, payloadBytes);
+        buffer.putInt(4, (int) crc.getValue());
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        nextSequence = sequence + 1;
+        appendedSequence = sequence;
+        appendedRecords.incrementAndGet();
+        appendedBytes.addAndGet(FRAME_HEADER_BYTES + payloadBytes);
+        return sequence;
+    }
+
+    private void force() {
+        long started = System.nanoTime();
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        syncCount.incrementAndGet();
+        syncNanos.addAndGet(System.nanoTime() - started);
+    }
+
+    private void syncQuietly() {
+        appendLock.lock();
+        try {
+            if (failure == null && channel.isOpen()) {
+                force();
+            }
+        } catch (RuntimeException e) {
+            // recorded in 'failure'; the next writer sees it
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void checkHealthy() {
+        IOException current = failure;
+        if (current != null) {
+            throw new IllegalStateException("Employee journal is unavailable after an I/O error: " + current.getMessage(), current);
+        }
+    }
+
+    private UncheckedIOException fail(IOException e) {
+        failure = e;
+        return new UncheckedIOException("Error writing employee journal: " + e.getMessage(), e);
+    }
+
+    private FileChannel openSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(SEGMENT_PREFIX + String.format("%020d", firstSequence) + SEGMENT_SUFFIX);
+        return FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long replaySegment(Path segment, boolean lastSegment, long afterSequence, long lastSequence,
+                                      RecordHandler handler) throws IOException {
+        long validBytes = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment), 1 << 16))) {
+            while (true) {
+                byte[] payload;
+                int expectedCrc;
+                try {
+                    int length = in.readInt();
+                    if (length <= 0 || length > MAX_PAYLOAD_BYTES) {
+                        break;
+                    }
+                    expectedCrc = in.readInt();
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    break;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+
+                ByteBuffer record = ByteBuffer.wrap(payload);
+                byte type = record.get();
+                long sequence = record.getLong();
+                long id = record.getLong();
+                if (sequence > afterSequence) {
+                    if (type == PUT) {
+                        handler.put(sequence, new Employee(id, getString(record), getString(record), getString(record)));
+                    } else if (type == PUT_FULL) {
+                        Employee employee = new Employee(id, getString(record), getString(record), getString(record));
+                        employee.setDepartment(getString(record));
+                        employee.setPosition(getString(record));
+                        String salary = getString(record);
+                        employee.setSalary(salary == null ? null : new BigDecimal(salary));
+                        long hireDate = record.getLong();
+                        employee.setHireDate(hireDate == NO_DATE ? null : LocalDate.ofEpochDay(hireDate));
+                        handler.put(sequence, employee);
+                    } else if (type == DELETE) {
+                        handler.delete(sequence, id);
+                    } else {
+                        throw new IOException("Unknown journal record type " + type + " in " + segment);
+                    }
+                    lastSequence = Math.max(lastSequence, sequence);
+                }
+                validBytes += FRAME_HEADER_BYTES + payload.length;
+            }
+        }
+
+        long size = Files.size(segment);
+        if (validBytes < size) {
+            if (!lastSegment) {
+                throw new IOException("Corrupt journal segment " + segment + " at offset " + validBytes);
+            }
+            try (FileChannel torn = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                torn.truncate(validBytes);
+                torn.force(true);
+            }
+        }
+        return lastSequence;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringBytes(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length).put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
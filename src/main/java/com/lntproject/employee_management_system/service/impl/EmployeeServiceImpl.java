@@ -1,37 +1,157 @@
 package com.lntproject.employee_management_system.service.impl;
 
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
 import org.springframework.stereotype.Service;
 
 import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.DepartmentStats;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
 import com.lntproject.employee_management_system.service.EmployeeService;
 import com.lntproject.employee_management_system.util.DBConnection;
 
-@Service
-public class EmployeeServiceImpl implements EmployeeService {
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Service("employeeStore")
+@ConditionalOnProperty(name = "app.store.type", havingValue = "jdbc", matchIfMissing = true)
+@DependsOnDatabaseInitialization
+public class EmployeeServiceImpl implements EmployeeService, MeterBinder {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int DEFAULT_IN_LIST_SIZE = 256;
+    private static final int DEFAULT_MULTI_GET_PARALLELISM = 4;
+    private static final String INSERT_SQL = "INSERT INTO employees "
+            + "(first_name, last_name, email, department, position, salary, hire_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    // For rows whose id was assigned by the caller (restores, and ShardedEmployeeService's allocator)
+    private static final String INSERT_WITH_ID_SQL = "INSERT INTO employees (employee_id, first_name, last_name, "
+            + "email, department, position, salary, hire_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE employees SET first_name = ?, last_name = ?, email = ?, "
+            + "department = ?, position = ?, salary = ?, hire_date = ? WHERE employee_id = ?";
+    // employee_id = LAST_INSERT_ID(employee_id) makes the generated key the existing row's id
+    // when the email is already taken, so both outcomes are answered by the one statement.
+    private static final String UPSERT_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE "
+            + "employee_id = LAST_INSERT_ID(employee_id), first_name = VALUES(first_name), "
+            + "last_name = VALUES(last_name), email = VALUES(email), department = VALUES(department), "
+            + "position = VALUES(position), salary = VALUES(salary), hire_date = VALUES(hire_date)";
+    private static final String SELECT_COLUMNS = "SELECT employee_id, first_name, last_name, email, "
+            + "department, position, salary, hire_date FROM employees";
+    private static final int MYSQL_DUPLICATE_KEY = 1062;
+    private static final String SQLSTATE_UNIQUE_VIOLATION = "23505";
+
+    private final ReadWriteRouting routing;
+    private final int batchSize;
+    private final int fetchSize;
+    private final int inListSize;
+    private final int multiGetParallelism;
+    private final JdbcTimings timings = new JdbcTimings();
+
+    public EmployeeServiceImpl() {
+        this(DBConnection.getDataSource());
+    }
+
+    public EmployeeServiceImpl(DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_SIZE, DEFAULT_FETCH_SIZE);
+    }
+
+    public EmployeeServiceImpl(DataSource dataSource, int batchSize, int fetchSize) {
+        this(dataSource, batchSize, fetchSize, DEFAULT_IN_LIST_SIZE, DEFAULT_MULTI_GET_PARALLELISM);
+    }
+
+    public EmployeeServiceImpl(DataSource dataSource, int batchSize, int fetchSize, int inListSize,
+                               int multiGetParallelism) {
+        this(ReadWriteRouting.primaryOnly(dataSource), batchSize, fetchSize, inListSize, multiGetParallelism);
+    }
+
+    /**
+     * Runs writes on the routing's primary and reads wherever it sends them; see
+     * {@link ReadWriteRouting}.
+     */
+    @Autowired
+    public EmployeeServiceImpl(ReadWriteRouting routing,
+                               @Value("${app.jdbc.batch-size:500}") int batchSize,
+                               @Value("${app.jdbc.fetch-size:1000}") int fetchSize,
+                               @Value("${app.jdbc.in-list-size:256}") int inListSize,
+                               @Value("${app.jdbc.multi-get-parallelism:4}") int multiGetParallelism) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("app.jdbc.batch-size must be positive");
+        }
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("app.jdbc.fetch-size must be positive");
+        }
+        if (inListSize <= 0) {
+            throw new IllegalArgumentException("app.jdbc.in-list-size must be positive");
+        }
+        if (multiGetParallelism <= 0) {
+            throw new IllegalArgumentException("app.jdbc.multi-get-parallelism must be positive");
+        }
+        this.routing = routing;
+        this.batchSize = batchSize;
+        this.fetchSize = fetchSize;
+        this.inListSize = inListSize;
+        this.multiGetParallelism = multiGetParallelism;
+    }
 
+    /**
+     * Inserts the row under {@code employee}'s id when it has one, otherwise under a generated id.
+     */
     @Override
     public Employee createEmployee(Employee employee) {
-        String sql = "INSERT INTO employees (first_name, last_name, email) VALUES (?, ?, ?)";
-        
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        boolean explicitId = employee.getId() != null;
+        try (Connection conn = connect("createEmployee");
+             PreparedStatement pstmt = explicitId
+                     ? conn.prepareStatement(INSERT_WITH_ID_SQL)
+                     : conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
             
-            pstmt.setString(1, employee.getFirstName());
-            pstmt.setString(2, employee.getLastName());
-            pstmt.setString(3, employee.getEmail());
+            bindInsert(pstmt, employee, explicitId);
             
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = timings.execute("createEmployee", pstmt::executeUpdate);
             
-            if (rowsAffected > 0) {
+            if (rowsAffected > 0 && !explicitId) {
                 try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
                     if (generatedKeys.next()) {
                         employee.setId(generatedKeys.getLong(1));
@@ -42,28 +162,151 @@ public class EmployeeServiceImpl implements EmployeeService {
             return employee;
             
         } catch (SQLException e) {
+            if (isDuplicateKey(e)) {
+                throw new DuplicateEmailException("Error creating employee: " + e.getMessage(), e);
+            }
             throw new RuntimeException("Error creating employee: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Inserts the rows in chunks of {@code app.jdbc.batch-size}, one transaction per chunk.
+     * When a chunk's batch is rejected (for example a duplicate email), the chunk is rolled
+     * back and replayed row by row behind savepoints so only the offending rows fail. Rows that
+     * already carry an id are inserted under it, in batches of their own.
+     */
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        Long[] ids = new Long[rows.size()];
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+        List<Integer> generated = new ArrayList<>(rows.size());
+        List<Integer> explicit = new ArrayList<>();
+        for (int index = 0; index < rows.size(); index++) {
+            Employee employee = rows.get(index);
+            if (employee == null) {
+                failures.add(new BulkCreateResult.Failure(index, null, "Employee cannot be null"));
+            } else {
+                (employee.getId() == null ? generated : explicit).add(index);
+            }
+        }
+
+        try (Connection conn = connect("createEmployees")) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                if (!generated.isEmpty()) {
+                    try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                        insertChunks(conn, pstmt, false, rows, generated, ids, failures);
+                    }
+                }
+                if (!explicit.isEmpty()) {
+                    try (PreparedStatement pstmt = conn.prepareStatement(INSERT_WITH_ID_SQL)) {
+                        insertChunks(conn, pstmt, true, rows, explicit, ids, failures);
+                    }
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error creating employees: " + e.getMessage(), e);
+        }
+
+        failures.sort(Comparator.comparingInt(BulkCreateResult.Failure::index));
+        return new BulkCreateResult(Arrays.asList(ids), failures);
+    }
+
+    private void insertChunks(Connection conn, PreparedStatement pstmt, boolean explicitIds, List<Employee> rows,
+                              List<Integer> indexes, Long[] ids, List<BulkCreateResult.Failure> failures)
+            throws SQLException {
+        for (int start = 0; start < indexes.size(); start += batchSize) {
+            List<Integer> chunk = indexes.subList(start, Math.min(start + batchSize, indexes.size()));
+            insertChunk(conn, pstmt, explicitIds, rows, chunk, ids, failures);
+        }
+    }
+
+    private void insertChunk(Connection conn, PreparedStatement pstmt, boolean explicitIds, List<Employee> rows,
+                             List<Integer> batched, Long[] ids, List<BulkCreateResult.Failure> failures)
+            throws SQLException {
+        for (int index : batched) {
+            bindInsert(pstmt, rows.get(index), explicitIds);
+            pstmt.addBatch();
+        }
+
+        Map<Integer, Long> inserted = new LinkedHashMap<>();
+        try {
+            timings.execute("createEmployees", pstmt::executeBatch);
+            if (explicitIds) {
+                batched.forEach(index -> inserted.put(index, rows.get(index).getId()));
+            } else {
+                try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                    for (int index : batched) {
+                        if (!generatedKeys.next()) {
+                            break;
+                        }
+                        inserted.put(index, generatedKeys.getLong(1));
+                    }
+                }
+            }
+        } catch (BatchUpdateException e) {
+            conn.rollback();
+            pstmt.clearBatch();
+            inserted.clear();
+            inserted.putAll(insertRowByRow(conn, pstmt, explicitIds, rows, batched, failures));
+        }
+        conn.commit();
+
+        inserted.forEach((index, id) -> {
+            rows.get(index).setId(id);
+            ids[index] = id;
+        });
+    }
+
+    private Map<Integer, Long> insertRowByRow(Connection conn, PreparedStatement pstmt, boolean explicitIds,
+                                              List<Employee> rows, List<Integer> indexes,
+                                              List<BulkCreateResult.Failure> failures) throws SQLException {
+        Map<Integer, Long> inserted = new LinkedHashMap<>();
+        for (int index : indexes) {
+            Employee employee = rows.get(index);
+            Savepoint savepoint = conn.setSavepoint();
+            try {
+                bindInsert(pstmt, employee, explicitIds);
+                timings.execute("createEmployees", pstmt::executeUpdate);
+                if (explicitIds) {
+                    inserted.put(index, employee.getId());
+                } else {
+                    try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            inserted.put(index, generatedKeys.getLong(1));
+                        }
+                    }
+                }
+                conn.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                conn.rollback(savepoint);
+                failures.add(new BulkCreateResult.Failure(index, employee, e.getMessage()));
+            }
+        }
+        return inserted;
+    }
+
     @Override
     public List<Employee> getAllEmployees() {
         List<Employee> employees = new ArrayList<>();
         String sql = "SELECT * FROM employees";
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = connectForRead("getAllEmployees");
              Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+             ResultSet rs = timings.execute("getAllEmployees", () -> stmt.executeQuery(sql))) {
             
+            long mapping = System.nanoTime();
             while (rs.next()) {
-                Employee employee = new Employee();
-                employee.setId(rs.getLong("employee_id"));
-                employee.setFirstName(rs.getString("first_name"));
-                employee.setLastName(rs.getString("last_name"));
-                employee.setEmail(rs.getString("email"));
-                
-                employees.add(employee);
+                employees.add(mapRow(rs));
             }
+            timings.record("getAllEmployees", JdbcTimings.MAP, mapping);
             
         } catch (SQLException e) {
             throw new RuntimeException("Error retrieving employees: " + e.getMessage(), e);
@@ -72,55 +315,239 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employees;
     }
 
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        String sql = SELECT_COLUMNS + " WHERE employee_id > ? ORDER BY employee_id LIMIT ?";
+
+        try (Connection conn = connectForRead("getEmployeePage");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setLong(1, afterId);
+            pstmt.setInt(2, limit + 1);
+
+            List<Employee> employees = new ArrayList<>(limit);
+            boolean hasMore = false;
+            try (ResultSet rs = timings.execute("getEmployeePage", pstmt::executeQuery)) {
+                long mapping = System.nanoTime();
+                while (rs.next()) {
+                    if (employees.size() == limit) {
+                        hasMore = true;
+                        break;
+                    }
+                    employees.add(mapRow(rs));
+                }
+                timings.record("getEmployeePage", JdbcTimings.MAP, mapping);
+            }
+            Long nextAfterId = hasMore ? employees.get(employees.size() - 1).getId() : null;
+            return new EmployeePage(employees, nextAfterId);
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error retrieving employee page: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+        try {
+            conn = connectForRead("streamEmployees");
+            pstmt = conn.prepareStatement(SELECT_COLUMNS + " ORDER BY employee_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(fetchSize);
+            rs = timings.execute("streamEmployees", pstmt::executeQuery);
+        } catch (SQLException e) {
+            RuntimeException failure = new RuntimeException("Error streaming employees: " + e.getMessage(), e);
+            try {
+                closeAll(rs, pstmt, conn);
+            } catch (RuntimeException closeFailure) {
+                failure.addSuppressed(closeFailure);
+            }
+            throw failure;
+        }
+
+        ResultSet cursor = rs;
+        long[] mappingNanos = new long[1];
+        Spliterator<Employee> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Employee> action) {
+                long started = System.nanoTime();
+                Employee employee;
+                try {
+                    if (!cursor.next()) {
+                        return false;
+                    }
+                    employee = mapRow(cursor);
+                } catch (SQLException e) {
+                    throw new RuntimeException("Error streaming employees: " + e.getMessage(), e);
+                } finally {
+                    mappingNanos[0] += System.nanoTime() - started;
+                }
+                action.accept(employee);
+                return true;
+            }
+        };
+        PreparedStatement statement = pstmt;
+        Connection connection = conn;
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            timings.recordNanos("streamEmployees", JdbcTimings.MAP, mappingNanos[0]);
+            closeAll(cursor, statement, connection);
+        });
+    }
+
     @Override
     public Optional<Employee> getEmployeeById(long id) {
         String sql = "SELECT * FROM employees WHERE employee_id = ?";
         
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = connectForRead("getEmployeeById");
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             
             pstmt.setLong(1, id);
             
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    Employee employee = new Employee();
-                    employee.setId(rs.getLong("employee_id"));
-                    employee.setFirstName(rs.getString("first_name"));
-                    employee.setLastName(rs.getString("last_name"));
-                    employee.setEmail(rs.getString("email"));
-                    return Optional.of(employee);
-                }
+            try (ResultSet rs = timings.execute("getEmployeeById", pstmt::executeQuery)) {
+                return mapSingle("getEmployeeById", rs);
             }
             
         } catch (SQLException e) {
             throw new RuntimeException("Error retrieving employee by ID: " + e.getMessage(), e);
         }
-        
-        return Optional.empty();
     }
 
+    /**
+     * Sorts the distinct ids and looks them up with {@code IN (...)} queries of at most
+     * {@code app.jdbc.in-list-size} ids, so each query is one primary-key range. The last chunk is
+     * padded to a power of two by repeating its last id: only a handful of statement shapes ever
+     * exist, and a connection prepares each shape once however many chunks it runs. Lookups that
+     * span several chunks are spread over up to {@code app.jdbc.multi-get-parallelism} pooled
+     * connections, each driven by its own virtual thread.
+     */
     @Override
-    public Optional<Employee> updateEmployee(long id, Employee employee) {
-        if (employee == null) throw new IllegalArgumentException("Employee cannot be null");
-        if (id <= 0) throw new IllegalArgumentException("Invalid id");
-        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
-            throw new IllegalArgumentException("firstName is required");
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        if (distinct.isEmpty()) {
+            return new LinkedHashMap<>();
         }
-        if (employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
-            throw new IllegalArgumentException("email is required");
+        long[] sorted = distinct.stream().mapToLong(Long::longValue).sorted().toArray();
+        List<long[]> chunks = new ArrayList<>();
+        for (int from = 0; from < sorted.length; from += inListSize) {
+            int length = Math.min(inListSize, sorted.length - from);
+            long[] chunk = new long[Math.min(inListSize, paddedLength(length))];
+            System.arraycopy(sorted, from, chunk, 0, length);
+            Arrays.fill(chunk, length, chunk.length, chunk[length - 1]);
+            chunks.add(chunk);
         }
 
-        String sql = "UPDATE employees SET first_name = ?, last_name = ?, email = ? WHERE employee_id = ?";
+        JdbcTimings.SqlCall<Connection> reader = routing.reader();
+        int workers = Math.min(multiGetParallelism, chunks.size());
+        Map<Long, Employee> rows;
+        if (workers == 1) {
+            rows = fetchChunks(reader, chunks);
+        } else {
+            List<List<long[]>> assignments = new ArrayList<>(workers);
+            for (int worker = 0; worker < workers; worker++) {
+                assignments.add(new ArrayList<>());
+            }
+            for (int index = 0; index < chunks.size(); index++) {
+                assignments.get(index % workers).add(chunks.get(index));
+            }
+            rows = new HashMap<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Map<Long, Employee>>> results = new ArrayList<>(workers);
+                for (List<long[]> assignment : assignments) {
+                    results.add(executor.submit(() -> fetchChunks(reader, assignment)));
+                }
+                for (Future<Map<Long, Employee>> result : results) {
+                    rows.putAll(result.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while retrieving employees by ID", e);
+            } catch (ExecutionException e) {
+                // fetchChunks only throws unchecked exceptions
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw (RuntimeException) e.getCause();
+            }
+        }
 
-        try (Connection conn = DBConnection.getConnection();
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : distinct) {
+            Employee employee = rows.get(id);
+            if (employee != null) {
+                found.put(id, employee);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        String sql = SELECT_COLUMNS + " WHERE email = ?";
+
+        try (Connection conn = connectForRead("findByEmail");
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-            pstmt.setString(1, employee.getFirstName());
-            pstmt.setString(2, employee.getLastName());
-            pstmt.setString(3, employee.getEmail());
-            pstmt.setLong(4, id);
+            pstmt.setString(1, email.trim());
+
+            try (ResultSet rs = timings.execute("findByEmail", pstmt::executeQuery)) {
+                return mapSingle("findByEmail", rs);
+            }
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error retrieving employee by email: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        // Served by idx_employees_last_name: a LIKE with only a trailing wildcard is an index range scan.
+        String sql = SELECT_COLUMNS + " WHERE last_name LIKE ? ESCAPE '!' ORDER BY last_name, employee_id LIMIT ?";
+
+        try (Connection conn = connectForRead("findByLastNamePrefix");
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, escapeLike(prefix == null ? "" : prefix.trim()) + "%");
+            pstmt.setInt(2, limit);
+
+            List<Employee> employees = new ArrayList<>();
+            try (ResultSet rs = timings.execute("findByLastNamePrefix", pstmt::executeQuery)) {
+                long mapping = System.nanoTime();
+                while (rs.next()) {
+                    employees.add(mapRow(rs));
+                }
+                timings.record("findByLastNamePrefix", JdbcTimings.MAP, mapping);
+            }
+            return employees;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error retrieving employees by last name: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        EmployeeService.requireValidUpdate(id, employee);
+
+        try (Connection conn = connect("updateEmployee");
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
 
-            int rowsAffected = pstmt.executeUpdate();
+            bindInsert(pstmt, employee);
+            pstmt.setLong(8, id);
+
+            int rowsAffected = timings.execute("updateEmployee", pstmt::executeUpdate);
 
             if (rowsAffected > 0) {
                 employee.setId(id);
@@ -128,12 +555,229 @@ public class EmployeeServiceImpl implements EmployeeService {
             }
 
         } catch (SQLException e) {
+            if (isDuplicateKey(e)) {
+                throw new DuplicateEmailException("Error updating employee: " + e.getMessage(), e);
+            }
             throw new RuntimeException("Error updating employee: " + e.getMessage(), e);
         }
 
         return Optional.empty();
     }
 
+    /**
+     * Issues one UPDATE naming only the patched columns, then reads the row back by primary key on
+     * the same connection (MySQL has no UPDATE ... RETURNING). Callers no longer need to read the
+     * row before writing it, and concurrent changes to the other columns are not overwritten.
+     */
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Invalid id");
+        }
+        if (changes.isEmpty()) {
+            return getEmployeeById(id);
+        }
+        StringBuilder sql = new StringBuilder("UPDATE employees SET ");
+        for (EmployeePatch.Field field : changes.fields()) {
+            sql.append(column(field)).append(" = ?, ");
+        }
+        sql.setLength(sql.length() - 2);
+        sql.append(" WHERE employee_id = ?");
+
+        try (Connection conn = connect("patchEmployee");
+             PreparedStatement update = conn.prepareStatement(sql.toString());
+             PreparedStatement select = conn.prepareStatement(SELECT_COLUMNS + " WHERE employee_id = ?")) {
+
+            int index = 1;
+            for (EmployeePatch.Field field : changes.fields()) {
+                bindPatch(update, index++, field, changes.value(field));
+            }
+            update.setLong(index, id);
+            if (timings.execute("patchEmployee", update::executeUpdate) == 0) {
+                return Optional.empty();
+            }
+
+            select.setLong(1, id);
+            try (ResultSet rs = timings.execute("patchEmployee", select::executeQuery)) {
+                return mapSingle("patchEmployee", rs);
+            }
+
+        } catch (SQLException e) {
+            if (isDuplicateKey(e)) {
+                throw new DuplicateEmailException("Error patching employee: " + e.getMessage(), e);
+            }
+            throw new RuntimeException("Error patching employee: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * One {@code INSERT ... ON DUPLICATE KEY UPDATE} keyed on the UNIQUE email column, so the
+     * lookup and the write happen atomically in the database in a single round trip. Databases
+     * that do not report the existing row's id as the generated key get it from a lookup by
+     * email on the same connection.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        EmployeeService.requireValid(employee);
+
+        try (Connection conn = connect("upsertEmployee");
+             PreparedStatement pstmt = conn.prepareStatement(UPSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+
+            bindInsert(pstmt, employee);
+            timings.execute("upsertEmployee", pstmt::executeUpdate);
+
+            Long id = null;
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    id = generatedKeys.getLong(1);
+                }
+            }
+            if (id == null || id == 0) {
+                id = idByEmail(conn, employee.getEmail());
+            }
+            Employee stored = new Employee(employee);
+            stored.setId(id);
+            return stored;
+
+        } catch (SQLException e) {
+            throw new RuntimeException("Error upserting employee: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs {@code chunks} one after another on a single connection, preparing each chunk size once.
+     */
+    private Map<Long, Employee> fetchChunks(JdbcTimings.SqlCall<Connection> reader, List<long[]> chunks) {
+        Map<Long, Employee> rows = new HashMap<>();
+        Map<Integer, PreparedStatement> statements = new HashMap<>();
+        try (Connection conn = timings.connect(reader, "getEmployeesByIds")) {
+            try {
+                for (long[] chunk : chunks) {
+                    PreparedStatement pstmt = statements.get(chunk.length);
+                    if (pstmt == null) {
+                        pstmt = conn.prepareStatement(SELECT_COLUMNS + " WHERE employee_id IN ("
+                                + "?, ".repeat(chunk.length - 1) + "?)");
+                        statements.put(chunk.length, pstmt);
+                    }
+                    for (int i = 0; i < chunk.length; i++) {
+                        pstmt.setLong(i + 1, chunk[i]);
+                    }
+                    try (ResultSet rs = timings.execute("getEmployeesByIds", pstmt::executeQuery)) {
+                        long mapping = System.nanoTime();
+                        while (rs.next()) {
+                            Employee employee = mapRow(rs);
+                            rows.put(employee.getId(), employee);
+                        }
+                        timings.record("getEmployeesByIds", JdbcTimings.MAP, mapping);
+                    }
+                }
+            } finally {
+                closeAll(statements.values().toArray(AutoCloseable[]::new));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error retrieving employees by ID: " + e.getMessage(), e);
+        }
+        return rows;
+    }
+
+    private Long idByEmail(Connection conn, String email) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT employee_id FROM employees WHERE email = ?")) {
+            pstmt.setString(1, email);
+            try (ResultSet rs = timings.execute("upsertEmployee", pstmt::executeQuery)) {
+                if (!rs.next()) {
+                    throw new SQLException("Upserted employee not found by email " + email);
+                }
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Runs the updates as JDBC batches of {@code app.jdbc.batch-size}, one transaction per batch,
+     * so a burst of updates costs one round trip and one commit per batch instead of per row.
+     * A rejected batch is rolled back and replayed row by row behind savepoints, like
+     * {@link #createEmployees(Collection)}.
+     */
+    @Override
+    public BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+        List<Map.Entry<Long, Employee>> rows = new ArrayList<>(updates.entrySet());
+        List<Long> updated = new ArrayList<>();
+        List<BulkUpdateResult.Failure> failures = new ArrayList<>();
+
+        try (Connection conn = connect("updateEmployees")) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                for (int start = 0; start < rows.size(); start += batchSize) {
+                    int end = Math.min(start + batchSize, rows.size());
+                    updateChunk(conn, pstmt, rows.subList(start, end), updated, failures);
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error updating employees: " + e.getMessage(), e);
+        }
+        return new BulkUpdateResult(updated, failures);
+    }
+
+    private void updateChunk(Connection conn, PreparedStatement pstmt, List<Map.Entry<Long, Employee>> chunk,
+                             List<Long> updated, List<BulkUpdateResult.Failure> failures) throws SQLException {
+        List<Map.Entry<Long, Employee>> batched = new ArrayList<>(chunk.size());
+        for (Map.Entry<Long, Employee> row : chunk) {
+            if (row.getValue() == null) {
+                failures.add(new BulkUpdateResult.Failure(row.getKey(), null, "Employee cannot be null"));
+                continue;
+            }
+            bindInsert(pstmt, row.getValue());
+            pstmt.setLong(8, row.getKey());
+            pstmt.addBatch();
+            batched.add(row);
+        }
+        if (batched.isEmpty()) {
+            return;
+        }
+
+        List<Long> changed = new ArrayList<>(batched.size());
+        try {
+            int[] counts = timings.execute("updateEmployees", pstmt::executeBatch);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                    changed.add(batched.get(i).getKey());
+                }
+            }
+        } catch (BatchUpdateException e) {
+            conn.rollback();
+            pstmt.clearBatch();
+            changed = updateRowByRow(conn, pstmt, batched, failures);
+        }
+        conn.commit();
+        updated.addAll(changed);
+    }
+
+    private List<Long> updateRowByRow(Connection conn, PreparedStatement pstmt, List<Map.Entry<Long, Employee>> rows,
+                                      List<BulkUpdateResult.Failure> failures) throws SQLException {
+        List<Long> changed = new ArrayList<>();
+        for (Map.Entry<Long, Employee> row : rows) {
+            Savepoint savepoint = conn.setSavepoint();
+            try {
+                bindInsert(pstmt, row.getValue());
+                pstmt.setLong(8, row.getKey());
+                if (timings.execute("updateEmployees", pstmt::executeUpdate) > 0) {
+                    changed.add(row.getKey());
+                }
+                conn.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                conn.rollback(savepoint);
+                failures.add(new BulkUpdateResult.Failure(row.getKey(), row.getValue(), e.getMessage()));
+            }
+        }
+        return changed;
+    }
+
     @Override
     public boolean deleteEmployee(long id) {
         if (id <= 0) {
@@ -142,11 +786,11 @@ public class EmployeeServiceImpl implements EmployeeService {
 
         String sql = "DELETE FROM employees WHERE employee_id = ?";
 
-        try (Connection conn = DBConnection.getConnection();
+        try (Connection conn = connect("deleteEmployee");
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
             pstmt.setLong(1, id);
-            int rowsAffected = pstmt.executeUpdate();
+            int rowsAffected = timings.execute("deleteEmployee", pstmt::executeUpdate);
             return rowsAffected > 0;
 
         } catch (SQLException e) {
@@ -154,4 +798,184 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Computes the aggregates with two GROUP BY queries in one read-only transaction, so the
+     * database does the scanning and only one row per department and month crosses the wire.
+     */
+    @Override
+    public EmployeeAggregates getAggregates() {
+        String departmentSql = "SELECT department, COUNT(*) AS headcount, SUM(salary) AS total_salary, "
+                + "COUNT(salary) AS salaried FROM employees GROUP BY department";
+        String hiresSql = "SELECT YEAR(hire_date) AS hire_year, MONTH(hire_date) AS hire_month, COUNT(*) AS hires "
+                + "FROM employees WHERE hire_date IS NOT NULL GROUP BY YEAR(hire_date), MONTH(hire_date)";
+
+        try (Connection conn = connectForRead("getAggregates")) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                SortedMap<String, DepartmentStats> departments = new TreeMap<>();
+                try (ResultSet rs = timings.execute("getAggregates", () -> stmt.executeQuery(departmentSql))) {
+                    while (rs.next()) {
+                        String department = rs.getString("department");
+                        String key = department == null ? EmployeeAggregates.NO_DEPARTMENT : department;
+                        BigDecimal total = rs.getBigDecimal("total_salary");
+                        DepartmentStats stats = new DepartmentStats(key, rs.getLong("headcount"),
+                                total == null ? BigDecimal.ZERO : total, rs.getLong("salaried"));
+                        departments.merge(key, stats, (a, b) -> new DepartmentStats(key,
+                                a.headcount() + b.headcount(), a.totalSalary().add(b.totalSalary()),
+                                a.salariedHeadcount() + b.salariedHeadcount()));
+                    }
+                }
+                SortedMap<YearMonth, Long> hires = new TreeMap<>();
+                try (ResultSet rs = timings.execute("getAggregates", () -> stmt.executeQuery(hiresSql))) {
+                    while (rs.next()) {
+                        hires.put(YearMonth.of(rs.getInt("hire_year"), rs.getInt("hire_month")), rs.getLong("hires"));
+                    }
+                }
+                conn.commit();
+                return new EmployeeAggregates(departments, hires);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Error computing employee aggregates: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Publishes the per-phase {@code employee.jdbc} timers; see {@link JdbcTimings}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        timings.bindTo(registry);
+    }
+
+    /**
+     * A primary connection for a write; starts the caller's read-your-writes window.
+     */
+    private Connection connect(String operation) throws SQLException {
+        return timings.connect(routing.writer(), operation);
+    }
+
+    private Connection connectForRead(String operation) throws SQLException {
+        return timings.connect(routing.reader(), operation);
+    }
+
+    private Optional<Employee> mapSingle(String operation, ResultSet rs) throws SQLException {
+        long mapping = System.nanoTime();
+        Optional<Employee> employee = rs.next() ? Optional.of(mapRow(rs)) : Optional.empty();
+        timings.record(operation, JdbcTimings.MAP, mapping);
+        return employee;
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Employee employee) throws SQLException {
+        bindInsert(pstmt, employee, false);
+    }
+
+    /**
+     * Binds {@link #INSERT_SQL}, or {@link #INSERT_WITH_ID_SQL} when {@code withId} is set.
+     */
+    private void bindInsert(PreparedStatement pstmt, Employee employee, boolean withId) throws SQLException {
+        int first = 1;
+        if (withId) {
+            pstmt.setLong(first++, employee.getId());
+        }
+        pstmt.setString(first, employee.getFirstName());
+        pstmt.setString(first + 1, employee.getLastName());
+        pstmt.setString(first + 2, employee.getEmail());
+        pstmt.setString(first + 3, employee.getDepartment());
+        pstmt.setString(first + 4, employee.getPosition());
+        if (employee.getSalary() != null) {
+            pstmt.setBigDecimal(first + 5, employee.getSalary());
+        } else {
+            pstmt.setNull(first + 5, Types.DECIMAL);
+        }
+        if (employee.getHireDate() != null) {
+            pstmt.setObject(first + 6, employee.getHireDate());
+        } else {
+            pstmt.setNull(first + 6, Types.DATE);
+        }
+    }
+
+    private static String column(EmployeePatch.Field field) {
+        return switch (field) {
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case EMAIL -> "email";
+            case DEPARTMENT -> "department";
+            case POSITION -> "position";
+            case SALARY -> "salary";
+            case HIRE_DATE -> "hire_date";
+        };
+    }
+
+    private static void bindPatch(PreparedStatement pstmt, int index, EmployeePatch.Field field, Object value)
+            throws SQLException {
+        switch (field) {
+            case SALARY -> {
+                if (value != null) {
+                    pstmt.setBigDecimal(index, (BigDecimal) value);
+                } else {
+                    pstmt.setNull(index, Types.DECIMAL);
+                }
+            }
+            case HIRE_DATE -> {
+                if (value != null) {
+                    pstmt.setObject(index, value);
+                } else {
+                    pstmt.setNull(index, Types.DATE);
+                }
+            }
+            default -> pstmt.setString(index, (String) value);
+        }
+    }
+
+    private static int paddedLength(int length) {
+        return length == 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getErrorCode() == MYSQL_DUPLICATE_KEY || SQLSTATE_UNIQUE_VIOLATION.equals(e.getSQLState());
+    }
+
+    private void closeAll(AutoCloseable... resources) {
+        RuntimeException failure = null;
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = new RuntimeException("Error releasing JDBC resources: " + e.getMessage(), e);
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private Employee mapRow(ResultSet rs) throws SQLException {
+        Employee employee = new Employee();
+        employee.setId(rs.getLong("employee_id"));
+        employee.setFirstName(rs.getString("first_name"));
+        employee.setLastName(rs.getString("last_name"));
+        employee.setEmail(rs.getString("email"));
+        employee.setDepartment(rs.getString("department"));
+        employee.setPosition(rs.getString("position"));
+        employee.setSalary(rs.getBigDecimal("salary"));
+        employee.setHireDate(rs.getObject("hire_date", LocalDate.class));
+        return employee;
+    }
+}
@@ -0,0 +1,179 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.lntproject.employee_management_system.model.Employee;
+
+/**
+ * Compact binary snapshots of the in-memory store, named after the last journal sequence they
+ * cover. Files are written to a temporary name and atomically renamed, and carry a trailing CRC32
+ * so a damaged snapshot is skipped in favour of the previous one.
+ */
+final class EmployeeSnapshots {
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int MAGIC = 0x454D5053;
+    private static final int VERSION = 2;
+    private static final int VERSION_NAMES_ONLY = 1;
+    private static final int KEEP = 2;
+
+    private EmployeeSnapshots() {
+    }
+
+    static void write(Path directory, long sequence, Iterator<Employee> employees) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(fileName(sequence));
+        Path temporary = directory.resolve(fileName(sequence) + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(temporary);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            long count = 0;
+            while (employees.hasNext()) {
+                Employee employee = employees.next();
+                out.writeBoolean(true);
+                out.writeLong(employee.getId());
+                writeString(out, employee.getFirstName());
+                writeString(out, employee.getLastName());
+                writeString(out, employee.getEmail());
+                writeString(out, employee.getDepartment());
+                writeString(out, employee.getPosition());
+                writeString(out, employee.getSalary() == null ? null : employee.getSalary().toPlainString());
+                out.writeBoolean(employee.getHireDate() != null);
+                if (employee.getHireDate() != null) {
+                    out.writeLong(employee.getHireDate().toEpochDay());
+                }
+                count++;
+            }
+            out.writeBoolean(false);
+            out.writeLong(count);
+            out.flush();
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        List<Path> snapshots = snapshots(directory);
+        for (int i = 0; i < snapshots.size() - KEEP; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+
+    /**
+     * Loads the newest intact snapshot into {@code sink} and returns the journal sequence it
+     * covers, or an empty result when there is no usable snapshot.
+     */
+    static OptionalLong loadLatest(Path directory, Consumer<Employee> sink) throws IOException {
+        List<Path> snapshots = snapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path snapshot = snapshots.get(i);
+            if (isIntact(snapshot)) {
+                return OptionalLong.of(load(snapshot, sink));
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    private static boolean isIntact(Path snapshot) throws IOException {
+        long size = Files.size(snapshot);
+        if (size < 4) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshot), 1 << 16)) {
+            byte[] buffer = new byte[1 << 16];
+            long remaining = size - 4;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    return false;
+                }
+                crc.update(buffer, 0, read);
+                remaining -= read;
+            }
+            int stored = new DataInputStream(in).readInt();
+            return stored == (int) crc.getValue();
+        }
+    }
+
+    private static long load(Path snapshot, Consumer<Employee> sink) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot), 1 << 16))) {
+            int version = in.readInt() == MAGIC ? in.readInt() : -1;
+            if (version != VERSION && version != VERSION_NAMES_ONLY) {
+                throw new IOException("Unsupported snapshot format: " + snapshot);
+            }
+            long sequence = in.readLong();
+            while (in.readBoolean()) {
+                long id = in.readLong();
+                Employee employee = new Employee(id, readString(in), readString(in), readString(in));
+                if (version == VERSION) {
+                    employee.setDepartment(readString(in));
+                    employee.setPosition(readString(in));
+                    String salary = readString(in);
+                    employee.setSalary(salary == null ? null : new BigDecimal(salary));
+                    employee.setHireDate(in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null);
+                }
+                sink.accept(employee);
+            }
+            return sequence;
+        }
+    }
+
+    private static List<Path> snapshots(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String fileName(long sequence) {
+        return SNAPSHOT_PREFIX + String.format("%020d", sequence) + SNAPSHOT_SUFFIX;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeBoolean(false);
+        } else {
+            out.writeBoolean(true);
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
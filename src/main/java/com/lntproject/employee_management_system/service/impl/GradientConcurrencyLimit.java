@@ -0,0 +1,72 @@
+package com.lntproject.employee_management_system.service.impl;
+
+/**
+ * Concurrency limit that follows call latency, after the gradient limit of Netflix's
+ * concurrency-limits library. A fast moving average of latency (over about 10 samples) is compared
+ * with a slow one (about 600) that stands in for the latency without queueing. While the fast one
+ * stays within {@code TOLERANCE} of the slow one the limit grows by about sqrt(limit) per sample;
+ * once it rises above, the limit is scaled down by their ratio, at most halving per sample, and
+ * the change is smoothed so one slow call moves it only a little. A lasting improvement pulls the
+ * slow average down so the limit can grow again.
+ *
+ * <p>Samples taken while fewer than half the permits were in use leave the limit alone: they say
+ * nothing about how much more the backend could take. Not thread-safe; callers serialise samples.
+ */
+final class GradientConcurrencyLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double shortLatency;
+    private double longLatency;
+    private long samples;
+
+    GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between minLimit and maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Records one call that took {@code latencyNanos} and started with {@code inFlight} calls
+     * (itself included) holding a permit.
+     */
+    void sample(long latencyNanos, int inFlight) {
+        samples++;
+        shortLatency = average(shortLatency, latencyNanos, SHORT_WINDOW);
+        longLatency = average(longLatency, latencyNanos, LONG_WINDOW);
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+        if (inFlight < limit / 2 || shortLatency <= 0) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * A plain mean until {@code window} samples have been seen, then an exponential moving average
+     * with weight 2 / (window + 1).
+     */
+    private double average(double current, long sample, int window) {
+        double weight = samples <= window ? 1.0 / samples : 2.0 / (window + 1);
+        return current + (sample - current) * weight;
+    }
+}
@@ -0,0 +1,452 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Map-backed EmployeeService used when no database is configured.
+ *
+ * <p>The whole store is one immutable, versioned {@link Snapshot}: rows ordered by id, next to two
+ * secondary indexes, a unique index on the lower-cased email (mirroring the UNIQUE constraint in
+ * schema.sql) and an ordered index on (last name, id) for prefix range scans. All three are
+ * {@link PersistentSortedMap}s, so a write builds the next snapshot by copying only the O(log n)
+ * nodes on its path and shares everything else with the current one, then publishes it with a
+ * compare-and-set, retrying against the newer snapshot if another write got there first. Rows
+ * are immutable once stored and a row and its index entries always change in the same snapshot.
+ *
+ * <p>Reads never lock and every read method answers from a single snapshot, so a multi-row read
+ * such as {@link #getAllEmployees()} or {@link #streamEmployees()} sees one point in time however
+ * long it takes. {@link #snapshot()} hands that view out directly for callers that need several
+ * reads to agree. Returned employees are fresh, caller-owned objects built from the stored rows.
+ */
+public class InMemoryEmployeeService implements EmployeeService {
+
+    /** Rows a bulk create commits per snapshot, so a long batch cannot starve behind single writes. */
+    private static final int BULK_CHUNK = 256;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * The store as of the latest committed write. The snapshot never changes, however many
+     * writes follow.
+     */
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Long requestedId = employee.getId();
+        return write(change -> change.insert(requestedId != null ? requestedId : change.nextId, employee))
+                .toEmployee();
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        Long[] ids = new Long[rows.size()];
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += BULK_CHUNK) {
+            int from = start;
+            int to = Math.min(rows.size(), start + BULK_CHUNK);
+            failures.addAll(write(change -> {
+                List<BulkCreateResult.Failure> rejected = new ArrayList<>();
+                for (int index = from; index < to; index++) {
+                    Employee employee = rows.get(index);
+                    ids[index] = null;
+                    if (employee == null) {
+                        rejected.add(new BulkCreateResult.Failure(index, null, "Employee cannot be null"));
+                        continue;
+                    }
+                    try {
+                        ids[index] = change.insert(employee.getId() != null ? employee.getId() : change.nextId,
+                                employee).id();
+                    } catch (DuplicateEmailException e) {
+                        rejected.add(new BulkCreateResult.Failure(index, employee, e.getMessage()));
+                    }
+                }
+                return rejected;
+            }));
+        }
+        for (int index = 0; index < rows.size(); index++) {
+            if (ids[index] != null) {
+                rows.get(index).setId(ids[index]);
+            }
+        }
+        return new BulkCreateResult(Arrays.asList(ids), failures);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return current.get().getAllEmployees();
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        return current.get().getEmployeePage(afterId, limit);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return current.get().streamEmployees();
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return current.get().getEmployeeById(id);
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        return current.get().getEmployeesByIds(ids);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return current.get().findByEmail(email);
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        return current.get().findByLastNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        Row updated = write(change -> {
+            Row existing = change.rows.get(id);
+            return existing == null ? null : change.replace(existing, Row.of(id, employee));
+        });
+        return Optional.ofNullable(updated).map(Row::toEmployee);
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        Row patched = write(change -> {
+            Row existing = change.rows.get(id);
+            return existing == null ? null
+                    : change.replace(existing, Row.of(id, changes.applyTo(existing.toEmployee())));
+        });
+        return Optional.ofNullable(patched).map(Row::toEmployee);
+    }
+
+    /**
+     * Looks the email up and writes the row in the same snapshot, so no other writer can claim the
+     * email in between.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        if (employee == null || employee.getEmail() == null) {
+            throw new IllegalArgumentException("email is required");
+        }
+        return write(change -> {
+            Long owner = change.emails.get(normalizeEmail(employee.getEmail()));
+            Row existing = owner == null ? null : change.rows.get(owner);
+            if (existing == null) {
+                return change.insert(change.nextId, employee);
+            }
+            return change.replace(existing, Row.of(existing.id(), employee));
+        }).toEmployee();
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return write(change -> change.delete(id));
+    }
+
+    /**
+     * Replays a logged row during recovery. A fuzzy snapshot can already hold a newer row that owns
+     * this email; that row is dropped here and re-applied by its own, later log record.
+     */
+    void restore(Employee employee) {
+        write(change -> {
+            long id = employee.getId();
+            if (employee.getEmail() != null) {
+                Long owner = change.emails.get(normalizeEmail(employee.getEmail()));
+                if (owner != null && owner != id) {
+                    change.delete(owner);
+                }
+            }
+            return change.insert(id, employee);
+        });
+    }
+
+    /**
+     * Applies {@code update} to the current snapshot and publishes the result, starting over from
+     * the newer snapshot whenever another write commits first. {@code update} may therefore run
+     * more than once and must only touch the {@link Change} it is given; an update that changes
+     * nothing, or throws, publishes nothing.
+     */
+    private <T> T write(Function<Change, T> update) {
+        while (true) {
+            Snapshot base = current.get();
+            Change change = new Change(base);
+            T result = update.apply(change);
+            if (!change.changed || current.compareAndSet(base, change.commit())) {
+                return result;
+            }
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A consistent, read-only view of the store at one version. Holding a snapshot costs nothing
+     * beyond keeping alive the rows later writes have since replaced.
+     */
+    public static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(0, 1,
+                PersistentSortedMap.empty(Comparator.<Long>naturalOrder()),
+                PersistentSortedMap.empty(Comparator.<String>naturalOrder()),
+                PersistentSortedMap.empty(Comparator.<NameKey>naturalOrder()));
+
+        private final long version;
+        private final long nextId;
+        private final PersistentSortedMap<Long, Row> rows;
+        private final PersistentSortedMap<String, Long> emails;
+        private final PersistentSortedMap<NameKey, Long> lastNames;
+
+        private Snapshot(long version, long nextId, PersistentSortedMap<Long, Row> rows,
+                         PersistentSortedMap<String, Long> emails, PersistentSortedMap<NameKey, Long> lastNames) {
+            this.version = version;
+            this.nextId = nextId;
+            this.rows = rows;
+            this.emails = emails;
+            this.lastNames = lastNames;
+        }
+
+        /**
+         * The number of writes committed before this snapshot; each commit adds one.
+         */
+        public long version() {
+            return version;
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        public List<Employee> getAllEmployees() {
+            List<Employee> employees = new ArrayList<>(rows.size());
+            for (Iterator<Map.Entry<Long, Row>> it = rows.entries(null, true); it.hasNext(); ) {
+                employees.add(it.next().getValue().toEmployee());
+            }
+            return employees;
+        }
+
+        public EmployeePage getEmployeePage(long afterId, int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("limit must be positive");
+            }
+            List<Employee> employees = new ArrayList<>(Math.min(limit, rows.size()));
+            Iterator<Map.Entry<Long, Row>> it = rows.entries(afterId, false);
+            while (it.hasNext() && employees.size() < limit) {
+                employees.add(it.next().getValue().toEmployee());
+            }
+            Long nextAfterId = it.hasNext() ? employees.get(employees.size() - 1).getId() : null;
+            return new EmployeePage(employees, nextAfterId);
+        }
+
+        public Stream<Employee> streamEmployees() {
+            Iterator<Map.Entry<Long, Row>> it = rows.entries(null, true);
+            Spliterator<Map.Entry<Long, Row>> entries = Spliterators.spliteratorUnknownSize(it,
+                    Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            return StreamSupport.stream(entries, false).map(entry -> entry.getValue().toEmployee());
+        }
+
+        public Optional<Employee> getEmployeeById(long id) {
+            return Optional.ofNullable(rows.get(id)).map(Row::toEmployee);
+        }
+
+        public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+            Map<Long, Employee> found = new LinkedHashMap<>();
+            for (Long id : ids) {
+                if (id != null && !found.containsKey(id)) {
+                    Row row = rows.get(id);
+                    if (row != null) {
+                        found.put(id, row.toEmployee());
+                    }
+                }
+            }
+            return found;
+        }
+
+        public Optional<Employee> findByEmail(String email) {
+            if (email == null) {
+                return Optional.empty();
+            }
+            Long id = emails.get(normalizeEmail(email));
+            return id == null ? Optional.empty() : getEmployeeById(id);
+        }
+
+        public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("limit must be positive");
+            }
+            String from = normalizeName(prefix);
+            List<Employee> matches = new ArrayList<>(Math.min(limit, 64));
+            Iterator<Map.Entry<NameKey, Long>> it = lastNames.entries(new NameKey(from, Long.MIN_VALUE), true);
+            while (it.hasNext() && matches.size() < limit) {
+                Map.Entry<NameKey, Long> entry = it.next();
+                if (!entry.getKey().lastName().startsWith(from)) {
+                    break;
+                }
+                matches.add(rows.get(entry.getValue()).toEmployee());
+            }
+            return matches;
+        }
+    }
+
+    /**
+     * The next snapshot under construction: a working copy of one snapshot's maps that only the
+     * writing thread sees until {@link #commit()}.
+     */
+    private static final class Change {
+
+        private final Snapshot base;
+        private long nextId;
+        private PersistentSortedMap<Long, Row> rows;
+        private PersistentSortedMap<String, Long> emails;
+        private PersistentSortedMap<NameKey, Long> lastNames;
+        private boolean changed;
+
+        Change(Snapshot base) {
+            this.base = base;
+            this.nextId = base.nextId;
+            this.rows = base.rows;
+            this.emails = base.emails;
+            this.lastNames = base.lastNames;
+        }
+
+        Row insert(long id, Employee employee) {
+            Row row = Row.of(id, employee);
+            claimEmail(row);
+            Row replaced = rows.get(id);
+            rows = rows.put(row.id(), row);
+            reindex(replaced, row);
+            nextId = Math.max(nextId, id + 1);
+            changed = true;
+            return row;
+        }
+
+        Row replace(Row existing, Row updated) {
+            claimEmail(updated);
+            rows = rows.put(updated.id(), updated);
+            reindex(existing, updated);
+            changed = true;
+            return updated;
+        }
+
+        boolean delete(long id) {
+            Row removed = rows.get(id);
+            if (removed == null) {
+                return false;
+            }
+            rows = rows.remove(id);
+            reindex(removed, null);
+            changed = true;
+            return true;
+        }
+
+        Snapshot commit() {
+            return new Snapshot(base.version + 1, nextId, rows, emails, lastNames);
+        }
+
+        private void claimEmail(Row row) {
+            if (row.email() == null) {
+                return;
+            }
+            String email = normalizeEmail(row.email());
+            Long owner = emails.get(email);
+            if (owner == null) {
+                emails = emails.put(email, row.id());
+            } else if (!owner.equals(row.id())) {
+                throw new DuplicateEmailException(row.email());
+            }
+        }
+
+        /**
+         * Moves the index entries of {@code previous} (null on insert) over to {@code current} (null
+         * on delete). The email of {@code current} has already been claimed.
+         */
+        private void reindex(Row previous, Row current) {
+            if (previous != null && previous.email() != null) {
+                String previousEmail = normalizeEmail(previous.email());
+                String currentEmail = current == null || current.email() == null
+                        ? null : normalizeEmail(current.email());
+                Long owner = emails.get(previousEmail);
+                if (!previousEmail.equals(currentEmail) && previous.id().equals(owner)) {
+                    emails = emails.remove(previousEmail);
+                }
+            }
+            NameKey previousName = previous == null ? null : previous.nameKey();
+            NameKey currentName = current == null ? null : current.nameKey();
+            if (previousName != null && !previousName.equals(currentName)) {
+                lastNames = lastNames.remove(previousName);
+            }
+            if (currentName != null && !currentName.equals(previousName)) {
+                lastNames = lastNames.put(currentName, current.id());
+            }
+        }
+    }
+
+    /**
+     * A stored employee. Unlike {@link Employee} it cannot change, so snapshots can share it. The id
+     * is kept boxed so that the employees built from it share one Long instead of boxing anew.
+     */
+    private record Row(Long id, String firstName, String lastName, String email, String department,
+                       String position, BigDecimal salary, LocalDate hireDate) {
+
+        static Row of(long id, Employee employee) {
+            return new Row(id, employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                    employee.getDepartment(), employee.getPosition(), employee.getSalary(), employee.getHireDate());
+        }
+
+        Employee toEmployee() {
+            return new Employee(id, firstName, lastName, email, department, position, salary, hireDate);
+        }
+
+        NameKey nameKey() {
+            return new NameKey(normalizeName(lastName), id);
+        }
+    }
+
+    private record NameKey(String lastName, long id) implements Comparable<NameKey> {
+
+        @Override
+        public int compareTo(NameKey other) {
+            int byName = lastName.compareTo(other.lastName);
+            return byName != 0 ? byName : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Times every {@link EmployeeService} call as the caller sees it, whatever the backend.
+ *
+ * <p>Each operation gets an {@code employee.operation} timer (tagged {@code outcome} success or
+ * error) publishing p50/p99/p999 and its call count, from which throughput follows, plus an
+ * {@code employee.operation.rows} summary of the rows returned or written. Failures also
+ * increment {@code employee.operation.errors}, tagged with the exception type and, when a
+ * {@link SQLException} is in the cause chain, its SQLState and vendor error code. Calls slower
+ * than {@code slowThreshold} are logged; streams are measured until they are closed.
+ */
+public final class InstrumentedEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(InstrumentedEmployeeService.class);
+
+    private final long slowThresholdNanos;
+    private volatile MeterRegistry registry;
+    private volatile Meters[] meters;
+
+    public InstrumentedEmployeeService(EmployeeService delegate, Duration slowThreshold) {
+        super(delegate);
+        this.slowThresholdNanos = slowThreshold == null || slowThreshold.isZero() || slowThreshold.isNegative()
+                ? Long.MAX_VALUE
+                : slowThreshold.toNanos();
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        return observe(Operation.CREATE, employee == null ? null : employee.getEmail(),
+                () -> delegate.createEmployee(employee), created -> 1);
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        return observe(Operation.CREATE_ALL, employees.size() + " rows",
+                () -> delegate.createEmployees(employees), BulkCreateResult::createdCount);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return observe(Operation.GET_ALL, null, delegate::getAllEmployees, List::size);
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        return observe(Operation.GET_PAGE, "afterId=" + afterId,
+                () -> delegate.getEmployeePage(afterId, limit), page -> page.employees().size());
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        long started = System.nanoTime();
+        Stream<Employee> employees;
+        try {
+            employees = delegate.streamEmployees();
+        } catch (RuntimeException e) {
+            failed(Operation.STREAM, null, started, e);
+            throw e;
+        }
+        // Counted as rows are pulled from the source. A peek or map stage would be skipped by
+        // count() on a SIZED stream, so the wrapper drops SIZED as well.
+        long[] rows = new long[1];
+        Spliterator<Employee> source = employees.spliterator();
+        Spliterator<Employee> counted = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                source.characteristics() & ~(Spliterator.SIZED | Spliterator.SUBSIZED)) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Employee> action) {
+                return source.tryAdvance(employee -> {
+                    rows[0]++;
+                    action.accept(employee);
+                });
+            }
+        };
+        return StreamSupport.stream(counted, false)
+                .onClose(employees::close)
+                .onClose(() -> succeeded(Operation.STREAM, null, started, rows[0]));
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return observe(Operation.GET_BY_ID, "id=" + id, () -> delegate.getEmployeeById(id),
+                InstrumentedEmployeeService::count);
+    }
+
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        return observe(Operation.GET_BY_IDS, ids.size() + " ids", () -> delegate.getEmployeesByIds(ids), Map::size);
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        return observe(Operation.FIND_BY_EMAIL, email, () -> delegate.findByEmail(email),
+                InstrumentedEmployeeService::count);
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        return observe(Operation.FIND_BY_LAST_NAME, prefix, () -> delegate.findByLastNamePrefix(prefix, limit),
+                List::size);
+    }
+
+    @Override
+    public List<Employee> search(String query, int limit) {
+        return observe(Operation.SEARCH, query, () -> delegate.search(query, limit), List::size);
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        return observe(Operation.UPDATE, "id=" + id, () -> delegate.updateEmployee(id, employee),
+                InstrumentedEmployeeService::count);
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        return observe(Operation.PATCH, "id=" + id, () -> delegate.patchEmployee(id, changes),
+                InstrumentedEmployeeService::count);
+    }
+
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        return observe(Operation.UPSERT, employee == null ? null : employee.getEmail(),
+                () -> delegate.upsertEmployee(employee), stored -> 1);
+    }
+
+    @Override
+    public BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+        return observe(Operation.UPDATE_ALL, updates.size() + " rows", () -> delegate.updateEmployees(updates),
+                result -> result.updated().size());
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return observe(Operation.DELETE, "id=" + id, () -> delegate.deleteEmployee(id), deleted -> deleted ? 1 : 0);
+    }
+
+    @Override
+    public EmployeeAggregates getAggregates() {
+        return observe(Operation.AGGREGATES, null, delegate::getAggregates,
+                aggregates -> aggregates.departments().size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Meters[] bound = new Meters[Operation.values().length];
+        for (Operation operation : Operation.values()) {
+            bound[operation.ordinal()] = new Meters(registry, operation.tag);
+        }
+        this.registry = registry;
+        this.meters = bound;
+    }
+
+    private <T> T observe(Operation operation, Object detail, Supplier<T> call, ToLongFunction<T> rows) {
+        long started = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            failed(operation, detail, started, e);
+            throw e;
+        }
+        succeeded(operation, detail, started, rows.applyAsLong(result));
+        return result;
+    }
+
+    private void succeeded(Operation operation, Object detail, long started, long rows) {
+        long nanos = System.nanoTime() - started;
+        Meters bound = meters(operation);
+        if (bound != null) {
+            bound.success.record(nanos, TimeUnit.NANOSECONDS);
+            bound.rows.record(rows);
+        }
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow employee operation {} ({}) took {} ms and returned {} rows",
+                    operation.tag, detail, TimeUnit.NANOSECONDS.toMillis(nanos), rows);
+        }
+    }
+
+    private void failed(Operation operation, Object detail, long started, RuntimeException e) {
+        long nanos = System.nanoTime() - started;
+        Meters bound = meters(operation);
+        if (bound != null) {
+            bound.error.record(nanos, TimeUnit.NANOSECONDS);
+            SQLException sql = sqlCause(e);
+            Counter.builder("employee.operation.errors")
+                    .description("Failed EmployeeService calls by exception and SQL error code")
+                    .tag("operation", operation.tag)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .tag("sql.state", sql == null || sql.getSQLState() == null ? "none" : sql.getSQLState())
+                    .tag("error.code", sql == null ? "none" : Integer.toString(sql.getErrorCode()))
+                    .register(registry)
+                    .increment();
+        }
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow employee operation {} ({}) failed after {} ms: {}",
+                    operation.tag, detail, TimeUnit.NANOSECONDS.toMillis(nanos), e.toString());
+        }
+    }
+
+    private Meters meters(Operation operation) {
+        Meters[] bound = meters;
+        return bound == null ? null : bound[operation.ordinal()];
+    }
+
+    private static SQLException sqlCause(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql) {
+                return sql;
+            }
+        }
+        return null;
+    }
+
+    private static long count(Optional<?> result) {
+        return result.isPresent() ? 1 : 0;
+    }
+
+    private enum Operation {
+        CREATE("createEmployee"),
+        CREATE_ALL("createEmployees"),
+        GET_ALL("getAllEmployees"),
+        GET_PAGE("getEmployeePage"),
+        STREAM("streamEmployees"),
+        GET_BY_ID("getEmployeeById"),
+        GET_BY_IDS("getEmployeesByIds"),
+        FIND_BY_EMAIL("findByEmail"),
+        FIND_BY_LAST_NAME("findByLastNamePrefix"),
+        SEARCH("search"),
+        UPDATE("updateEmployee"),
+        UPDATE_ALL("updateEmployees"),
+        PATCH("patchEmployee"),
+        UPSERT("upsertEmployee"),
+        DELETE("deleteEmployee"),
+        AGGREGATES("getAggregates");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final class Meters {
+
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+
+        private Meters(MeterRegistry registry, String operation) {
+            this.success = timer(registry, operation, "success");
+            this.error = timer(registry, operation, "error");
+            this.rows = DistributionSummary.builder("employee.operation.rows")
+                    .description("Rows returned or written per EmployeeService call")
+                    .tag("operation", operation)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+            return Timer.builder("employee.operation")
+                    .description("EmployeeService call latency as seen by the caller")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(registry);
+        }
+    }
+}
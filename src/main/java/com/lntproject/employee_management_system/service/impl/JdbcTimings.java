@@ -0,0 +1,74 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Splits the time a JDBC operation spends into acquiring the connection, executing the statement
+ * and mapping the result set, as {@code employee.jdbc} timers tagged with the operation and the
+ * phase. Mapping includes fetching any rows beyond the first round trip. Nothing is recorded
+ * until a registry is bound.
+ */
+final class JdbcTimings {
+
+    static final String ACQUIRE = "acquire";
+    static final String EXECUTE = "execute";
+    static final String MAP = "map";
+
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    Connection connect(DataSource dataSource, String operation) throws SQLException {
+        return connect(dataSource::getConnection, operation);
+    }
+
+    Connection connect(SqlCall<Connection> opener, String operation) throws SQLException {
+        long started = System.nanoTime();
+        Connection conn = opener.call();
+        record(operation, ACQUIRE, started);
+        return conn;
+    }
+
+    <T> T execute(String operation, SqlCall<T> call) throws SQLException {
+        long started = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            record(operation, EXECUTE, started);
+        }
+    }
+
+    void record(String operation, String phase, long startedNanos) {
+        recordNanos(operation, phase, System.nanoTime() - startedNanos);
+    }
+
+    void recordNanos(String operation, String phase, long nanos) {
+        MeterRegistry bound = registry;
+        if (bound == null) {
+            return;
+        }
+        timers.computeIfAbsent(operation + '/' + phase, key -> Timer.builder("employee.jdbc")
+                        .description("Time EmployeeServiceImpl spends per JDBC phase")
+                        .tag("operation", operation)
+                        .tag("phase", phase)
+                        .publishPercentiles(0.5, 0.99, 0.999)
+                        .register(bound))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @FunctionalInterface
+    interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+}
@@ -0,0 +1,129 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing multimap from primitive {@code long} keys to non-negative {@code int} values,
+ * with no boxing and two flat arrays per table. The same key may map to several values (hash
+ * collisions in a hash-keyed index); callers disambiguate with the predicate passed to
+ * {@link #find(long, IntPredicate)}. Not thread-safe.
+ */
+final class LongIntHashIndex {
+
+    private static final int FREE = -1;
+    private static final int DELETED = -2;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int live;
+    private int occupied;
+
+    LongIntHashIndex() {
+        this(1024);
+    }
+
+    LongIntHashIndex(int expectedEntries) {
+        int capacity = 16;
+        while (capacity < expectedEntries * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    void put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("value must be non-negative");
+        }
+        if ((occupied + 1) * 4L > keys.length * 3L) {
+            rehash();
+        }
+        int i = slot(key);
+        while (values[i] >= 0) {
+            i = (i + 1) & mask;
+        }
+        if (values[i] == FREE) {
+            occupied++;
+        }
+        keys[i] = key;
+        values[i] = value;
+        live++;
+    }
+
+    int get(long key) {
+        return find(key, value -> true);
+    }
+
+    /**
+     * Returns the first value stored under {@code key} that {@code accept} agrees with, or -1.
+     */
+    int find(long key, IntPredicate accept) {
+        int i = slot(key);
+        while (values[i] != FREE) {
+            if (values[i] >= 0 && keys[i] == key && accept.test(values[i])) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    boolean remove(long key, int value) {
+        int i = slot(key);
+        while (values[i] != FREE) {
+            if (values[i] == value && keys[i] == key) {
+                values[i] = DELETED;
+                live--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return live;
+    }
+
+    long footprintBytes() {
+        return keys.length * (long) (Long.BYTES + Integer.BYTES);
+    }
+
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private int slot(long key) {
+        return (int) mix(key) & mask;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int capacity = oldKeys.length;
+        while ((live + 1) * 2L > capacity) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] >= 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, FREE);
+        mask = capacity - 1;
+        live = 0;
+        occupied = 0;
+    }
+}
@@ -0,0 +1,403 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Inverted index from character trigrams to the employees whose tokens contain them. Tokens are
+ * padded with a boundary marker, so {@code ann} yields {@code _an}, {@code ann} and {@code nn_}
+ * and a prefix or a word with one typo still shares most of its trigrams with the real one.
+ *
+ * <p>Each indexed employee gets a dense document number, and each trigram a posting list of
+ * document numbers in a growable {@code int[]}. Numbers are handed out in increasing order and a
+ * re-indexed employee gets a new one, so every list stays sorted by appending alone. Removed
+ * documents are only marked; once they make up half the index the lists are filtered and
+ * renumbered in one pass. Not thread-safe.
+ */
+final class NGramIndex {
+
+    private static final char BOUNDARY = 0;
+    private static final int COMPACT_MIN_DELETED = 1024;
+    /** Overlaps tried in turn, each floored at the caller's minimum. */
+    private static final double[] OVERLAPS = {0.7, 0.5, 0};
+    /** Candidate postings above 1/DENSE_FRACTION of the index are counted in a flat array. */
+    private static final int DENSE_FRACTION = 16;
+
+    private final LongIntHashIndex gramSlots = new LongIntHashIndex();
+    private LongIntHashIndex documents = new LongIntHashIndex();
+    private int[][] postings = new int[1024][];
+    private int[] postingSizes = new int[1024];
+    private int grams;
+    private long[] ids = new long[1024];
+    private int[] gramCounts = new int[1024];
+    private int size;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    /**
+     * Indexes (or re-indexes) employee {@code id} under {@code tokens}.
+     */
+    void put(long id, List<String> tokens) {
+        remove(id);
+        long[] keys = grams(tokens);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            gramCounts = Arrays.copyOf(gramCounts, size * 2);
+        }
+        int document = size++;
+        ids[document] = id;
+        gramCounts[document] = keys.length;
+        for (long key : keys) {
+            int slot = gramSlots.get(key);
+            if (slot < 0) {
+                slot = newGram(key);
+            }
+            append(slot, document);
+        }
+        documents.put(id, document);
+    }
+
+    boolean remove(long id) {
+        int document = documents.get(id);
+        if (document < 0) {
+            return false;
+        }
+        documents.remove(id, document);
+        deleted.set(document);
+        deletedCount++;
+        if (deletedCount >= COMPACT_MIN_DELETED && deletedCount * 2 >= size) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} employees sharing the most trigrams with
+     * {@code queryTokens}, relative to the trigrams on both sides (the Dice coefficient), best
+     * first. An employee must share at least {@code minOverlap} of the query's trigrams (and
+     * always at least one). Stricter overlaps are tried first and relaxed only while they leave
+     * fewer than {@code limit} employees, since a strict pass reads far fewer posting lists.
+     *
+     * <p>Only the posting lists that can still decide whether the minimum is reached are read in
+     * full: an employee with {@code t} of the query's {@code n} trigrams must appear in one of any
+     * {@code n - t + 1} of their lists, so candidates are collected from the shortest ones and
+     * the longer lists are only probed, by binary search, for those candidates.
+     */
+    long[] candidates(List<String> queryTokens, double minOverlap, int limit) {
+        long[] keys = grams(queryTokens);
+        if (keys.length > Short.MAX_VALUE) {
+            keys = Arrays.copyOf(keys, Short.MAX_VALUE);
+        }
+        Integer[] slots = new Integer[keys.length];
+        int found = 0;
+        for (long key : keys) {
+            int slot = gramSlots.get(key);
+            if (slot >= 0 && postingSizes[slot] > 0) {
+                slots[found++] = slot;
+            }
+        }
+        Arrays.sort(slots, 0, found, (a, b) -> Integer.compare(postingSizes[a], postingSizes[b]));
+
+        short[] dense = null;
+        long[] result = new long[0];
+        int previous = Integer.MAX_VALUE;
+        for (double overlap : OVERLAPS) {
+            int required = Math.max(1, (int) (keys.length * Math.max(overlap, minOverlap)));
+            if (required >= previous) {
+                continue;
+            }
+            previous = required;
+            int scanned = found - required + 1;
+            if (scanned <= 0) {
+                continue;
+            }
+            long expected = 0;
+            for (int i = 0; i < scanned; i++) {
+                expected += postingSizes[slots[i]];
+            }
+            if (expected * DENSE_FRACTION > size) {
+                if (dense == null) {
+                    dense = denseCounts(slots, found);
+                }
+                result = best(dense, required, keys.length, limit);
+            } else {
+                result = sparse(slots, found, scanned, keys.length, required, limit);
+            }
+            if (result.length >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private long[] sparse(Integer[] order, int found, int scanned, int queryGrams, int required, int limit) {
+        long expected = 0;
+        for (int i = 0; i < scanned; i++) {
+            expected += postingSizes[order[i]];
+        }
+        Counter counts = new Counter((int) Math.min(expected, size));
+        for (int i = 0; i < scanned; i++) {
+            int slot = order[i];
+            int[] list = postings[slot];
+            for (int j = 0, n = postingSizes[slot]; j < n; j++) {
+                counts.increment(list[j]);
+            }
+        }
+        for (int i = scanned; i < found; i++) {
+            int slot = order[i];
+            int[] list = postings[slot];
+            int n = postingSizes[slot];
+            for (int c = 0; c < counts.size; c++) {
+                if (Arrays.binarySearch(list, 0, n, counts.documents[c]) >= 0) {
+                    counts.counts[c]++;
+                }
+            }
+        }
+        TopDocuments best = new TopDocuments(limit);
+        for (int c = 0; c < counts.size; c++) {
+            offer(best, counts.documents[c], counts.counts[c], required, queryGrams);
+        }
+        return best.ids();
+    }
+
+    /**
+     * Counts per document over every list at once; when the candidates are a sizeable share of
+     * the index, walking the sorted lists into one flat array beats hashing and probing.
+     */
+    private short[] denseCounts(Integer[] order, int found) {
+        short[] shared = new short[size];
+        for (int i = 0; i < found; i++) {
+            int slot = order[i];
+            int[] list = postings[slot];
+            for (int j = 0, n = postingSizes[slot]; j < n; j++) {
+                shared[list[j]]++;
+            }
+        }
+        return shared;
+    }
+
+    private long[] best(short[] shared, int required, int queryGrams, int limit) {
+        TopDocuments best = new TopDocuments(limit);
+        for (int document = 0; document < shared.length; document++) {
+            offer(best, document, shared[document], required, queryGrams);
+        }
+        return best.ids();
+    }
+
+    private void offer(TopDocuments best, int document, int shared, int required, int queryGrams) {
+        if (shared >= required && !deleted.get(document)) {
+            double dice = 2.0 * shared / (queryGrams + gramCounts[document]);
+            // positive floats order like their bits, so smaller keys are better, then by document
+            best.offer((long) (Integer.MAX_VALUE - Float.floatToIntBits((float) dice)) << 32 | document);
+        }
+    }
+
+    int size() {
+        return size - deletedCount;
+    }
+
+    int gramCount() {
+        return grams;
+    }
+
+    /**
+     * Approximate heap held by the index arrays, excluding object headers.
+     */
+    long footprintBytes() {
+        long bytes = gramSlots.footprintBytes() + documents.footprintBytes()
+                + ids.length * (long) (Long.BYTES + Integer.BYTES) + postingSizes.length * (long) Integer.BYTES;
+        for (int slot = 0; slot < grams; slot++) {
+            bytes += postings[slot].length * (long) Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * Drops removed documents from every list and renumbers the rest, keeping their order.
+     */
+    private void compact() {
+        int[] renumbered = new int[size];
+        int live = 0;
+        for (int document = 0; document < size; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+            } else {
+                renumbered[document] = live;
+                ids[live] = ids[document];
+                gramCounts[live] = gramCounts[document];
+                live++;
+            }
+        }
+        for (int slot = 0; slot < grams; slot++) {
+            int[] list = postings[slot];
+            int kept = 0;
+            for (int j = 0, n = postingSizes[slot]; j < n; j++) {
+                int document = renumbered[list[j]];
+                if (document >= 0) {
+                    list[kept++] = document;
+                }
+            }
+            postingSizes[slot] = kept;
+            if (kept < list.length / 4) {
+                postings[slot] = Arrays.copyOf(list, Math.max(2, kept * 2));
+            }
+        }
+        documents = new LongIntHashIndex(live);
+        for (int document = 0; document < live; document++) {
+            documents.put(ids[document], document);
+        }
+        size = live;
+        deleted.clear();
+        deletedCount = 0;
+    }
+
+    private int newGram(long key) {
+        if (grams == postings.length) {
+            postings = Arrays.copyOf(postings, grams * 2);
+            postingSizes = Arrays.copyOf(postingSizes, grams * 2);
+        }
+        int slot = grams++;
+        postings[slot] = new int[2];
+        gramSlots.put(key, slot);
+        return slot;
+    }
+
+    private void append(int slot, int document) {
+        int[] list = postings[slot];
+        int n = postingSizes[slot];
+        if (n == list.length) {
+            list = Arrays.copyOf(list, n + (n >> 1) + 1);
+            postings[slot] = list;
+        }
+        list[n] = document;
+        postingSizes[slot] = n + 1;
+    }
+
+    /**
+     * The distinct trigrams of {@code tokens}, each packed into a long as three 16-bit chars.
+     */
+    static long[] grams(List<String> tokens) {
+        int total = 0;
+        for (String token : tokens) {
+            total += token.length();
+        }
+        long[] keys = new long[total];
+        int n = 0;
+        for (String token : tokens) {
+            int length = token.length();
+            for (int i = -1; i < length - 1; i++) {
+                char first = i < 0 ? BOUNDARY : token.charAt(i);
+                char second = token.charAt(i + 1);
+                char third = i + 2 < length ? token.charAt(i + 2) : BOUNDARY;
+                keys[n++] = (long) first << 32 | (long) second << 16 | third;
+            }
+        }
+        Arrays.sort(keys, 0, n);
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            if (distinct == 0 || keys[i] != keys[distinct - 1]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return Arrays.copyOf(keys, distinct);
+    }
+
+    /**
+     * The {@code limit} smallest keys offered, in a max-heap so the worst kept one is at the root.
+     */
+    private final class TopDocuments {
+
+        private final long[] heap;
+        private int size;
+
+        private TopDocuments(int limit) {
+            heap = new long[limit];
+        }
+
+        private void offer(long key) {
+            if (size < heap.length) {
+                int i = size++;
+                while (i > 0 && heap[(i - 1) / 2] < key) {
+                    heap[i] = heap[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                heap[i] = key;
+            } else if (size > 0 && key < heap[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && heap[child + 1] > heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] <= key) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    i = child;
+                }
+                heap[i] = key;
+            }
+        }
+
+        private long[] ids() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            long[] result = new long[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = ids[(int) keys[i]];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Per-query counts keyed by document number: open addressing over two flat arrays, with the
+     * documents also kept in insertion order so the counts can be walked without the table.
+     */
+    private static final class Counter {
+
+        private final int[] table;
+        private final int mask;
+        private int[] documents;
+        private int[] counts;
+        private int size;
+
+        private Counter(int expected) {
+            int capacity = 16;
+            while (capacity < expected * 2) {
+                capacity <<= 1;
+            }
+            table = new int[capacity];
+            Arrays.fill(table, -1);
+            mask = capacity - 1;
+            documents = new int[Math.max(16, expected)];
+            counts = new int[documents.length];
+        }
+
+        private void increment(int document) {
+            int i = (int) LongIntHashIndex.mix(document) & mask;
+            while (true) {
+                int entry = table[i];
+                if (entry < 0) {
+                    if (size == documents.length) {
+                        documents = Arrays.copyOf(documents, size * 2);
+                        counts = Arrays.copyOf(counts, size * 2);
+                    }
+                    table[i] = size;
+                    documents[size] = document;
+                    counts[size++] = 1;
+                    return;
+                }
+                if (documents[entry] == document) {
+                    counts[entry]++;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+    }
+}
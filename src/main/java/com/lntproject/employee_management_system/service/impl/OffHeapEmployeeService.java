@@ -0,0 +1,699 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * EmployeeService for very large in-memory datasets. Rows are stored column-wise in fixed-width
+ * slots of direct (off-heap) buffers, strings live in an off-heap append-only arena, and email
+ * domains, departments and positions are dictionary-encoded. The heap only holds two primitive
+ * hash indexes (id to slot and email hash to slot) and the small dictionaries; {@link Employee}
+ * objects are created when a row leaves the API.
+ *
+ * <p>Slots are append-only: a delete only clears the row's live flag and an update appends new
+ * string bytes, so space is reclaimed when the store is rebuilt. Generated ids keep slots in id
+ * order, which lets keyset paging binary search the id column; an explicit id below the current
+ * maximum switches paging to a lazily sorted slot order. Last-name prefix lookups scan the column.
+ */
+public class OffHeapEmployeeService implements EmployeeService, MeterBinder, AutoCloseable {
+
+    private static final int SEGMENT_SHIFT = 16;
+    private static final int SEGMENT_ROWS = 1 << SEGMENT_SHIFT;
+    private static final int ROW_BYTES = 64;
+    private static final int ID = 0;
+    private static final int FIRST_NAME = 8;
+    private static final int LAST_NAME = 16;
+    private static final int EMAIL_LOCAL = 24;
+    private static final int EMAIL_DOMAIN = 32;
+    private static final int LIVE = 36;
+    private static final int DEPARTMENT = 40;
+    private static final int POSITION = 44;
+    private static final int SALARY_CENTS = 48;
+    private static final int HIRE_DATE = 56;
+    private static final int NO_CODE = -1;
+    private static final long NO_SALARY = Long.MIN_VALUE;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final long NULL_REF = -1L;
+    private static final int STREAM_BATCH = 1024;
+
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private final StringArena arena = new StringArena();
+    private final LongIntHashIndex idIndex = new LongIntHashIndex();
+    private final LongIntHashIndex emailIndex = new LongIntHashIndex();
+    private final Dictionary domains = new Dictionary();
+    private final Dictionary departments = new Dictionary();
+    private final Dictionary positions = new Dictionary();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextId = 1;
+    private int slotCount;
+    private boolean slotsInIdOrder = true;
+    private volatile int[] sortedSlots;
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            long id = employee.getId() != null ? employee.getId() : nextId;
+            return materialize(insert(id, employee));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Long> ids = new ArrayList<>(employees.size());
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            int index = 0;
+            for (Employee employee : employees) {
+                if (employee == null) {
+                    failures.add(new BulkCreateResult.Failure(index++, null, "Employee cannot be null"));
+                    ids.add(null);
+                    continue;
+                }
+                long id = employee.getId() != null ? employee.getId() : nextId;
+                try {
+                    insert(id, employee);
+                    employee.setId(id);
+                    ids.add(id);
+                } catch (DuplicateEmailException e) {
+                    failures.add(new BulkCreateResult.Failure(index, employee, e.getMessage()));
+                    ids.add(null);
+                }
+                index++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new BulkCreateResult(ids, failures);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        lock.readLock().lock();
+        try {
+            List<Employee> employees = new ArrayList<>(idIndex.size());
+            forEachSlotAfter(Long.MIN_VALUE, slot -> {
+                employees.add(materialize(slot));
+                return true;
+            });
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        lock.readLock().lock();
+        try {
+            List<Employee> employees = new ArrayList<>(Math.min(limit, 1024));
+            boolean[] hasMore = new boolean[1];
+            forEachSlotAfter(afterId, slot -> {
+                if (employees.size() == limit) {
+                    hasMore[0] = true;
+                    return false;
+                }
+                employees.add(materialize(slot));
+                return true;
+            });
+            Long nextAfterId = hasMore[0] ? employees.get(employees.size() - 1).getId() : null;
+            return new EmployeePage(employees, nextAfterId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Streams in id order by paging through the store, so only one page of rows is materialized
+     * at a time and no lock is held between pages.
+     */
+    @Override
+    public Stream<Employee> streamEmployees() {
+        Spliterator<Employee> pages = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private Iterator<Employee> current = List.<Employee>of().iterator();
+            private Long afterId = Long.MIN_VALUE;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Employee> action) {
+                while (!current.hasNext()) {
+                    if (afterId == null) {
+                        return false;
+                    }
+                    EmployeePage page = getEmployeePage(afterId, STREAM_BATCH);
+                    current = page.employees().iterator();
+                    afterId = page.nextAfterId();
+                }
+                action.accept(current.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(pages, false);
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = idIndex.get(id);
+            return slot < 0 ? Optional.empty() : Optional.of(materialize(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves every id under one read lock.
+     */
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                if (id != null && !found.containsKey(id)) {
+                    int slot = idIndex.get(id);
+                    if (slot >= 0) {
+                        found.put(id, materialize(slot));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int slot = findEmailSlot(normalizeEmail(email));
+            return slot < 0 ? Optional.empty() : Optional.of(materialize(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        String from = normalizeName(prefix);
+        List<NameMatch> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (!isLive(slot)) {
+                    continue;
+                }
+                String lastName = normalizeName(arena.get(row(slot).getLong(offset(slot) + LAST_NAME)));
+                if (lastName.startsWith(from)) {
+                    matches.add(new NameMatch(lastName, idAt(slot), slot));
+                }
+            }
+            matches.sort(Comparator.comparing(NameMatch::lastName).thenComparingLong(NameMatch::id));
+            List<Employee> employees = new ArrayList<>(Math.min(limit, matches.size()));
+            for (int i = 0; i < matches.size() && employees.size() < limit; i++) {
+                employees.add(materialize(matches.get(i).slot()));
+            }
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        lock.writeLock().lock();
+        try {
+            int slot = idIndex.get(id);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(rewrite(slot, employee));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        lock.writeLock().lock();
+        try {
+            int slot = idIndex.get(id);
+            if (slot < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(rewrite(slot, changes.applyTo(materialize(slot))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        if (employee == null || employee.getEmail() == null) {
+            throw new IllegalArgumentException("email is required");
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = findEmailSlot(normalizeEmail(employee.getEmail()));
+            return slot < 0 ? materialize(insert(nextId, employee)) : rewrite(slot, employee);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = idIndex.get(id);
+            if (slot < 0) {
+                return false;
+            }
+            idIndex.remove(id, slot);
+            unindexEmail(slot);
+            row(slot).put(offset(slot) + LIVE, (byte) 0);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return idIndex.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Direct buffer bytes reserved for row slots and the string arena.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) segments.size() * SEGMENT_ROWS * ROW_BYTES + arena.reservedBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate heap held by the primitive indexes, excluding the (small) domain dictionary.
+     */
+    public long indexHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return idIndex.footprintBytes() + emailIndex.footprintBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distinct dictionary-encoded values: email domains, departments and positions.
+     */
+    public int dictionarySize() {
+        lock.readLock().lock();
+        try {
+            return domains.size() + departments.size() + positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.store.rows", this, OffHeapEmployeeService::size)
+                .description("Live rows in the off-heap employee store")
+                .register(registry);
+        Gauge.builder("employee.store.offheap.bytes", this, OffHeapEmployeeService::offHeapBytes)
+                .baseUnit("bytes")
+                .description("Direct memory reserved for employee rows and strings")
+                .register(registry);
+        Gauge.builder("employee.store.index.bytes", this, OffHeapEmployeeService::indexHeapBytes)
+                .baseUnit("bytes")
+                .description("Heap held by the off-heap store's primitive indexes")
+                .register(registry);
+    }
+
+    /**
+     * Drops every buffer; direct memory is returned once the buffers are collected. The store must
+     * not be used afterwards.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (segments.isEmpty() && slotCount == 0) {
+                return;
+            }
+            segments.clear();
+            arena.clear();
+            slotCount = 0;
+            sortedSlots = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int insert(long id, Employee employee) {
+        int existing = idIndex.get(id);
+        claimEmail(employee.getEmail(), existing);
+        if (existing >= 0) {
+            unindexEmail(existing);
+            writeRow(existing, employee);
+            indexEmail(existing, employee.getEmail());
+            return existing;
+        }
+        int slot = slotCount;
+        if (slot >>> SEGMENT_SHIFT == segments.size()) {
+            segments.add(ByteBuffer.allocateDirect(SEGMENT_ROWS * ROW_BYTES));
+        }
+        if (slot > 0 && id <= row(slot - 1).getLong(offset(slot - 1) + ID)) {
+            slotsInIdOrder = false;
+        }
+        row(slot).putLong(offset(slot) + ID, id);
+        writeRow(slot, employee);
+        row(slot).put(offset(slot) + LIVE, (byte) 1);
+        slotCount++;
+        sortedSlots = null;
+        idIndex.put(id, slot);
+        indexEmail(slot, employee.getEmail());
+        nextId = Math.max(nextId, id + 1);
+        return slot;
+    }
+
+    private Employee rewrite(int slot, Employee employee) {
+        claimEmail(employee.getEmail(), slot);
+        unindexEmail(slot);
+        writeRow(slot, employee);
+        indexEmail(slot, employee.getEmail());
+        return materialize(slot);
+    }
+
+    private void writeRow(int slot, Employee employee) {
+        ByteBuffer row = row(slot);
+        int base = offset(slot);
+        row.putLong(base + FIRST_NAME, arena.put(employee.getFirstName()));
+        row.putLong(base + LAST_NAME, arena.put(employee.getLastName()));
+        String email = employee.getEmail();
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        if (at < 0) {
+            row.putLong(base + EMAIL_LOCAL, arena.put(email));
+            row.putInt(base + EMAIL_DOMAIN, NO_CODE);
+        } else {
+            row.putLong(base + EMAIL_LOCAL, arena.put(email.substring(0, at)));
+            row.putInt(base + EMAIL_DOMAIN, domains.encode(email.substring(at + 1)));
+        }
+        row.putInt(base + DEPARTMENT, departments.encode(employee.getDepartment()));
+        row.putInt(base + POSITION, positions.encode(employee.getPosition()));
+        BigDecimal salary = employee.getSalary();
+        row.putLong(base + SALARY_CENTS, salary == null ? NO_SALARY
+                : salary.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+        LocalDate hireDate = employee.getHireDate();
+        row.putInt(base + HIRE_DATE, hireDate == null ? NO_DATE : Math.toIntExact(hireDate.toEpochDay()));
+    }
+
+    private Employee materialize(int slot) {
+        ByteBuffer row = row(slot);
+        int base = offset(slot);
+        long salaryCents = row.getLong(base + SALARY_CENTS);
+        int hireDate = row.getInt(base + HIRE_DATE);
+        return new Employee(row.getLong(base + ID),
+                arena.get(row.getLong(base + FIRST_NAME)),
+                arena.get(row.getLong(base + LAST_NAME)),
+                email(slot),
+                departments.decode(row.getInt(base + DEPARTMENT)),
+                positions.decode(row.getInt(base + POSITION)),
+                salaryCents == NO_SALARY ? null : BigDecimal.valueOf(salaryCents, 2),
+                hireDate == NO_DATE ? null : LocalDate.ofEpochDay(hireDate));
+    }
+
+    private String email(int slot) {
+        ByteBuffer row = row(slot);
+        int base = offset(slot);
+        String local = arena.get(row.getLong(base + EMAIL_LOCAL));
+        int domain = row.getInt(base + EMAIL_DOMAIN);
+        return domain == NO_CODE ? local : local + '@' + domains.decode(domain);
+    }
+
+    /**
+     * Rejects {@code email} when it belongs to a live row other than {@code ownSlot} (-1 for a new row).
+     */
+    private void claimEmail(String email, int ownSlot) {
+        if (email == null) {
+            return;
+        }
+        int owner = findEmailSlot(normalizeEmail(email));
+        if (owner >= 0 && owner != ownSlot) {
+            throw new DuplicateEmailException(email);
+        }
+    }
+
+    private int findEmailSlot(String normalized) {
+        return emailIndex.find(hash(normalized), slot -> normalized.equals(normalizeEmail(email(slot))));
+    }
+
+    private void indexEmail(int slot, String email) {
+        if (email != null) {
+            emailIndex.put(hash(normalizeEmail(email)), slot);
+        }
+    }
+
+    private void unindexEmail(int slot) {
+        String email = email(slot);
+        if (email != null) {
+            emailIndex.remove(hash(normalizeEmail(email)), slot);
+        }
+    }
+
+    /**
+     * Visits live slots with an id greater than {@code afterId} in id order until {@code visitor}
+     * returns false.
+     */
+    private void forEachSlotAfter(long afterId, SlotVisitor visitor) {
+        if (slotsInIdOrder) {
+            for (int slot = firstSlotAfter(afterId); slot < slotCount; slot++) {
+                if (isLive(slot) && !visitor.visit(slot)) {
+                    return;
+                }
+            }
+            return;
+        }
+        int[] order = sortedSlots();
+        int low = 0;
+        int high = order.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(order[mid]) <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < order.length; i++) {
+            if (isLive(order[i]) && !visitor.visit(order[i])) {
+                return;
+            }
+        }
+    }
+
+    private int firstSlotAfter(long afterId) {
+        int low = 0;
+        int high = slotCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(mid) <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Live slots sorted by id, rebuilt on first use after a write. Readers may race to build it;
+     * every reader computes the same array under the read lock, so the last write wins harmlessly.
+     */
+    private int[] sortedSlots() {
+        int[] order = sortedSlots;
+        if (order == null) {
+            order = IntStream.range(0, slotCount)
+                    .filter(this::isLive)
+                    .boxed()
+                    .sorted(Comparator.comparingLong(this::idAt))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            sortedSlots = order;
+        }
+        return order;
+    }
+
+    private boolean isLive(int slot) {
+        return row(slot).get(offset(slot) + LIVE) != 0;
+    }
+
+    private long idAt(int slot) {
+        return row(slot).getLong(offset(slot) + ID);
+    }
+
+    private ByteBuffer row(int slot) {
+        return segments.get(slot >>> SEGMENT_SHIFT);
+    }
+
+    private static int offset(int slot) {
+        return (slot & (SEGMENT_ROWS - 1)) * ROW_BYTES;
+    }
+
+    private static long hash(String value) {
+        long h = 1125899906842597L;
+        for (int i = 0; i < value.length(); i++) {
+            h = 31 * h + value.charAt(i);
+        }
+        return LongIntHashIndex.mix(h);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeName(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record NameMatch(String lastName, long id, int slot) {
+    }
+
+    @FunctionalInterface
+    private interface SlotVisitor {
+        boolean visit(int slot);
+    }
+
+    /**
+     * Maps each distinct low-cardinality string to a dense int code; null encodes as {@link #NO_CODE}.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NO_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                values.add(value);
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        String decode(int code) {
+            return code == NO_CODE ? null : values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * Append-only UTF-8 string storage in direct buffers. A reference packs the chunk index in the
+     * high word and the offset of a length-prefixed value in the low word.
+     */
+    private static final class StringArena {
+
+        private static final int CHUNK_BYTES = 1 << 20;
+
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private ByteBuffer current;
+        private long reserved;
+
+        long put(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int needed = Integer.BYTES + bytes.length;
+            if (current == null || current.remaining() < needed) {
+                current = ByteBuffer.allocateDirect(Math.max(CHUNK_BYTES, needed));
+                chunks.add(current);
+                reserved += current.capacity();
+            }
+            int position = current.position();
+            current.putInt(bytes.length).put(bytes);
+            return ((long) (chunks.size() - 1) << 32) | position;
+        }
+
+        String get(long ref) {
+            if (ref == NULL_REF) {
+                return null;
+            }
+            ByteBuffer chunk = chunks.get((int) (ref >>> 32));
+            int position = (int) ref;
+            byte[] bytes = new byte[chunk.getInt(position)];
+            chunk.get(position + Integer.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        long reservedBytes() {
+            return reserved;
+        }
+
+        void clear() {
+            chunks.clear();
+            current = null;
+            reserved = 0;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sorted map: an AVL tree whose {@link #put} and {@link #remove} return a new map that
+ * shares every node off the changed path with this one, so a write copies O(log n) nodes and a
+ * map, once read, never changes underneath its reader. Iteration allocates nothing per entry; the
+ * nodes themselves are the entries.
+ */
+final class PersistentSortedMap<K, V> {
+
+    private final Comparator<? super K> comparator;
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentSortedMap(Comparator<? super K> comparator, Node<K, V> root, int size) {
+        this.comparator = comparator;
+        this.root = root;
+        this.size = size;
+    }
+
+    static <K, V> PersistentSortedMap<K, V> empty(Comparator<? super K> comparator) {
+        return new PersistentSortedMap<>(comparator, null, 0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return node.value;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    PersistentSortedMap<K, V> put(K key, V value) {
+        boolean[] added = new boolean[1];
+        Node<K, V> updated = put(root, key, value, added);
+        if (updated == root) {
+            return this;
+        }
+        return new PersistentSortedMap<>(comparator, updated, added[0] ? size + 1 : size);
+    }
+
+    PersistentSortedMap<K, V> remove(K key) {
+        Node<K, V> updated = remove(root, key);
+        if (updated == root) {
+            return this;
+        }
+        return new PersistentSortedMap<>(comparator, updated, size - 1);
+    }
+
+    /**
+     * Entries in key order, starting at the first key after {@code from} (or at it, when
+     * {@code inclusive}); a null {@code from} starts at the smallest key.
+     */
+    Iterator<Map.Entry<K, V>> entries(K from, boolean inclusive) {
+        return new EntryIterator<>(root, comparator, from, inclusive);
+    }
+
+    private Node<K, V> put(Node<K, V> node, K key, V value, boolean[] added) {
+        if (node == null) {
+            added[0] = true;
+            return new Node<>(key, value, null, null);
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp == 0) {
+            return node.value == value ? node : new Node<>(node.key, value, node.left, node.right);
+        }
+        if (cmp < 0) {
+            Node<K, V> left = put(node.left, key, value, added);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        Node<K, V> right = put(node.right, key, value, added);
+        return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+
+    private Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (cmp > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * A node for {@code key} over two subtrees whose heights differ by at most two, rotated back
+     * to within one.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+
+        final K key;
+        final V value;
+        final Node<K, V> left;
+        final Node<K, V> right;
+        final int height;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * In-order walk keeping the nodes still to visit, never more than the tree is high.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+
+        private final Node<K, V>[] path;
+        private int depth;
+
+        @SuppressWarnings("unchecked")
+        EntryIterator(Node<K, V> root, Comparator<? super K> comparator, K from, boolean inclusive) {
+            path = (Node<K, V>[]) new Node<?, ?>[height(root)];
+            Node<K, V> node = root;
+            while (node != null) {
+                int cmp = from == null ? -1 : comparator.compare(from, node.key);
+                if (cmp < 0 || cmp == 0 && inclusive) {
+                    path[depth++] = node;
+                    node = cmp == 0 ? null : node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth > 0;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (depth == 0) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> next = path[--depth];
+            for (Node<K, V> node = next.right; node != null; node = node.left) {
+                path[depth++] = node;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Decides which database each {@link EmployeeServiceImpl} call runs on. Writes always go to the
+ * primary. Reads are spread round-robin over the replicas, except during the read-your-writes
+ * window: for {@code readYourWritesWindow} after a thread takes a connection for a write, that
+ * thread's reads go to the primary, so a caller always sees its own changes even while the
+ * replicas lag. Reads from other threads may still see the previous row until replication
+ * catches up.
+ *
+ * <p>The window belongs to the calling thread. Code that runs a call on another thread on the
+ * caller's behalf wraps it with {@link #carryReadYourWrites(Supplier)}, so the window is shared
+ * in both directions; {@link VirtualThreadEmployeeService} does this for every async call. The
+ * HTTP API serves each request on its own thread, so the window holds within a request but not
+ * across requests: a client that writes and then reads in a second request may be answered by a
+ * lagging replica. The window is shared by every router, so a write pins reads on all of them.
+ *
+ * <p>A replica that cannot hand out a connection is marked unhealthy and skipped; after
+ * {@code retryInterval} one read probes it again and, if that succeeds, puts it back in rotation.
+ * When no replica is usable, reads fall back to the primary. With no replicas configured every
+ * call goes to the primary.
+ */
+public final class ReadWriteRouting implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRouting.class);
+    private static final ThreadLocal<AtomicLong> PINNED_UNTIL =
+            ThreadLocal.withInitial(() -> new AtomicLong(System.nanoTime()));
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long readYourWritesNanos;
+    private final long retryNanos;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    /**
+     * @param replicas replica data sources by name, in rotation order; they are closed with this
+     *                 router when they are {@link AutoCloseable}, the primary is not
+     */
+    public ReadWriteRouting(DataSource primary, Map<String, DataSource> replicas,
+                            Duration readYourWritesWindow, Duration retryInterval) {
+        this.primary = Objects.requireNonNull(primary, "primary");
+        if (readYourWritesWindow == null || readYourWritesWindow.isNegative()) {
+            throw new IllegalArgumentException("readYourWritesWindow must not be negative");
+        }
+        if (retryInterval == null || retryInterval.isZero() || retryInterval.isNegative()) {
+            throw new IllegalArgumentException("retryInterval must be positive");
+        }
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.retryNanos = retryInterval.toNanos();
+    }
+
+    /**
+     * Routes everything to {@code primary}.
+     */
+    public static ReadWriteRouting primaryOnly(DataSource primary) {
+        return new ReadWriteRouting(primary, Map.of(), Duration.ZERO, Duration.ofSeconds(30));
+    }
+
+    /**
+     * Wraps {@code call} to run with the calling thread's read-your-writes window on whichever
+     * thread runs it: reads inside it honour a window the caller already has, and a write inside
+     * it starts the window for the caller's later reads.
+     */
+    public static <T> Supplier<T> carryReadYourWrites(Supplier<T> call) {
+        AtomicLong window = PINNED_UNTIL.get();
+        return () -> {
+            AtomicLong own = PINNED_UNTIL.get();
+            PINNED_UNTIL.set(window);
+            try {
+                return call.get();
+            } finally {
+                PINNED_UNTIL.set(own);
+            }
+        };
+    }
+
+    /**
+     * Opens primary connections for a write and starts the calling thread's read-your-writes window.
+     */
+    JdbcTimings.SqlCall<Connection> writer() {
+        if (!replicas.isEmpty() && readYourWritesNanos > 0) {
+            PINNED_UNTIL.get().set(System.nanoTime() + readYourWritesNanos);
+        }
+        return primary::getConnection;
+    }
+
+    /**
+     * Opens connections for a read. The choice between primary and replicas is made here, on the
+     * calling thread, so the returned opener can be handed to worker threads.
+     */
+    JdbcTimings.SqlCall<Connection> reader() {
+        if (replicas.isEmpty()) {
+            return primary::getConnection;
+        }
+        if (readYourWritesNanos > 0) {
+            long until = PINNED_UNTIL.get().get();
+            if (System.nanoTime() - until < 0) {
+                return this::primaryRead;
+            }
+        }
+        return this::replicaRead;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.jdbc.reads", primaryReads, AtomicLong::get)
+                .tag("target", "primary")
+                .description("Reads routed to the primary while replicas are configured")
+                .register(registry);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("employee.jdbc.reads", replica.reads, AtomicLong::get)
+                    .tag("target", replica.name)
+                    .description("Reads routed to the replica")
+                    .register(registry);
+            Gauge.builder("employee.jdbc.replica.healthy", replica, candidate -> candidate.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .description("1 while the replica is in rotation, 0 while it is being skipped")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Closes the replica pools; the primary belongs to whoever created it. Every pool is closed
+     * even if one fails, and the first failure is thrown with the rest suppressed. An interrupt
+     * while closing is kept on the thread.
+     */
+    @Override
+    public void close() {
+        RuntimeException failure = null;
+        for (Replica replica : replicas) {
+            if (!(replica.dataSource instanceof AutoCloseable closeable)) {
+                continue;
+            }
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                RuntimeException wrapped = e instanceof RuntimeException runtime ? runtime
+                        : new RuntimeException("Error closing replica " + replica.name + ": " + e.getMessage(), e);
+                if (failure == null) {
+                    failure = wrapped;
+                } else {
+                    failure.addSuppressed(wrapped);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private Connection primaryRead() throws SQLException {
+        primaryReads.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    private Connection replicaRead() throws SQLException {
+        int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            long now = System.nanoTime();
+            if (!replica.claim(now)) {
+                continue;
+            }
+            try {
+                Connection conn = replica.dataSource.getConnection();
+                replica.succeeded();
+                return conn;
+            } catch (SQLException e) {
+                replica.failed(now, e);
+            }
+        }
+        return primaryRead();
+    }
+
+    private final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong reads = new AtomicLong();
+        private final AtomicLong retryAt = new AtomicLong();
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = Objects.requireNonNull(name, "name");
+            this.dataSource = Objects.requireNonNull(dataSource, "dataSource");
+        }
+
+        /**
+         * True if the replica may serve this read. Once an unhealthy replica is due for a retry,
+         * only the one caller that moves {@code retryAt} on gets to probe it.
+         */
+        private boolean claim(long now) {
+            if (healthy) {
+                return true;
+            }
+            long due = retryAt.get();
+            return now - due >= 0 && retryAt.compareAndSet(due, now + retryNanos);
+        }
+
+        private void succeeded() {
+            reads.incrementAndGet();
+            if (!healthy) {
+                healthy = true;
+                log.info("Replica {} is reachable again; routing reads to it", name);
+            }
+        }
+
+        private void failed(long now, SQLException e) {
+            retryAt.set(now + retryNanos);
+            if (healthy) {
+                healthy = false;
+                log.warn("Replica {} is unavailable, skipping it for {} ms: {}",
+                        name, retryNanos / 1_000_000, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeSearch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Answers {@link #search(String, int)} from an in-memory {@link NGramIndex} over first name, last
+ * name and email instead of scoring every row. The index is built from the delegate's
+ * {@link EmployeeService#streamEmployees()} on construction and kept current as writes pass
+ * through, each under a lock striped by id so that two writes to one employee are indexed in the
+ * order they were applied. A search takes the employees sharing the most trigrams with the query,
+ * reads them back from the delegate and ranks them with {@link EmployeeSearch}, so results always
+ * reflect the stored rows even if the index briefly lags a write. Writes that bypass this service
+ * (for example directly in the database) are not indexed until {@link #reload()}.
+ *
+ * <p>Constructed with {@code deferLoad}, the index is built on the first search instead of at
+ * startup, so a short-lived process that never searches does not stream the whole table. Until
+ * then writes are not indexed: the build will see them in the delegate.
+ */
+public final class SearchIndexEmployeeService extends ForwardingEmployeeService implements MeterBinder {
+
+    private static final int STRIPES = 64;
+    /** Share of the query's trigrams a candidate must have; low enough for a typo in a short name. */
+    private static final double MIN_OVERLAP = 0.3;
+    /** Candidates read back and ranked per result asked for. */
+    private static final int CANDIDATES_PER_RESULT = 4;
+    private static final int MIN_CANDIDATES = 32;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private NGramIndex index;
+    private volatile boolean loaded;
+
+    public SearchIndexEmployeeService(EmployeeService delegate) {
+        this(delegate, false);
+    }
+
+    public SearchIndexEmployeeService(EmployeeService delegate, boolean deferLoad) {
+        super(delegate);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        if (!deferLoad) {
+            load();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the delegate, discarding the incrementally maintained one.
+     */
+    public void reload() {
+        load();
+    }
+
+    private void load() {
+        lockAll();
+        try {
+            NGramIndex rebuilt = new NGramIndex();
+            try (Stream<Employee> employees = delegate.streamEmployees()) {
+                employees.forEach(employee -> rebuilt.put(employee.getId(), EmployeeSearch.tokens(employee)));
+            }
+            indexLock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            loaded = true;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @Override
+    public List<Employee> search(String query, int limit) {
+        List<String> queryTokens = EmployeeSearch.tokens(query);
+        if (queryTokens.isEmpty()) {
+            return EmployeeSearch.rank(queryTokens, Stream.empty(), limit);
+        }
+        ensureLoaded();
+        int wanted = Math.max(MIN_CANDIDATES, limit * CANDIDATES_PER_RESULT);
+        long[] candidates;
+        indexLock.readLock().lock();
+        try {
+            candidates = index.candidates(queryTokens, MIN_OVERLAP, wanted);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+        List<Long> ids = new ArrayList<>(candidates.length);
+        for (long id : candidates) {
+            ids.add(id);
+        }
+        Map<Long, Employee> rows = delegate.getEmployeesByIds(ids);
+        return EmployeeSearch.rank(queryTokens, rows.values().stream(), limit);
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        Long requestedId = employee.getId();
+        if (requestedId == null && loaded) {
+            Employee created = delegate.createEmployee(employee);
+            put(created);
+            return created;
+        }
+        // Before the build, hold a stripe so the write lands wholly before it or is indexed after it.
+        ReentrantLock lock = requestedId == null ? stripes[0] : stripe(requestedId);
+        lock.lock();
+        try {
+            Employee created = delegate.createEmployee(employee);
+            put(created);
+            return created;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        boolean explicitIds = rows.stream().anyMatch(row -> row != null && row.getId() != null);
+        boolean unloaded = !explicitIds && !loaded;
+        if (explicitIds) {
+            lockAll();
+        } else if (unloaded) {
+            stripes[0].lock();
+        }
+        try {
+            BulkCreateResult result = delegate.createEmployees(rows);
+            if (!loaded) {
+                return result;
+            }
+            indexLock.writeLock().lock();
+            try {
+                for (int row = 0; row < rows.size(); row++) {
+                    Long id = result.ids().get(row);
+                    if (id != null) {
+                        index.put(id, EmployeeSearch.tokens(rows.get(row)));
+                    }
+                }
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+            return result;
+        } finally {
+            if (explicitIds) {
+                unlockAll();
+            } else if (unloaded) {
+                stripes[0].unlock();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> updated = delegate.updateEmployee(id, employee);
+            updated.ifPresent(this::put);
+            return updated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Optional<Employee> patched = delegate.patchEmployee(id, changes);
+            patched.ifPresent(this::put);
+            return patched;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Holds the stripe of the row owning the email while the delegate's upsert rewrites it, after
+     * checking the row still owns the email; otherwise the email is looked up afresh. A new email
+     * has no row to lock and, like a create without an id, holds a stripe only until the build.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        EmployeeService.requireEmail(employee);
+        while (true) {
+            Optional<Employee> owner = delegate.findByEmail(employee.getEmail());
+            ReentrantLock lock = owner.isPresent() ? stripe(owner.get().getId()) : loaded ? null : stripes[0];
+            if (lock != null) {
+                lock.lock();
+            }
+            try {
+                if (owner.isPresent() && delegate.getEmployeeById(owner.get().getId())
+                        .filter(row -> ownsEmail(row, employee.getEmail())).isEmpty()) {
+                    continue;
+                }
+                Employee stored = delegate.upsertEmployee(employee);
+                put(stored);
+                return stored;
+            } finally {
+                if (lock != null) {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            boolean deleted = delegate.deleteEmployee(id);
+            if (deleted && loaded) {
+                indexLock.writeLock().lock();
+                try {
+                    index.remove(id);
+                } finally {
+                    indexLock.writeLock().unlock();
+                }
+            }
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.search.index.documents", this, service -> service.indexStat(NGramIndex::size))
+                .description("Employees in the search index")
+                .register(registry);
+        Gauge.builder("employee.search.index.grams", this, service -> service.indexStat(NGramIndex::gramCount))
+                .description("Distinct trigrams in the search index")
+                .register(registry);
+        Gauge.builder("employee.search.index.size", this, service -> service.indexStat(NGramIndex::footprintBytes))
+                .description("Approximate heap held by the search index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    /**
+     * Reads a statistic of the index, 0 before it is built; a metrics scrape does not build it.
+     */
+    private double indexStat(ToDoubleFunction<NGramIndex> stat) {
+        if (!loaded) {
+            return 0;
+        }
+        indexLock.readLock().lock();
+        try {
+            return stat.applyAsDouble(index);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lockAll();
+        try {
+            if (!loaded) {
+                load();
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Indexes one written row. Until the build every caller holds a stripe, so the build cannot
+     * start between the write reaching the delegate and this check.
+     */
+    private void put(Employee employee) {
+        if (!loaded) {
+            return;
+        }
+        List<String> tokens = EmployeeSearch.tokens(employee);
+        indexLock.writeLock().lock();
+        try {
+            index.put(employee.getId(), tokens);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private ReentrantLock stripe(long id) {
+        return stripes[Math.floorMod(Long.hashCode(id), STRIPES)];
+    }
+
+    private void lockAll() {
+        for (ReentrantLock lock : stripes) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = STRIPES - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+}
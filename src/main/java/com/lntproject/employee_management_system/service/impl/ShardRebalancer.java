@@ -0,0 +1,117 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Moves employees onto their home shard after the shard count changes. To grow, add the new
+ * shards to the end of the list and rebalance onto all of them; to shrink to {@code n} shards,
+ * rebalance onto the first {@code n} while the retiring ones are still listed, then drop them.
+ * With {@link ShardedEmployeeService#shardOf(long, int)} growing by one shard moves only the
+ * rows that belong on the new shard.
+ *
+ * <p>Every listed shard is scanned in keyset pages of {@code batchSize}. Misplaced rows are
+ * copied to their home shard with one bulk create per target, and only then deleted from where
+ * they were, so an interrupted run loses nothing and can simply be run again: rows that were
+ * already copied are recognised by id and just deleted from the source. Run it while nothing
+ * else writes, since a moved row is briefly on two shards and routing assumes the new layout.
+ */
+public final class ShardRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRebalancer.class);
+
+    /**
+     * Rows looked at, rows moved and the wall-clock time taken.
+     */
+    public record Result(long scanned, long moved, Duration elapsed) {
+    }
+
+    private final List<EmployeeService> shards;
+    private final int batchSize;
+
+    public ShardRebalancer(ShardedEmployeeService sharded, int batchSize) {
+        this(sharded.shards(), batchSize);
+    }
+
+    public ShardRebalancer(List<EmployeeService> shards, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.shards = List.copyOf(shards);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Moves every row to its home among the first {@code shardCount} shards.
+     */
+    public Result rebalance(int shardCount) {
+        if (shardCount <= 0 || shardCount > shards.size()) {
+            throw new IllegalArgumentException("shardCount must be between 1 and " + shards.size());
+        }
+        long started = System.nanoTime();
+        long scanned = 0;
+        long moved = 0;
+        for (int source = 0; source < shards.size(); source++) {
+            EmployeeService from = shards.get(source);
+            long movedFromShard = 0;
+            long afterId = 0;
+            EmployeePage page;
+            do {
+                page = from.getEmployeePage(afterId, batchSize);
+                Map<Integer, List<Employee>> misplaced = new LinkedHashMap<>();
+                for (Employee employee : page.employees()) {
+                    int home = ShardedEmployeeService.shardOf(employee.getId(), shardCount);
+                    if (home != source) {
+                        misplaced.computeIfAbsent(home, key -> new ArrayList<>()).add(employee);
+                    }
+                }
+                for (Map.Entry<Integer, List<Employee>> move : misplaced.entrySet()) {
+                    movedFromShard += move(from, shards.get(move.getKey()), move.getValue());
+                }
+                scanned += page.employees().size();
+                if (!page.employees().isEmpty()) {
+                    afterId = page.employees().get(page.employees().size() - 1).getId();
+                }
+            } while (page.hasMore());
+            if (movedFromShard > 0) {
+                log.info("Moved {} employees off shard {}", movedFromShard, source);
+            }
+            moved += movedFromShard;
+        }
+        return new Result(scanned, moved, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private int move(EmployeeService from, EmployeeService to, List<Employee> rows) {
+        List<Long> ids = rows.stream().map(Employee::getId).toList();
+        Map<Long, Employee> alreadyCopied = to.getEmployeesByIds(ids);
+        List<Employee> copies = new ArrayList<>(rows.size());
+        for (Employee row : rows) {
+            if (!alreadyCopied.containsKey(row.getId())) {
+                copies.add(new Employee(row));
+            }
+        }
+        if (!copies.isEmpty()) {
+            BulkCreateResult result = to.createEmployees(copies);
+            if (result.hasFailures()) {
+                BulkCreateResult.Failure failure = result.failures().get(0);
+                throw new IllegalStateException("Could not move employee " + failure.employee().getId()
+                        + ": " + failure.reason());
+            }
+        }
+        for (Long id : ids) {
+            from.deleteEmployee(id);
+        }
+        return rows.size();
+    }
+}
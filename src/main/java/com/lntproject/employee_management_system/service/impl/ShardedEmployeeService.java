@@ -0,0 +1,702 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeSearch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * Partitions employees by id over several backends (JDBC databases or in-memory partitions).
+ * Every id has one home shard, chosen by {@link #shardOf(long, int)}; lookups and writes by id
+ * touch only that shard. Ids come from an {@link EmployeeIdAllocator}, never from a shard's
+ * {@code AUTO_INCREMENT}, so they are unique across shards.
+ *
+ * <p>Queries that are not keyed by id run on every shard at once, one virtual thread per shard,
+ * and the partial results are merged: by id for listings and pages, by last name and id for
+ * prefix searches, summed for aggregates. {@link #streamEmployees()} merges the shards' id-ordered
+ * streams lazily.
+ *
+ * <p>Each shard enforces email uniqueness among its own rows. Across shards it is enforced here:
+ * a write that sets an email holds a lock striped by the email while it checks the other shards
+ * and writes, and bulk writes hold every stripe and check their rows shard by shard. The locks
+ * are per process, so all writers must share one instance of this service.
+ */
+public class ShardedEmployeeService implements EmployeeService, AutoCloseable {
+
+    private static final int EMAIL_STRIPES = 64;
+    private static final Comparator<Employee> BY_ID = Comparator.comparingLong(Employee::getId);
+    private static final Comparator<Employee> BY_LAST_NAME = Comparator
+            .comparing((Employee employee) -> employee.getLastName().toLowerCase(Locale.ROOT))
+            .thenComparingLong(Employee::getId);
+
+    private final List<EmployeeService> shards;
+    private final EmployeeIdAllocator idAllocator;
+    private final List<AutoCloseable> resources;
+    private final ReentrantLock[] emailStripes = new ReentrantLock[EMAIL_STRIPES];
+
+    public ShardedEmployeeService(List<EmployeeService> shards, EmployeeIdAllocator idAllocator) {
+        this(shards, idAllocator, List.of());
+    }
+
+    /**
+     * @param resources closed with this service, after any shard that is itself
+     *                  {@link AutoCloseable}; typically the shards' connection pools
+     */
+    public ShardedEmployeeService(List<EmployeeService> shards, EmployeeIdAllocator idAllocator,
+                                  List<? extends AutoCloseable> resources) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.idAllocator = Objects.requireNonNull(idAllocator, "idAllocator");
+        this.resources = List.copyOf(resources);
+        for (int i = 0; i < EMAIL_STRIPES; i++) {
+            emailStripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * The home shard of {@code id} among {@code shardCount} shards: a jump consistent hash
+     * (Lamping and Veach) of the mixed id. Ids spread evenly, and going from n to n + 1 shards
+     * moves only the ids that now belong to the new shard, about 1/(n + 1) of them.
+     */
+    public static int shardOf(long id, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
+        long key = mix(id);
+        long bucket = -1;
+        long next = 0;
+        while (next < shardCount) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public List<EmployeeService> shards() {
+        return shards;
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee cannot be null");
+        }
+        Employee row = new Employee(employee);
+        if (row.getId() == null) {
+            row.setId(idAllocator.next());
+        }
+        int home = shardOf(row.getId(), shards.size());
+        ReentrantLock lock = emailLock(row.getEmail());
+        lock.lock();
+        try {
+            requireEmailFree(row.getEmail(), row.getId(), home);
+            return shards.get(home).createEmployee(row);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Assigns ids to the rows that have none, then creates each shard's rows with one bulk call
+     * per shard, all shards in parallel. Rows whose email is already taken on another shard, or by
+     * an earlier row of the same call, are reported as failures without reaching a shard.
+     */
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        List<Employee> rows = new ArrayList<>(employees);
+        Long[] ids = new Long[rows.size()];
+        List<BulkCreateResult.Failure> failures = new ArrayList<>();
+
+        int unassigned = 0;
+        for (Employee row : rows) {
+            if (row != null && row.getId() == null) {
+                unassigned++;
+            }
+        }
+        long[] fresh = idAllocator.next(unassigned);
+        int nextFresh = 0;
+        List<Employee> copies = new ArrayList<>(rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            Employee row = rows.get(index);
+            if (row == null) {
+                failures.add(new BulkCreateResult.Failure(index, null, "Employee cannot be null"));
+                copies.add(null);
+                continue;
+            }
+            Employee copy = new Employee(row);
+            if (copy.getId() == null) {
+                copy.setId(fresh[nextFresh++]);
+            }
+            copies.add(copy);
+        }
+
+        lockAllEmails();
+        try {
+            BitSet conflicts = emailConflicts(copies);
+            Map<Integer, List<Integer>> byShard = new LinkedHashMap<>();
+            for (int index = 0; index < copies.size(); index++) {
+                Employee copy = copies.get(index);
+                if (copy == null) {
+                    continue;
+                }
+                if (conflicts.get(index)) {
+                    failures.add(new BulkCreateResult.Failure(index, rows.get(index),
+                            "Email already exists: " + copy.getEmail()));
+                    continue;
+                }
+                byShard.computeIfAbsent(shardOf(copy.getId(), shards.size()), key -> new ArrayList<>()).add(index);
+            }
+
+            List<Callable<BulkCreateResult>> creates = new ArrayList<>();
+            List<List<Integer>> positions = new ArrayList<>();
+            byShard.forEach((shard, indexes) -> {
+                List<Employee> batch = indexes.stream().map(copies::get).toList();
+                creates.add(() -> shards.get(shard).createEmployees(batch));
+                positions.add(indexes);
+            });
+            List<BulkCreateResult> results = scatter(creates);
+            for (int part = 0; part < results.size(); part++) {
+                BulkCreateResult result = results.get(part);
+                List<Integer> indexes = positions.get(part);
+                for (int i = 0; i < indexes.size(); i++) {
+                    ids[indexes.get(i)] = result.ids().get(i);
+                }
+                for (BulkCreateResult.Failure failure : result.failures()) {
+                    int index = indexes.get(failure.index());
+                    failures.add(new BulkCreateResult.Failure(index, rows.get(index), failure.reason()));
+                }
+            }
+        } finally {
+            unlockAllEmails();
+        }
+
+        for (int index = 0; index < ids.length; index++) {
+            if (ids[index] != null) {
+                rows.get(index).setId(ids[index]);
+            }
+        }
+        failures.sort(Comparator.comparingInt(BulkCreateResult.Failure::index));
+        return new BulkCreateResult(Arrays.asList(ids), failures);
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        List<Employee> all = new ArrayList<>();
+        onEveryShard(EmployeeService::getAllEmployees).forEach(all::addAll);
+        all.sort(BY_ID);
+        return all;
+    }
+
+    /**
+     * Asks every shard for its first {@code limit} rows after {@code afterId} and keeps the lowest
+     * {@code limit} ids of the union.
+     */
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        List<EmployeePage> pages = onEveryShard(shard -> shard.getEmployeePage(afterId, limit));
+        List<Employee> merged = new ArrayList<>();
+        boolean hasMore = false;
+        for (EmployeePage page : pages) {
+            merged.addAll(page.employees());
+            hasMore |= page.hasMore();
+        }
+        merged.sort(BY_ID);
+        if (merged.size() > limit) {
+            merged = merged.subList(0, limit);
+            hasMore = true;
+        }
+        Long nextAfterId = hasMore ? merged.get(merged.size() - 1).getId() : null;
+        return new EmployeePage(merged, nextAfterId);
+    }
+
+    /**
+     * Opens every shard's stream and merges them by id as the result is consumed, holding one row
+     * per shard at a time. Closing the result closes all the shard streams.
+     */
+    @Override
+    public Stream<Employee> streamEmployees() {
+        List<Stream<Employee>> streams = new ArrayList<>(shards.size());
+        try {
+            for (EmployeeService shard : shards) {
+                streams.add(shard.streamEmployees());
+            }
+        } catch (RuntimeException e) {
+            closeAll(streams, e);
+            throw e;
+        }
+        Iterator<Employee> merged = new MergingIterator(streams);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> closeAll(streams, null));
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        return shardFor(id).getEmployeeById(id);
+    }
+
+    /**
+     * Splits the ids by home shard and runs one bulk lookup per shard, in parallel.
+     */
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinct.removeIf(Objects::isNull);
+        Map<Integer, List<Long>> byShard = new LinkedHashMap<>();
+        for (Long id : distinct) {
+            byShard.computeIfAbsent(shardOf(id, shards.size()), key -> new ArrayList<>()).add(id);
+        }
+        List<Callable<Map<Long, Employee>>> lookups = new ArrayList<>();
+        byShard.forEach((shard, shardIds) -> lookups.add(() -> shards.get(shard).getEmployeesByIds(shardIds)));
+        Map<Long, Employee> rows = new HashMap<>();
+        scatter(lookups).forEach(rows::putAll);
+
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : distinct) {
+            Employee employee = rows.get(id);
+            if (employee != null) {
+                found.put(id, employee);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        for (Optional<Employee> match : onEveryShard(shard -> shard.findByEmail(email))) {
+            if (match.isPresent()) {
+                return match;
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        List<Employee> merged = new ArrayList<>();
+        onEveryShard(shard -> shard.findByLastNamePrefix(prefix, limit)).forEach(merged::addAll);
+        merged.sort(BY_LAST_NAME);
+        return merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * Each shard returns its own best {@code limit}; the union is scored again to pick the overall best.
+     */
+    @Override
+    public List<Employee> search(String query, int limit) {
+        List<Employee> merged = new ArrayList<>();
+        onEveryShard(shard -> shard.search(query, limit)).forEach(merged::addAll);
+        return EmployeeSearch.rank(EmployeeSearch.tokens(query), merged.stream(), limit);
+    }
+
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        int home = shardOf(id, shards.size());
+        if (employee == null || employee.getEmail() == null) {
+            return shards.get(home).updateEmployee(id, employee);
+        }
+        ReentrantLock lock = emailLock(employee.getEmail());
+        lock.lock();
+        try {
+            requireEmailFree(employee.getEmail(), id, home);
+            return shards.get(home).updateEmployee(id, employee);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> patchEmployee(long id, EmployeePatch changes) {
+        int home = shardOf(id, shards.size());
+        if (!changes.fields().contains(EmployeePatch.Field.EMAIL)) {
+            return shards.get(home).patchEmployee(id, changes);
+        }
+        String email = (String) changes.value(EmployeePatch.Field.EMAIL);
+        ReentrantLock lock = emailLock(email);
+        lock.lock();
+        try {
+            requireEmailFree(email, id, home);
+            return shards.get(home).patchEmployee(id, changes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Looks the email up on every shard under its lock, then updates the owner in place or creates
+     * the row under a fresh id on that id's home shard.
+     */
+    @Override
+    public Employee upsertEmployee(Employee employee) {
+        if (employee == null || employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
+            throw new IllegalArgumentException("email is required");
+        }
+        ReentrantLock lock = emailLock(employee.getEmail());
+        lock.lock();
+        try {
+            Optional<Employee> existing = findByEmail(employee.getEmail());
+            if (existing.isPresent()) {
+                long id = existing.get().getId();
+                Optional<Employee> updated = shardFor(id).updateEmployee(id, new Employee(employee));
+                if (updated.isPresent()) {
+                    return updated.get();
+                }
+            }
+            Employee row = new Employee(employee);
+            row.setId(idAllocator.next());
+            return shardFor(row.getId()).createEmployee(row);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        return shardFor(id).deleteEmployee(id);
+    }
+
+    /**
+     * Runs one bulk update per shard, in parallel, after rejecting the rows whose new email is
+     * taken on another shard or by an earlier row of the same call.
+     */
+    @Override
+    public BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+        List<Long> updated = new ArrayList<>();
+        List<BulkUpdateResult.Failure> failures = new ArrayList<>();
+        List<Map.Entry<Long, Employee>> entries = new ArrayList<>(updates.entrySet());
+        List<Employee> keyed = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, Employee> entry : entries) {
+            Employee row = entry.getValue() == null ? null : new Employee(entry.getValue());
+            if (row != null) {
+                row.setId(entry.getKey());
+            }
+            keyed.add(row);
+        }
+
+        lockAllEmails();
+        try {
+            BitSet conflicts = emailConflicts(keyed);
+            Map<Integer, Map<Long, Employee>> byShard = new LinkedHashMap<>();
+            for (int index = 0; index < entries.size(); index++) {
+                Map.Entry<Long, Employee> entry = entries.get(index);
+                if (conflicts.get(index)) {
+                    failures.add(new BulkUpdateResult.Failure(entry.getKey(), entry.getValue(),
+                            "Email already exists: " + entry.getValue().getEmail()));
+                    continue;
+                }
+                byShard.computeIfAbsent(shardOf(entry.getKey(), shards.size()), key -> new LinkedHashMap<>())
+                        .put(entry.getKey(), entry.getValue());
+            }
+            List<Callable<BulkUpdateResult>> batches = new ArrayList<>();
+            byShard.forEach((shard, batch) -> batches.add(() -> shards.get(shard).updateEmployees(batch)));
+            for (BulkUpdateResult result : scatter(batches)) {
+                updated.addAll(result.updated());
+                failures.addAll(result.failures());
+            }
+        } finally {
+            unlockAllEmails();
+        }
+        return new BulkUpdateResult(updated, failures);
+    }
+
+    /**
+     * Sums the shards' aggregates, each computed natively by its backend.
+     */
+    @Override
+    public EmployeeAggregates getAggregates() {
+        EmployeeAggregates.Accumulator accumulator = new EmployeeAggregates.Accumulator();
+        onEveryShard(EmployeeService::getAggregates).forEach(accumulator::merge);
+        return accumulator.toAggregates();
+    }
+
+    /**
+     * Closes every shard that is closeable, then the extra resources. All of them are closed even
+     * if one fails; the first failure is thrown with the rest suppressed, and an interrupt while
+     * closing is kept on the thread.
+     */
+    @Override
+    public void close() {
+        RuntimeException failure = null;
+        List<AutoCloseable> closeables = new ArrayList<>();
+        for (EmployeeService shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeables.add(closeable);
+            }
+        }
+        closeables.addAll(resources);
+        for (AutoCloseable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                RuntimeException wrapped = e instanceof RuntimeException runtime ? runtime
+                        : new RuntimeException("Error closing " + closeable + ": " + e.getMessage(), e);
+                if (failure == null) {
+                    failure = wrapped;
+                } else {
+                    failure.addSuppressed(wrapped);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private EmployeeService shardFor(long id) {
+        return shards.get(shardOf(id, shards.size()));
+    }
+
+    /**
+     * Throws if an employee other than {@code id} owns {@code email} on a shard other than
+     * {@code home}; the home shard's own constraint covers that shard.
+     */
+    private void requireEmailFree(String email, long id, int home) {
+        if (email == null || shards.size() == 1) {
+            return;
+        }
+        List<Callable<Optional<Employee>>> lookups = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            if (shard != home) {
+                EmployeeService other = shards.get(shard);
+                lookups.add(() -> other.findByEmail(email));
+            }
+        }
+        for (Optional<Employee> owner : scatter(lookups)) {
+            if (owner.isPresent() && owner.get().getId() != id) {
+                throw new DuplicateEmailException(email);
+            }
+        }
+    }
+
+    /**
+     * Marks the rows (keyed by their id) whose email repeats an earlier row's, or belongs to a
+     * different employee on a shard other than the row's home shard. Each shard checks the rows
+     * homed elsewhere, one lookup per row, all shards in parallel.
+     */
+    private BitSet emailConflicts(List<Employee> rows) {
+        BitSet conflicts = new BitSet(rows.size());
+        Map<String, Integer> firstUse = new HashMap<>();
+        for (int index = 0; index < rows.size(); index++) {
+            Employee row = rows.get(index);
+            if (row != null && row.getEmail() != null
+                    && firstUse.putIfAbsent(normalize(row.getEmail()), index) != null) {
+                conflicts.set(index);
+            }
+        }
+        if (shards.size() == 1) {
+            return conflicts;
+        }
+        List<Callable<List<Integer>>> checks = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int current = shard;
+            checks.add(() -> {
+                List<Integer> taken = new ArrayList<>();
+                for (int index = 0; index < rows.size(); index++) {
+                    Employee row = rows.get(index);
+                    if (row == null || row.getEmail() == null || conflicts.get(index)
+                            || shardOf(row.getId(), shards.size()) == current) {
+                        continue;
+                    }
+                    Optional<Employee> owner = shards.get(current).findByEmail(row.getEmail());
+                    if (owner.isPresent() && !owner.get().getId().equals(row.getId())) {
+                        taken.add(index);
+                    }
+                }
+                return taken;
+            });
+        }
+        scatter(checks).forEach(taken -> taken.forEach(conflicts::set));
+        return conflicts;
+    }
+
+    private <T> List<T> onEveryShard(Function<EmployeeService, T> call) {
+        List<Callable<T>> calls = new ArrayList<>(shards.size());
+        for (EmployeeService shard : shards) {
+            calls.add(() -> call.apply(shard));
+        }
+        return scatter(calls);
+    }
+
+    /**
+     * Runs the calls on virtual threads and returns their results in order. A single call runs on
+     * the caller's thread.
+     */
+    private static <T> List<T> scatter(List<Callable<T>> calls) {
+        List<T> results = new ArrayList<>(calls.size());
+        if (calls.size() == 1) {
+            try {
+                results.add(calls.get(0).call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return results;
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = new ArrayList<>(calls.size());
+            for (Callable<T> call : calls) {
+                futures.add(executor.submit(call));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for shards", e);
+        } catch (ExecutionException e) {
+            // the calls only throw unchecked exceptions
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw (RuntimeException) e.getCause();
+        }
+        return results;
+    }
+
+    private ReentrantLock emailLock(String email) {
+        int hash = email == null ? 0 : normalize(email).hashCode();
+        return emailStripes[Math.floorMod(hash, EMAIL_STRIPES)];
+    }
+
+    private void lockAllEmails() {
+        for (ReentrantLock lock : emailStripes) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAllEmails() {
+        for (int i = EMAIL_STRIPES - 1; i >= 0; i--) {
+            emailStripes[i].unlock();
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * murmur3's 64-bit finalizer, so consecutive ids land on unrelated shards.
+     */
+    private static long mix(long id) {
+        long h = id;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static void closeAll(List<Stream<Employee>> streams, RuntimeException failure) {
+        RuntimeException first = failure;
+        for (Stream<Employee> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException e) {
+                if (first == null) {
+                    first = e;
+                } else {
+                    first.addSuppressed(e);
+                }
+            }
+        }
+        if (first != null && failure == null) {
+            throw first;
+        }
+    }
+
+    /**
+     * K-way merge of id-ordered iterators. The shard streams are only pulled once the merged
+     * stream is consumed.
+     */
+    private static final class MergingIterator implements Iterator<Employee> {
+
+        private final List<Stream<Employee>> streams;
+        private PriorityQueue<Head> heads;
+
+        private MergingIterator(List<Stream<Employee>> streams) {
+            this.streams = streams;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads().isEmpty();
+        }
+
+        @Override
+        public Employee next() {
+            Head head = heads().poll();
+            if (head == null) {
+                throw new NoSuchElementException();
+            }
+            if (head.rest.hasNext()) {
+                heads.add(new Head(head.rest.next(), head.rest));
+            }
+            return head.employee;
+        }
+
+        private PriorityQueue<Head> heads() {
+            if (heads == null) {
+                heads = new PriorityQueue<>(Math.max(1, streams.size()),
+                        Comparator.comparing((Head head) -> head.employee, BY_ID));
+                for (Stream<Employee> stream : streams) {
+                    Iterator<Employee> rows = stream.iterator();
+                    if (rows.hasNext()) {
+                        heads.add(new Head(rows.next(), rows));
+                    }
+                }
+            }
+            return heads;
+        }
+
+        private record Head(Employee employee, Iterator<Employee> rest) {
+        }
+    }
+}
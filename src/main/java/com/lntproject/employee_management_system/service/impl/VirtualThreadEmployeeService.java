@@ -0,0 +1,247 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.AsyncEmployeeService;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Runs blocking {@link EmployeeService} calls on virtual threads, one thread per call.
+ *
+ * <p>Threads are cheap, connections are not: a fair semaphore sized to the connection budget
+ * bounds how many calls reach the delegate at once, and the rest park (without holding a carrier
+ * thread) until a permit frees up. Timeouts and cancellation interrupt the call, whether it is
+ * still waiting for a permit or already inside the delegate.
+ */
+public class VirtualThreadEmployeeService implements AsyncEmployeeService, MeterBinder, AutoCloseable {
+
+    private final EmployeeService delegate;
+    private final Limits limits;
+    private final Duration timeout;
+    private final boolean owner;
+
+    public VirtualThreadEmployeeService(EmployeeService delegate, int maxConcurrency, Duration timeout) {
+        this(delegate, new Limits(maxConcurrency), timeout, true);
+    }
+
+    private VirtualThreadEmployeeService(EmployeeService delegate, Limits limits, Duration timeout, boolean owner) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.limits = limits;
+        this.timeout = timeout == null || timeout.isZero() || timeout.isNegative() ? null : timeout;
+        this.owner = owner;
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(Employee employee) {
+        return submit(() -> delegate.createEmployee(employee));
+    }
+
+    @Override
+    public CompletableFuture<BulkCreateResult> createEmployees(Collection<Employee> employees) {
+        return submit(() -> delegate.createEmployees(employees));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        return submit(delegate::getAllEmployees);
+    }
+
+    @Override
+    public CompletableFuture<EmployeePage> getEmployeePage(long afterId, int limit) {
+        return submit(() -> delegate.getEmployeePage(afterId, limit));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Employee>> getEmployeeById(long id) {
+        return submit(() -> delegate.getEmployeeById(id));
+    }
+
+    @Override
+    public CompletableFuture<Map<Long, Employee>> getEmployeesByIds(Collection<Long> ids) {
+        return submit(() -> delegate.getEmployeesByIds(ids));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Employee>> findByEmail(String email) {
+        return submit(() -> delegate.findByEmail(email));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> findByLastNamePrefix(String prefix, int limit) {
+        return submit(() -> delegate.findByLastNamePrefix(prefix, limit));
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> search(String query, int limit) {
+        return submit(() -> delegate.search(query, limit));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Employee>> updateEmployee(long id, Employee employee) {
+        return submit(() -> delegate.updateEmployee(id, employee));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Employee>> patchEmployee(long id, EmployeePatch changes) {
+        return submit(() -> delegate.patchEmployee(id, changes));
+    }
+
+    @Override
+    public CompletableFuture<Employee> upsertEmployee(Employee employee) {
+        return submit(() -> delegate.upsertEmployee(employee));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteEmployee(long id) {
+        return submit(() -> delegate.deleteEmployee(id));
+    }
+
+    @Override
+    public CompletableFuture<EmployeeAggregates> getAggregates() {
+        return submit(delegate::getAggregates);
+    }
+
+    @Override
+    public AsyncEmployeeService withTimeout(Duration timeout) {
+        return new VirtualThreadEmployeeService(delegate, limits, timeout, false);
+    }
+
+    public int maxConcurrency() {
+        return limits.maxConcurrency;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.async.active", limits, l -> l.maxConcurrency - l.permits.availablePermits())
+                .description("Async employee calls currently holding a permit")
+                .register(registry);
+        Gauge.builder("employee.async.waiting", limits, l -> l.permits.getQueueLength())
+                .description("Async employee calls parked waiting for a permit")
+                .register(registry);
+        FunctionCounter.builder("employee.async.timeouts", limits, l -> l.timeouts.get())
+                .description("Async employee calls that exceeded their timeout")
+                .register(registry);
+    }
+
+    /**
+     * Stops accepting calls and waits briefly for running ones. Views created by
+     * {@link #withTimeout(Duration)} share the threads and leave them to the owning instance.
+     */
+    @Override
+    public void close() {
+        if (!owner || limits.executor.isShutdown()) {
+            return;
+        }
+        limits.executor.shutdown();
+        try {
+            if (!limits.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                limits.executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            limits.executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs {@code call} with the caller's read-your-writes window, so an async read after an
+     * async write is still routed to the primary.
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        return withDeadline(start(ReadWriteRouting.carryReadYourWrites(call)));
+    }
+
+    /**
+     * Starts {@code call} on its own virtual thread. Completing the returned future exceptionally
+     * (cancel, timeout) interrupts that thread.
+     */
+    private <T> CompletableFuture<T> start(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task = limits.executor.submit(() -> run(call, result));
+        result.whenComplete((value, failure) -> {
+            if (failure != null) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> void run(Supplier<T> call, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            limits.permits.acquire();
+        } catch (InterruptedException e) {
+            result.completeExceptionally(new CancellationException("Cancelled while waiting for a permit"));
+            return;
+        }
+        try {
+            if (!result.isDone()) {
+                result.complete(call.get());
+            }
+        } catch (Throwable t) {
+            result.completeExceptionally(t);
+        } finally {
+            limits.permits.release();
+        }
+    }
+
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> future) {
+        if (timeout == null) {
+            return future;
+        }
+        future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        future.whenComplete((value, failure) -> {
+            if (failure instanceof TimeoutException) {
+                limits.timeouts.incrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * State shared between an instance and its {@link #withTimeout(Duration)} views.
+     */
+    private static final class Limits {
+
+        private final int maxConcurrency;
+        private final Semaphore permits;
+        private final ExecutorService executor;
+        private final AtomicLong timeouts = new AtomicLong();
+
+        private Limits(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be positive");
+            }
+            this.maxConcurrency = maxConcurrency;
+            this.permits = new Semaphore(maxConcurrency, true);
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("employee-async-", 0).factory());
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.lntproject.employee_management_system.service.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Write-behind mode for updates: {@link #updateEmployee(long, Employee)} records the new row in a
+ * queue keyed by id and returns, and a background flusher hands the queue to
+ * {@link EmployeeService#updateEmployees(Map)} in batches of {@code batchSize}, one transaction
+ * per batch. A later update to an id replaces the queued one, so a burst of updates to the same
+ * rows costs one write per row.
+ *
+ * <p>The flusher runs when {@code batchSize} rows are queued or {@code flushInterval} has passed.
+ * Once {@code maxPending} rows are queued, writers flush inline, which bounds the queue and pushes
+ * back on them when the backend falls behind. Creates and deletes go straight to the delegate.
+ *
+ * <p>Reads by id, pages, listings and streams overlay the queued rows. Lookups by email or last
+ * name and aggregates filter on columns a queued update may change, so they flush first.
+ *
+ * <p>Because the write happens later, an update the backend would reject has to fail before it is
+ * queued: one that takes an email already stored or queued for another employee throws
+ * {@link DuplicateEmailException}, so the caller and the decorators above never see a row the
+ * backend refuses. A row still rejected at flush time (a create racing the check, or a write that
+ * bypassed this service) is logged, counted and dropped. A failure of the whole flush keeps the
+ * rows queued for the next attempt. {@link #close()} drains the queue.
+ */
+public final class WriteBehindEmployeeService extends ForwardingEmployeeService implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindEmployeeService.class);
+    private static final int STRIPES = 64;
+
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalNanos;
+    private final ConcurrentHashMap<Long, Employee> pending = new ConcurrentHashMap<>();
+    // Normalized email of every queued row -> its id, so claimEmail need not walk the queue.
+    private final ConcurrentHashMap<String, Long> queuedEmails = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock emailLock = new ReentrantLock();
+    private final ReentrantLock signalLock = new ReentrantLock();
+    private final Condition flushRequested = signalLock.newCondition();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong queued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Thread flusher;
+
+    public WriteBehindEmployeeService(EmployeeService delegate, int batchSize, Duration flushInterval, int maxPending) {
+        super(delegate);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (maxPending < batchSize) {
+            throw new IllegalArgumentException("maxPending must be at least batchSize");
+        }
+        if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("flushInterval must be positive");
+        }
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        // Started last: every field is set before the flusher can see this instance.
+        this.flusher = new Thread(this::runFlusher, "employee-write-behind");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        if (employee == null || employee.getId() == null) {
+            return delegate.createEmployee(employee);
+        }
+        // An explicit id replaces the row, so an update still queued for it must not land afterwards.
+        ReentrantLock lock = stripe(employee.getId());
+        lock.lock();
+        try {
+            dequeue(employee.getId());
+            return delegate.createEmployee(employee);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #createEmployee(Employee)}, holds the stripes of every explicit id for the
+     * duration of the write, taken in index order so concurrent bulk creates cannot deadlock.
+     */
+    @Override
+    public BulkCreateResult createEmployees(Collection<Employee> employees) {
+        BitSet held = new BitSet(STRIPES);
+        for (Employee employee : employees) {
+            if (employee != null && employee.getId() != null) {
+                held.set(stripeIndex(employee.getId()));
+            }
+        }
+        if (held.isEmpty()) {
+            return delegate.createEmployees(employees);
+        }
+        held.stream().forEach(index -> stripes[index].lock());
+        try {
+            for (Employee employee : employees) {
+                if (employee != null && employee.getId() != null) {
+                    dequeue(employee.getId());
+                }
+            }
+            return delegate.createEmployees(employees);
+        } finally {
+            held.stream().forEach(index -> stripes[index].unlock());
+        }
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        List<Employee> employees = new ArrayList<>(delegate.getAllEmployees());
+        employees.replaceAll(this::overlay);
+        return employees;
+    }
+
+    @Override
+    public EmployeePage getEmployeePage(long afterId, int limit) {
+        EmployeePage page = delegate.getEmployeePage(afterId, limit);
+        List<Employee> employees = new ArrayList<>(page.employees());
+        employees.replaceAll(this::overlay);
+        return new EmployeePage(employees, page.nextAfterId());
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return delegate.streamEmployees().map(this::overlay);
+    }
+
+    @Override
+    public Optional<Employee> getEmployeeById(long id) {
+        Employee queuedRow = pending.get(id);
+        if (queuedRow != null) {
+            return Optional.of(new Employee(queuedRow));
+        }
+        return delegate.getEmployeeById(id);
+    }
+
+    /**
+     * Takes the queued rows first, as {@link #getEmployeeById(long)} does, so a flush completing
+     * during the lookup cannot hand back the row it just replaced.
+     */
+    @Override
+    public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+        Map<Long, Employee> queuedRows = new HashMap<>();
+        List<Long> unqueued = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (id == null) {
+                continue;
+            }
+            Employee queuedRow = pending.get(id);
+            if (queuedRow != null) {
+                queuedRows.put(id, new Employee(queuedRow));
+            } else {
+                unqueued.add(id);
+            }
+        }
+        Map<Long, Employee> stored = unqueued.isEmpty() ? Map.of() : delegate.getEmployeesByIds(unqueued);
+        Map<Long, Employee> found = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Employee row = id == null ? null : queuedRows.getOrDefault(id, stored.get(id));
+            if (row != null) {
+                found.putIfAbsent(id, row);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        flushIfPending();
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public List<Employee> findByLastNamePrefix(String prefix, int limit) {
+        flushIfPending();
+        return delegate.findByLastNamePrefix(prefix, limit);
+    }
+
+    @Override
+    public List<Employee> search(String query, int limit) {
+        flushIfPending();
+        return delegate.search(query, limit);
+    }
+
+    /**
+     * Queues the update and returns as soon as it is visible to reads through this service. An id
+     * with nothing queued costs one read to confirm the row exists.
+     */
+    @Override
+    public Optional<Employee> updateEmployee(long id, Employee employee) {
+        EmployeeService.requireValidUpdate(id, employee);
+        if (closed.get()) {
+            return delegate.updateEmployee(id, employee);
+        }
+
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            Employee current = pending.get(id);
+            if (current == null) {
+                current = delegate.getEmployeeById(id).orElse(null);
+                if (current == null) {
+                    return Optional.empty();
+                }
+            }
+            if (emailKey(current.getEmail()).equals(emailKey(employee.getEmail()))) {
+                enqueue(id, employee);
+            } else {
+                // One email change at a time, so two queued updates cannot both claim the same email.
+                emailLock.lock();
+                try {
+                    claimEmail(id, employee.getEmail());
+                    enqueue(id, employee);
+                } finally {
+                    emailLock.unlock();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        int depth = pending.size();
+        if (depth >= maxPending) {
+            flush();
+        } else if (depth >= batchSize) {
+            requestFlush();
+        }
+        return Optional.of(employee);
+    }
+
+    @Override
+    public boolean deleteEmployee(long id) {
+        ReentrantLock lock = stripe(id);
+        lock.lock();
+        try {
+            dequeue(id);
+            return delegate.deleteEmployee(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public EmployeeAggregates getAggregates() {
+        flushIfPending();
+        return delegate.getAggregates();
+    }
+
+    /**
+     * Writes every row queued when the call starts, in batches of {@code batchSize}. Rows queued
+     * meanwhile wait for the next flush. Throws if the backend fails, leaving the rows queued.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, Employee>> rows = new ArrayList<>(pending.size());
+            pending.forEach((id, employee) -> rows.add(Map.entry(id, employee)));
+            for (int start = 0; start < rows.size(); start += batchSize) {
+                int end = Math.min(start + batchSize, rows.size());
+                writeBatch(rows.subList(start, end));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.writebehind.pending", pending, Map::size)
+                .description("Updates queued and not yet written to the backend")
+                .register(registry);
+        FunctionTimer.builder("employee.writebehind.flush", this,
+                        service -> service.flushes.get(), service -> service.flushNanos.get(), TimeUnit.NANOSECONDS)
+                .description("Batches written by the write-behind flusher, one transaction each")
+                .register(registry);
+        FunctionCounter.builder("employee.writebehind.updates", queued, AtomicLong::get)
+                .description("Updates accepted into the write-behind queue")
+                .register(registry);
+        FunctionCounter.builder("employee.writebehind.coalesced", coalesced, AtomicLong::get)
+                .description("Queued updates replaced by a later update to the same id before being written")
+                .register(registry);
+        FunctionCounter.builder("employee.writebehind.rows", flushedRows, AtomicLong::get)
+                .description("Rows written by the write-behind flusher")
+                .register(registry);
+        FunctionCounter.builder("employee.writebehind.rejected", rejected, AtomicLong::get)
+                .description("Queued updates the backend rejected and that were dropped")
+                .register(registry);
+    }
+
+    /**
+     * Stops the flusher and drains the queue; updates arriving afterwards are written through.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        requestFlush();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Could not drain the write-behind queue; {} updates were not written", pending.size(), e);
+        }
+    }
+
+    private void writeBatch(List<Map.Entry<Long, Employee>> rows) {
+        Map<Long, Employee> batch = new LinkedHashMap<>();
+        rows.forEach(row -> batch.put(row.getKey(), row.getValue()));
+
+        long started = System.nanoTime();
+        BulkUpdateResult result = delegate.updateEmployees(batch);
+        flushNanos.addAndGet(System.nanoTime() - started);
+        flushes.incrementAndGet();
+        flushedRows.addAndGet(result.updated().size());
+
+        for (BulkUpdateResult.Failure failure : result.failures()) {
+            rejected.incrementAndGet();
+            log.warn("Dropped queued update for employee {}: {}", failure.id(), failure.reason());
+        }
+        // Conditional remove: a newer update queued during the write stays queued.
+        for (Map.Entry<Long, Employee> row : rows) {
+            if (pending.remove(row.getKey(), row.getValue())) {
+                releaseEmail(row.getKey(), row.getValue().getEmail());
+            }
+        }
+    }
+
+    private void enqueue(long id, Employee employee) {
+        employee.setId(id);
+        queued.incrementAndGet();
+        Employee replaced = pending.put(id, new Employee(employee));
+        queuedEmails.put(emailKey(employee.getEmail()), id);
+        if (replaced != null) {
+            coalesced.incrementAndGet();
+            releaseEmail(id, replaced.getEmail());
+        }
+    }
+
+    private void dequeue(long id) {
+        Employee removed = pending.remove(id);
+        if (removed != null) {
+            releaseEmail(id, removed.getEmail());
+        }
+    }
+
+    /**
+     * Drops {@code email} from the queued emails unless the row queued for {@code id} still
+     * carries it. Runs after the row left {@link #pending}, so an update queued for the id in the
+     * meantime, which puts its email back after its row, is never left out.
+     */
+    private void releaseEmail(long id, String email) {
+        String key = emailKey(email);
+        queuedEmails.computeIfPresent(key, (ignored, owner) -> {
+            Employee queuedRow = pending.get(id);
+            boolean stillQueued = queuedRow != null && key.equals(emailKey(queuedRow.getEmail()));
+            return owner == id && !stillQueued ? null : owner;
+        });
+    }
+
+    /**
+     * Throws if {@code email} belongs to another employee, queued or stored. A stored owner that
+     * has an update queued giving the email up is flushed first, so ours cannot land before it.
+     */
+    private void claimEmail(long id, String email) {
+        Long queuedOwner = queuedEmails.get(emailKey(email));
+        if (queuedOwner != null && queuedOwner != id) {
+            throw new DuplicateEmailException(email);
+        }
+        Optional<Employee> owner = delegate.findByEmail(email).filter(row -> row.getId() != id);
+        if (owner.isPresent() && pending.containsKey(owner.get().getId())) {
+            flush();
+            owner = delegate.findByEmail(email).filter(row -> row.getId() != id);
+        }
+        if (owner.isPresent()) {
+            throw new DuplicateEmailException(email);
+        }
+    }
+
+    private void runFlusher() {
+        boolean failed = false;
+        while (!closed.get()) {
+            signalLock.lock();
+            try {
+                if ((failed || pending.size() < batchSize) && !closed.get()) {
+                    flushRequested.awaitNanos(flushIntervalNanos);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                signalLock.unlock();
+            }
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                flush();
+                failed = false;
+            } catch (RuntimeException e) {
+                failed = true;
+                log.error("Write-behind flush failed; {} updates stay queued for the next attempt",
+                        pending.size(), e);
+            }
+        }
+    }
+
+    private void requestFlush() {
+        signalLock.lock();
+        try {
+            flushRequested.signal();
+        } finally {
+            signalLock.unlock();
+        }
+    }
+
+    private void flushIfPending() {
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    private Employee overlay(Employee employee) {
+        Employee queuedRow = pending.get(employee.getId());
+        return queuedRow == null ? employee : new Employee(queuedRow);
+    }
+
+    private ReentrantLock stripe(long id) {
+        return stripes[stripeIndex(id)];
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int stripeIndex(long id) {
+        return Math.floorMod(Long.hashCode(id), STRIPES);
+    }
+}
@@ -4,6 +4,10 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
 public class DBConnection {
     
     private static final String DB_URL = "jdbc:mysql://localhost:3306/EmployeeDB";
@@ -22,6 +26,14 @@ public class DBConnection {
     public static Connection getConnection() throws SQLException {
         return DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
     }
+
+    /**
+     * Unpooled fallback for code running outside the Spring context. The application itself
+     * uses the pooled DataSource configured from spring.datasource.* instead.
+     */
+    public static DataSource getDataSource() {
+        return new DriverManagerDataSource(DB_URL, DB_USER, DB_PASSWORD);
+    }
     
     public static void main(String[] args) {
         try {
@@ -0,0 +1,40 @@
+package com.lntproject.employee_management_system.web;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.lntproject.employee_management_system.service.AdmissionRejectedException;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+
+/**
+ * Maps service exceptions to RFC 9457 problem responses.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication
+public class ApiExceptionHandler {
+
+    @ExceptionHandler(DuplicateEmailException.class)
+    public ProblemDetail duplicateEmail(DuplicateEmailException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    /**
+     * Shed under overload; nothing reached the database, so the client may retry shortly.
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ProblemDetail> admissionRejected(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail invalidRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
@@ -0,0 +1,259 @@
+package com.lntproject.employee_management_system.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+
+/**
+ * HTTP API over {@link EmployeeService}. Reads of a single employee or a page carry a strong ETag
+ * and answer {@code If-None-Match} with 304; the unpaged listing streams a JSON array straight
+ * from {@link EmployeeService#streamEmployees()} so the table is never held in memory.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@ConditionalOnWebApplication
+public class EmployeeController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int FLUSH_EVERY = 500;
+
+    private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping
+    public ResponseEntity<Employee> create(@RequestBody Employee employee) {
+        EmployeeService.requireValid(employee);
+        employee.setId(null);
+        Employee created = employeeService.createEmployee(employee);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+        return ResponseEntity.created(location).eTag(etag(List.of(created))).body(created);
+    }
+
+    @PostMapping("/bulk")
+    public BulkCreateResult createAll(@RequestBody List<Employee> employees) {
+        employees.forEach(employee -> {
+            if (employee != null) {
+                employee.setId(null);
+            }
+        });
+        return employeeService.createEmployees(employees);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Employee> get(@PathVariable long id, WebRequest request) {
+        Optional<Employee> employee = employeeService.getEmployeeById(id);
+        if (employee.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = etag(List.of(employee.get()));
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employee.get());
+    }
+
+    /**
+     * The employees with the given ids ({@code ?ids=3,1,7}) that exist, in request order, read
+     * with one multi-get instead of a request per id.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Employee>> getMany(@RequestParam List<Long> ids, WebRequest request) {
+        if (ids.size() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("at most " + MAX_PAGE_SIZE + " ids per request");
+        }
+        List<Employee> employees = List.copyOf(employeeService.getEmployeesByIds(ids).values());
+        String etag = etag(employees);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employees);
+    }
+
+    /**
+     * One keyset page ordered by id. The cursor for the next page is returned both in the body
+     * ({@code nextAfterId}) and as a {@code Link: rel="next"} header.
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<EmployeePage> page(@RequestParam(defaultValue = "0") long afterId,
+                                             @RequestParam int limit,
+                                             WebRequest request) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        EmployeePage page = employeeService.getEmployeePage(afterId, limit);
+        String etag = etag(page.employees());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.hasMore()) {
+            URI next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("afterId", page.nextAfterId())
+                    .build()
+                    .toUri();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page);
+    }
+
+    /**
+     * Every employee as one JSON array, written row by row while the backend cursor advances.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list() {
+        StreamingResponseBody body = this::writeAll;
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Employee> update(@PathVariable long id, @RequestBody Employee employee) {
+        EmployeeService.requireValid(employee);
+        return employeeService.updateEmployee(id, employee)
+                .map(updated -> ResponseEntity.ok().eTag(etag(List.of(updated))).body(updated))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Partial update: only the properties present in the body are written; {@code null} clears an
+     * optional one. Answers with the resulting row.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<Employee> patch(@PathVariable long id, @RequestBody JsonNode changes) {
+        return employeeService.patchEmployee(id, patchOf(changes))
+                .map(patched -> ResponseEntity.ok().eTag(etag(List.of(patched))).body(patched))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable long id) {
+        return employeeService.deleteEmployee(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping("/aggregates")
+    public EmployeeAggregates aggregates() {
+        return employeeService.getAggregates();
+    }
+
+    /**
+     * Best matches for {@code q} over names and email, typos tolerated, best first.
+     */
+    @GetMapping("/search")
+    public List<Employee> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return employeeService.search(q, limit);
+    }
+
+    private static EmployeePatch patchOf(JsonNode changes) {
+        if (changes == null || !changes.isObject()) {
+            throw new IllegalArgumentException("PATCH body must be a JSON object");
+        }
+        EmployeePatch.Builder patch = EmployeePatch.builder();
+        for (Map.Entry<String, JsonNode> field : changes.properties()) {
+            JsonNode value = field.getValue();
+            String text = value.isNull() ? null : value.asText();
+            try {
+                switch (field.getKey()) {
+                    case "firstName" -> patch.firstName(text);
+                    case "lastName" -> patch.lastName(text);
+                    case "email" -> patch.email(text);
+                    case "department" -> patch.department(text);
+                    case "position" -> patch.position(text);
+                    case "salary" -> patch.salary(text == null ? null : new BigDecimal(text));
+                    case "hireDate" -> patch.hireDate(text == null ? null : LocalDate.parse(text));
+                    case "id" -> {
+                        // The id comes from the path; echoing it back in the body is harmless.
+                    }
+                    default -> throw new IllegalArgumentException("Unknown property '" + field.getKey() + "'");
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for '" + field.getKey() + "': " + text);
+            }
+        }
+        return patch.build();
+    }
+
+    private void writeAll(OutputStream out) throws IOException {
+        try (Stream<Employee> employees = employeeService.streamEmployees();
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartArray();
+            Iterator<Employee> rows = employees.iterator();
+            int written = 0;
+            while (rows.hasNext()) {
+                json.writeObject(rows.next());
+                if (++written % FLUSH_EVERY == 0) {
+                    json.flush();
+                }
+            }
+            json.writeEndArray();
+        }
+    }
+
+    /**
+     * Strong validator over every field of the given rows, so any change to any row yields a new tag.
+     */
+    private static String etag(List<Employee> employees) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Employee employee : employees) {
+                digest.update(employee.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+CREATE TABLE IF NOT EXISTS employees (
+    employee_id INT PRIMARY KEY AUTO_INCREMENT,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    department VARCHAR(100),
+    position VARCHAR(100),
+    salary DECIMAL(10,2),
+    hire_date DATE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Shared id counter for the sharded store (see EmployeeIdAllocator); unused by the other backends
+CREATE TABLE IF NOT EXISTS employee_id_sequence (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_id BIGINT NOT NULL
+);
+
+-- Checksums of the schema scripts as last applied (see VersionedSchemaInitializer); only
+-- written with app.schema.check=versioned
+CREATE TABLE IF NOT EXISTS schema_version (
+    script VARCHAR(255) PRIMARY KEY,
+    checksum CHAR(64) NOT NULL,
+    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_employees_last_name ON employees (last_name);
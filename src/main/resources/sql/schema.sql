@@ -12,4 +12,33 @@ CREATE TABLE IF NOT EXISTS employees (
     hire_date DATE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
+
+-- Shared id counter for the sharded store (see EmployeeIdAllocator); unused by the other backends
+CREATE TABLE IF NOT EXISTS employee_id_sequence (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_id BIGINT NOT NULL
+);
+
+-- Checksums of the schema scripts as last applied (see VersionedSchemaInitializer); only
+-- written with app.schema.check=versioned
+CREATE TABLE IF NOT EXISTS schema_version (
+    script VARCHAR(255) PRIMARY KEY,
+    checksum CHAR(64) NOT NULL,
+    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Ordered index for last-name prefix searches. MySQL has no CREATE INDEX IF NOT EXISTS,
+-- so the DDL is only prepared when the index is missing (the script runs on every boot).
+SET @create_last_name_index = (
+    SELECT IF(COUNT(*) = 0,
+              'CREATE INDEX idx_employees_last_name ON employees (last_name)',
+              'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'employees'
+      AND index_name = 'idx_employees_last_name'
+);
+PREPARE create_last_name_index FROM @create_last_name_index;
+EXECUTE create_last_name_index;
+DEALLOCATE PREPARE create_last_name_index;
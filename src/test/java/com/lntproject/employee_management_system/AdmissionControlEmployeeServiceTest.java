@@ -0,0 +1,236 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.AdmissionRejectedException;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.AdmissionControlEmployeeService;
+import com.lntproject.employee_management_system.service.impl.AdmissionControlEmployeeService.Lane;
+import com.lntproject.employee_management_system.service.impl.AdmissionControlEmployeeService.LaneLimits;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the admission control over an in-memory backend that can be held or slowed down.
+ */
+class AdmissionControlEmployeeServiceTest {
+
+    private static final LaneLimits WAIT_LONG = new LaneLimits(100, Duration.ofSeconds(10));
+
+    private final SlowService backend = new SlowService();
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        backend.release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void testSaturatedLaneQueuesThenShedsFast() throws Exception {
+        long id = backend.createEmployee(new Employee(null, "Ada", "Lovelace", "ada@example.com")).getId();
+        backend.release = new CountDownLatch(1);
+        AdmissionControlEmployeeService service = new AdmissionControlEmployeeService(backend, 2, 2, 2, 0.5,
+                new LaneLimits(1, Duration.ofSeconds(10)), WAIT_LONG);
+
+        List<Future<Optional<Employee>>> admitted = List.of(
+                callers.submit(() -> service.getEmployeeById(id)),
+                callers.submit(() -> service.getEmployeeById(id)));
+        awaitInFlight(service, 2);
+        Future<Optional<Employee>> queued = callers.submit(() -> service.getEmployeeById(id));
+        awaitWaiting(service, Lane.INTERACTIVE, 1);
+
+        long start = System.nanoTime();
+        assertThrows(AdmissionRejectedException.class, () -> service.getEmployeeById(id));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "A full queue should fail at once");
+        assertEquals(2, backend.maxConcurrent.get(), "No more calls than the limit should reach the backend");
+
+        backend.release.countDown();
+        assertEquals("Lovelace", queued.get(5, TimeUnit.SECONDS).orElseThrow().getLastName());
+        for (Future<Optional<Employee>> call : admitted) {
+            assertTrue(call.get(5, TimeUnit.SECONDS).isPresent());
+        }
+        assertEquals(0, service.inFlight());
+    }
+
+    @Test
+    void testQueuedCallGivesUpAtItsDeadline() throws Exception {
+        backend.release = new CountDownLatch(1);
+        AdmissionControlEmployeeService service = new AdmissionControlEmployeeService(backend, 1, 1, 1, 1.0,
+                new LaneLimits(10, Duration.ofMillis(100)), WAIT_LONG);
+        callers.submit(() -> service.findByEmail("held@example.com"));
+        awaitInFlight(service, 1);
+
+        long start = System.nanoTime();
+        assertThrows(AdmissionRejectedException.class, () -> service.findByEmail("late@example.com"));
+        long waited = System.nanoTime() - start;
+        assertTrue(waited >= TimeUnit.MILLISECONDS.toNanos(90), "Should wait out the deadline: " + waited);
+        assertEquals(1, backend.calls.get(), "A shed call should never reach the backend");
+    }
+
+    @Test
+    void testInteractiveCallsGoAheadOfBulkAndBulkKeepsToItsShare() throws Exception {
+        backend.release = new CountDownLatch(1);
+        AdmissionControlEmployeeService service = new AdmissionControlEmployeeService(backend, 2, 2, 2, 0.5,
+                WAIT_LONG, WAIT_LONG);
+        List<String> order = new ArrayList<>();
+        backend.onCall = order::add;
+
+        Future<?> firstImport = callers.submit(() -> service.createEmployees(List.of(row("import1"))));
+        awaitInFlight(service, 1);
+        Future<?> secondImport = callers.submit(() -> service.createEmployees(List.of(row("import2"))));
+        awaitWaiting(service, Lane.BULK, 1);
+        assertEquals(1, service.inFlight(), "Bulk calls may hold only half the permits");
+
+        Future<?> lookup = callers.submit(() -> service.findByEmail("import1@example.com"));
+        awaitInFlight(service, 2);
+        Future<?> create = callers.submit(() -> service.createEmployee(row("single")));
+        awaitWaiting(service, Lane.INTERACTIVE, 1);
+
+        backend.release.countDown();
+        for (Future<?> call : List.of(firstImport, secondImport, lookup, create)) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+        assertTrue(order.indexOf("createEmployee") < order.indexOf("createEmployees#2"),
+                "A freed permit should go to the waiting interactive call first: " + order);
+    }
+
+    @Test
+    void testLimitShrinksWhenTheBackendSlowsAndRecovers() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            backend.createEmployee(row("slow" + i));
+        }
+        AdmissionControlEmployeeService service = new AdmissionControlEmployeeService(backend, 8, 1, 8, 0.5,
+                WAIT_LONG, WAIT_LONG);
+
+        backend.delayMillis = 1;
+        lookups(service, 8, 50);
+        assertEquals(8, service.limit(), "Steady latency should keep the limit at its maximum");
+
+        backend.delayMillis = 40;
+        lookups(service, 8, 15);
+        int slowed = service.limit();
+        assertTrue(slowed <= 5, "A slower backend should lower the limit, was " + slowed);
+        assertTrue(backend.maxConcurrent.get() <= 8);
+
+        backend.delayMillis = 1;
+        lookups(service, 8, 100);
+        assertEquals(8, service.limit(), "The limit should grow back once latency settles");
+    }
+
+    private void lookups(AdmissionControlEmployeeService service, int threads, int callsEach) throws Exception {
+        List<Future<?>> running = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            running.add(callers.submit(() -> {
+                for (int call = 0; call < callsEach; call++) {
+                    service.getEmployeeById(call % 10 + 1);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> call : running) {
+            call.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void awaitInFlight(AdmissionControlEmployeeService service, int expected)
+            throws InterruptedException {
+        awaitCount(service::inFlight, expected);
+    }
+
+    private static void awaitWaiting(AdmissionControlEmployeeService service, Lane lane, int expected)
+            throws InterruptedException {
+        awaitCount(() -> service.waiting(lane), expected);
+    }
+
+    private static void awaitCount(IntSupplier count, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count.getAsInt() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Expected " + expected + ", still " + count.getAsInt());
+            Thread.sleep(1);
+        }
+    }
+
+    private static Employee row(String name) {
+        return new Employee(null, "First", name, name + "@example.com");
+    }
+
+    /**
+     * In-memory backend that holds every call until released and can add a fixed delay.
+     */
+    private static final class SlowService extends ForwardingEmployeeService {
+
+        volatile CountDownLatch release = new CountDownLatch(0);
+        volatile long delayMillis;
+        volatile Consumer<String> onCall = name -> { };
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final AtomicInteger imports = new AtomicInteger();
+
+        SlowService() {
+            super(new InMemoryEmployeeService());
+        }
+
+        @Override
+        public Employee createEmployee(Employee employee) {
+            return slow("createEmployee", () -> super.createEmployee(employee));
+        }
+
+        @Override
+        public BulkCreateResult createEmployees(Collection<Employee> employees) {
+            return slow("createEmployees#" + imports.incrementAndGet(), () -> super.createEmployees(employees));
+        }
+
+        @Override
+        public Optional<Employee> getEmployeeById(long id) {
+            return slow("getEmployeeById", () -> super.getEmployeeById(id));
+        }
+
+        @Override
+        public Optional<Employee> findByEmail(String email) {
+            return slow("findByEmail", () -> super.findByEmail(email));
+        }
+
+        private <T> T slow(String name, Supplier<T> call) {
+            calls.incrementAndGet();
+            int now = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(now, Math::max);
+            try {
+                synchronized (this) {
+                    onCall.accept(name);
+                }
+                if (!release.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Backend was never released");
+                }
+                if (delayMillis > 0) {
+                    Thread.sleep(delayMillis);
+                }
+                return call.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
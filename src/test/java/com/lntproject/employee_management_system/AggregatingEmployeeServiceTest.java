@@ -0,0 +1,108 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.DepartmentStats;
+import com.lntproject.employee_management_system.service.EmployeeAggregates;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.AggregatingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that the incrementally maintained aggregates always match a full recomputation.
+ */
+class AggregatingEmployeeServiceTest {
+
+    @Test
+    void testInitialLoadComesFromTheBackend() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        store.createEmployee(employee("a@example.com", "Sales", "50000", "2024-01-15"));
+        store.createEmployee(employee("b@example.com", "Sales", "70000", "2024-01-20"));
+
+        AggregatingEmployeeService service = new AggregatingEmployeeService(store);
+        DepartmentStats sales = service.getAggregates().departments().get("Sales");
+
+        assertEquals(2, sales.headcount());
+        assertEquals(0, new BigDecimal("60000").compareTo(sales.averageSalary()));
+        assertEquals(2L, service.getAggregates().hiresPerMonth().get(YearMonth.of(2024, 1)));
+    }
+
+    @Test
+    void testWritesKeepAggregatesInStepWithTheData() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        AggregatingEmployeeService service = new AggregatingEmployeeService(store);
+
+        long alice = service.createEmployee(employee("alice@example.com", "Sales", "50000.50", "2024-03-01")).getId();
+        service.createEmployees(List.of(
+                employee("bob@example.com", "Engineering", "90000", "2024-03-10"),
+                employee("carol@example.com", "Engineering", null, "2023-11-05"),
+                employee("alice@example.com", "Sales", "1", null)));
+        long dave = service.createEmployee(employee("dave@example.com", null, "40000", null)).getId();
+
+        Employee promoted = employee("alice@example.com", "Engineering", "95000", "2024-03-01");
+        service.updateEmployee(alice, promoted);
+        service.deleteEmployee(dave);
+        service.updateEmployee(9999, employee("nobody@example.com", "Sales", "1", null));
+
+        EmployeeAggregates maintained = service.getAggregates();
+        assertEquals(store.getAggregates(), maintained, "Incremental totals should match a full scan");
+        assertFalse(maintained.departments().containsKey("Sales"), "Emptied departments should disappear");
+        DepartmentStats engineering = maintained.departments().get("Engineering");
+        assertEquals(3, engineering.headcount());
+        assertEquals(2, engineering.salariedHeadcount());
+        assertEquals(0, new BigDecimal("185000").compareTo(engineering.totalSalary()));
+        assertEquals(0, new BigDecimal("92500.00").compareTo(engineering.averageSalary()));
+        assertEquals(3, maintained.headcount());
+    }
+
+    @Test
+    void testPollingReturnsTheSameSnapshotUntilTheNextWrite() {
+        AggregatingEmployeeService service = new AggregatingEmployeeService(new InMemoryEmployeeService());
+        service.createEmployee(employee("a@example.com", "Sales", "100", null));
+
+        EmployeeAggregates first = service.getAggregates();
+        assertSame(first, service.getAggregates());
+
+        service.createEmployee(employee("b@example.com", "Sales", "100", null));
+        assertEquals(2, service.getAggregates().headcount());
+    }
+
+    @Test
+    void testDeferredLoadWaitsForTheFirstReadAndCountsEarlierWritesOnce() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        AtomicInteger loads = new AtomicInteger();
+        ForwardingEmployeeService counting = new ForwardingEmployeeService(store) {
+            @Override
+            public EmployeeAggregates getAggregates() {
+                loads.incrementAndGet();
+                return super.getAggregates();
+            }
+        };
+        long alice = store.createEmployee(employee("alice@example.com", "Sales", "50000", "2024-03-01")).getId();
+
+        AggregatingEmployeeService service = new AggregatingEmployeeService(counting, true);
+        service.createEmployee(employee("bob@example.com", "Sales", "60000", "2024-03-10"));
+        service.createEmployees(List.of(employee("carol@example.com", "Engineering", "90000", null)));
+        service.updateEmployee(alice, employee("alice@example.com", "Engineering", "95000", "2024-03-01"));
+        assertEquals(0, loads.get(), "Nothing should be loaded before the first read");
+
+        assertEquals(store.getAggregates(), service.getAggregates());
+        service.createEmployee(employee("dave@example.com", "Sales", "40000", null));
+        assertEquals(store.getAggregates(), service.getAggregates());
+        assertEquals(1, loads.get());
+    }
+
+    private static Employee employee(String email, String department, String salary, String hireDate) {
+        return new Employee(null, "First", "Last", email, department, "Analyst",
+                salary == null ? null : new BigDecimal(salary),
+                hireDate == null ? null : LocalDate.parse(hireDate));
+    }
+}
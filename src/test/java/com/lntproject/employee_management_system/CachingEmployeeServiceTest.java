@@ -0,0 +1,156 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.CachingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the read-through cache on top of the in-memory store, counting how often
+ * lookups reach the wrapped service.
+ */
+class CachingEmployeeServiceTest {
+
+    private CountingService backend;
+    private CachingEmployeeService cache;
+
+    @BeforeEach
+    void setUp() {
+        backend = new CountingService(new InMemoryEmployeeService());
+        cache = new CachingEmployeeService(backend, 100, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    @Test
+    void testRepeatedReadsAreServedFromCache() {
+        Employee created = cache.createEmployee(new Employee(null, "John", "Doe", "john@example.com"));
+
+        cache.getEmployeeById(created.getId());
+        cache.getEmployeeById(created.getId());
+
+        assertEquals(0, backend.lookups.get(), "Create should populate the cache");
+        assertEquals(2, cache.stats().hitCount());
+    }
+
+    @Test
+    void testMissingIdsAreCachedNegatively() {
+        assertTrue(cache.getEmployeeById(42).isEmpty());
+        assertTrue(cache.getEmployeeById(42).isEmpty());
+
+        assertEquals(1, backend.lookups.get(), "Second miss should be answered from the negative entry");
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    void testWritesRefreshAndInvalidateEntries() {
+        Employee created = cache.createEmployee(new Employee(null, "Jane", "Smith", "jane@example.com"));
+        long id = created.getId();
+
+        cache.updateEmployee(id, new Employee(null, "Jane", "Brown", "jane@example.com"));
+        assertEquals("Brown", cache.getEmployeeById(id).orElseThrow().getLastName(), "Update should refresh the entry");
+
+        assertTrue(cache.deleteEmployee(id));
+        assertTrue(cache.getEmployeeById(id).isEmpty(), "Delete should drop the entry");
+    }
+
+    @Test
+    void testCallersCannotMutateCachedEntries() {
+        Employee created = cache.createEmployee(new Employee(null, "Alan", "Turing", "alan@example.com"));
+
+        cache.getEmployeeById(created.getId()).orElseThrow().setLastName("Changed");
+
+        assertEquals("Turing", cache.getEmployeeById(created.getId()).orElseThrow().getLastName());
+    }
+
+    @Test
+    void testConcurrentMissesShareOneLoad() throws Exception {
+        Employee created = backend.createEmployee(new Employee(null, "Grace", "Hopper", "grace@example.com"));
+        backend.lookupDelayMillis = 100;
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<Employee>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getEmployeeById(created.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<Optional<Employee>> result : results) {
+                assertTrue(result.get().isPresent());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, backend.lookups.get(), "Only one caller should reach the backend");
+    }
+
+    @Test
+    void testMultiGetLoadsOnlyTheMissesInOneCall() {
+        long first = backend.createEmployee(new Employee(null, "Ada", "Lovelace", "ada@example.com")).getId();
+        long second = backend.createEmployee(new Employee(null, "Alan", "Turing", "alan@example.com")).getId();
+        long third = backend.createEmployee(new Employee(null, "Grace", "Hopper", "grace@example.com")).getId();
+        cache.getEmployeeById(first);
+
+        Map<Long, Employee> found = cache.getEmployeesByIds(List.of(third, first, 999L, second, first));
+
+        assertEquals(List.of(third, first, second), List.copyOf(found.keySet()), "Request order, without duplicates");
+        assertEquals(1, backend.bulkLookups.get(), "All misses should be loaded together");
+        assertEquals(3, backend.bulkIds.get(), "The cached id should not be requested again");
+
+        cache.getEmployeesByIds(List.of(first, second, third, 999L));
+        assertEquals(1, backend.bulkLookups.get(), "Hits and negative entries should be served from the cache");
+    }
+
+    private static final class CountingService extends ForwardingEmployeeService {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final AtomicInteger bulkLookups = new AtomicInteger();
+        private final AtomicInteger bulkIds = new AtomicInteger();
+        private volatile long lookupDelayMillis;
+
+        private CountingService(EmployeeService delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Optional<Employee> getEmployeeById(long id) {
+            lookups.incrementAndGet();
+            if (lookupDelayMillis > 0) {
+                try {
+                    Thread.sleep(lookupDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getEmployeeById(id);
+        }
+
+        @Override
+        public Map<Long, Employee> getEmployeesByIds(Collection<Long> ids) {
+            bulkLookups.incrementAndGet();
+            bulkIds.addAndGet(ids.size());
+            return super.getEmployeesByIds(ids);
+        }
+    }
+}
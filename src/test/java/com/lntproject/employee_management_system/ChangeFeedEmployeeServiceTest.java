@@ -0,0 +1,229 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeChange;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.impl.ChangeFeedEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeChangeFeed;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Covers the change events writes produce and the ring's demand, resume and slow-consumer handling.
+ */
+class ChangeFeedEmployeeServiceTest {
+
+    @Test
+    void testEveryWriteIsPublishedWithBeforeAndAfterImages() {
+        EmployeeChangeFeed feed = inline(16, EmployeeChangeFeed.SlowConsumerPolicy.CANCEL);
+        ChangeFeedEmployeeService service = new ChangeFeedEmployeeService(new InMemoryEmployeeService(), feed);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(recorder);
+
+        Employee alice = service.createEmployee(employee("alice"));
+        service.createEmployees(List.of(employee("bob"), employee("carol")));
+        Employee renamed = employee("alice");
+        renamed.setFirstName("Alicia");
+        service.updateEmployee(alice.getId(), renamed);
+        service.patchEmployee(alice.getId(), EmployeePatch.builder().lastName("Smith").build());
+        service.updateEmployee(9999, employee("nobody"));
+        Employee robert = employee("bob");
+        robert.setFirstName("Robert");
+        long bob = service.upsertEmployee(robert).getId();
+        service.deleteEmployee(alice.getId());
+        service.deleteEmployee(alice.getId());
+
+        List<EmployeeChange> changes = recorder.changes;
+        assertEquals(LongStream.rangeClosed(1, 7).boxed().toList(),
+                changes.stream().map(EmployeeChange::sequence).toList());
+        assertEquals(List.of(EmployeeChange.Type.CREATE, EmployeeChange.Type.CREATE, EmployeeChange.Type.CREATE,
+                        EmployeeChange.Type.UPDATE, EmployeeChange.Type.UPDATE, EmployeeChange.Type.UPDATE,
+                        EmployeeChange.Type.DELETE),
+                changes.stream().map(EmployeeChange::type).toList());
+
+        assertNull(changes.get(0).before());
+        assertEquals(alice.getId(), changes.get(0).after().getId());
+        assertEquals("First", changes.get(3).before().getFirstName());
+        assertEquals("Alicia", changes.get(3).after().getFirstName());
+        assertEquals("Alicia", changes.get(4).before().getFirstName(), "A patch's before image is the last update");
+        assertEquals("Smith", changes.get(4).after().getLastName());
+        assertEquals(bob, changes.get(5).id());
+        assertEquals("First", changes.get(5).before().getFirstName(), "An upsert's before image is the email's owner");
+        assertEquals("Robert", changes.get(5).after().getFirstName());
+        assertEquals(alice.getId(), changes.get(6).id());
+        assertEquals("Smith", changes.get(6).before().getLastName());
+        assertNull(changes.get(6).after());
+
+        alice.setFirstName("Changed afterwards");
+        assertEquals("First", changes.get(0).after().getFirstName(), "Published images should be copies");
+    }
+
+    @Test
+    void testSubscriberGetsNoMoreThanItRequested() {
+        EmployeeChangeFeed feed = inline(16, EmployeeChangeFeed.SlowConsumerPolicy.CANCEL);
+        Recorder recorder = new Recorder(0);
+        feed.subscribe(recorder);
+        publish(feed, 5);
+        assertTrue(recorder.changes.isEmpty());
+
+        recorder.subscription.request(2);
+        assertEquals(2, recorder.changes.size());
+        recorder.subscription.request(10);
+        assertEquals(5, recorder.changes.size());
+        publish(feed, 10);
+        assertEquals(12, recorder.changes.size());
+        assertEquals(LongStream.rangeClosed(1, 12).boxed().toList(),
+                recorder.changes.stream().map(EmployeeChange::sequence).toList());
+
+        recorder.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, recorder.error);
+        publish(feed, 1);
+        assertEquals(12, recorder.changes.size(), "An errored subscription should receive nothing more");
+    }
+
+    @Test
+    void testSubscriberCanResumeFromASequenceStillHeld() {
+        EmployeeChangeFeed feed = inline(16, EmployeeChangeFeed.SlowConsumerPolicy.CANCEL);
+        publish(feed, 10);
+
+        Recorder resumed = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(resumed, 6);
+        Recorder live = new Recorder(Long.MAX_VALUE);
+        feed.subscribe(live);
+        publish(feed, 1);
+
+        assertEquals(List.of(6L, 7L, 8L, 9L, 10L, 11L),
+                resumed.changes.stream().map(EmployeeChange::sequence).toList());
+        assertEquals(List.of(11L), live.changes.stream().map(EmployeeChange::sequence).toList());
+    }
+
+    @Test
+    void testLappedSubscriberIsCancelledOrSkippedAhead() {
+        EmployeeChangeFeed cancelling = inline(8, EmployeeChangeFeed.SlowConsumerPolicy.CANCEL);
+        Recorder cancelled = new Recorder(0);
+        cancelling.subscribe(cancelled);
+        publish(cancelling, 20);
+        cancelled.subscription.request(Long.MAX_VALUE);
+
+        EmployeeChangeFeed.FellBehindException error =
+                assertInstanceOf(EmployeeChangeFeed.FellBehindException.class, cancelled.error);
+        assertEquals(1, error.requestedSequence());
+        assertEquals(13, error.oldestAvailable());
+        assertTrue(cancelled.changes.isEmpty());
+
+        EmployeeChangeFeed skipping = inline(8, EmployeeChangeFeed.SlowConsumerPolicy.SKIP);
+        Recorder skipped = new Recorder(0);
+        skipping.subscribe(skipped, 1);
+        publish(skipping, 20);
+        skipped.subscription.request(Long.MAX_VALUE);
+        publish(skipping, 2);
+
+        assertNull(skipped.error);
+        assertEquals(LongStream.rangeClosed(13, 22).boxed().toList(),
+                skipped.changes.stream().map(EmployeeChange::sequence).toList());
+    }
+
+    @Test
+    void testConcurrentWritersAreDeliveredToEverySubscriberInOrder() throws Exception {
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(1 << 14, EmployeeChangeFeed.SlowConsumerPolicy.CANCEL);
+        ChangeFeedEmployeeService service = new ChangeFeedEmployeeService(new InMemoryEmployeeService(), feed);
+        List<Recorder> recorders = List.of(new Recorder(Long.MAX_VALUE), new Recorder(64), new Recorder(1));
+        recorders.forEach(feed::subscribe);
+
+        List<Thread> writers = new ArrayList<>();
+        for (int writer = 0; writer < 8; writer++) {
+            int w = writer;
+            writers.add(Thread.ofVirtual().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    Employee created = service.createEmployee(employee("w" + w + "." + i));
+                    service.patchEmployee(created.getId(), EmployeePatch.builder().firstName("P" + i).build());
+                }
+            }));
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        feed.close();
+
+        List<Long> expected = LongStream.rangeClosed(1, 8000).boxed().toList();
+        for (Recorder recorder : recorders) {
+            assertTrue(recorder.awaitCompletion(), "Subscriber should complete after close");
+            assertNull(recorder.error);
+            assertEquals(expected, recorder.changes.stream().map(EmployeeChange::sequence).toList());
+        }
+    }
+
+    /**
+     * Subscriptions drained on the publishing thread, so deliveries are visible as soon as it returns.
+     */
+    private static EmployeeChangeFeed inline(int capacity, EmployeeChangeFeed.SlowConsumerPolicy policy) {
+        return new EmployeeChangeFeed(capacity, policy, Runnable::run);
+    }
+
+    private static void publish(EmployeeChangeFeed feed, int count) {
+        for (int i = 0; i < count; i++) {
+            feed.publish(EmployeeChange.Type.CREATE, i, null, employee("direct" + i));
+        }
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(null, "First", "Last", name + "@example.com");
+    }
+
+    /**
+     * Records deliveries; a positive {@code batch} is requested up front and again each time that
+     * many have arrived, so {@code Long.MAX_VALUE} means unbounded and 0 leaves it to the test.
+     */
+    private static final class Recorder implements Flow.Subscriber<EmployeeChange> {
+
+        private final List<EmployeeChange> changes = new ArrayList<>();
+        private final long batch;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+
+        private Recorder(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (batch > 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(EmployeeChange change) {
+            changes.add(change);
+            if (batch > 0 && batch != Long.MAX_VALUE && changes.size() % batch == 0) {
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        private boolean awaitCompletion() throws InterruptedException {
+            return completed.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
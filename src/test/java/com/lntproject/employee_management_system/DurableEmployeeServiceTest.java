@@ -0,0 +1,119 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.impl.DurableEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies journal replay, snapshot recovery and torn-record handling of the persistent
+ * in-memory store.
+ */
+class DurableEmployeeServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testMutationsSurviveRestart() throws IOException {
+        long keptId;
+        long deletedId;
+        try (DurableEmployeeService service = open()) {
+            keptId = service.createEmployee(new Employee(null, "John", "Doe", "john@example.com")).getId();
+            deletedId = service.createEmployee(new Employee(null, "Jane", "Smith", "jane@example.com")).getId();
+            service.updateEmployee(keptId, new Employee(null, "John", "Brown", "john.brown@example.com"));
+            service.deleteEmployee(deletedId);
+        }
+
+        try (DurableEmployeeService service = open()) {
+            assertEquals(4, service.recoveredRecords());
+            assertEquals("Brown", service.getEmployeeById(keptId).orElseThrow().getLastName());
+            assertTrue(service.getEmployeeById(deletedId).isEmpty());
+            assertEquals(keptId, service.findByEmail("john.brown@example.com").orElseThrow().getId());
+            long nextId = service.createEmployee(new Employee(null, "New", "Hire", "new@example.com")).getId();
+            assertTrue(nextId > deletedId, "Id sequence should continue after recovery");
+        }
+    }
+
+    @Test
+    void testRecoveryStartsFromSnapshotAndReplaysTail() throws IOException {
+        try (DurableEmployeeService service = open()) {
+            service.createEmployees(List.of(
+                    new Employee(null, "A", "One", "a@example.com"),
+                    new Employee(null, "B", "Two", "b@example.com")));
+            service.snapshot();
+            service.createEmployee(new Employee(null, "C", "Three", "c@example.com"));
+        }
+
+        try (DurableEmployeeService service = open()) {
+            assertEquals(1, service.recoveredRecords(), "Only the record after the snapshot should be replayed");
+            assertEquals(3, service.getAllEmployees().size());
+        }
+    }
+
+    @Test
+    void testEveryColumnSurvivesJournalAndSnapshot() throws IOException {
+        Employee full = new Employee(null, "Ada", "King", "ada@example.com",
+                "Research", "Analyst", new BigDecimal("1234.56"), LocalDate.of(2022, 12, 1));
+        long snapshottedId;
+        long journaledId;
+        try (DurableEmployeeService service = open()) {
+            snapshottedId = service.createEmployee(full).getId();
+            service.snapshot();
+            full.setId(null);
+            full.setEmail("ada.two@example.com");
+            journaledId = service.createEmployee(full).getId();
+        }
+
+        try (DurableEmployeeService service = open()) {
+            for (long id : new long[] {snapshottedId, journaledId}) {
+                Employee recovered = service.getEmployeeById(id).orElseThrow();
+                assertEquals("Research", recovered.getDepartment());
+                assertEquals("Analyst", recovered.getPosition());
+                assertEquals(new BigDecimal("1234.56"), recovered.getSalary());
+                assertEquals(LocalDate.of(2022, 12, 1), recovered.getHireDate());
+            }
+        }
+    }
+
+    @Test
+    void testTornFinalRecordIsDiscarded() throws IOException {
+        try (DurableEmployeeService service = open()) {
+            service.createEmployee(new Employee(null, "John", "Doe", "john@example.com"));
+        }
+        Path lastSegment;
+        try (Stream<Path> files = Files.list(directory)) {
+            lastSegment = files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .filter(path -> path.toFile().length() > 0)
+                    .sorted()
+                    .reduce((first, second) -> second)
+                    .orElseThrow();
+        }
+        // A half-written frame: a plausible length header followed by too few bytes.
+        Files.write(lastSegment, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (DurableEmployeeService service = open()) {
+            assertEquals(1, service.getAllEmployees().size());
+            service.createEmployee(new Employee(null, "Jane", "Smith", "jane@example.com"));
+        }
+        try (DurableEmployeeService service = open()) {
+            assertEquals(2, service.getAllEmployees().size(), "Writes after a torn tail should replay cleanly");
+        }
+    }
+
+    private DurableEmployeeService open() throws IOException {
+        return DurableEmployeeService.open(directory, Duration.ZERO, 1_000);
+    }
+}
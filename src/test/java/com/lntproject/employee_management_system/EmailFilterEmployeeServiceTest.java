@@ -0,0 +1,139 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmailFilterEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the duplicate-email pre-check against an in-memory store that counts what reaches it.
+ */
+class EmailFilterEmployeeServiceTest {
+
+    private final InMemoryEmployeeService store = new InMemoryEmployeeService();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final AtomicInteger inserted = new AtomicInteger();
+    private final ForwardingEmployeeService counting = new ForwardingEmployeeService(store) {
+        @Override
+        public Optional<Employee> findByEmail(String email) {
+            lookups.incrementAndGet();
+            return super.findByEmail(email);
+        }
+
+        @Override
+        public Employee createEmployee(Employee employee) {
+            inserted.incrementAndGet();
+            return super.createEmployee(employee);
+        }
+
+        @Override
+        public BulkCreateResult createEmployees(Collection<Employee> employees) {
+            inserted.addAndGet(employees.size());
+            return super.createEmployees(employees);
+        }
+
+        @Override
+        public Employee upsertEmployee(Employee employee) {
+            return store.upsertEmployee(employee);
+        }
+    };
+
+    @Test
+    void testTakenEmailsAreTurnedAwayBeforeTheStore() {
+        store.createEmployee(new Employee(null, "Grace", "Hopper", "grace@example.com"));
+        store.createEmployee(new Employee(null, "Alan", "Turing", "alan@example.com"));
+        EmailFilterEmployeeService service = new EmailFilterEmployeeService(counting, 1000, 0.01);
+
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "Grace", "Again", " GRACE@example.com")));
+        assertEquals(0, inserted.get(), "A taken email should not reach the store");
+        assertEquals(1, lookups.get());
+
+        service.createEmployee(new Employee(null, "Ada", "Lovelace", "ada@example.com"));
+        assertEquals(1, lookups.get(), "A new email should not be looked up");
+
+        BulkCreateResult result = service.createEmployees(List.of(
+                new Employee(null, "Edsger", "Dijkstra", "edsger@example.com"),
+                new Employee(null, "Alan", "Again", "alan@example.com"),
+                new Employee(null, "Barbara", "Liskov", "barbara@example.com"),
+                new Employee(null, "Ada", "Again", "ada@example.com")));
+        assertEquals(List.of(1, 3), result.failures().stream().map(BulkCreateResult.Failure::index).toList());
+        assertNull(result.ids().get(1));
+        assertEquals("Liskov", store.getEmployeeById(result.ids().get(2)).orElseThrow().getLastName());
+        assertEquals(3, inserted.get(), "Only the new rows should be sent to the store");
+        assertEquals(5, store.getAllEmployees().size());
+        assertEquals(0.0, service.observedFalsePositiveRate());
+    }
+
+    @Test
+    void testFilterFollowsUpdatesAndDeletes() {
+        EmailFilterEmployeeService service = new EmailFilterEmployeeService(counting, 1000, 0.01);
+        long grace = service.createEmployee(new Employee(null, "Grace", "Hopper", "grace@example.com")).getId();
+        long alan = service.createEmployee(new Employee(null, "Alan", "Turing", "alan@example.com")).getId();
+
+        service.updateEmployee(grace, new Employee(null, "Grace", "Hopper", "admiral@example.com"));
+        service.patchEmployee(alan, EmployeePatch.builder().email("turing@example.com").build());
+        lookups.set(0);
+        service.createEmployee(new Employee(null, "Grace", "Brewster", "grace@example.com"));
+        service.createEmployee(new Employee(null, "Alan", "Mathison", "alan@example.com"));
+        assertEquals(0, lookups.get(), "Emails given up by an update should be forgotten");
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "Grace", "Again", "admiral@example.com")));
+
+        service.deleteEmployee(alan);
+        lookups.set(0);
+        service.createEmployee(new Employee(null, "Alan", "Again", "turing@example.com"));
+        assertEquals(0, lookups.get(), "A deleted employee's email should be forgotten");
+    }
+
+    @Test
+    void testUnseenEmailsAreNotLookedUpAndUpsertsKeepTheFilterCurrent() {
+        store.createEmployee(new Employee(null, "Grace", "Hopper", "grace@example.com"));
+        EmailFilterEmployeeService service = new EmailFilterEmployeeService(counting, 1000, 0.01);
+
+        assertTrue(service.findByEmail("nobody@example.com").isEmpty());
+        assertEquals(0, lookups.get(), "An email the filter has never seen should not be looked up");
+        assertEquals("Hopper", service.findByEmail("Grace@example.com").orElseThrow().getLastName());
+        assertEquals(1, lookups.get());
+
+        lookups.set(0);
+        Employee ada = service.upsertEmployee(new Employee(null, "Ada", "Lovelace", "ada@example.com"));
+        assertEquals(0, lookups.get(), "An upsert of a new email should not look it up");
+        assertEquals(ada.getId(), service.findByEmail("ada@example.com").orElseThrow().getId(),
+                "An upserted email should be found");
+        Employee replaced = service.upsertEmployee(new Employee(null, "Ada", "King", "ada@example.com"));
+        assertEquals(ada.getId(), replaced.getId());
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "Ada", "Again", "ada@example.com")));
+    }
+
+    @Test
+    void testFalsePositivesStayNearTheConfiguredRate() {
+        List<Employee> seed = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            seed.add(new Employee(null, "First", "Last", "seed" + i + "@example.com"));
+        }
+        store.createEmployees(seed);
+        EmailFilterEmployeeService service = new EmailFilterEmployeeService(counting, 40_000, 0.01);
+
+        for (int i = 0; i < 20_000; i++) {
+            service.createEmployee(new Employee(null, "First", "Last", "fresh" + i + "@example.com"));
+        }
+        // sized for 40,000, so the rate only reaches 1% with the last create
+        assertTrue(service.observedFalsePositiveRate() < 0.01, "Observed: " + service.observedFalsePositiveRate());
+        assertTrue(service.observedFalsePositiveRate() > 0, "Some free emails should have been flagged");
+        assertEquals(40_000, store.getAllEmployees().size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.lntproject.employee_management_system;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.lntproject.employee_management_system.cli.BatchResult;
+import com.lntproject.employee_management_system.cli.EmployeeCliRunner;
+import com.lntproject.employee_management_system.cli.EmployeeExporter;
+import com.lntproject.employee_management_system.cli.EmployeeFileFormat;
+import com.lntproject.employee_management_system.cli.EmployeeImporter;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the batch import and export commands end to end against the in-memory backend.
+ */
+class EmployeeBatchCommandsTest {
+
+    private static final int GENERATED_ROWS = 2_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ByteArrayOutputStream console = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(console, true, StandardCharsets.UTF_8);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testCsvImportLoadsGoodRowsAndRejectsBadOnes() throws IOException {
+        Path input = writeCsv();
+        Path rejects = dir.resolve("rejects.csv");
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+
+        BatchResult result = importer(store).importFile(input, EmployeeFileFormat.CSV, rejects);
+
+        assertEquals(GENERATED_ROWS + 2, result.rows());
+        assertEquals(3, result.rejected());
+        assertEquals(GENERATED_ROWS + 2, store.getAllEmployees().size());
+        Employee quoted = store.findByEmail("quoted@example.com").orElseThrow();
+        assertEquals("O'Neil, \"Jr\"", quoted.getLastName());
+        assertEquals("Research\nand Development", quoted.getDepartment());
+        assertEquals(0, new BigDecimal("72000.50").compareTo(quoted.getSalary()));
+        assertEquals(LocalDate.of(2022, 4, 1), quoted.getHireDate());
+
+        List<String> rejected = Files.readAllLines(rejects);
+        assertEquals(4, rejected.size(), "Header plus one line per rejected row");
+        assertTrue(rejected.get(0).endsWith(",reject_reason"));
+        assertTrue(rejected.stream().anyMatch(line -> line.contains("not-a-number") && line.contains("salary")));
+        assertTrue(rejected.stream().anyMatch(line -> line.contains("required")));
+        assertTrue(rejected.stream().anyMatch(line -> line.contains("Email already exists")));
+        assertTrue(console.toString(StandardCharsets.UTF_8).contains("rows/s"), "Progress should report a rate");
+    }
+
+    @Test
+    void testExportedFilesImportBackToTheSameRows() throws IOException {
+        InMemoryEmployeeService source = new InMemoryEmployeeService();
+        importer(source).importFile(writeCsv(), EmployeeFileFormat.CSV, dir.resolve("ignored.csv"));
+
+        for (EmployeeFileFormat format : EmployeeFileFormat.values()) {
+            Path exported = dir.resolve("export." + format.extension());
+            BatchResult written = new EmployeeExporter(source, objectMapper, out, Duration.ofMillis(1))
+                    .exportFile(exported, format);
+            assertEquals(GENERATED_ROWS + 2, written.rows());
+
+            InMemoryEmployeeService copy = new InMemoryEmployeeService();
+            BatchResult read = importer(copy)
+                    .importFile(exported, format, dir.resolve("rejects." + format.extension()));
+
+            assertEquals(0, read.rejected(), format + " export should import cleanly");
+            assertEquals(withoutIds(source), withoutIds(copy), format + " round trip should keep every field");
+        }
+    }
+
+    @Test
+    void testCliRunnerDispatchesImportAndExportCommands() throws Exception {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        EmployeeCliRunner runner = new EmployeeCliRunner(store, objectMapper);
+        Path input = writeCsv();
+
+        runner.run("import", input.toString(), "--batch-size=64", "--workers=2", "--spring.main.banner-mode=off");
+        Path exported = dir.resolve("out.ndjson");
+        runner.run("export", exported.toString());
+
+        assertEquals(GENERATED_ROWS + 2, store.getAllEmployees().size());
+        assertTrue(Files.exists(dir.resolve("employees.csv.rejects.csv")), "Rejects default next to the input");
+        assertEquals(GENERATED_ROWS + 2, Files.readAllLines(exported).size());
+    }
+
+    private EmployeeImporter importer(EmployeeService store) {
+        return new EmployeeImporter(store, objectMapper, 100, 4, out, Duration.ofMillis(1));
+    }
+
+    private Path writeCsv() throws IOException {
+        Path input = dir.resolve("employees.csv");
+        List<String> lines = new ArrayList<>();
+        lines.add("first_name,last_name,email,department,position,salary,hire_date,notes");
+        lines.add("Ada,Lovelace,ada@example.com,Engineering,Analyst,85000,2024-01-15,first");
+        lines.add("Pat,\"O'Neil, \"\"Jr\"\"\",quoted@example.com,\"Research");
+        lines.add("and Development\",Scientist,72000.50,2022-04-01,");
+        lines.add("Bad,Salary,bad.salary@example.com,Sales,Rep,not-a-number,,");
+        lines.add("No,Email,,Sales,Rep,1000,,");
+        lines.add("Ada,Again,ada@example.com,Sales,Rep,1000,,duplicate");
+        for (int i = 0; i < GENERATED_ROWS; i++) {
+            lines.add("Gen,Row" + i + ",gen" + i + "@example.com,Dept" + (i % 7) + ",,"
+                    + (40000 + i) + ".00," + LocalDate.of(2020, 1, 1).plusDays(i));
+        }
+        Files.write(input, lines);
+        return input;
+    }
+
+    private static List<String> withoutIds(EmployeeService store) {
+        return store.getAllEmployees().stream()
+                .sorted(Comparator.comparing(Employee::getEmail))
+                .map(employee -> {
+                    Employee copy = new Employee(employee);
+                    copy.setId(null);
+                    return copy.toString();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,207 @@
+package com.lntproject.employee_management_system;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the HTTP API end to end over the in-memory backend on a random port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.store.type=memory",
+        "spring.main.web-application-type=servlet"
+})
+@ActiveProfiles("test")
+class EmployeeControllerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testCrudRoundTrip() throws Exception {
+        HttpResponse<String> created = send(post("", new Employee(null, "Ada", "Lovelace", "ada.http@example.com",
+                "Engineering", "Analyst", new BigDecimal("85000.00"), LocalDate.of(2024, 2, 1))));
+        assertEquals(201, created.statusCode());
+        Employee ada = objectMapper.readValue(created.body(), Employee.class);
+        assertTrue(created.headers().firstValue("Location").orElseThrow().endsWith("/api/employees/" + ada.getId()));
+        assertEquals(0, new BigDecimal("85000").compareTo(ada.getSalary()));
+
+        HttpResponse<String> loaded = send(get("/" + ada.getId()).build());
+        assertEquals(200, loaded.statusCode());
+        assertEquals(ada, objectMapper.readValue(loaded.body(), Employee.class));
+
+        Employee changes = new Employee(ada);
+        changes.setLastName("King");
+        HttpResponse<String> updated = send(HttpRequest.newBuilder(uri("/" + ada.getId()))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(changes)))
+                .build());
+        assertEquals(200, updated.statusCode());
+        assertEquals("King", objectMapper.readValue(updated.body(), Employee.class).getLastName());
+
+        assertEquals(204, send(HttpRequest.newBuilder(uri("/" + ada.getId())).DELETE().build()).statusCode());
+        assertEquals(404, send(get("/" + ada.getId()).build()).statusCode());
+    }
+
+    @Test
+    void testDuplicateEmailIsAConflict() throws Exception {
+        assertEquals(201, send(post("", new Employee(null, "A", "B", "dup.http@example.com"))).statusCode());
+        HttpResponse<String> duplicate = send(post("", new Employee(null, "C", "D", "dup.http@example.com")));
+        assertEquals(409, duplicate.statusCode());
+        assertTrue(duplicate.headers().firstValue("Content-Type").orElseThrow().contains("problem+json"));
+    }
+
+    @Test
+    void testUnchangedEmployeeAnswersNotModified() throws Exception {
+        Employee grace = objectMapper.readValue(
+                send(post("", new Employee(null, "Grace", "Hopper", "grace.http@example.com"))).body(), Employee.class);
+        HttpResponse<String> first = send(get("/" + grace.getId()).build());
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> revalidated = send(get("/" + grace.getId()).header("If-None-Match", etag).build());
+        assertEquals(304, revalidated.statusCode());
+        assertTrue(revalidated.body().isEmpty());
+
+        grace.setFirstName("Rear Admiral Grace");
+        send(HttpRequest.newBuilder(uri("/" + grace.getId()))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(grace)))
+                .build());
+        assertEquals(200, send(get("/" + grace.getId()).header("If-None-Match", etag).build()).statusCode(),
+                "A changed row should invalidate the old tag");
+    }
+
+    @Test
+    void testNullBodyIsABadRequest() throws Exception {
+        Employee target = objectMapper.readValue(
+                send(post("", new Employee(null, "Null", "Body", "null.body.http@example.com")))
+                        .body(), Employee.class);
+
+        assertEquals(400, send(post("", null)).statusCode());
+        assertEquals(400, send(put("/" + target.getId(), null)).statusCode());
+        assertEquals(target, objectMapper.readValue(send(get("/" + target.getId()).build()).body(), Employee.class));
+    }
+
+    @Test
+    void testBlankLastNameIsABadRequest() throws Exception {
+        Employee target = objectMapper.readValue(
+                send(post("", new Employee(null, "Blank", "Last", "blank.last.http@example.com")))
+                        .body(), Employee.class);
+
+        HttpResponse<String> created = send(post("", new Employee(null, "No", " ", "no.last.http@example.com")));
+        assertEquals(400, created.statusCode());
+        assertTrue(created.body().contains("lastName is required"));
+
+        Employee changes = new Employee(target);
+        changes.setLastName(null);
+        assertEquals(400, send(put("/" + target.getId(), changes)).statusCode());
+        assertEquals("Last", objectMapper.readValue(
+                send(get("/" + target.getId()).build()).body(), Employee.class).getLastName());
+    }
+
+    @Test
+    void testBulkCreateThenStreamAndPage() throws Exception {
+        List<Employee> batch = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            batch.add(new Employee(null, "Bulk", "Row" + i, "bulk" + i + ".http@example.com"));
+        }
+        HttpResponse<String> bulk = send(post("/bulk", batch));
+        assertEquals(200, bulk.statusCode());
+        assertEquals(1200, objectMapper.readValue(bulk.body(), BulkCreateResult.class).createdCount());
+
+        HttpResponse<String> streamed = send(get("").build());
+        assertEquals(200, streamed.statusCode());
+        List<Employee> all = objectMapper.readValue(streamed.body(), new TypeReference<List<Employee>>() { });
+        assertTrue(all.stream().filter(e -> "Bulk".equals(e.getFirstName())).count() >= 1200);
+
+        HttpResponse<String> page = send(get("?limit=10").build());
+        assertEquals(200, page.statusCode());
+        assertTrue(page.headers().firstValue("Link").orElseThrow().contains("afterId="));
+        assertEquals(400, send(get("?limit=0").build()).statusCode());
+    }
+
+    @Test
+    void testMultiGetReturnsExistingIdsInRequestOrder() throws Exception {
+        Employee first = objectMapper.readValue(
+                send(post("", new Employee(null, "Multi", "One", "multi.one.http@example.com"))).body(), Employee.class);
+        Employee second = objectMapper.readValue(
+                send(post("", new Employee(null, "Multi", "Two", "multi.two.http@example.com"))).body(), Employee.class);
+
+        HttpResponse<String> found = send(get("?ids=" + second.getId() + ",999999," + first.getId()).build());
+
+        assertEquals(200, found.statusCode());
+        List<Employee> employees = objectMapper.readValue(found.body(), new TypeReference<List<Employee>>() { });
+        assertEquals(List.of(second, first), employees);
+        assertTrue(found.headers().firstValue("ETag").isPresent());
+    }
+
+    @Test
+    void testConcurrentReadsAreAllServed() throws Exception {
+        Employee target = objectMapper.readValue(
+                send(post("", new Employee(null, "Load", "Test", "load.http@example.com"))).body(), Employee.class);
+        int requests = 500;
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>(requests);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                responses.add(clients.submit(() -> send(get("/" + target.getId()).build())));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertEquals(200, response.get(30, TimeUnit.SECONDS).statusCode());
+                assertEquals(target, objectMapper.readValue(response.get().body(), Employee.class));
+            }
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/employees" + path);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest post(String path, Object body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path, Object body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -1,16 +1,30 @@
 package com.lntproject.employee_management_system;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
-import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest(properties = "app.cli.enabled=false")
-@ImportAutoConfiguration(exclude = DataSourceAutoConfiguration.class)
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
 class EmployeeManagementSystemApplicationTests {
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void testMeterBinderBeansAreBoundByTheContext() {
+		assertNotNull(meterRegistry.find("employee.changes.published").functionCounter(),
+				"The change feed's meters should be registered without binding it by hand");
+		assertNotNull(meterRegistry.find("employee.async.active").gauge(),
+				"The async service's meters should be registered without binding it by hand");
+	}
+
 }
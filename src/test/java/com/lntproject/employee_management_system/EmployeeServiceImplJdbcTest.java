@@ -0,0 +1,457 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.DepartmentStats;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs EmployeeServiceImpl against the embedded H2 database configured in
+ * application-test.properties, through the pooled DataSource.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeServiceImplJdbcTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    @Qualifier("employeeStore")
+    private EmployeeService store;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testCrudRoundTrip() {
+        Employee created = employeeService.createEmployee(new Employee(null, "Ada", "Lovelace", "ada.crud@example.com"));
+        assertNotNull(created.getId(), "Generated id should be returned");
+
+        Optional<Employee> loaded = employeeService.getEmployeeById(created.getId());
+        assertTrue(loaded.isPresent(), "Created employee should be readable");
+        assertEquals("Lovelace", loaded.get().getLastName());
+
+        Employee changes = new Employee(null, "Ada", "King", "ada.crud@example.com");
+        assertTrue(employeeService.updateEmployee(created.getId(), changes).isPresent());
+        assertEquals("King", employeeService.getEmployeeById(created.getId()).orElseThrow().getLastName());
+
+        assertTrue(employeeService.deleteEmployee(created.getId()));
+        assertTrue(employeeService.getEmployeeById(created.getId()).isEmpty());
+    }
+
+    @Test
+    void testBulkCreateReportsDuplicateRowsWithoutAbortingTheLoad() {
+        List<Employee> feed = List.of(
+                new Employee(null, "Grace", "Hopper", "grace.bulk@example.com"),
+                new Employee(null, "Alan", "Turing", "alan.bulk@example.com"),
+                new Employee(null, "Grace", "Duplicate", "grace.bulk@example.com"),
+                new Employee(null, "Edsger", "Dijkstra", "edsger.bulk@example.com"));
+
+        BulkCreateResult result = employeeService.createEmployees(feed);
+
+        assertEquals(4, result.ids().size(), "One id slot per input row");
+        assertEquals(3, result.createdCount());
+        assertEquals(1, result.failures().size());
+        assertEquals(2, result.failures().get(0).index(), "Duplicate email should fail at its input position");
+        assertNull(result.ids().get(2));
+        assertTrue(result.ids().get(0) < result.ids().get(1), "Ids should follow input order");
+        assertTrue(result.ids().get(1) < result.ids().get(3), "Ids should follow input order");
+        assertEquals("Dijkstra", employeeService.getEmployeeById(result.ids().get(3)).orElseThrow().getLastName());
+    }
+
+    @Test
+    void testBulkUpdateCommitsGoodRowsAndReportsRejectedOnes() {
+        BulkCreateResult created = store.createEmployees(List.of(
+                new Employee(null, "Batch", "One", "batch.one@example.com"),
+                new Employee(null, "Batch", "Two", "batch.two@example.com"),
+                new Employee(null, "Batch", "Three", "batch.three@example.com")));
+        long one = created.ids().get(0);
+        long two = created.ids().get(1);
+        long three = created.ids().get(2);
+
+        Map<Long, Employee> updates = new LinkedHashMap<>();
+        updates.put(one, new Employee(null, "Batch", "Uno", "batch.one@example.com"));
+        updates.put(two, new Employee(null, "Batch", "Dos", "batch.three@example.com"));
+        updates.put(three, new Employee(null, "Batch", "Tres", "batch.three@example.com"));
+        updates.put(999_999L, new Employee(null, "Batch", "Missing", "batch.missing@example.com"));
+        BulkUpdateResult result = store.updateEmployees(updates);
+
+        assertEquals(List.of(one, three), result.updated());
+        assertEquals(1, result.failures().size(), "Only the row taking a used email should fail");
+        assertEquals(two, result.failures().get(0).id());
+        assertEquals("Uno", store.getEmployeeById(one).orElseThrow().getLastName());
+        assertEquals("Two", store.getEmployeeById(two).orElseThrow().getLastName());
+        assertEquals("Tres", store.getEmployeeById(three).orElseThrow().getLastName());
+    }
+
+    @Test
+    void testKeysetPagesAndStreamWalkTheTableInIdOrder() {
+        employeeService.createEmployees(List.of(
+                new Employee(null, "Page", "One", "page.one@example.com"),
+                new Employee(null, "Page", "Two", "page.two@example.com"),
+                new Employee(null, "Page", "Three", "page.three@example.com")));
+
+        List<Long> pagedIds = new ArrayList<>();
+        EmployeePage page = employeeService.getEmployeePage(0, 2);
+        while (true) {
+            assertTrue(page.employees().size() <= 2, "Page should respect the limit");
+            page.employees().forEach(employee -> pagedIds.add(employee.getId()));
+            if (!page.hasMore()) {
+                break;
+            }
+            page = employeeService.getEmployeePage(page.nextAfterId(), 2);
+        }
+
+        List<Long> streamedIds;
+        try (Stream<Employee> employees = employeeService.streamEmployees()) {
+            streamedIds = employees.map(Employee::getId).toList();
+        }
+
+        assertEquals(employeeService.getAllEmployees().size(), pagedIds.size(), "Paging should visit every row once");
+        assertEquals(pagedIds, streamedIds, "Stream and pages should agree");
+        assertEquals(pagedIds.stream().sorted().toList(), pagedIds, "Rows should come back in id order");
+    }
+
+    @Test
+    void testLookupsByEmailAndLastNamePrefix() {
+        Employee created = employeeService.createEmployee(new Employee(null, "Ravi", "Srinivasan", "ravi.lookup@example.com"));
+        employeeService.createEmployee(new Employee(null, "Meera", "Srinath", "meera.lookup@example.com"));
+
+        assertEquals(created.getId(), employeeService.findByEmail("ravi.lookup@example.com").orElseThrow().getId());
+        assertTrue(employeeService.findByEmail("nobody.lookup@example.com").isEmpty());
+
+        List<String> names = employeeService.findByLastNamePrefix("Srin", 10).stream()
+                .map(Employee::getLastName)
+                .toList();
+        assertEquals(List.of("Srinath", "Srinivasan"), names);
+        assertTrue(employeeService.findByLastNamePrefix("S_in", 10).isEmpty(), "LIKE wildcards should be escaped");
+    }
+
+    @Test
+    void testAllColumnsRoundTrip() {
+        Employee created = employeeService.createEmployee(new Employee(null, "Linus", "Field", "linus.fields@example.com",
+                "Platform", "Engineer", new BigDecimal("81234.50"), LocalDate.of(2023, 6, 1)));
+
+        Employee loaded = employeeService.getEmployeeById(created.getId()).orElseThrow();
+        assertEquals("Platform", loaded.getDepartment());
+        assertEquals("Engineer", loaded.getPosition());
+        assertEquals(0, new BigDecimal("81234.50").compareTo(loaded.getSalary()));
+        assertEquals(LocalDate.of(2023, 6, 1), loaded.getHireDate());
+
+        loaded.setSalary(null);
+        loaded.setPosition("Staff Engineer");
+        employeeService.updateEmployee(created.getId(), loaded);
+        Employee updated = employeeService.getEmployeeById(created.getId()).orElseThrow();
+        assertNull(updated.getSalary());
+        assertEquals("Staff Engineer", updated.getPosition());
+    }
+
+    @Test
+    void testMaintainedAggregatesMatchTheSqlPushdown() {
+        Employee first = employeeService.createEmployee(new Employee(null, "Agg", "One", "agg.one@example.com",
+                "Aggregates", "Analyst", new BigDecimal("1000.00"), LocalDate.of(2021, 2, 3)));
+        employeeService.createEmployees(List.of(
+                new Employee(null, "Agg", "Two", "agg.two@example.com",
+                        "Aggregates", "Analyst", new BigDecimal("3000.00"), LocalDate.of(2021, 2, 20)),
+                new Employee(null, "Agg", "Three", "agg.three@example.com",
+                        "Aggregates", "Analyst", null, LocalDate.of(2021, 3, 1))));
+        Employee raise = employeeService.getEmployeeById(first.getId()).orElseThrow();
+        raise.setSalary(new BigDecimal("2000.00"));
+        employeeService.updateEmployee(first.getId(), raise);
+
+        DepartmentStats maintained = employeeService.getAggregates().departments().get("Aggregates");
+        DepartmentStats pushedDown = store.getAggregates().departments().get("Aggregates");
+
+        assertEquals(3, maintained.headcount());
+        assertEquals(pushedDown.headcount(), maintained.headcount());
+        assertEquals(0, pushedDown.totalSalary().compareTo(maintained.totalSalary()));
+        assertEquals(0, new BigDecimal("2500.00").compareTo(pushedDown.averageSalary()));
+        assertEquals(store.getAggregates().hiresPerMonth().get(YearMonth.of(2021, 2)),
+                employeeService.getAggregates().hiresPerMonth().get(YearMonth.of(2021, 2)));
+    }
+
+    @Test
+    void testOperationLatencyAndJdbcPhasesArePublished() {
+        Employee created = employeeService.createEmployee(new Employee(null, "Timed", "Call", "timed.call@example.com"));
+        store.getEmployeeById(created.getId());
+        employeeService.findByEmail("timed.call@example.com");
+
+        Timer creates = meterRegistry.find("employee.operation")
+                .tags("operation", "createEmployee", "outcome", "success").timer();
+        assertNotNull(creates, "Every operation should have a latency timer");
+        assertTrue(creates.count() >= 1);
+        assertNotNull(meterRegistry.find("employee.operation.rows").tag("operation", "findByEmail").summary());
+        for (String phase : List.of("acquire", "execute", "map")) {
+            Timer timer = meterRegistry.find("employee.jdbc")
+                    .tags("operation", "getEmployeeById", "phase", phase).timer();
+            assertNotNull(timer, "JDBC time should be split into the " + phase + " phase");
+            assertTrue(timer.count() >= 1);
+        }
+    }
+
+    @Test
+    void testServiceUsesPooledDataSource() {
+        assertInstanceOf(HikariDataSource.class, dataSource, "Service should run on the Hikari pool");
+        HikariDataSource pool = (HikariDataSource) dataSource;
+        assertEquals(4, pool.getMaximumPoolSize(), "Pool size should come from spring.datasource.hikari.*");
+
+        employeeService.getAllEmployees();
+
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge(), "Active count should be published");
+        assertNotNull(meterRegistry.find("hikaricp.connections.idle").gauge(), "Idle count should be published");
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").timer(), "Acquire wait should be published");
+        assertNotNull(meterRegistry.find("hikaricp.connections.timeout").counter(), "Timeouts should be published");
+    }
+
+    @Test
+    void testPatchWritesOnlyTheGivenColumns() {
+        Employee created = employeeService.createEmployee(new Employee(null, "Pat", "Field", "pat.patch@example.com",
+                "Ops", "Analyst", new BigDecimal("50000.00"), LocalDate.of(2020, 1, 6)));
+
+        Employee patched = employeeService.patchEmployee(created.getId(), EmployeePatch.builder()
+                .position("Lead Analyst")
+                .salary(null)
+                .build()).orElseThrow();
+
+        Employee loaded = store.getEmployeeById(created.getId()).orElseThrow();
+        assertEquals("Lead Analyst", loaded.getPosition());
+        assertNull(loaded.getSalary(), "A null value should clear the column");
+        assertEquals("Field", loaded.getLastName());
+        assertEquals("Ops", loaded.getDepartment());
+        assertEquals(LocalDate.of(2020, 1, 6), loaded.getHireDate());
+        assertEquals(loaded.getPosition(), patched.getPosition(), "The patched row should be returned");
+        assertTrue(employeeService.patchEmployee(Integer.MAX_VALUE, EmployeePatch.builder().position("x").build())
+                .isEmpty());
+    }
+
+    @Test
+    void testUpsertCreatesThenReplacesTheRowOwningTheEmail() {
+        String email = "una.upsert@example.com";
+        Employee created = employeeService.upsertEmployee(new Employee(null, "Una", "Upsert", email));
+        assertNotNull(created.getId());
+
+        Employee replaced = employeeService.upsertEmployee(new Employee(null, "Una", "Replaced", email,
+                "Sales", "Manager", new BigDecimal("70000.00"), null));
+
+        assertEquals(created.getId(), replaced.getId(), "The row owning the email should be updated in place");
+        Employee loaded = store.getEmployeeById(created.getId()).orElseThrow();
+        assertEquals("Replaced", loaded.getLastName());
+        assertEquals("Sales", loaded.getDepartment());
+        assertEquals(created.getId(), store.findByEmail(email).orElseThrow().getId());
+    }
+
+    @Test
+    void testDecoratedUpsertIsOneStatementAndKeepsTheDecoratorsCurrent() {
+        Employee owner = employeeService.createEmployee(new Employee(null, "Dee", "Before", "dee.upsert@example.com",
+                "Upsert Ops", "Analyst", new BigDecimal("40000.00"), null));
+
+        long before = jdbcStatements();
+        Employee created = employeeService.upsertEmployee(new Employee(null, "Nia", "New", "nia.upsert@example.com",
+                "Upsert Ops", "Analyst", new BigDecimal("45000.00"), null));
+        assertEquals(1, jdbcStatements() - before,
+                "Through every decorator, an upsert of a new email should be the backend's one statement");
+        assertEquals(created.getId(), store.findByEmail("nia.upsert@example.com").orElseThrow().getId());
+
+        Employee replaced = employeeService.upsertEmployee(new Employee(null, "Dee", "After", "dee.upsert@example.com",
+                "Upsert Sales", "Manager", new BigDecimal("60000.00"), null));
+
+        assertEquals(owner.getId(), replaced.getId(), "The row owning the email should be updated in place");
+        Map<String, DepartmentStats> departments = employeeService.getAggregates().departments();
+        assertEquals(1, departments.get("Upsert Ops").headcount(), "The before image should leave its department");
+        assertEquals(1, departments.get("Upsert Sales").headcount());
+        assertEquals(owner.getId(), employeeService.search("Dee After", 1).get(0).getId(),
+                "The search index should hold the upserted names");
+    }
+
+    @Test
+    void testPatchAndUpsertTakeOneCheckoutAndPatchWritesOnlyItsColumns() {
+        JdbcCalls calls = new JdbcCalls();
+        EmployeeService counted = new EmployeeServiceImpl(calls.wrap(dataSource));
+        int rows = 200;
+        List<Long> ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(counted.createEmployee(new Employee(null, "Round", "Trip", "round.trip" + i + "@example.com",
+                    "Bench", "Engineer", new BigDecimal("1000.00"), null)).getId());
+        }
+
+        Cost readThenWrite = measure(calls, rows, i -> {
+            Employee current = counted.getEmployeeById(ids.get(i)).orElseThrow();
+            current.setSalary(new BigDecimal("1001.00"));
+            counted.updateEmployee(current.getId(), current);
+        });
+        calls.sql.clear();
+        Cost patch = measure(calls, rows, i ->
+                counted.patchEmployee(ids.get(i), EmployeePatch.builder().salary(new BigDecimal("1002.00")).build()));
+        // Half the rows exist and half are new, as for an import that does not know which is which
+        Cost findThenWrite = measure(calls, 2 * rows, i -> {
+            Employee incoming = new Employee(null, "Round", "Trip", email(i, rows, "found"),
+                    "Bench", "Engineer", new BigDecimal("1003.00"), null);
+            Optional<Employee> existing = counted.findByEmail(incoming.getEmail());
+            if (existing.isPresent()) {
+                counted.updateEmployee(existing.get().getId(), incoming);
+            } else {
+                counted.createEmployee(incoming);
+            }
+        });
+        Cost upsert = measure(calls, 2 * rows, i ->
+                counted.upsertEmployee(new Employee(null, "Round", "Trip", email(i, rows, "upserted"),
+                        "Bench", "Engineer", new BigDecimal("1004.00"), null)));
+
+        // A patch is still an UPDATE plus a SELECT, as many statements as reading then writing; what
+        // it saves is the second pool checkout and rewriting the columns it was not given.
+        assertEquals(rows, patch.checkouts(), "A patch should take one connection");
+        assertEquals(2L * rows, readThenWrite.checkouts());
+        assertEquals(readThenWrite.statements(), patch.statements());
+        assertTrue(calls.sql.contains("UPDATE employees SET salary = ? WHERE employee_id = ?"),
+                "The patch should name only the patched column: " + calls.sql);
+        // A new row is one statement instead of two. H2 does not report an existing row's id from
+        // LAST_INSERT_ID(employee_id) as MySQL does, so here an update still looks it up by email.
+        assertTrue(upsert.statements() < findThenWrite.statements(),
+                "An upsert should need fewer statements than find-then-write: " + upsert + " vs " + findThenWrite);
+        assertEquals(2L * rows, upsert.checkouts(), "An upsert should take one connection");
+        Employee first = store.getEmployeeById(ids.get(0)).orElseThrow();
+        assertEquals(0, new BigDecimal("1004.00").compareTo(first.getSalary()));
+    }
+
+    @Test
+    void testMultiGetRunsChunkedInListQueries() {
+        JdbcCalls calls = new JdbcCalls();
+        EmployeeService chunked = new EmployeeServiceImpl(calls.wrap(dataSource), 500, 1000, 16, 4);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(chunked.createEmployee(new Employee(null, "Multi", "Get" + i, "multi.get" + i + "@example.com"))
+                    .getId());
+        }
+        List<Long> request = new ArrayList<>(ids.reversed());
+        request.add(ids.get(0));
+        request.add((long) Integer.MAX_VALUE);
+
+        calls.statements.set(0);
+        Map<Long, Employee> found = chunked.getEmployeesByIds(request);
+
+        assertEquals(ids.reversed(), List.copyOf(found.keySet()), "Request order, without duplicates or misses");
+        assertEquals("Get42", found.get(ids.get(42)).getLastName());
+        assertEquals(7, calls.statements.get(), "101 distinct ids should take ceil(101 / 16) queries");
+        assertEquals("Get7", employeeService.getEmployeesByIds(List.of(ids.get(7))).get(ids.get(7)).getLastName());
+
+        Cost perId = measure(calls, 20, i -> {
+            for (Long id : ids) {
+                chunked.getEmployeeById(id);
+            }
+        });
+        Cost bulk = measure(calls, 20, i -> chunked.getEmployeesByIds(ids));
+        assertTrue(bulk.statements() * 10 < perId.statements(),
+                "A multi-get should take a fraction of the per-id round trips");
+    }
+
+    /**
+     * Statements the JDBC backend has executed, from its {@code employee.jdbc} execute timers.
+     */
+    private long jdbcStatements() {
+        return meterRegistry.find("employee.jdbc").tag("phase", "execute").timers().stream()
+                .mapToLong(Timer::count).sum();
+    }
+
+    private static String email(int index, int existing, String prefix) {
+        return index < existing ? "round.trip" + index + "@example.com" : prefix + ".new" + index + "@example.com";
+    }
+
+    private interface Step {
+        void run(int index);
+    }
+
+    /**
+     * Statements executed and connections taken from the pool.
+     */
+    private record Cost(long statements, long checkouts) {
+    }
+
+    /**
+     * Runs {@code step} once per row and returns what the rows cost.
+     */
+    private static Cost measure(JdbcCalls calls, int rows, Step step) {
+        long statementsBefore = calls.statements.get();
+        long checkoutsBefore = calls.checkouts.get();
+        for (int i = 0; i < rows; i++) {
+            step.run(i);
+        }
+        return new Cost(calls.statements.get() - statementsBefore, calls.checkouts.get() - checkoutsBefore);
+    }
+
+    /**
+     * Wraps a DataSource so that every connection checkout, every statement execution (i.e. every
+     * round trip to the database) and the SQL of every prepared statement is recorded.
+     */
+    private static final class JdbcCalls {
+
+        final AtomicLong statements = new AtomicLong();
+        final AtomicLong checkouts = new AtomicLong();
+        final Queue<String> sql = new ConcurrentLinkedQueue<>();
+
+        DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T proxy(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    statements.incrementAndGet();
+                } else if (method.getName().equals("getConnection")) {
+                    checkouts.incrementAndGet();
+                } else if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String text) {
+                    sql.add(text);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof Connection connection && method.getReturnType() == Connection.class) {
+                    return proxy(Connection.class, connection);
+                }
+                if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                    return proxy((Class<Statement>) method.getReturnType(), statement);
+                }
+                return result;
+            });
+        }
+    }
+}
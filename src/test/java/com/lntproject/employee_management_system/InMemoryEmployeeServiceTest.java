@@ -0,0 +1,231 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the in-memory store and the secondary indexes it keeps next to the rows.
+ */
+class InMemoryEmployeeServiceTest {
+
+    private InMemoryEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InMemoryEmployeeService();
+    }
+
+    @Test
+    void testEmailIndexIsUniqueAndCaseInsensitive() {
+        Employee created = service.createEmployee(new Employee(null, "John", "Doe", "John.Doe@example.com"));
+
+        assertEquals(created.getId(), service.findByEmail("john.doe@EXAMPLE.com").orElseThrow().getId());
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "Johnny", "Doe", "john.doe@example.com")));
+    }
+
+    @Test
+    void testIndexesFollowUpdatesAndDeletes() {
+        Employee created = service.createEmployee(new Employee(null, "Jane", "Smith", "jane@example.com"));
+        long id = created.getId();
+
+        service.updateEmployee(id, new Employee(null, "Jane", "Brown", "jane.brown@example.com"));
+
+        assertTrue(service.findByEmail("jane@example.com").isEmpty(), "Old email should be released");
+        assertEquals(id, service.findByEmail("jane.brown@example.com").orElseThrow().getId());
+        assertTrue(service.findByLastNamePrefix("Smi", 10).isEmpty(), "Old last name should be unindexed");
+        assertEquals(1, service.findByLastNamePrefix("Bro", 10).size());
+
+        assertTrue(service.deleteEmployee(id));
+        assertTrue(service.findByEmail("jane.brown@example.com").isEmpty());
+        assertTrue(service.findByLastNamePrefix("Bro", 10).isEmpty());
+        service.createEmployee(new Employee(null, "Other", "Person", "jane.brown@example.com"));
+    }
+
+    @Test
+    void testLastNamePrefixScanIsOrderedAndLimited() {
+        service.createEmployees(List.of(
+                new Employee(null, "A", "Srinivasan", "a@example.com"),
+                new Employee(null, "B", "Srinath", "b@example.com"),
+                new Employee(null, "C", "Smith", "c@example.com"),
+                new Employee(null, "D", "srini", "d@example.com")));
+
+        List<String> names = service.findByLastNamePrefix("SRIN", 10).stream().map(Employee::getLastName).toList();
+
+        assertEquals(List.of("Srinath", "srini", "Srinivasan"), names);
+        assertEquals(2, service.findByLastNamePrefix("srin", 2).size());
+    }
+
+    @Test
+    void testBulkCreateReportsDuplicateEmails() {
+        BulkCreateResult result = service.createEmployees(List.of(
+                new Employee(null, "A", "One", "dup@example.com"),
+                new Employee(null, "B", "Two", "DUP@example.com"),
+                new Employee(null, "C", "Three", "three@example.com")));
+
+        assertEquals(2, result.createdCount());
+        assertEquals(1, result.failures().get(0).index());
+        assertNull(result.ids().get(1));
+    }
+
+    @Test
+    void testPatchChangesOnlyTheGivenFields() {
+        Employee created = service.createEmployee(new Employee(null, "Pat", "Field", "pat@example.com",
+                "Ops", "Analyst", new BigDecimal("50000.00"), LocalDate.of(2020, 1, 6)));
+        long id = created.getId();
+
+        Employee patched = service.patchEmployee(id, EmployeePatch.builder()
+                .lastName("Fields")
+                .salary(null)
+                .build()).orElseThrow();
+
+        assertEquals("Fields", patched.getLastName());
+        assertNull(patched.getSalary(), "A null value should clear the column");
+        assertEquals("pat@example.com", patched.getEmail());
+        assertEquals("Ops", patched.getDepartment());
+        assertEquals(LocalDate.of(2020, 1, 6), patched.getHireDate());
+        assertEquals(1, service.findByLastNamePrefix("Fields", 10).size(), "Patched last name should be indexed");
+        assertTrue(service.patchEmployee(id + 100, EmployeePatch.builder().position("Lead").build()).isEmpty());
+
+        service.createEmployee(new Employee(null, "Other", "Person", "other@example.com"));
+        assertThrows(DuplicateEmailException.class,
+                () -> service.patchEmployee(id, EmployeePatch.builder().email("OTHER@example.com").build()));
+        assertEquals("pat@example.com", service.getEmployeeById(id).orElseThrow().getEmail());
+    }
+
+    @Test
+    void testUpsertIsKeyedByEmail() {
+        Employee created = service.upsertEmployee(new Employee(null, "Una", "Upsert", "una@example.com"));
+        Employee replaced = service.upsertEmployee(new Employee(null, "Una", "Replaced", "UNA@example.com",
+                "Sales", null, null, null));
+
+        assertEquals(created.getId(), replaced.getId());
+        assertEquals(1, service.getAllEmployees().size());
+        assertEquals("Replaced", service.getEmployeeById(created.getId()).orElseThrow().getLastName());
+        assertEquals("Sales", service.findByEmail("una@example.com").orElseThrow().getDepartment());
+        assertThrows(IllegalArgumentException.class,
+                () -> service.upsertEmployee(new Employee(null, "No", "Email", null)));
+    }
+
+    @Test
+    void testMultiGetSkipsDuplicateNullAndMissingIds() {
+        long first = service.createEmployee(new Employee(null, "A", "One", "one@example.com")).getId();
+        long second = service.createEmployee(new Employee(null, "B", "Two", "two@example.com")).getId();
+
+        Map<Long, Employee> found = service.getEmployeesByIds(Arrays.asList(second, null, 404L, first, second));
+
+        assertEquals(List.of(second, first), List.copyOf(found.keySet()));
+        assertEquals("Two", found.get(second).getLastName());
+        found.get(first).setLastName("Changed");
+        assertEquals("One", service.getEmployeeById(first).orElseThrow().getLastName(), "Rows should be copies");
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterWrites() {
+        long kept = service.createEmployee(new Employee(null, "Kim", "Kept", "kim@example.com")).getId();
+        long doomed = service.createEmployee(new Employee(null, "Dee", "Doomed", "dee@example.com")).getId();
+        InMemoryEmployeeService.Snapshot before = service.snapshot();
+
+        service.updateEmployee(kept, new Employee(null, "Kim", "Moved", "kim.moved@example.com"));
+        service.deleteEmployee(doomed);
+        service.createEmployee(new Employee(null, "New", "Comer", "new@example.com"));
+        assertFalse(service.deleteEmployee(doomed), "A write that changes nothing should not commit");
+
+        assertEquals(2, before.version());
+        assertEquals(5, service.snapshot().version());
+        assertEquals(List.of("Kept", "Doomed"), before.getAllEmployees().stream().map(Employee::getLastName).toList());
+        assertEquals(kept, before.findByEmail("kim@example.com").orElseThrow().getId());
+        assertEquals(1, before.findByLastNamePrefix("doo", 10).size());
+        assertTrue(service.findByLastNamePrefix("doo", 10).isEmpty());
+        assertEquals(List.of("Moved", "Comer"), service.getAllEmployees().stream().map(Employee::getLastName).toList());
+    }
+
+    @Test
+    void testRowsMatchAnOrderedMapUnderRandomWrites() {
+        Random random = new Random(42);
+        TreeMap<Long, String> expected = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            long id = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(id) != null, service.deleteEmployee(id));
+            } else {
+                String name = "n" + i;
+                service.createEmployee(new Employee(id, "F", name, name + "@example.com"));
+                expected.put(id, name);
+            }
+        }
+        assertEquals(List.copyOf(expected.keySet()), service.streamEmployees().map(Employee::getId).toList());
+        assertEquals(expected.size(), service.snapshot().size());
+
+        List<Long> paged = new ArrayList<>();
+        Long after = Long.MIN_VALUE;
+        while (after != null) {
+            EmployeePage page = service.getEmployeePage(after, 97);
+            page.employees().forEach(employee -> paged.add(employee.getId()));
+            after = page.nextAfterId();
+        }
+        assertEquals(List.copyOf(expected.keySet()), paged);
+        expected.forEach((id, name) ->
+                assertEquals(id, service.findByEmail(name + "@example.com").orElseThrow().getId()));
+    }
+
+    @Test
+    void testConcurrentWritersLoseNothingAndReadersSeeWholeSnapshots() throws Exception {
+        int writers = 4;
+        int perWriter = 2000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+        try {
+            Future<?> reader = pool.submit(() -> {
+                while (!done.get()) {
+                    InMemoryEmployeeService.Snapshot snapshot = service.snapshot();
+                    List<Employee> rows = snapshot.getAllEmployees();
+                    assertEquals(snapshot.size(), rows.size());
+                    assertEquals(snapshot.version(), rows.size(), "Every committed create adds one row");
+                }
+            });
+            List<Future<?>> writes = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                int w = writer;
+                writes.add(pool.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        service.createEmployee(new Employee(null, "W" + w, "Row" + i, w + "." + i + "@example.com"));
+                    }
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+            done.set(true);
+            reader.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<Long> ids = service.getAllEmployees().stream().map(Employee::getId).toList();
+        assertEquals(writers * perWriter, ids.size());
+        assertEquals(1L, ids.get(0));
+        assertEquals((long) writers * perWriter, ids.get(ids.size() - 1), "Generated ids should have no gaps");
+    }
+}
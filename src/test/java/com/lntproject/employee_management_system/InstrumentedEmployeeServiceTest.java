@@ -0,0 +1,114 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InstrumentedEmployeeService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the per-operation timers, row counts and error tagging over the in-memory backend.
+ */
+class InstrumentedEmployeeServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void testEveryCallIsTimedWithPercentilesAndRowCounts() {
+        InstrumentedEmployeeService service = new InstrumentedEmployeeService(new InMemoryEmployeeService(), null);
+        service.bindTo(registry);
+
+        for (int i = 0; i < 20; i++) {
+            service.createEmployee(new Employee(null, "First", "Last" + i, "user" + i + "@example.com"));
+        }
+        assertEquals(20, service.getAllEmployees().size());
+        try (Stream<Employee> employees = service.streamEmployees()) {
+            assertEquals(20, employees.count());
+        }
+        service.getEmployeeById(1);
+
+        Timer creates = registry.find("employee.operation")
+                .tags("operation", "createEmployee", "outcome", "success").timer();
+        assertEquals(20, creates.count());
+        List<Double> percentiles = Arrays.stream(creates.takeSnapshot().percentileValues())
+                .map(ValueAtPercentile::percentile)
+                .toList();
+        assertEquals(List.of(0.5, 0.99, 0.999), percentiles);
+        assertEquals(20.0, registry.find("employee.operation.rows").tag("operation", "getAllEmployees")
+                .summary().totalAmount());
+        assertEquals(20.0, registry.find("employee.operation.rows").tag("operation", "streamEmployees")
+                .summary().totalAmount(), "Streamed rows should be counted when the stream closes");
+        assertEquals(1, registry.find("employee.operation").tag("operation", "getEmployeeById").timer().count());
+    }
+
+    @Test
+    void testStreamedRowsAreCountedFromASizedSource() {
+        List<Employee> rows = List.of(new Employee(1L, "A", "B", "a@example.com"),
+                new Employee(2L, "C", "D", "c@example.com"));
+        InstrumentedEmployeeService service = new InstrumentedEmployeeService(
+                new ForwardingEmployeeService(new InMemoryEmployeeService()) {
+                    @Override
+                    public Stream<Employee> streamEmployees() {
+                        return rows.stream();
+                    }
+                }, null);
+        service.bindTo(registry);
+
+        try (Stream<Employee> employees = service.streamEmployees()) {
+            assertEquals(2, employees.count());
+        }
+
+        assertEquals(2.0, registry.find("employee.operation.rows").tag("operation", "streamEmployees")
+                .summary().totalAmount(), "count() on a sized stream should still count every row");
+    }
+
+    @Test
+    void testFailuresAreCountedBySqlErrorCode() {
+        InstrumentedEmployeeService service = new InstrumentedEmployeeService(new FailingService(),
+                Duration.ofMillis(1));
+        service.bindTo(registry);
+        service.createEmployee(new Employee(null, "A", "B", "dup@example.com"));
+
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "C", "D", "dup@example.com")));
+        assertThrows(RuntimeException.class, () -> service.getEmployeeById(7));
+
+        assertEquals(1.0, registry.find("employee.operation.errors")
+                .tags("operation", "createEmployee", "exception", "DuplicateEmailException", "error.code", "none")
+                .counter().count());
+        assertEquals(1.0, registry.find("employee.operation.errors")
+                .tags("operation", "getEmployeeById", "sql.state", "08S01", "error.code", "2013")
+                .counter().count());
+        assertEquals(1, registry.find("employee.operation")
+                .tags("operation", "getEmployeeById", "outcome", "error").timer().count());
+    }
+
+    /**
+     * Fails every lookup by id the way the JDBC backend does when the connection drops.
+     */
+    private static final class FailingService extends ForwardingEmployeeService {
+
+        FailingService() {
+            super(new InMemoryEmployeeService());
+        }
+
+        @Override
+        public Optional<Employee> getEmployeeById(long id) {
+            throw new RuntimeException("Error retrieving employee by ID: Lost connection",
+                    new SQLException("Lost connection to MySQL server during query", "08S01", 2013));
+        }
+    }
+}
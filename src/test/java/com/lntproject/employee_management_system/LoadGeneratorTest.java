@@ -0,0 +1,97 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.cli.LoadGenerator;
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the load generator briefly against the in-memory store.
+ */
+class LoadGeneratorTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+
+    @Test
+    void testRunsTheMixAtTheTargetRate() throws Exception {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        LoadGenerator.Profile profile = profile(2000, 0, "read=50,list=10,create=20,update=15,delete=5");
+
+        LoadGenerator.Report report = new LoadGenerator(store, profile, out).run();
+
+        assertEquals(2000, report.total().calls(), 100);
+        assertEquals(0, report.total().errors());
+        assertEquals(0, report.behindSchedule());
+        assertEquals(5, report.operations().size(), "Every operation in the mix should have run");
+        assertTrue(report.operations().get(LoadGenerator.Operation.CREATE).calls() > 0);
+        assertTrue(store.snapshot().size() > 500 - report.operations().get(LoadGenerator.Operation.DELETE).calls());
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("calls/s"), printed);
+        assertTrue(printed.contains("service p99"), printed);
+    }
+
+    @Test
+    void testStallCountsAgainstEveryCallScheduledDuringIt() throws Exception {
+        AtomicBoolean stalled = new AtomicBoolean();
+        EmployeeService stalling = new ForwardingEmployeeService(new InMemoryEmployeeService()) {
+            @Override
+            public Optional<Employee> getEmployeeById(long id) {
+                if (stalled.compareAndSet(false, true)) {
+                    sleep(Duration.ofMillis(300));
+                }
+                return super.getEmployeeById(id);
+            }
+        };
+        // one platform thread: every call scheduled during the stall queues behind it
+        LoadGenerator.Profile profile = profile(1000, 1, "read=1");
+
+        LoadGenerator.OperationStats reads = new LoadGenerator(stalling, profile, out).run().total();
+
+        assertTrue(reads.p99() >= Duration.ofMillis(100).toNanos(), "p99 from intended start: " + reads.p99());
+        assertTrue(reads.serviceP99() < Duration.ofMillis(100).toNanos(), "service p99: " + reads.serviceP99());
+        assertTrue(reads.max() >= Duration.ofMillis(300).toNanos());
+    }
+
+    @Test
+    void testFailedCallsAreCountedAsErrors() throws Exception {
+        EmployeeService failing = new ForwardingEmployeeService(new InMemoryEmployeeService()) {
+            @Override
+            public boolean deleteEmployee(long id) {
+                throw new IllegalStateException("read-only");
+            }
+        };
+        LoadGenerator.Report report = new LoadGenerator(failing, profile(1000, 0, "read=1,delete=1"), out).run();
+
+        LoadGenerator.OperationStats deletes = report.operations().get(LoadGenerator.Operation.DELETE);
+        assertEquals(deletes.calls(), deletes.errors());
+        assertEquals(0, report.operations().get(LoadGenerator.Operation.READ).errors());
+        assertEquals(deletes.errors(), report.total().errors());
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.Profile.parseMix("read=1,fetch=2"));
+        assertThrows(IllegalArgumentException.class, () -> profile(1000, 0, "read=0"));
+    }
+
+    private static LoadGenerator.Profile profile(double rate, int threads, String mix) {
+        return new LoadGenerator.Profile(rate, Duration.ofSeconds(1), Duration.ZERO, 500,
+                LoadGenerator.Profile.parseMix(mix), threads, 10_000, Duration.ofMillis(250));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.impl.OffHeapEmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the off-heap columnar store against the EmployeeService contract and bounds the heap it
+ * needs per million rows, publishing the measured heap and direct bytes per row as report entries.
+ */
+class OffHeapEmployeeServiceTest {
+
+    private OffHeapEmployeeService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OffHeapEmployeeService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void testCrudRoundTrip() {
+        Employee created = service.createEmployee(new Employee(null, "John", "Doe", "John.Doe@example.com"));
+        long id = created.getId();
+
+        assertEquals("John.Doe@example.com", service.getEmployeeById(id).orElseThrow().getEmail());
+        assertEquals(id, service.findByEmail("john.doe@EXAMPLE.com").orElseThrow().getId());
+        assertThrows(DuplicateEmailException.class,
+                () -> service.createEmployee(new Employee(null, "Johnny", "Doe", "john.doe@example.com")));
+
+        Employee updated = service.updateEmployee(id, new Employee(null, "John", "Brown", "jb@corp.example")).orElseThrow();
+        assertEquals("Brown", updated.getLastName());
+        assertTrue(service.findByEmail("john.doe@example.com").isEmpty(), "Old email should be released");
+
+        assertTrue(service.deleteEmployee(id));
+        assertTrue(service.getEmployeeById(id).isEmpty());
+        assertFalse(service.deleteEmployee(id));
+        service.createEmployee(new Employee(null, "Other", "Person", "jb@corp.example"));
+    }
+
+    @Test
+    void testNullFieldsAndAddressesWithoutDomain() {
+        long id = service.createEmployee(new Employee(null, null, "Solo", "localonly")).getId();
+
+        Employee read = service.getEmployeeById(id).orElseThrow();
+        assertNull(read.getFirstName());
+        assertEquals("localonly", read.getEmail());
+    }
+
+    @Test
+    void testPagingStaysInIdOrderWithExplicitIds() {
+        service.createEmployee(new Employee(50L, "A", "One", "a@example.com"));
+        service.createEmployee(new Employee(10L, "B", "Two", "b@example.com"));
+        service.createEmployee(new Employee(30L, "C", "Three", "c@example.com"));
+        service.deleteEmployee(30L);
+
+        EmployeePage first = service.getEmployeePage(0, 1);
+        assertEquals(10L, first.employees().get(0).getId());
+        EmployeePage second = service.getEmployeePage(first.nextAfterId(), 1);
+        assertEquals(50L, second.employees().get(0).getId());
+        assertFalse(second.hasMore());
+
+        try (Stream<Employee> rows = service.streamEmployees()) {
+            assertEquals(List.of(10L, 50L), rows.map(Employee::getId).toList());
+        }
+        assertEquals(51L, service.createEmployee(new Employee(null, "D", "Four", "d@example.com")).getId());
+    }
+
+    @Test
+    void testLastNamePrefixScanIsOrderedAndLimited() {
+        service.createEmployees(List.of(
+                new Employee(null, "A", "Srinivasan", "a@example.com"),
+                new Employee(null, "B", "Srinath", "b@example.com"),
+                new Employee(null, "C", "Smith", "c@example.com"),
+                new Employee(null, "D", "srini", "d@example.com")));
+
+        List<String> names = service.findByLastNamePrefix("SRIN", 10).stream().map(Employee::getLastName).toList();
+
+        assertEquals(List.of("Srinath", "srini", "Srinivasan"), names);
+        assertEquals(2, service.findByLastNamePrefix("srin", 2).size());
+    }
+
+    @Test
+    void testHeapFootprintPerMillionRows(TestReporter reporter) {
+        int rows = 1_000_000;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = settledHeapUsed(memory);
+
+        List<Employee> chunk = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(new Employee(null, "First" + i, "Last" + i, "user" + i + "@example.com"));
+            if (chunk.size() == 10_000) {
+                service.createEmployees(chunk);
+                chunk.clear();
+            }
+        }
+        long heapBytes = settledHeapUsed(memory) - before;
+        reporter.publishEntry("heapBytesPerRow", String.valueOf(heapBytes / rows));
+        reporter.publishEntry("indexHeapBytesPerRow", String.valueOf(service.indexHeapBytes() / rows));
+        reporter.publishEntry("directBytesPerRow", String.valueOf(service.offHeapBytes() / rows));
+
+        assertEquals(rows, service.size());
+        assertEquals(1, service.dictionarySize(), "One email domain should be encoded once");
+        assertTrue(heapBytes / rows < 150, "Heap per row should stay close to the primitive index size, was "
+                + heapBytes / rows + " bytes");
+        assertEquals("user123456@example.com", service.getEmployeeById(123_457).orElseThrow().getEmail());
+    }
+
+    private static long settledHeapUsed(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
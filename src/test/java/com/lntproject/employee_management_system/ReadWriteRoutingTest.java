@@ -0,0 +1,121 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.VirtualThreadEmployeeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the JDBC backend against two embedded databases standing in for a primary and a replica,
+ * plus a replica that cannot be reached. Nothing replicates between them, so which database
+ * answered a read shows where it was routed.
+ */
+@SpringBootTest(properties = {
+        "app.jdbc.routing.replicas[0].url=" + ReadWriteRoutingTest.REPLICA_URL,
+        "app.jdbc.routing.replicas[1].url=jdbc:h2:tcp://localhost:1/unreachable",
+        "app.jdbc.routing.read-your-writes-window=500ms",
+        "app.jdbc.routing.connection-timeout=250ms"
+})
+@ActiveProfiles("test")
+class ReadWriteRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:EmployeeReplicaDB;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:sql/schema-h2.sql'";
+
+    @Autowired
+    @Qualifier("employeeStore")
+    private EmployeeService store;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testReadsUseTheReplicaAndWritesThePrimary() throws Exception {
+        long replicaOnly = insertIntoReplica("replica.only@example.com");
+        Thread.sleep(600);
+
+        assertTrue(store.getEmployeeById(replicaOnly).isPresent(), "Reads should be served by the replica");
+        assertTrue(store.findByEmail("replica.only@example.com").isPresent());
+
+        Employee created = store.createEmployee(new Employee(null, "Prima", "Ry", "primary.write@example.com"));
+
+        assertTrue(store.getEmployeeById(created.getId()).isPresent(), "The writer should read its own write");
+        assertTrue(store.getEmployeeById(replicaOnly).isEmpty(), "Reads in the window should go to the primary");
+        Optional<Employee> elsewhere = CompletableFuture.supplyAsync(() -> store.getEmployeeById(created.getId()),
+                task -> new Thread(task).start()).get(5, TimeUnit.SECONDS);
+        assertTrue(elsewhere.isEmpty(), "Other callers keep reading from the replica");
+
+        Thread.sleep(600);
+        assertTrue(store.getEmployeeById(replicaOnly).isPresent(), "The window should expire");
+        assertTrue(store.getEmployeesByIds(List.of(replicaOnly)).containsKey(replicaOnly));
+    }
+
+    @Test
+    void testAsyncCallsCarryTheCallersWindow() throws Exception {
+        long replicaOnly = insertIntoReplica("replica.async@example.com");
+        Thread.sleep(600);
+
+        try (VirtualThreadEmployeeService async = new VirtualThreadEmployeeService(store, 4, Duration.ofSeconds(5))) {
+            assertTrue(async.getEmployeeById(replicaOnly).get(5, TimeUnit.SECONDS).isPresent(),
+                    "Async reads should be served by the replica");
+
+            Employee created = async.createEmployee(new Employee(null, "Async", "Write", "async.write@example.com"))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertTrue(async.getEmployeeById(created.getId()).get(5, TimeUnit.SECONDS).isPresent(),
+                    "An async read after an async write should see it, though each ran on its own thread");
+            assertTrue(async.getEmployeeById(replicaOnly).get(5, TimeUnit.SECONDS).isEmpty(),
+                    "Async reads in the window should go to the primary");
+            assertTrue(store.getEmployeeById(created.getId()).isPresent(), "The window is the caller's too");
+        }
+    }
+
+    @Test
+    void testUnreachableReplicaIsSkipped() throws Exception {
+        long replicaOnly = insertIntoReplica("replica.skip@example.com");
+        Thread.sleep(600);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(store.getEmployeeById(replicaOnly).isPresent(), "Every read should land on the live replica");
+        }
+
+        Gauge dead = meterRegistry.find("employee.jdbc.replica.healthy").tag("replica", "replica-1").gauge();
+        Gauge live = meterRegistry.find("employee.jdbc.replica.healthy").tag("replica", "replica-0").gauge();
+        assertEquals(0, dead.value(), "The unreachable replica should be out of rotation");
+        assertEquals(1, live.value());
+        assertTrue(meterRegistry.find("employee.jdbc.reads").tag("target", "replica-0")
+                .functionCounter().count() >= 10);
+    }
+
+    private static long insertIntoReplica(String email) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO employees (employee_id, first_name, last_name, email) VALUES (?, ?, ?, ?)")) {
+            long id = 900_000 + Math.abs(email.hashCode() % 100_000);
+            pstmt.setLong(1, id);
+            pstmt.setString(2, "Replica");
+            pstmt.setString(3, "Only");
+            pstmt.setString(4, email);
+            pstmt.executeUpdate();
+            return id;
+        }
+    }
+}
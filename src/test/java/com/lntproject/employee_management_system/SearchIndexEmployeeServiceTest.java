@@ -0,0 +1,134 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeSearch;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.SearchIndexEmployeeService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks fuzzy search through the n-gram index against the full scan it replaces.
+ */
+class SearchIndexEmployeeServiceTest {
+
+    private static final String[] FIRST = {"Anne", "Bruno", "Chandra", "Dmitri", "Elena", "Farid", "Grace", "Hiro"};
+    private static final String[] LAST = {"Smith", "Smyth", "Schmidt", "Srinivasan", "Srinivas", "Okafor", "Novak",
+            "Lindqvist", "Moreau", "Tanaka"};
+
+    @Test
+    void testRanksExactThenPrefixThenTypoMatches() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        long srinivasan = store.createEmployee(employee("Priya", "Srinivasan", "priya.s@finance.example.com")).getId();
+        long srinivas = store.createEmployee(employee("Kiran", "Srinivas", "kiran@example.com")).getId();
+        long smith = store.createEmployee(employee("John", "Smith", "jsmith@example.com")).getId();
+        long smyth = store.createEmployee(employee("Jon", "Smyth", "jon.smyth@example.com")).getId();
+        long alvarez = store.createEmployee(employee("José", "Álvarez", "jalvarez@example.com")).getId();
+        long oneil = store.createEmployee(employee("Anne-Marie", "O'Neil", "amo@example.com")).getId();
+        SearchIndexEmployeeService service = new SearchIndexEmployeeService(store);
+
+        assertEquals(List.of(srinivasan, srinivas), ids(service.search("Srinivasan", 5)));
+        assertEquals(srinivasan, ids(service.search("srinivsan", 5)).get(0), "One dropped letter");
+        assertEquals(srinivasan, ids(service.search("srinviasan", 5)).get(0), "Swapped letters");
+        assertEquals(List.of(srinivas, srinivasan), ids(service.search("srini", 5)), "Shorter token first");
+        assertEquals(List.of(smith, smyth), ids(service.search("smith", 2)));
+        assertEquals(alvarez, ids(service.search("jose alvarez", 1)).get(0), "Accents are folded");
+        assertEquals(oneil, ids(service.search("marie oneil", 1)).get(0));
+        assertEquals(srinivasan, ids(service.search("that srinivasan in finance", 1)).get(0));
+        assertTrue(service.search("zzzz", 5).isEmpty());
+        assertTrue(service.search("  ", 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> service.search("smith", 0));
+    }
+
+    @Test
+    void testIndexFollowsWritesThroughTheService() {
+        SearchIndexEmployeeService service = new SearchIndexEmployeeService(new InMemoryEmployeeService());
+        Employee created = service.createEmployee(employee("Grace", "Hopper", "grace@example.com"));
+        service.createEmployees(List.of(employee("Alan", "Turing", "alan@example.com"),
+                employee("Ada", "Lovelace", "ada@example.com")));
+        assertEquals(1, service.search("hopper", 5).size());
+        assertEquals(1, service.search("lovelace", 5).size());
+
+        service.updateEmployee(created.getId(), employee("Grace", "Brewster", "grace@example.com"));
+        assertTrue(service.search("hopper", 5).isEmpty(), "The old name should no longer match");
+        assertEquals(List.of(created.getId()), ids(service.search("brewster", 5)));
+
+        service.patchEmployee(created.getId(), EmployeePatch.builder().email("admiral@navy.example.com").build());
+        assertEquals(List.of(created.getId()), ids(service.search("admiral", 5)));
+
+        service.deleteEmployee(created.getId());
+        assertTrue(service.search("brewster", 5).isEmpty());
+        assertEquals(2, service.search("example", 5).size());
+    }
+
+    @Test
+    void testIndexedSearchAgreesWithFullScan() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        List<Employee> rows = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            String first = FIRST[i % FIRST.length];
+            String last = LAST[(i / FIRST.length) % LAST.length];
+            rows.add(employee(first, last, first.toLowerCase() + "." + last.toLowerCase() + i + "@example.com"));
+        }
+        store.createEmployees(rows);
+        SearchIndexEmployeeService service = new SearchIndexEmployeeService(store);
+
+        // deleting most rows compacts the index; the survivors must still be found
+        for (long id = 1; id <= 3000; id++) {
+            service.deleteEmployee(id);
+        }
+        // the store has no index of its own, so its search is the interface's full scan; among
+        // equally good matches the two may pick different rows, so compare scores
+        for (String query : List.of("srinivasan", "smith", "lindqvst", "hiro tanaka", "elena moreau123", "okfor")) {
+            assertEquals(scores(query, store.search(query, 10)), scores(query, service.search(query, 10)), query);
+        }
+        assertEquals(List.of(3500L), ids(service.search(rows.get(3499).getEmail(), 1)));
+    }
+
+    @Test
+    void testDeferredIndexIsBuiltOnTheFirstSearch() {
+        InMemoryEmployeeService store = new InMemoryEmployeeService();
+        AtomicInteger builds = new AtomicInteger();
+        ForwardingEmployeeService counting = new ForwardingEmployeeService(store) {
+            @Override
+            public Stream<Employee> streamEmployees() {
+                builds.incrementAndGet();
+                return super.streamEmployees();
+            }
+        };
+        long hopper = store.createEmployee(employee("Grace", "Hopper", "grace@example.com")).getId();
+
+        SearchIndexEmployeeService service = new SearchIndexEmployeeService(counting, true);
+        long turing = service.createEmployee(employee("Alan", "Turing", "alan@example.com")).getId();
+        service.updateEmployee(hopper, employee("Grace", "Brewster", "grace@example.com"));
+        assertEquals(0, builds.get(), "Nothing should be indexed before the first search");
+
+        assertEquals(List.of(turing), ids(service.search("turing", 5)));
+        assertEquals(List.of(hopper), ids(service.search("brewster", 5)));
+        assertTrue(service.search("hopper", 5).isEmpty());
+        long lovelace = service.createEmployee(employee("Ada", "Lovelace", "ada@example.com")).getId();
+        assertEquals(List.of(lovelace), ids(service.search("lovelace", 5)));
+        assertEquals(1, builds.get());
+    }
+
+    private static List<Double> scores(String query, List<Employee> employees) {
+        List<String> tokens = EmployeeSearch.tokens(query);
+        return employees.stream().map(employee -> EmployeeSearch.score(tokens, employee)).toList();
+    }
+
+    private static List<Long> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+
+    private static Employee employee(String first, String last, String email) {
+        return new Employee(null, first, last, email);
+    }
+}
@@ -0,0 +1,238 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkCreateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.EmployeePage;
+import com.lntproject.employee_management_system.service.EmployeePatch;
+import com.lntproject.employee_management_system.service.EmployeeService;
+import com.lntproject.employee_management_system.service.impl.EmployeeIdAllocator;
+import com.lntproject.employee_management_system.service.impl.EmployeeServiceImpl;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.ShardRebalancer;
+import com.lntproject.employee_management_system.service.impl.ShardedEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the sharded store over in-memory partitions and over separate embedded H2 databases.
+ */
+class ShardedEmployeeServiceTest {
+
+    @Test
+    void testIdsAreUniqueAndEachRowLivesOnItsHomeShard() {
+        List<EmployeeService> partitions = partitions(4);
+        ShardedEmployeeService service = sharded(partitions);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(service.createEmployee(employee("single" + i)).getId());
+        }
+        List<Employee> feed = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            feed.add(employee("bulk" + i));
+        }
+        BulkCreateResult result = service.createEmployees(feed);
+        assertFalse(result.hasFailures());
+        ids.addAll(result.ids());
+
+        assertEquals(200, ids.size(), "Ids should never repeat across shards");
+        for (long id : ids) {
+            int home = ShardedEmployeeService.shardOf(id, 4);
+            for (int shard = 0; shard < 4; shard++) {
+                assertEquals(shard == home, partitions.get(shard).getEmployeeById(id).isPresent());
+            }
+        }
+        for (EmployeeService partition : partitions) {
+            assertTrue(partition.getAllEmployees().size() > 20, "Ids should spread over every shard");
+        }
+    }
+
+    @Test
+    void testScatterGatherQueriesMergeAcrossShards() {
+        ShardedEmployeeService service = sharded(partitions(3));
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Employee employee = employee("merge" + i);
+            employee.setLastName((i % 2 == 0 ? "Smith" : "Jones") + (char) ('a' + i % 26));
+            employee.setSalary(new BigDecimal("1000.00"));
+            created.add(service.createEmployee(employee).getId());
+        }
+
+        assertEquals(created, service.getAllEmployees().stream().map(Employee::getId).toList());
+
+        List<Long> paged = new ArrayList<>();
+        EmployeePage page = service.getEmployeePage(0, 7);
+        while (true) {
+            page.employees().forEach(employee -> paged.add(employee.getId()));
+            if (!page.hasMore()) {
+                break;
+            }
+            page = service.getEmployeePage(page.nextAfterId(), 7);
+        }
+        assertEquals(created, paged, "Keyset pages should walk every shard in id order");
+
+        try (Stream<Employee> stream = service.streamEmployees()) {
+            assertEquals(created, stream.map(Employee::getId).toList());
+        }
+
+        List<Employee> smiths = service.findByLastNamePrefix("smi", 5);
+        assertEquals(5, smiths.size());
+        for (int i = 1; i < smiths.size(); i++) {
+            int order = smiths.get(i - 1).getLastName().compareToIgnoreCase(smiths.get(i).getLastName());
+            assertTrue(order < 0 || order == 0 && smiths.get(i - 1).getId() < smiths.get(i).getId());
+        }
+
+        Map<Long, Employee> found = service.getEmployeesByIds(List.of(created.get(9), -1L, created.get(3)));
+        assertEquals(List.of(created.get(9), created.get(3)), new ArrayList<>(found.keySet()));
+
+        assertEquals(60, service.getAggregates().headcount());
+        assertEquals(new BigDecimal("60000.00"), service.getAggregates().totalSalary());
+    }
+
+    @Test
+    void testEmailStaysUniqueAcrossShards() {
+        ShardedEmployeeService service = sharded(partitions(4));
+        Employee owner = service.createEmployee(employee("taken"));
+        List<Employee> others = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            others.add(service.createEmployee(employee("other" + i)));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            Employee duplicate = employee("TAKEN");
+            assertThrows(DuplicateEmailException.class, () -> service.createEmployee(duplicate));
+        }
+        for (Employee other : others) {
+            assertThrows(DuplicateEmailException.class,
+                    () -> service.updateEmployee(other.getId(), employee("taken")));
+            assertThrows(DuplicateEmailException.class, () -> service.patchEmployee(other.getId(),
+                    EmployeePatch.builder().email("Taken@example.com").build()));
+        }
+
+        BulkCreateResult result = service.createEmployees(List.of(
+                employee("fresh"), employee("taken"), employee("fresh"), employee("fresh2")));
+        assertEquals(List.of(1, 2), result.failures().stream().map(BulkCreateResult.Failure::index).toList());
+        assertEquals(2, result.createdCount());
+
+        Employee replacement = employee("taken");
+        replacement.setFirstName("Replaced");
+        Employee saved = service.upsertEmployee(replacement);
+        assertEquals(owner.getId(), saved.getId(), "Upsert should update the owner on its own shard");
+        assertEquals("Replaced", service.getEmployeeById(owner.getId()).orElseThrow().getFirstName());
+        assertEquals(15, service.getAllEmployees().size());
+    }
+
+    @Test
+    void testRebalanceMovesOnlyMisplacedRowsAndCanRunAgain() {
+        List<EmployeeService> partitions = partitions(3);
+        ShardedEmployeeService twoShards = sharded(partitions.subList(0, 2));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ids.add(twoShards.createEmployee(employee("move" + i)).getId());
+        }
+
+        ShardRebalancer rebalancer = new ShardRebalancer(partitions, 32);
+        ShardRebalancer.Result grown = rebalancer.rebalance(3);
+        assertEquals(300, grown.scanned() - grown.moved(), "Moved rows are scanned again on their new shard");
+        assertTrue(grown.moved() > 60 && grown.moved() < 140, "About a third should move, got " + grown.moved());
+
+        ShardedEmployeeService threeShards = sharded(partitions);
+        for (long id : ids) {
+            assertTrue(partitions.get(ShardedEmployeeService.shardOf(id, 3)).getEmployeeById(id).isPresent());
+        }
+        assertEquals(ids, threeShards.getAllEmployees().stream().map(Employee::getId).toList());
+        assertEquals(0, rebalancer.rebalance(3).moved(), "A second run should find nothing to move");
+
+        // an interrupted move leaves the row on both shards; the next run just deletes the source copy
+        long id = ids.get(0);
+        Employee row = threeShards.getEmployeeById(id).orElseThrow();
+        int home = ShardedEmployeeService.shardOf(id, 3);
+        partitions.get((home + 1) % 3).createEmployee(row);
+        assertEquals(1, rebalancer.rebalance(3).moved());
+        assertEquals(300, threeShards.getAllEmployees().size());
+
+        rebalancer.rebalance(2);
+        assertTrue(partitions.get(2).getAllEmployees().isEmpty(), "Shrinking should empty the retired shard");
+        assertEquals(ids, twoShards.getAllEmployees().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void testJdbcShardsOnSeparateDatabases() throws Exception {
+        String run = Long.toString(System.nanoTime());
+        List<HikariDataSource> pools = List.of(h2("EmployeeShard0_" + run), h2("EmployeeShard1_" + run));
+        List<EmployeeService> shards = List.of(new EmployeeServiceImpl(pools.get(0)),
+                new EmployeeServiceImpl(pools.get(1)));
+        EmployeeIdAllocator allocator = new EmployeeIdAllocator(EmployeeIdAllocator.jdbc(pools.get(0)), 10);
+        try (ShardedEmployeeService service = new ShardedEmployeeService(shards, allocator, pools)) {
+            List<Employee> feed = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                feed.add(employee("jdbc" + i));
+            }
+            assertFalse(service.createEmployees(feed).hasFailures());
+            long single = service.createEmployee(employee("jdbc.single")).getId();
+
+            assertEquals(21, count(pools.get(0), "SELECT COUNT(*) FROM employees")
+                    + count(pools.get(1), "SELECT COUNT(*) FROM employees"));
+            assertTrue(count(pools.get(1), "SELECT COUNT(*) FROM employees") > 0);
+            assertEquals(31, count(pools.get(0), "SELECT next_id FROM employee_id_sequence"),
+                    "Ids should come from the shared sequence in blocks of 10");
+            assertEquals(21, service.getAllEmployees().stream().map(Employee::getId).distinct().count());
+            assertTrue(service.getEmployeeById(single).isPresent());
+
+            int home = ShardedEmployeeService.shardOf(single, 2);
+            Employee elsewhere = feed.stream()
+                    .filter(employee -> ShardedEmployeeService.shardOf(employee.getId(), 2) != home)
+                    .findFirst().orElseThrow();
+            assertThrows(DuplicateEmailException.class,
+                    () -> service.updateEmployee(elsewhere.getId(), employee("jdbc.single")));
+        }
+    }
+
+    private static List<EmployeeService> partitions(int count) {
+        List<EmployeeService> partitions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            partitions.add(new InMemoryEmployeeService());
+        }
+        return partitions;
+    }
+
+    private static ShardedEmployeeService sharded(List<EmployeeService> shards) {
+        return new ShardedEmployeeService(shards, new EmployeeIdAllocator(EmployeeIdAllocator.inMemory(1), 16));
+    }
+
+    private static Employee employee(String name) {
+        return new Employee(null, "First", "Last", name + "@example.com");
+    }
+
+    private static HikariDataSource h2(String database) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                + "INIT=RUNSCRIPT FROM 'classpath:sql/schema-h2.sql'");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(4);
+        return pool;
+    }
+
+    private static long count(HikariDataSource pool, String sql) throws Exception {
+        try (Connection conn = pool.getConnection();
+             Statement statement = conn.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.config.VersionedSchemaInitializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the versioned schema check against an in-memory H2 database.
+ */
+class VersionedSchemaInitializerTest {
+
+    private static final String SCHEMA = """
+            CREATE TABLE IF NOT EXISTS schema_version (
+                script VARCHAR(255) PRIMARY KEY,
+                checksum CHAR(64) NOT NULL,
+                applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            );
+            CREATE TABLE IF NOT EXISTS departments (name VARCHAR(100) PRIMARY KEY);
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testScriptRunsOnlyWhenItChanges() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:schemaVersions;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Path file = directory.resolve("schema.sql");
+        Files.writeString(file, SCHEMA);
+        List<Resource> scripts = List.of(new FileSystemResource(file));
+
+        assertEquals(scripts, initializer(dataSource, scripts).apply(), "A new database gets the schema");
+        assertEquals(List.of(), initializer(dataSource, scripts).apply(), "An unchanged script is skipped");
+        assertEquals(1, count(dataSource, "schema_version"));
+
+        Files.writeString(file, "CREATE TABLE IF NOT EXISTS locations (name VARCHAR(100) PRIMARY KEY);\n",
+                StandardOpenOption.APPEND);
+        assertEquals(scripts, initializer(dataSource, scripts).apply(), "A changed script runs again");
+        assertEquals(0, count(dataSource, "locations"));
+        assertEquals(1, count(dataSource, "schema_version"));
+        assertEquals(List.of(), initializer(dataSource, scripts).apply());
+    }
+
+    @Test
+    void testNothingToCheckWithoutADatabaseOrScripts() {
+        Resource missing = new FileSystemResource(directory.resolve("missing.sql"));
+        assertEquals(List.of(), initializer(null, List.of(missing)).apply());
+        assertEquals(List.of(), initializer(new DriverManagerDataSource("jdbc:unreachable:"), List.of()).apply());
+    }
+
+    private static VersionedSchemaInitializer initializer(DriverManagerDataSource dataSource, List<Resource> scripts) {
+        return new VersionedSchemaInitializer(dataSource, scripts, StandardCharsets.UTF_8);
+    }
+
+    private static int count(DriverManagerDataSource dataSource, String table) throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.VirtualThreadEmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the concurrency limit, timeouts and cancellation of the virtual-thread async service
+ * over a deliberately slow in-memory backend.
+ */
+class VirtualThreadEmployeeServiceTest {
+
+    private final SlowService backend = new SlowService();
+    private VirtualThreadEmployeeService async;
+
+    @AfterEach
+    void tearDown() {
+        backend.release.countDown();
+        async.close();
+    }
+
+    @Test
+    void testFanOutNeverExceedsTheConcurrencyLimit() throws Exception {
+        List<Long> ids = createEmployees(50);
+        backend.delayMillis = 5;
+        backend.release.countDown();
+        async = new VirtualThreadEmployeeService(backend, 4, Duration.ofSeconds(10));
+
+        List<CompletableFuture<Optional<Employee>>> lookups = new ArrayList<>();
+        for (Long id : ids) {
+            lookups.add(async.getEmployeeById(id));
+        }
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertEquals("Last7", lookups.get(7).join().orElseThrow().getLastName());
+        assertEquals(4, backend.maxConcurrent.get(), "Calls in flight should reach but not exceed the limit");
+    }
+
+    @Test
+    void testMultiGetIsOneBulkCallToTheBackend() throws Exception {
+        List<Long> ids = createEmployees(50);
+        ids.add(ids.get(0));
+        ids.add(9999L);
+        backend.release.countDown();
+        async = new VirtualThreadEmployeeService(backend, 4, Duration.ofSeconds(10));
+
+        Map<Long, Employee> found = async.getEmployeesByIds(ids).get(10, TimeUnit.SECONDS);
+
+        assertEquals(50, found.size(), "Duplicates and missing ids should be dropped");
+        assertEquals("Last7", found.get(ids.get(7)).getLastName());
+        assertEquals(0, backend.maxConcurrent.get(), "No per-id lookups should reach the backend");
+    }
+
+    @Test
+    void testTimeoutFailsTheFutureAndInterruptsTheCall() throws Exception {
+        async = new VirtualThreadEmployeeService(backend, 2, Duration.ofMillis(100));
+
+        CompletableFuture<Optional<Employee>> lookup = async.getEmployeeById(1);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertTrue(backend.interrupted.await(5, TimeUnit.SECONDS), "Timed-out call should be interrupted");
+    }
+
+    @Test
+    void testCancellationFreesThePermitForQueuedCalls() throws Exception {
+        async = new VirtualThreadEmployeeService(backend, 1, null);
+
+        CompletableFuture<Optional<Employee>> stuck = async.getEmployeeById(1);
+        assertTrue(backend.entered.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Employee> queued = async.withTimeout(Duration.ofSeconds(5))
+                .createEmployee(new Employee(null, "A", "B", "a@example.com"));
+
+        assertTrue(stuck.cancel(true));
+        assertTrue(backend.interrupted.await(5, TimeUnit.SECONDS), "Cancelled call should be interrupted");
+        backend.release.countDown();
+        assertEquals("a@example.com", queued.get(5, TimeUnit.SECONDS).getEmail());
+    }
+
+    private List<Long> createEmployees(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(backend.createEmployee(new Employee(null, "First", "Last" + i, "user" + i + "@example.com")).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Blocks reads until released (or delays them), recording concurrency and interrupts.
+     */
+    private static final class SlowService extends ForwardingEmployeeService {
+
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile long delayMillis;
+
+        SlowService() {
+            super(new InMemoryEmployeeService());
+        }
+
+        @Override
+        public Optional<Employee> getEmployeeById(long id) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            entered.countDown();
+            try {
+                release.await();
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("Interrupted", e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            return super.getEmployeeById(id);
+        }
+    }
+}
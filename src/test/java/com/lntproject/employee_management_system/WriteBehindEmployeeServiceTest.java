@@ -0,0 +1,156 @@
+package com.lntproject.employee_management_system;
+
+import com.lntproject.employee_management_system.model.Employee;
+import com.lntproject.employee_management_system.service.BulkUpdateResult;
+import com.lntproject.employee_management_system.service.DuplicateEmailException;
+import com.lntproject.employee_management_system.service.ForwardingEmployeeService;
+import com.lntproject.employee_management_system.service.impl.InMemoryEmployeeService;
+import com.lntproject.employee_management_system.service.impl.WriteBehindEmployeeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies coalescing, read-through of queued updates and draining of the write-behind queue
+ * over an in-memory backend that records every batch it receives.
+ */
+class WriteBehindEmployeeServiceTest {
+
+    private final RecordingStore store = new RecordingStore();
+    private WriteBehindEmployeeService service;
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    void testRepeatedUpdatesToOneIdAreCoalescedIntoOneWrite() {
+        service = new WriteBehindEmployeeService(store, 100, Duration.ofHours(1), 1000);
+        long id = store.createEmployee(new Employee(null, "Sync", "Job", "sync@example.com")).getId();
+
+        for (int i = 0; i < 50; i++) {
+            Employee update = new Employee(null, "Sync", "Run" + i, "sync@example.com");
+            assertTrue(service.updateEmployee(id, update).isPresent());
+        }
+
+        assertEquals(1, service.pendingCount());
+        assertEquals("Job", store.getEmployeeById(id).orElseThrow().getLastName(),
+                "Nothing is written before the flush");
+        assertEquals("Run49", service.getEmployeeById(id).orElseThrow().getLastName(), "Reads see the queued row");
+        assertEquals("Run49", service.getAllEmployees().get(0).getLastName());
+
+        service.flush();
+
+        assertEquals(List.of(1), store.batchSizes, "Fifty updates should reach the backend as one row");
+        assertEquals("Run49", store.getEmployeeById(id).orElseThrow().getLastName());
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void testBatchSizeTriggersTheFlusher() throws Exception {
+        service = new WriteBehindEmployeeService(store, 10, Duration.ofHours(1), 1000);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(store.createEmployee(new Employee(null, "A", "B", "row" + i + "@example.com")).getId());
+        }
+
+        for (long id : ids) {
+            service.updateEmployee(id, new Employee(null, "A", "Flushed", "row" + id + ".new@example.com"));
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (service.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, service.pendingCount(), "A full batch should be flushed without waiting for the interval");
+        assertEquals(List.of(10), store.batchSizes);
+    }
+
+    @Test
+    void testCloseDrainsAndLookupsFlushFirst() {
+        service = new WriteBehindEmployeeService(store, 100, Duration.ofHours(1), 1000);
+        long first = store.createEmployee(new Employee(null, "A", "B", "first@example.com")).getId();
+        long second = store.createEmployee(new Employee(null, "C", "D", "second@example.com")).getId();
+
+        service.updateEmployee(first, new Employee(null, "A", "B", "first.renamed@example.com"));
+        assertEquals(first, service.findByEmail("first.renamed@example.com").orElseThrow().getId(),
+                "Email lookups should see the queued email");
+
+        service.updateEmployee(second, new Employee(null, "C", "Drained", "second@example.com"));
+        service.close();
+        assertEquals("Drained", store.getEmployeeById(second).orElseThrow().getLastName());
+    }
+
+    @Test
+    void testRejectedAndDeletedRowsAreDropped() {
+        service = new WriteBehindEmployeeService(store, 100, Duration.ofHours(1), 1000);
+        long first = store.createEmployee(new Employee(null, "A", "B", "taken@example.com")).getId();
+        long second = store.createEmployee(new Employee(null, "C", "D", "free@example.com")).getId();
+
+        assertTrue(service.updateEmployee(999, new Employee(null, "X", "Y", "x@example.com")).isEmpty());
+        service.updateEmployee(second, new Employee(null, "C", "D", "late@example.com"));
+        store.createEmployee(new Employee(null, "E", "F", "late@example.com"));
+        service.flush();
+        assertEquals(0, service.pendingCount(), "A rejected update should not be retried forever");
+        assertEquals("free@example.com", store.getEmployeeById(second).orElseThrow().getEmail());
+
+        service.updateEmployee(first, new Employee(null, "A", "Gone", "taken@example.com"));
+        assertTrue(service.deleteEmployee(first));
+        assertTrue(service.getEmployeeById(first).isEmpty(), "A delete should discard the queued update");
+        assertEquals(0, service.pendingCount());
+    }
+
+    @Test
+    void testUpdateTakingAnotherEmployeesEmailFailsBeforeItIsQueued() {
+        service = new WriteBehindEmployeeService(store, 100, Duration.ofHours(1), 1000);
+        long ada = store.createEmployee(new Employee(null, "Ada", "L", "ada@example.com")).getId();
+        long alan = store.createEmployee(new Employee(null, "Alan", "T", "alan@example.com")).getId();
+        long grace = store.createEmployee(new Employee(null, "Grace", "H", "grace@example.com")).getId();
+
+        assertThrows(DuplicateEmailException.class,
+                () -> service.updateEmployee(ada, new Employee(null, "Ada", "L", " ALAN@example.com")));
+        assertEquals(0, service.pendingCount(), "A stored email should be refused synchronously");
+
+        service.updateEmployee(grace, new Employee(null, "Grace", "H", "admiral@example.com"));
+        assertThrows(DuplicateEmailException.class,
+                () -> service.updateEmployee(ada, new Employee(null, "Ada", "L", "admiral@example.com")));
+        assertEquals("ada@example.com", service.getEmployeeById(ada).orElseThrow().getEmail(),
+                "Reads should never see the refused row");
+
+        service.updateEmployee(ada, new Employee(null, "Ada", "Lovelace", "ada@example.com"));
+        assertEquals("Lovelace", service.getEmployeeById(ada).orElseThrow().getLastName(),
+                "Keeping one's own email needs no check");
+        assertTrue(service.updateEmployee(ada, new Employee(null, "Ada", "L", "grace@example.com")).isPresent(),
+                "An email a queued update gives up can be taken once that update is written");
+        service.flush();
+        assertEquals("admiral@example.com", store.getEmployeeById(grace).orElseThrow().getEmail());
+        assertEquals("grace@example.com", store.getEmployeeById(ada).orElseThrow().getEmail());
+        assertEquals("alan@example.com", store.getEmployeeById(alan).orElseThrow().getEmail());
+    }
+
+    /**
+     * In-memory backend that records the size of every bulk update it is asked to apply.
+     */
+    private static final class RecordingStore extends ForwardingEmployeeService {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        RecordingStore() {
+            super(new InMemoryEmployeeService());
+        }
+
+        @Override
+        public BulkUpdateResult updateEmployees(Map<Long, Employee> updates) {
+            batchSizes.add(updates.size());
+            return delegate.updateEmployees(updates);
+        }
+    }
+}